@@ -4,6 +4,8 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -43,6 +45,12 @@ public class OfflineEdgeHandler implements Handler<OfflineEdgeMessage> {
 	private TimedTask initMetadata;
 	private final TimedExecutor timeService;
 
+	/**
+	 * Pending checks per Edge-ID, whether an Edge is still offline after
+	 * {@link #EDGE_REBOOT_MINUTES}.
+	 */
+	private final Map<String, TimedTask> pendingOfflineChecks = new ConcurrentHashMap<>();
+
 	public OfflineEdgeHandler(MessageSchedulerService mss, TimedExecutor timeService, Mailer mailer, Metadata metadata,
 			int initialDelay) {
 		this.mailer = mailer;
@@ -61,6 +69,8 @@ public class OfflineEdgeHandler implements Handler<OfflineEdgeMessage> {
 	public void stop() {
 		this.timeService.cancel(this.initMetadata);
 		this.initMetadata = null;
+		this.pendingOfflineChecks.values().forEach(this.timeService::cancel);
+		this.pendingOfflineChecks.clear();
 		this.mss.unregister(this);
 		this.msgScheduler = null;
 		this.mss = null;
@@ -234,13 +244,17 @@ public class OfflineEdgeHandler implements Handler<OfflineEdgeMessage> {
 			/* Ensure that the online-state has not changed */
 			if (edge.isOnline() == isOnline) {
 				if (isOnline) {
+					this.timeService.cancel(this.pendingOfflineChecks.remove(edgeId));
 					this.tryRemoveEdge(edge);
 				} else {
-					this.timeService.schedule(this.timeService.now().plusMinutes(EDGE_REBOOT_MINUTES), t -> {
+					final var executeAt = this.timeService.now().plusMinutes(EDGE_REBOOT_MINUTES);
+					// Keep an already pending check, so repeated events do not delay it
+					this.pendingOfflineChecks.computeIfAbsent(edgeId, id -> this.timeService.schedule(executeAt, t -> {
+						this.pendingOfflineChecks.remove(id);
 						if (edge.isOffline()) {
 							this.tryAddEdge(edge);
 						}
-					});
+					}));
 				}
 			}
 		} else {
@@ -1,10 +1,6 @@
 package io.openems.backend.alerting.scheduler;
 
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.TreeMap;
 import java.util.function.Predicate;
 
 import io.openems.backend.alerting.Handler;
@@ -14,21 +10,30 @@ import io.openems.backend.alerting.Message;
  * Schedules one or more {@link Message} for type {@link T} to a specific time.
  * <p>
  * After the specified time is reached, the scheduler sends the Messages to
- * their {@link Handler} and removes them from itself.
+ * their {@link Handler} and removes them from itself. All Messages due within
+ * one tick are sent together.
  * </p>
  *
  * @param <T> type of Message
  */
 public class MessageScheduler<T extends Message> {
-	private final Map<String, T> messageForId;
-	private final PriorityQueue<T> queue;
+
+	/**
+	 * Tick of the {@link TimingWheel}; equal to the {@link MinuteTimer} cycle.
+	 */
+	private static final long TICK_MILLIS = 60_000;
+
+	/**
+	 * Slots of the {@link TimingWheel}; one turn covers a week.
+	 */
+	private static final int SLOT_COUNT = 7 * 24 * 60;
+
+	private final TimingWheel<String, T> wheel = new TimingWheel<>(TICK_MILLIS, SLOT_COUNT);
 
 	private final Handler<T> handler;
 
 	public MessageScheduler(Handler<T> handler) {
 		this.handler = handler;
-		this.queue = new PriorityQueue<>();
-		this.messageForId = new TreeMap<>();
 	}
 
 	/**
@@ -40,12 +45,7 @@ public class MessageScheduler<T extends Message> {
 		if (msg == null) {
 			return;
 		}
-		synchronized (this) {
-			this.messageForId.computeIfAbsent(msg.getId(), (key) -> {
-				this.queue.add(msg);
-				return msg;
-			});
-		}
+		this.wheel.scheduleIfAbsent(msg.getId(), msg, msg.getNotifyStamp().toInstant().toEpochMilli());
 	}
 
 	/**
@@ -58,13 +58,7 @@ public class MessageScheduler<T extends Message> {
 		if (msgId == null) {
 			return null;
 		}
-		synchronized (this) {
-			var msg = this.messageForId.remove(msgId);
-			if (msg != null) {
-				this.queue.remove(msg);
-			}
-			return msg;
-		}
+		return this.wheel.remove(msgId);
 	}
 
 	/**
@@ -74,7 +68,7 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Message msg) {
-		return this.queue.contains(msg);
+		return msg != null && this.wheel.containsKey(msg.getId());
 	}
 
 	/**
@@ -84,7 +78,7 @@ public class MessageScheduler<T extends Message> {
 	 * @return true if is scheduled
 	 */
 	public boolean isScheduled(Predicate<T> find) {
-		return this.queue.stream().anyMatch(find);
+		return this.wheel.values().stream().anyMatch(find);
 	}
 
 	public Class<T> getGeneric() {
@@ -97,7 +91,7 @@ public class MessageScheduler<T extends Message> {
 	 * @return size of message queue
 	 */
 	public int size() {
-		return this.queue.size();
+		return this.wheel.size();
 	}
 
 	/**
@@ -106,35 +100,12 @@ public class MessageScheduler<T extends Message> {
 	 * @param now TimeStamp on call
 	 */
 	public void handle(ZonedDateTime now) {
-		var msgs = new ArrayList<T>();
-		while (this.hasTimeElapsed(now, this.peek())) {
-			msgs.add(this.poll());
-		}
+		final var msgs = this.wheel.poll(now.toInstant().toEpochMilli());
 		if (!msgs.isEmpty()) {
 			this.handler.send(now, msgs);
 		}
 	}
 
-	private boolean hasTimeElapsed(ZonedDateTime now, T msg) {
-		return msg != null && now.isAfter(msg.getNotifyStamp());
-	}
-
-	private T poll() {
-		synchronized (this) {
-			final var msg = this.queue.poll();
-			if (msg != null) {
-				this.messageForId.remove(msg.getId());
-			}
-			return msg;
-		}
-	}
-
-	private T peek() {
-		synchronized (this) {
-			return this.queue.peek();
-		}
-	}
-
 	/**
 	 * Check if this MessageScheduler handles messages for given handler.
 	 *
@@ -4,7 +4,6 @@ import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.PriorityBlockingQueue;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -21,7 +20,7 @@ public class MinuteTimer implements TimedExecutor {
 	private final Logger log = LoggerFactory.getLogger(MinuteTimer.class);
 
 	private final List<Consumer<ZonedDateTime>> subscriber = new ArrayList<>();
-	private final PriorityBlockingQueue<TimedTask> singleTasks = new PriorityBlockingQueue<>();
+	private final TimingWheel<TimedTask, TimedTask> singleTasks = new TimingWheel<>(60_000, 24 * 60);
 
 	private final Clock clock;
 	private long cycleCount = 0;
@@ -74,7 +73,7 @@ public class MinuteTimer implements TimedExecutor {
 	@Override
 	public TimedTask schedule(ZonedDateTime at, Consumer<ZonedDateTime> task) {
 		final var singleTask = new TimedTask(at, task);
-		this.singleTasks.add(singleTask);
+		this.singleTasks.schedule(singleTask, singleTask, at.toInstant().toEpochMilli());
 		return singleTask;
 	}
 
@@ -137,10 +136,9 @@ public class MinuteTimer implements TimedExecutor {
 	}
 
 	private void callSingleTasks(ZonedDateTime now) {
-		while (!this.singleTasks.isEmpty() //
-				&& this.singleTasks.peek().executeAt.isBefore(now)) {
+		for (var singleTask : this.singleTasks.poll(now.toInstant().toEpochMilli())) {
 			try {
-				this.singleTasks.poll().task.accept(now);
+				singleTask.task.accept(now);
 			} catch (Throwable t) {
 				this.log.error(t.getMessage(), t);
 			}
@@ -0,0 +1,212 @@
+package io.openems.backend.alerting.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel holding one value per key with a due time.
+ *
+ * <p>
+ * Scheduling, rescheduling and removing a key take constant time. Polling only
+ * visits the slots of the ticks that passed since the last poll, instead of all
+ * scheduled values. Values due further in the future than one turn of the wheel
+ * share a slot with nearer values and are skipped until they are due.
+ * </p>
+ *
+ * @param <K> type of key
+ * @param <V> type of value
+ */
+public class TimingWheel<K, V> {
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private final long dueAt;
+		private final int slot;
+		private Node<K, V> prev;
+		private Node<K, V> next;
+
+		private Node(K key, V value, long dueAt, int slot) {
+			this.key = key;
+			this.value = value;
+			this.dueAt = dueAt;
+			this.slot = slot;
+		}
+	}
+
+	private final long tickMillis;
+	private final Node<K, V>[] slots;
+	private final Map<K, Node<K, V>> nodes = new HashMap<>();
+
+	/**
+	 * The last polled tick; {@link Long#MIN_VALUE} if never polled.
+	 */
+	private long lastTick = Long.MIN_VALUE;
+
+	@SuppressWarnings("unchecked")
+	public TimingWheel(long tickMillis, int slotCount) {
+		this.tickMillis = tickMillis;
+		this.slots = new Node[slotCount];
+	}
+
+	/**
+	 * Schedules the value for the key; replaces an existing value for the key.
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 * @param dueAt the due time in epoch milliseconds
+	 * @return the replaced value or null
+	 */
+	public synchronized V schedule(K key, V value, long dueAt) {
+		final var previous = this.unlink(this.nodes.get(key));
+		this.link(key, value, dueAt);
+		return previous;
+	}
+
+	/**
+	 * Schedules the value for the key, if the key is not already scheduled.
+	 *
+	 * @param key   the key
+	 * @param value the value
+	 * @param dueAt the due time in epoch milliseconds
+	 * @return true if the value was scheduled
+	 */
+	public synchronized boolean scheduleIfAbsent(K key, V value, long dueAt) {
+		if (this.nodes.containsKey(key)) {
+			return false;
+		}
+		this.link(key, value, dueAt);
+		return true;
+	}
+
+	/**
+	 * Removes the value for the key.
+	 *
+	 * @param key the key
+	 * @return the removed value or null
+	 */
+	public synchronized V remove(K key) {
+		return this.unlink(this.nodes.get(key));
+	}
+
+	/**
+	 * Gets if a value is scheduled for the key.
+	 *
+	 * @param key the key
+	 * @return true if scheduled
+	 */
+	public synchronized boolean containsKey(K key) {
+		return this.nodes.containsKey(key);
+	}
+
+	/**
+	 * Gets all scheduled values in no particular order.
+	 *
+	 * @return a copy of the scheduled values
+	 */
+	public synchronized List<V> values() {
+		final var result = new ArrayList<V>(this.nodes.size());
+		for (var node : this.nodes.values()) {
+			result.add(node.value);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the amount of scheduled values.
+	 *
+	 * @return the amount
+	 */
+	public synchronized int size() {
+		return this.nodes.size();
+	}
+
+	/**
+	 * Gets if no values are scheduled.
+	 *
+	 * @return true if empty
+	 */
+	public synchronized boolean isEmpty() {
+		return this.nodes.isEmpty();
+	}
+
+	/**
+	 * Removes and returns all values that are due before the given time, ordered
+	 * by their due time.
+	 *
+	 * @param now the current time in epoch milliseconds
+	 * @return the due values; empty if none are due
+	 */
+	public synchronized List<V> poll(long now) {
+		final var nowTick = Math.floorDiv(now, this.tickMillis);
+		final var due = new ArrayList<Node<K, V>>();
+		if (this.lastTick == Long.MIN_VALUE || nowTick - this.lastTick >= this.slots.length) {
+			for (var slot = 0; slot < this.slots.length; slot++) {
+				this.pollSlot(slot, now, due);
+			}
+		} else {
+			for (var tick = this.lastTick; tick <= nowTick; tick++) {
+				this.pollSlot(this.slotOf(tick), now, due);
+			}
+		}
+		this.lastTick = Math.max(this.lastTick, nowTick);
+
+		due.sort(Comparator.comparingLong(node -> node.dueAt));
+		final var result = new ArrayList<V>(due.size());
+		for (var node : due) {
+			result.add(node.value);
+		}
+		return result;
+	}
+
+	private void pollSlot(int slot, long now, List<Node<K, V>> due) {
+		var node = this.slots[slot];
+		while (node != null) {
+			final var next = node.next;
+			if (node.dueAt < now) {
+				this.unlink(node);
+				due.add(node);
+			}
+			node = next;
+		}
+	}
+
+	private void link(K key, V value, long dueAt) {
+		// Values that are already overdue go to the slot that is polled next
+		final var tick = Math.max(Math.floorDiv(dueAt, this.tickMillis), this.lastTick);
+		final var node = new Node<>(key, value, dueAt, this.slotOf(tick));
+		final var head = this.slots[node.slot];
+		if (head != null) {
+			head.prev = node;
+			node.next = head;
+		}
+		this.slots[node.slot] = node;
+		this.nodes.put(key, node);
+	}
+
+	private V unlink(Node<K, V> node) {
+		if (node == null) {
+			return null;
+		}
+		if (node.prev != null) {
+			node.prev.next = node.next;
+		} else {
+			this.slots[node.slot] = node.next;
+		}
+		if (node.next != null) {
+			node.next.prev = node.prev;
+		}
+		node.prev = null;
+		node.next = null;
+		this.nodes.remove(node.key);
+		return node.value;
+	}
+
+	private int slotOf(long tick) {
+		return (int) Math.floorMod(tick, (long) this.slots.length);
+	}
+
+}
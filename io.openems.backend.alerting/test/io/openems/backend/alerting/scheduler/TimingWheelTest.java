@@ -0,0 +1,98 @@
+package io.openems.backend.alerting.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class TimingWheelTest {
+
+	private static final long MINUTE = 60_000;
+
+	@Test
+	public void testPoll() {
+		final var sut = new TimingWheel<String, String>(MINUTE, 10);
+		final var now = 1_000 * MINUTE;
+
+		sut.schedule("a", "a", now + 2 * MINUTE);
+		sut.schedule("b", "b", now - 5 * MINUTE); // overdue
+		sut.schedule("c", "c", now + 25 * MINUTE); // more than one turn
+		sut.schedule("d", "d", now + MINUTE);
+		assertEquals(4, sut.size());
+
+		// First poll visits all slots
+		assertEquals(List.of("b"), sut.poll(now));
+		assertEquals(List.of(), sut.poll(now + MINUTE));
+		assertEquals(List.of("d", "a"), sut.poll(now + 2 * MINUTE + 1));
+
+		// Overdue values are polled on the next poll
+		sut.schedule("e", "e", now - MINUTE);
+		assertEquals(List.of("e"), sut.poll(now + 2 * MINUTE + 2));
+
+		// Jumping forward more than one turn
+		assertEquals(List.of(), sut.poll(now + 15 * MINUTE));
+		assertEquals(List.of("c"), sut.poll(now + 40 * MINUTE));
+		assertTrue(sut.isEmpty());
+	}
+
+	@Test
+	public void testRescheduleAndRemove() {
+		final var sut = new TimingWheel<String, Integer>(MINUTE, 10);
+		final var now = 1_000 * MINUTE;
+		sut.poll(now);
+
+		assertTrue(sut.scheduleIfAbsent("a", 1, now + MINUTE));
+		assertFalse(sut.scheduleIfAbsent("a", 2, now + 2 * MINUTE));
+		assertEquals(Integer.valueOf(1), sut.schedule("a", 3, now + 3 * MINUTE));
+		assertEquals(List.of(), sut.poll(now + 2 * MINUTE + 1));
+		assertEquals(List.of(3), sut.poll(now + 3 * MINUTE + 1));
+
+		sut.schedule("b", 4, now + 5 * MINUTE);
+		assertTrue(sut.containsKey("b"));
+		assertEquals(Integer.valueOf(4), sut.remove("b"));
+		assertNull(sut.remove("b"));
+		assertFalse(sut.containsKey("b"));
+		assertEquals(List.of(), sut.poll(now + 10 * MINUTE));
+	}
+
+	/**
+	 * Simulates 100k Edges flapping online and offline for one day. Every offline
+	 * Edge schedules an alert; every Edge coming back online cancels it.
+	 */
+	@Ignore
+	@Test
+	public void benchmarkFlapping() {
+		final var edges = 100_000;
+		final var sut = new TimingWheel<Integer, Integer>(MINUTE, 7 * 24 * 60);
+		final var random = new Random(0);
+		final var start = 1_000 * MINUTE;
+		var operations = 0L;
+		var sent = 0L;
+
+		final var begin = System.nanoTime();
+		for (var minute = 0; minute < 24 * 60; minute++) {
+			final var now = start + minute * MINUTE;
+			// 10 % of the Edges change their state every minute
+			for (var i = 0; i < edges / 10; i++) {
+				final var edge = random.nextInt(edges);
+				if (random.nextBoolean()) {
+					sut.scheduleIfAbsent(edge, edge, now + (5 + random.nextInt(60)) * MINUTE);
+				} else {
+					sut.remove(edge);
+				}
+				operations++;
+			}
+			sent += sut.poll(now).size();
+		}
+		final var millis = (System.nanoTime() - begin) / 1_000_000;
+
+		System.out.println("TimingWheel: " + operations + " operations, " + sent + " alerts in " + millis + "ms");
+	}
+
+}
@@ -0,0 +1,74 @@
+package io.openems.backend.common.edgewebsocket;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global dictionary of Channel-Addresses, shared by the {@link EdgeCache}s of
+ * all Edges. Every distinct Channel-Address is held only once and identified by
+ * a dense integer id. Ids are never released.
+ */
+final class ChannelAddressDictionary {
+
+	private static final ConcurrentHashMap<String, Integer> IDS = new ConcurrentHashMap<>();
+	private static final Object LOCK = new Object();
+
+	/* Written only while holding LOCK */
+	private static volatile String[] addresses = new String[4096];
+	private static int size = 0;
+
+	private ChannelAddressDictionary() {
+	}
+
+	/**
+	 * Gets the id of a Channel-Address; adds it to the dictionary if it is not
+	 * known yet.
+	 *
+	 * @param address the Channel-Address
+	 * @return the id
+	 */
+	static int intern(String address) {
+		var id = IDS.get(address);
+		if (id != null) {
+			return id;
+		}
+		synchronized (LOCK) {
+			id = IDS.get(address);
+			if (id != null) {
+				return id;
+			}
+			id = size;
+			var array = addresses;
+			if (id == array.length) {
+				array = Arrays.copyOf(array, array.length * 2);
+			}
+			array[id] = address;
+			addresses = array;
+			size++;
+			IDS.put(address, id);
+			return id;
+		}
+	}
+
+	/**
+	 * Gets the id of a Channel-Address without adding it.
+	 *
+	 * @param address the Channel-Address
+	 * @return the id; -1 if the Channel-Address is not known
+	 */
+	static int lookup(String address) {
+		var id = IDS.get(address);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Gets the Channel-Address for an id.
+	 *
+	 * @param id the id
+	 * @return the Channel-Address
+	 */
+	static String get(int id) {
+		return addresses[id];
+	}
+
+}
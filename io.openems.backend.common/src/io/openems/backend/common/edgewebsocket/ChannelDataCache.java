@@ -0,0 +1,281 @@
+package io.openems.backend.common.edgewebsocket;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.notification.ChannelValuesChecksumNotification;
+
+/**
+ * Holds the latest value per Channel of one Edge in columns of primitive
+ * arrays.
+ *
+ * <p>
+ * Channel-Addresses are interned in the global {@link ChannelAddressDictionary}
+ * and mapped to a slot via an open addressing hash table. Numbers and booleans
+ * are stored as 64 bits; only Strings and other JSON values are kept as
+ * objects. A {@link JsonElement} is created on read.
+ *
+ * <p>
+ * Values are stored in a way that {@link JsonElement#toString()} of the read
+ * value equals the one of the written value, so that checksums of
+ * {@link ChannelValuesChecksumNotification} stay valid.
+ */
+class ChannelDataCache {
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_LONG = 1;
+	private static final byte TYPE_DOUBLE = 2;
+	private static final byte TYPE_FALSE = 3;
+	private static final byte TYPE_TRUE = 4;
+	private static final byte TYPE_STRING = 5;
+	private static final byte TYPE_JSON = 6;
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private long timestamp = 0L;
+
+	/* Guarded by 'this' */
+	private int size = 0;
+	/** Hash table of slot + 1; 0 for empty. */
+	private int[] table = new int[INITIAL_CAPACITY * 2];
+	private int[] ids = new int[INITIAL_CAPACITY];
+	private byte[] types = new byte[INITIAL_CAPACITY];
+	private long[] bits = new long[INITIAL_CAPACITY];
+	/** Strings and other JSON values; allocated on first use. */
+	private Object[] objects = null;
+
+	/**
+	 * Gets the channel value from cache.
+	 *
+	 * @param address the Channel-Address of the channel
+	 * @return the value; null if it is not in cache
+	 */
+	public final JsonElement getChannelValue(String address) {
+		final var id = ChannelAddressDictionary.lookup(address);
+		if (id < 0) {
+			return null;
+		}
+		synchronized (this) {
+			final var slot = this.findSlot(id);
+			if (slot < 0) {
+				return null;
+			}
+			return this.toJson(slot);
+		}
+	}
+
+	/**
+	 * Updates the Cache.
+	 *
+	 * @param incomingDatas the incoming data
+	 */
+	public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
+		for (var entry : incomingDatas.entrySet()) {
+			var incomingTimestamp = entry.getKey();
+			var incomingData = entry.getValue();
+
+			synchronized (this) {
+				// Check if cache should be applied
+				if (incomingTimestamp < this.timestamp) {
+					// Incoming data is older than cache -> do not apply cache
+					continue;
+				}
+
+				// Incoming data is more recent than cache
+				if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
+					// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
+					this.clear();
+				}
+
+				// update cache
+				this.timestamp = incomingTimestamp;
+				for (var data : incomingData.entrySet()) {
+					this.put(ChannelAddressDictionary.intern(data.getKey()), data.getValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Verifies the Cache against a checksum.
+	 *
+	 * <p>
+	 * Notifications are handled asynchronously, so the checksum may arrive before
+	 * or after other data than the one it was calculated for. It is only compared
+	 * if the Cache holds exactly the data up to its timestamp.
+	 *
+	 * @param timestamp the timestamp of the data the checksum was calculated for
+	 * @param count     the expected number of non-null values
+	 * @param checksum  the expected checksum
+	 * @return true if the Cache matches or cannot be compared
+	 */
+	public synchronized boolean verify(long timestamp, int count, long checksum) {
+		if (timestamp != this.timestamp) {
+			return true;
+		}
+		var actualCount = 0;
+		var actualChecksum = 0L;
+		for (var slot = 0; slot < this.size; slot++) {
+			if (this.types[slot] != TYPE_NULL) {
+				actualCount++;
+				actualChecksum += ChannelValuesChecksumNotification.hash(//
+						ChannelAddressDictionary.get(this.ids[slot]), this.toJson(slot));
+			}
+		}
+		return actualCount == count && actualChecksum == checksum;
+	}
+
+	/**
+	 * Clears the Cache.
+	 */
+	public synchronized void clear() {
+		Arrays.fill(this.table, 0);
+		if (this.objects != null) {
+			Arrays.fill(this.objects, 0, this.size, null);
+		}
+		this.size = 0;
+	}
+
+	private int findSlot(int id) {
+		final var mask = this.table.length - 1;
+		for (var i = mix(id) & mask;; i = (i + 1) & mask) {
+			final var entry = this.table[i];
+			if (entry == 0) {
+				return -1;
+			}
+			if (this.ids[entry - 1] == id) {
+				return entry - 1;
+			}
+		}
+	}
+
+	private void put(int id, JsonElement value) {
+		var slot = this.findSlot(id);
+		if (slot < 0) {
+			slot = this.addSlot(id);
+		}
+
+		if (value == null || value.isJsonNull()) {
+			this.set(slot, TYPE_NULL, 0L, null);
+			return;
+		}
+		if (!value.isJsonPrimitive()) {
+			this.set(slot, TYPE_JSON, 0L, value);
+			return;
+		}
+		final var primitive = value.getAsJsonPrimitive();
+		if (primitive.isBoolean()) {
+			this.set(slot, primitive.getAsBoolean() ? TYPE_TRUE : TYPE_FALSE, 0L, null);
+
+		} else if (primitive.isString()) {
+			this.set(slot, TYPE_STRING, 0L, primitive.getAsString());
+
+		} else {
+			final var number = primitive.getAsNumber();
+			if (number instanceof Integer || number instanceof Long || number instanceof Short
+					|| number instanceof Byte) {
+				this.set(slot, TYPE_LONG, number.longValue(), null);
+
+			} else if (number instanceof Double d) {
+				this.set(slot, TYPE_DOUBLE, Double.doubleToRawLongBits(d), null);
+
+			} else {
+				// e.g. LazilyParsedNumber from JSON or Float from binary data: store as
+				// primitive only if the textual representation is kept
+				this.setParsed(slot, primitive);
+			}
+		}
+	}
+
+	private void setParsed(int slot, JsonPrimitive primitive) {
+		final var text = primitive.getAsString();
+		try {
+			if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+				final var value = Long.parseLong(text);
+				if (Long.toString(value).equals(text)) {
+					this.set(slot, TYPE_LONG, value, null);
+					return;
+				}
+			} else {
+				final var value = Double.parseDouble(text);
+				if (Double.toString(value).equals(text)) {
+					this.set(slot, TYPE_DOUBLE, Double.doubleToRawLongBits(value), null);
+					return;
+				}
+			}
+		} catch (NumberFormatException e) {
+			// fall through
+		}
+		this.set(slot, TYPE_JSON, 0L, primitive);
+	}
+
+	private void set(int slot, byte type, long bits, Object object) {
+		this.types[slot] = type;
+		this.bits[slot] = bits;
+		if (object != null) {
+			if (this.objects == null) {
+				this.objects = new Object[this.ids.length];
+			}
+			this.objects[slot] = object;
+		} else if (this.objects != null) {
+			this.objects[slot] = null;
+		}
+	}
+
+	private int addSlot(int id) {
+		if (this.size == this.ids.length) {
+			final var capacity = this.ids.length * 2;
+			this.ids = Arrays.copyOf(this.ids, capacity);
+			this.types = Arrays.copyOf(this.types, capacity);
+			this.bits = Arrays.copyOf(this.bits, capacity);
+			if (this.objects != null) {
+				this.objects = Arrays.copyOf(this.objects, capacity);
+			}
+			this.rehash(capacity * 2);
+		}
+		final var slot = this.size++;
+		this.ids[slot] = id;
+		this.insert(this.table, id, slot);
+		return slot;
+	}
+
+	private void rehash(int tableLength) {
+		final var table = new int[tableLength];
+		for (var slot = 0; slot < this.size; slot++) {
+			this.insert(table, this.ids[slot], slot);
+		}
+		this.table = table;
+	}
+
+	private void insert(int[] table, int id, int slot) {
+		final var mask = table.length - 1;
+		var i = mix(id) & mask;
+		while (table[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		table[i] = slot + 1;
+	}
+
+	private JsonElement toJson(int slot) {
+		return switch (this.types[slot]) {
+		case TYPE_LONG -> new JsonPrimitive(this.bits[slot]);
+		case TYPE_DOUBLE -> new JsonPrimitive(Double.longBitsToDouble(this.bits[slot]));
+		case TYPE_FALSE -> new JsonPrimitive(false);
+		case TYPE_TRUE -> new JsonPrimitive(true);
+		case TYPE_STRING -> new JsonPrimitive((String) this.objects[slot]);
+		case TYPE_JSON -> (JsonElement) this.objects[slot];
+		default -> JsonNull.INSTANCE;
+		};
+	}
+
+	private static int mix(int id) {
+		final var h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+}
@@ -1,9 +1,7 @@
 package io.openems.backend.common.edgewebsocket;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.TreeSet;
 
@@ -11,8 +9,16 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ChannelValuesChecksumNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 
+/**
+ * Caches the current and the aggregated Channel values of one Edge.
+ *
+ * <p>
+ * Values are held in primitive columns per Edge and Channel-Addresses in a
+ * global dictionary shared by all Edges; see {@link ChannelDataCache}.
+ */
 public class EdgeCache {
 
 	private final ChannelDataCache current = new ChannelDataCache();
@@ -22,56 +28,6 @@ public class EdgeCache {
 
 	}
 
-	private static class ChannelDataCache {
-		private long timestamp = 0L;
-		private final HashMap<String, JsonElement> data = new HashMap<>();
-
-		/**
-		 * Gets the channel value from cache.
-		 *
-		 * @param address the Channel-Address of the channel
-		 * @return the value; {@link JsonNull} if it is not in cache
-		 */
-		public final JsonElement getChannelValue(String address) {
-			synchronized (this) {
-				return this.data.get(address);
-			}
-		}
-
-		/**
-		 * Updates the Cache.
-		 *
-		 * @param incomingDatas the incoming data
-		 */
-		public void update(SortedMap<Long, Map<String, JsonElement>> incomingDatas) {
-			for (var entry : incomingDatas.entrySet()) {
-				var incomingTimestamp = entry.getKey();
-				var incomingData = entry.getValue();
-
-				// Check if cache should be applied
-				if (incomingTimestamp < this.timestamp) {
-					// Incoming data is older than cache -> do not apply cache
-
-				} else {
-					// Incoming data is more recent than cache
-
-					if (incomingTimestamp > this.timestamp + 15 * 60 * 1000) {
-						// Cache is not anymore valid (elder than 15 minutes) -> clear Cache
-						synchronized (this) {
-							this.data.clear();
-						}
-					}
-
-					// update cache
-					this.timestamp = incomingTimestamp;
-					synchronized (this) {
-						this.data.putAll(incomingData);
-					}
-				}
-			}
-		}
-	}
-
 	/**
 	 * Gets the channel value from cache.
 	 *
@@ -127,6 +83,24 @@ public class EdgeCache {
 		this.current.update(notification.getData().rowMap());
 	}
 
+	/**
+	 * Verifies the current data Cache against a
+	 * {@link ChannelValuesChecksumNotification} from Edge. On mismatch the current
+	 * data Cache is cleared, so that it can be filled again by the values of all
+	 * Channels. The check is skipped if the Cache does not hold exactly the data
+	 * up to the timestamp of the checksum.
+	 *
+	 * @param notification the {@link ChannelValuesChecksumNotification}
+	 * @return true if the Cache matches or cannot be compared
+	 */
+	public boolean verifyCurrentData(ChannelValuesChecksumNotification notification) {
+		if (this.current.verify(notification.timestamp, notification.count, notification.checksum)) {
+			return true;
+		}
+		this.current.clear();
+		return false;
+	}
+
 	/**
 	 * Updates the aggregated data cache.
 	 *
@@ -1,6 +1,8 @@
 package io.openems.backend.common.edgewebsocket;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +16,8 @@ import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.notification.ChannelValuesChecksumNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
 
@@ -51,6 +55,76 @@ public class EdgeCacheTest {
 		assertEquals("value3", cache.getChannelValue(CHANNEL3).getAsString());
 	}
 
+	@Test
+	public void testVerifyCurrentData() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		cache.updateCurrentData(buildData(0L, CHANNEL1, "value1"));
+		cache.updateCurrentData(buildData(1000L, CHANNEL2, "value2"));
+
+		var values = Map.<String, JsonElement>of(//
+				CHANNEL1, new JsonPrimitive("value1"), //
+				CHANNEL2, new JsonPrimitive("value2"), //
+				CHANNEL3, JsonNull.INSTANCE);
+		assertTrue(cache.verifyCurrentData(new ChannelValuesChecksumNotification(1000L,
+				ChannelValuesChecksumNotification.count(values), ChannelValuesChecksumNotification.checksum(values))));
+		assertEquals("value1", cache.getChannelValue(CHANNEL1).getAsString());
+
+		// Checksum of data that is not (yet) or no longer in the cache is not compared
+		assertTrue(cache.verifyCurrentData(new ChannelValuesChecksumNotification(2000L, 2, 12345L)));
+		assertTrue(cache.verifyCurrentData(new ChannelValuesChecksumNotification(0L, 2, 12345L)));
+		assertEquals("value1", cache.getChannelValue(CHANNEL1).getAsString());
+
+		// Mismatch clears the cache
+		assertFalse(cache.verifyCurrentData(new ChannelValuesChecksumNotification(1000L, 2, 12345L)));
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue(CHANNEL1));
+	}
+
+	@Test
+	public void testTypes() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		var json = TimestampedDataNotification.from(GenericJsonrpcNotification.from("""
+				{"jsonrpc":"2.0","method":"timestampedData","params":{"1000":{
+				"a/Long":-1234,"a/Double":49.98,"a/Exp":1.0E-5,"a/Odd":1e3,
+				"a/True":true,"a/String":"foo","a/Null":null,"a/Array":[1,2]}}}"""));
+		cache.updateCurrentData(json);
+
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		table.put(1000L, "b/Float", new JsonPrimitive(49.98F));
+		table.put(1000L, "b/Integer", new JsonPrimitive(7));
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+
+		assertEquals(new JsonPrimitive(-1234), cache.getChannelValue("a/Long"));
+		assertEquals("49.98", cache.getChannelValue("a/Double").toString());
+		assertEquals("1.0E-5", cache.getChannelValue("a/Exp").toString());
+		assertEquals("1e3", cache.getChannelValue("a/Odd").toString());
+		assertEquals(new JsonPrimitive(true), cache.getChannelValue("a/True"));
+		assertEquals(new JsonPrimitive("foo"), cache.getChannelValue("a/String"));
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue("a/Null"));
+		assertEquals("[1,2]", cache.getChannelValue("a/Array").toString());
+		assertEquals("49.98", cache.getChannelValue("b/Float").toString());
+		assertEquals(new JsonPrimitive(7), cache.getChannelValue("b/Integer"));
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue("a/Unknown"));
+
+		// Checksum is calculated on the textual representation of the values
+		var values = new HashMap<String, JsonElement>(json.getData().row(1000L));
+		values.putAll(table.row(1000L));
+		assertTrue(cache.verifyCurrentData(new ChannelValuesChecksumNotification(1000L,
+				ChannelValuesChecksumNotification.count(values), ChannelValuesChecksumNotification.checksum(values))));
+	}
+
+	@Test
+	public void testGrow() throws OpenemsNamedException {
+		var cache = new EdgeCache();
+		var table = TreeBasedTable.<Long, String, JsonElement>create();
+		for (var i = 0; i < 1000; i++) {
+			table.put(1000L, "grow" + i + "/Value", new JsonPrimitive(i));
+		}
+		cache.updateCurrentData(new TimestampedDataNotification(table));
+		for (var i = 0; i < 1000; i++) {
+			assertEquals(new JsonPrimitive(i), cache.getChannelValue("grow" + i + "/Value"));
+		}
+	}
+
 	private static TimestampedDataNotification buildData(long timestamp, String channel, String value)
 			throws OpenemsNamedException {
 		var data = new TreeMap<Long, Map<String, JsonElement>>();
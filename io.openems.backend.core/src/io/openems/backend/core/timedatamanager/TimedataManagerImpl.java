@@ -36,6 +36,7 @@ import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 
@@ -139,6 +140,28 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 		throw new OpenemsException("Unable to query historic data. Result is null");
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * <p>
+	 * The {@link TimedataManager} implementation never returns null, but throws an
+	 * Exception instead
+	 */
+	@Override
+	public ColumnarTimeseries queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		final var value = this
+				.firstOf(t -> t.queryHistoricDataColumnar(edgeId, fromDate, toDate, channels, resolution));
+		if (value != null) {
+			return value;
+		}
+		// no result
+		this.logWarn(this.log, "No timedata result for 'queryHistoricDataColumnar' on Edge=" + edgeId
+				+ "; FromDate=" + fromDate + "; ToDate=" + toDate + "; Channels=" + channels + "; Resolution="
+				+ resolution);
+		throw new OpenemsException("Unable to query historic data. Result is null");
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * 
@@ -8,10 +8,10 @@ import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.java_websocket.WebSocket;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
@@ -83,6 +83,12 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	protected volatile UiWebsocket uiWebsocket;
 
+	/**
+	 * Authenticated connections by Edge-ID; maintained on authentication and
+	 * close.
+	 */
+	private final Map<String, Set<WsData>> connectionsByEdgeId = new ConcurrentHashMap<>();
+
 	private WebsocketServer server = null;
 	private Config config;
 
@@ -131,19 +137,56 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	 * @return true if it is online
 	 */
 	protected boolean isOnline(String edgeId) {
-		if (this.server == null) {
-			return false;
+		return this.connectionsByEdgeId.containsKey(edgeId);
+	}
+
+	/**
+	 * Registers an authenticated connection of an Edge.
+	 *
+	 * <p>
+	 * OnOpen and OnClose are handled asynchronously. If the connection was closed
+	 * before it was registered, OnClose did not know the Edge-ID yet; it is
+	 * unregistered again then.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param wsData the WebSocket attachment
+	 * @return true if the connection was registered; false if it was already
+	 *         closed
+	 */
+	protected boolean addConnection(String edgeId, WsData wsData) {
+		this.connectionsByEdgeId.compute(edgeId, (k, v) -> {
+			if (v == null) {
+				v = ConcurrentHashMap.newKeySet();
+			}
+			v.add(wsData);
+			return v;
+		});
+		if (wsData.isOpen()) {
+			return true;
 		}
-		return this.server.isOnline(edgeId);
+		this.removeConnection(edgeId, wsData);
+		return false;
+	}
+
+	/**
+	 * Unregisters a closed connection of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param wsData the WebSocket attachment
+	 */
+	protected void removeConnection(String edgeId, WsData wsData) {
+		this.connectionsByEdgeId.computeIfPresent(edgeId, (k, v) -> {
+			v.remove(wsData);
+			return v.isEmpty() ? null : v;
+		});
 	}
 
 	@Override
 	public CompletableFuture<JsonrpcResponseSuccess> send(String edgeId, User user, JsonrpcRequest request) {
-		var ws = this.getWebSocketForEdgeId(edgeId);
-		if (ws == null) {
+		var wsData = this.getWsDataForEdgeId(edgeId);
+		if (wsData == null) {
 			return CompletableFuture.failedFuture(OpenemsError.BACKEND_EDGE_NOT_CONNECTED.exception(edgeId));
 		}
-		WsData wsData = ws.getAttachment();
 		// Wrap Request in AuthenticatedRpc
 		var authenticatedRpc = new AuthenticatedRpcRequest<>(edgeId, user, request);
 		var responseFuture = wsData.send(authenticatedRpc);
@@ -171,30 +214,29 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	@Override
 	public boolean send(String edgeId, JsonrpcNotification notification) {
-		var ws = this.getWebSocketForEdgeId(edgeId);
-		if (ws == null) {
+		var wsData = this.getWsDataForEdgeId(edgeId);
+		if (wsData == null) {
 			return false;
 		}
-		WsData wsData = ws.getAttachment();
 		return wsData.send(notification);
 	}
 
 	/**
-	 * Gets the WebSocket connection for an Edge-ID. If more than one connection
-	 * exists, the first one is returned. Returns null if none is found.
+	 * Gets the WebSocket connection attachment for an Edge-ID. If more than one
+	 * open connection exists, any one of them is returned. Returns null if none is
+	 * found.
 	 *
 	 * @param edgeId the Edge-ID
-	 * @return the WebSocket connection
+	 * @return the WsData
 	 */
-	private final WebSocket getWebSocketForEdgeId(String edgeId) {
-		if (this.server == null) {
+	private final WsData getWsDataForEdgeId(String edgeId) {
+		var connections = this.connectionsByEdgeId.get(edgeId);
+		if (connections == null) {
 			return null;
 		}
-		for (WebSocket ws : this.server.getConnections()) {
-			WsData wsData = ws.getAttachment();
-			var wsEdgeIdOpt = wsData.getEdgeId();
-			if (wsEdgeIdOpt.isPresent() && wsEdgeIdOpt.get().equals(edgeId)) {
-				return ws;
+		for (var wsData : connections) {
+			if (wsData.isOpen()) {
+				return wsData;
 			}
 		}
 		return null;
@@ -274,11 +316,7 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 			Set<ChannelAddress> channelAddresses) {
 		SortedMap<ChannelAddress, JsonElement> result = channelAddresses.stream() //
 				.collect(Collectors.toMap(Function.identity(), c -> JsonNull.INSTANCE, (t, u) -> u, TreeMap::new));
-		var ws = this.getWebSocketForEdgeId(edgeId);
-		if (ws == null) {
-			return result;
-		}
-		var wsData = (WsData) ws.getAttachment();
+		var wsData = this.getWsDataForEdgeId(edgeId);
 		if (wsData == null) {
 			return result;
 		}
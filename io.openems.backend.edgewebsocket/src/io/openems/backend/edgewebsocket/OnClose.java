@@ -18,10 +18,12 @@ public class OnClose implements io.openems.common.websocket.OnClose {
 	public void accept(WebSocket ws, int code, String reason, boolean remote) {
 		// get edgeId from websocket
 		WsData wsData = ws.getAttachment();
+		wsData.binaryDataDecoder.close();
 		var edgeIdOpt = wsData.getEdgeId();
 		String edgeId;
 		if (edgeIdOpt.isPresent()) {
 			edgeId = edgeIdOpt.get();
+			this.parent.removeConnection(edgeId, wsData);
 			var edgeOpt = this.parent.metadata.getEdge(edgeId);
 			// if there is no other websocket connection for this edgeId -> announce Edge as
 			// offline
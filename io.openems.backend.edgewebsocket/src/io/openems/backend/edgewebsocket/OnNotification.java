@@ -17,10 +17,12 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ChannelValuesChecksumNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.notification.LogMessageNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.ResyncChannelValuesNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.SemanticVersion;
@@ -57,11 +59,19 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 		case EdgeConfigNotification.METHOD ->
 			this.handleEdgeConfigNotification(EdgeConfigNotification.from(notification), wsData);
 		case TimestampedDataNotification.METHOD ->
-			this.handleDataNotification(TimestampedDataNotification.from(notification), wsData);
+			this.handleDataNotification(notification instanceof TimestampedDataNotification n //
+					? n // already decoded from binary
+					: TimestampedDataNotification.from(notification), wsData);
 		case AggregatedDataNotification.METHOD ->
-			this.handleDataNotification(AggregatedDataNotification.from(notification), wsData);
+			this.handleDataNotification(notification instanceof AggregatedDataNotification n //
+					? n // already decoded from binary
+					: AggregatedDataNotification.from(notification), wsData);
+		case ChannelValuesChecksumNotification.METHOD ->
+			this.handleChannelValuesChecksumNotification(ChannelValuesChecksumNotification.from(notification), wsData);
 		case ResendDataNotification.METHOD ->
-			this.handleResendDataNotification(ResendDataNotification.from(notification), wsData);
+			this.handleResendDataNotification(notification instanceof ResendDataNotification n //
+					? n // already decoded from binary
+					: ResendDataNotification.from(notification), wsData);
 		case SystemLogNotification.METHOD ->
 			this.handleSystemLogNotification(SystemLogNotification.from(notification), wsData);
 		case LogMessageNotification.METHOD ->
@@ -99,6 +109,24 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 		}
 	}
 
+	/**
+	 * Handles ChannelValuesChecksumNotification. Asks the Edge to send the values
+	 * of all Channels if the cache does not match.
+	 *
+	 * @param message the ChannelValuesChecksumNotification
+	 * @param wsData  the WebSocket attachment
+	 * @throws OpenemsNamedException on error
+	 */
+	private void handleChannelValuesChecksumNotification(ChannelValuesChecksumNotification message, WsData wsData)
+			throws OpenemsNamedException {
+		var edgeId = wsData.assertEdgeId(message);
+		if (wsData.edgeCache.verifyCurrentData(message)) {
+			return;
+		}
+		this.parent.logInfo(this.log, edgeId, "Channel values checksum mismatch. Requesting resync.");
+		wsData.send(new ResyncChannelValuesNotification());
+	}
+
 	private void handleResendDataNotification(//
 			final ResendDataNotification message, //
 			final WsData wsData //
@@ -9,6 +9,7 @@ import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.Handshakedata;
 
 import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.jsonrpc.notification.BinaryDataSupportedNotification;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -62,10 +63,20 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 		}
 		var edge = edgeOpt.get();
 
+		wsData.setEdgeId(edgeId);
+		if (!this.parent.addConnection(edgeId, wsData)) {
+			// Connection was closed in the meantime
+			edge.setOnline(this.parent.isOnline(edgeId));
+			return null;
+		}
+
 		// announce Edge as online
 		edge.setOnline(true);
 		edge.setLastmessage();
-		wsData.setEdgeId(edgeId);
+
+		// announce support for binary data notifications; older Edges ignore it and
+		// keep sending JSON
+		wsData.send(new BinaryDataSupportedNotification());
 
 		return null; // No error
 	}
@@ -1,7 +1,7 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -9,14 +9,20 @@ import java.util.stream.Collectors;
 
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.websocket.AbstractWebsocketServer;
 
 public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
+	private final Logger log = LoggerFactory.getLogger(WebsocketServer.class);
+
 	private final EdgeWebsocketImpl parent;
 	private final OnOpen onOpen;
 	private final OnRequest onRequest;
@@ -41,18 +47,6 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return new WsData(ws);
 	}
 
-	/**
-	 * Is the given Edge online?.
-	 *
-	 * @param edgeId the Edge-ID
-	 * @return true if it is online.
-	 */
-	public boolean isOnline(String edgeId) {
-		final Optional<String> edgeIdOpt = Optional.of(edgeId);
-		return this.getConnections().parallelStream().anyMatch(
-				ws -> ws.getAttachment() != null && ((WsData) ws.getAttachment()).getEdgeId().equals(edgeIdOpt));
-	}
-
 	@Override
 	protected OnOpen getOnOpen() {
 		return this.onOpen;
@@ -78,6 +72,36 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return this.onClose;
 	}
 
+	@Override
+	protected void handleBinaryMessage(WebSocket ws, ByteBuffer message) {
+		WsData wsData = ws.getAttachment();
+		if (wsData == null || wsData.getEdgeId().isEmpty()) {
+			// Binary data is announced only after authentication
+			return;
+		}
+
+		// Decode synchronously: the dictionary depends on the order of frames
+		final AbstractDataNotification notification;
+		try {
+			notification = wsData.binaryDataDecoder.decode(message);
+		} catch (OpenemsException e) {
+			this.parent.logWarn(this.log, wsData.getEdgeId().orElse(null),
+					"Unable to decode binary message: " + e.getMessage());
+			// Dictionary is out of sync; a new connection starts with an empty one
+			ws.close();
+			return;
+		}
+
+		this.execute(() -> {
+			try {
+				this.onNotification.accept(ws, notification);
+			} catch (OpenemsNamedException e) {
+				this.parent.logWarn(this.log, wsData.getEdgeId().orElse(null),
+						"Unable to handle binary message: " + e.getMessage());
+			}
+		});
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		this.parent.logInfo(log, message);
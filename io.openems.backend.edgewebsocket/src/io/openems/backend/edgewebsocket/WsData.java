@@ -12,6 +12,7 @@ import io.openems.backend.common.edgewebsocket.EdgeCache;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.binary.BinaryDataDecoder;
 import io.openems.common.utils.StringUtils;
 
 public class WsData extends io.openems.common.websocket.WsData {
@@ -25,6 +26,12 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
 
+	/**
+	 * Decoder for binary data notifications; keeps the Channel-Address dictionary
+	 * of this connection. Must only be used in order of arrival.
+	 */
+	public final BinaryDataDecoder binaryDataDecoder = new BinaryDataDecoder();
+
 	public WsData(WebSocket ws) {
 		super(ws);
 	}
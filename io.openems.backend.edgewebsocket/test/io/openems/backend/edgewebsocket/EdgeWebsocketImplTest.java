@@ -0,0 +1,57 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertFalse;
+
+import java.net.URI;
+
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.junit.Test;
+
+import io.openems.common.jsonrpc.notification.ResyncChannelValuesNotification;
+
+public class EdgeWebsocketImplTest {
+
+	private static final String EDGE_ID = "edge0";
+
+	/**
+	 * A WebSocket that was never connected, i.e. is not open.
+	 */
+	private static class ClosedWebSocket extends WebSocketClient {
+
+		public ClosedWebSocket() {
+			super(URI.create("ws://localhost:8081"));
+		}
+
+		@Override
+		public void onOpen(ServerHandshake handshakedata) {
+		}
+
+		@Override
+		public void onMessage(String message) {
+		}
+
+		@Override
+		public void onClose(int code, String reason, boolean remote) {
+		}
+
+		@Override
+		public void onError(Exception ex) {
+		}
+	}
+
+	@Test
+	public void testCloseBeforeOpen() {
+		final var sut = new EdgeWebsocketImpl();
+		final var wsData = new WsData(new ClosedWebSocket());
+
+		// OnClose was handled before OnOpen, i.e. without Edge-ID; then OnOpen
+		// registers the connection
+		wsData.setEdgeId(EDGE_ID);
+		assertFalse(sut.addConnection(EDGE_ID, wsData));
+
+		assertFalse(sut.isOnline(EDGE_ID));
+		assertFalse(sut.send(EDGE_ID, new ResyncChannelValuesNotification()));
+	}
+
+}
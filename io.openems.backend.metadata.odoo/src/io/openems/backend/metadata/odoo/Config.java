@@ -46,6 +46,9 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the maximum number of concurrent connections")
 	int pgConnectionPoolSize() default 40;
 
+	@AttributeDefinition(name = "Postgres Write Interval [s]", description = "Collected updates of lastmessage, online state, sum state, version and producttype are written to Postgres in this interval")
+	int pgWriteInterval() default 30;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	DebugMode debugMode() default DebugMode.OFF;
 
@@ -2,10 +2,11 @@ package io.openems.backend.metadata.odoo;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
@@ -13,6 +14,15 @@ import io.openems.backend.metadata.odoo.postgres.PgUtils;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.SemanticVersion;
 
+/**
+ * Caches the Edges of the Odoo database.
+ *
+ * <p>
+ * Every websocket authentication and every data notification reads from this
+ * cache, while writes only happen on initialization and on incremental
+ * refreshes from Postgres. Reads are therefore lock-free; writes are
+ * serialized.
+ */
 public class EdgeCache {
 
 	public static final int EXPECTED_CACHE_SIZE = 1_000;
@@ -22,19 +32,17 @@ public class EdgeCache {
 	/**
 	 * Map Edge-ID (String) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<String, MyEdge> edgeIdToEdge = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<String, MyEdge> edgeIdToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
-	 * Map Odoo-ID (Integer) to Edge-ID (String). Initialized with expected cache
-	 * size.
+	 * Map Odoo-ID (Integer) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<Integer, String> odooIdToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<Integer, MyEdge> odooIdToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	/**
-	 * Map Apikey (String) to Edge-ID (String). Initialized with expected cache
-	 * size.
+	 * Map Apikey (String) to Edge. Initialized with expected cache size.
 	 */
-	private final Map<String, String> apikeyToEdgeId = new HashMap<>(EXPECTED_CACHE_SIZE);
+	private final ConcurrentHashMap<String, MyEdge> apikeyToEdge = new ConcurrentHashMap<>(EXPECTED_CACHE_SIZE);
 
 	public EdgeCache(MetadataOdoo parent) {
 		this.parent = parent;
@@ -48,7 +56,7 @@ public class EdgeCache {
 	 * @throws SQLException     on error
 	 * @throws OpenemsException on error
 	 */
-	public synchronized MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
+	public MyEdge addOrUpdate(ResultSet rs) throws SQLException, OpenemsException {
 		// simple fields
 		var edgeId = PgUtils.getAsString(rs, EdgeDevice.NAME);
 		var odooId = PgUtils.getAsInt(rs, EdgeDevice.ID);
@@ -60,19 +68,52 @@ public class EdgeCache {
 		var producttype = PgUtils.getAsStringOrElse(rs, EdgeDevice.PRODUCTTYPE, "");
 		var lastmessage = PgUtils.getAsDateOrElse(rs, EdgeDevice.LASTMESSAGE, null);
 
+		return this.addOrUpdate(odooId, edgeId, apikey, comment, version, producttype, lastmessage);
+	}
+
+	/**
+	 * Adds a Edge or Updates an existing Edge.
+	 *
+	 * @param odooId      the Odoo-ID
+	 * @param edgeId      the Edge-ID
+	 * @param apikey      the Apikey
+	 * @param comment     the comment
+	 * @param version     the OpenEMS version
+	 * @param producttype the producttype
+	 * @param lastmessage the time of the last message; possibly null
+	 * @return the new or updated Edge instance
+	 */
+	public synchronized MyEdge addOrUpdate(int odooId, String edgeId, String apikey, String comment, String version,
+			String producttype, ZonedDateTime lastmessage) {
 		var edge = this.edgeIdToEdge.get(edgeId);
 		if (edge == null) {
 			// This is new -> create instance of Edge
 			edge = new MyEdge(this.parent, odooId, edgeId, apikey, comment, version, producttype, lastmessage);
+			// Register lookups before the Edge-ID, so that the Edge is complete once it
+			// is visible for its Edge-ID
+			this.odooIdToEdge.put(odooId, edge);
+			this.apikeyToEdge.put(apikey, edge);
 			this.edgeIdToEdge.put(edgeId, edge);
-			this.odooIdToEdgeId.put(odooId, edgeId);
-			this.apikeyToEdgeId.put(apikey, edgeId);
 		} else {
 			// Edge exists -> update information
 			edge.setComment(comment);
-			edge.setVersion(SemanticVersion.fromStringOrZero(version));
 			edge.setProducttype(producttype);
-			edge.setLastmessage(lastmessage);
+			// Version and Last-Message are reported by the Edge itself; the database
+			// might not yet contain the latest values
+			if (SemanticVersion.ZERO.equals(edge.getVersion())) {
+				edge.setVersion(SemanticVersion.fromStringOrZero(version));
+			}
+			final var previousLastmessage = edge.getLastmessage();
+			if (previousLastmessage == null || (lastmessage != null && lastmessage.isAfter(previousLastmessage))) {
+				edge.setLastmessage(lastmessage);
+			}
+			final var oldApikey = edge.getApikey();
+			if (!Objects.equals(oldApikey, apikey)) {
+				// Apikey changed -> old Apikey is not valid anymore
+				this.apikeyToEdge.put(apikey, edge);
+				this.apikeyToEdge.remove(oldApikey, edge);
+				edge.setApikey(apikey);
+			}
 		}
 
 		return edge;
@@ -84,7 +125,7 @@ public class EdgeCache {
 	 * @param edgeId the Edge-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromEdgeId(String edgeId) {
+	public MyEdge getEdgeFromEdgeId(String edgeId) {
 		return this.edgeIdToEdge.get(edgeId);
 	}
 
@@ -94,12 +135,8 @@ public class EdgeCache {
 	 * @param odooId the Odoo-ID
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeFromOdooId(int odooId) {
-		var edgeId = this.odooIdToEdgeId.get(odooId);
-		if (edgeId == null) {
-			return null;
-		}
-		return this.getEdgeFromEdgeId(edgeId);
+	public MyEdge getEdgeFromOdooId(int odooId) {
+		return this.odooIdToEdge.get(odooId);
 	}
 
 	/**
@@ -108,17 +145,16 @@ public class EdgeCache {
 	 * @param apikey the Apikey
 	 * @return the Edge, or null
 	 */
-	public synchronized MyEdge getEdgeForApikey(String apikey) {
-		var edgeId = this.apikeyToEdgeId.get(apikey);
-		if (edgeId == null) {
-			return null;
-		}
-		return this.getEdgeFromEdgeId(edgeId);
+	public MyEdge getEdgeForApikey(String apikey) {
+		return this.apikeyToEdge.get(apikey);
 	}
 
 	/**
 	 * Gets all Edges as an unmodifiable Collection.
 	 *
+	 * <p>
+	 * The Collection is a live, weakly consistent view of the cache.
+	 *
 	 * @return a collection of Edges
 	 */
 	public Collection<Edge> getAllEdges() {
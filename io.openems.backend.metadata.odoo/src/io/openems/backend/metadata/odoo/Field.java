@@ -129,6 +129,9 @@ public interface Field {
 
 		// Product
 		STOCK_PRODUCTION_LOT_ID("stock_production_lot_id", false), //
+
+		// Odoo
+		WRITE_DATE("write_date", true), //
 		;
 
 		public static final String ODOO_MODEL = "openems.device";
@@ -8,12 +8,13 @@ import static io.openems.common.utils.JsonUtils.getAsOptionalJsonArray;
 import static io.openems.common.utils.JsonUtils.getAsOptionalString;
 import static io.openems.common.utils.JsonUtils.getAsString;
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
-import static java.util.stream.Collectors.toUnmodifiableMap;
 
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,7 +58,6 @@ import io.openems.backend.common.metadata.EdgeHandler;
 import io.openems.backend.common.metadata.Mailer;
 import io.openems.backend.common.metadata.Metadata;
 import io.openems.backend.common.metadata.User;
-import io.openems.backend.metadata.odoo.odoo.FieldValue;
 import io.openems.backend.metadata.odoo.odoo.OdooHandler;
 import io.openems.backend.metadata.odoo.odoo.OdooUserRole;
 import io.openems.backend.metadata.odoo.odoo.OdooUtils.DateTime;
@@ -340,8 +340,8 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			var edge = (MyEdge) reader.getProperty(Edge.Events.OnSetVersion.EDGE);
 			var version = (SemanticVersion) reader.getProperty(Edge.Events.OnSetVersion.VERSION);
 
-			// Set Version in Odoo
-			this.odooHandler.writeEdge(edge, new FieldValue<>(Field.EdgeDevice.OPENEMS_VERSION, version.toString()));
+			// Set Version in Odoo/Postgres
+			this.postgresHandler.getPeriodicWriteWorker().onSetVersion(edge, version.toString());
 		}
 			break;
 
@@ -366,14 +366,7 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			var edge = (MyEdge) reader.getProperty(Edge.Events.OnSetProducttype.EDGE);
 			var producttype = reader.getString(Edge.Events.OnSetProducttype.PRODUCTTYPE);
 			// Set Producttype in Odoo/Postgres
-			this.execute("OnSetProducttype", () -> {
-				try {
-					this.postgresHandler.edge.updateProductType(edge.getOdooId(), producttype);
-				} catch (SQLException | OpenemsNamedException e) {
-					this.logWarn(this.log, "Edge [" + edge.getId() + "] " //
-							+ "Unable to insert update Product Type: " + e.getMessage());
-				}
-			});
+			this.postgresHandler.getPeriodicWriteWorker().onSetProducttype(edge, producttype);
 		}
 			break;
 
@@ -695,16 +688,24 @@ public class MetadataOdoo extends AbstractMetadata implements AppCenterMetadata,
 			});
 		}
 
+		if (this.postgresHandler != null) {
+			b.append(", ").append(this.postgresHandler.getPeriodicWriteWorker().debugLog());
+		}
+
 		return b.toString();
 	}
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor).entrySet().stream() //
-				.collect(toUnmodifiableMap(//
-						// TODO implement getId()
-						e -> "metadata0/" + e.getKey(), //
-						e -> new JsonPrimitive(e.getValue())));
+		final var result = new HashMap<String, JsonElement>();
+		// TODO implement getId()
+		ThreadPoolUtils.debugMetrics(this.executor)
+				.forEach((key, value) -> result.put("metadata0/" + key, new JsonPrimitive(value)));
+		if (this.postgresHandler != null) {
+			this.postgresHandler.getPeriodicWriteWorker().debugMetrics()
+					.forEach((key, value) -> result.put("metadata0/" + key, value));
+		}
+		return Collections.unmodifiableMap(result);
 	}
 
 }
@@ -7,7 +7,7 @@ import io.openems.backend.common.metadata.Edge;
 public class MyEdge extends Edge {
 
 	private final int odooId;
-	private final String apikey;
+	private volatile String apikey;
 
 	public MyEdge(MetadataOdoo parent, int odooId, String edgeId, String apikey, String comment, String version,
 			String producttype, ZonedDateTime lastMessage) {
@@ -24,4 +24,8 @@ public class MyEdge extends Edge {
 		return this.apikey;
 	}
 
+	protected void setApikey(String apikey) {
+		this.apikey = apikey;
+	}
+
 }
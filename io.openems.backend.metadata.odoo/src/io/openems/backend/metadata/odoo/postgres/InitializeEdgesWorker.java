@@ -2,30 +2,58 @@ package io.openems.backend.metadata.odoo.postgres;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.concurrent.ExecutorService;
+import java.sql.Timestamp;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zaxxer.hikari.HikariDataSource;
 
+import io.openems.backend.metadata.odoo.EdgeCache;
 import io.openems.backend.metadata.odoo.Field;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
 import io.openems.common.utils.ThreadPoolUtils;
 
+/**
+ * Reads all Edges from Postgres into the {@link EdgeCache} and afterwards
+ * periodically refreshes Edges that were changed in Odoo.
+ */
 public class InitializeEdgesWorker {
 
+	/**
+	 * Interval for reading Edges that were changed in Odoo, i.e. have a newer
+	 * 'write_date'.
+	 */
+	private static final int REFRESH_INTERVAL_SECONDS = 60;
+
+	/**
+	 * Odoo sets 'write_date' to the start of the transaction, so a row can be
+	 * committed after rows with a later 'write_date' were already read. Every
+	 * refresh therefore reads again the Edges changed within this time before the
+	 * latest known 'write_date'; updating them in the {@link EdgeCache} again has
+	 * no effect.
+	 */
+	private static final long WRITE_DATE_OVERLAP_MILLIS = 5 * 60 * 1000;
+
 	private final Logger log = LoggerFactory.getLogger(InitializeEdgesWorker.class);
 	protected final PostgresHandler parent;
 	private final HikariDataSource dataSource;
 	private final Runnable onFinished;
 
 	/**
-	 * Executor for subscriptions task.
+	 * Executor for initialization and refresh task.
+	 */
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	/**
+	 * Latest 'write_date' of all read Edges; only accessed by the executor.
 	 */
-	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	private Timestamp lastWriteDate = null;
 
 	public InitializeEdgesWorker(PostgresHandler parent, HikariDataSource dataSource, Runnable onFinished) {
 		this.parent = parent;
@@ -49,6 +77,8 @@ public class InitializeEdgesWorker {
 			}
 			this.onFinished.run();
 		});
+		this.executor.scheduleWithFixedDelay(this::refreshChangedEdges, REFRESH_INTERVAL_SECONDS,
+				REFRESH_INTERVAL_SECONDS, TimeUnit.SECONDS);
 	}
 
 	/**
@@ -70,22 +100,46 @@ public class InitializeEdgesWorker {
 	private void readAllEdgesFromPostgres(Connection con) {
 		try (var pst = this.psQueryAllEdges(con); //
 				var rs = pst.executeQuery();) {
-			var counter = 0;
-			while (rs.next()) {
-				this.logCachingProgress(counter, 1000);
-				try {
-					this.parent.edgeCache.addOrUpdate(rs);
-				} catch (Exception e) {
-					this.logError("Unable to read Edge: ", e);
-				}
-				counter++;
-			}
-			this.logCachingProgress(counter, 1);
+			this.readEdges(rs, 1000);
 		} catch (SQLException e) {
 			this.logError("Unable to initialize Edges: ", e);
 		}
 	}
 
+	private void refreshChangedEdges() {
+		try (var con = this.dataSource.getConnection()) {
+			if (this.lastWriteDate == null) {
+				// Initialization failed or there are no Edges yet
+				this.readAllEdgesFromPostgres(con);
+				return;
+			}
+			try (var pst = this.psQueryChangedEdges(con, this.lastWriteDate); //
+					var rs = pst.executeQuery();) {
+				this.readEdges(rs, Integer.MAX_VALUE);
+			}
+		} catch (SQLException e) {
+			this.logError("Unable to refresh Edges: ", e);
+		}
+	}
+
+	private void readEdges(ResultSet rs, int logInterval) throws SQLException {
+		var counter = 0;
+		while (rs.next()) {
+			this.logCachingProgress(counter, logInterval);
+			try {
+				this.parent.edgeCache.addOrUpdate(rs);
+			} catch (Exception e) {
+				this.logError("Unable to read Edge: ", e);
+			}
+			var writeDate = rs.getTimestamp(EdgeDevice.WRITE_DATE.index());
+			if (writeDate != null && (this.lastWriteDate == null || writeDate.after(this.lastWriteDate))) {
+				this.lastWriteDate = writeDate;
+			}
+			counter++;
+		}
+		this.logCachingProgress(counter, 1);
+	}
+
 	private void logCachingProgress(int count, int interval) {
 		if (count % interval == 0 && count > 0) {
 			this.parent.logInfo(this.log, String.format("Caching Edges from Postgres [%1$6s]", count));
@@ -114,6 +168,26 @@ public class InitializeEdgesWorker {
 						+ ";");
 	}
 
+	/**
+	 * SELECT {} FROM {edge.device} WHERE write_date &gt;= ?;.
+	 *
+	 * @param connection    the {@link Connection}
+	 * @param lastWriteDate the latest known 'write_date'; moved back by
+	 *                      {@link #WRITE_DATE_OVERLAP_MILLIS}
+	 * @return the {@link PreparedStatement}
+	 * @throws SQLException on error
+	 */
+	private PreparedStatement psQueryChangedEdges(Connection connection, Timestamp lastWriteDate)
+			throws SQLException {
+		var pst = connection.prepareStatement(//
+				"SELECT " + Field.getSqlQueryFields(EdgeDevice.values()) //
+						+ " FROM " + EdgeDevice.ODOO_TABLE //
+						+ " WHERE " + EdgeDevice.WRITE_DATE.id() + " >= ?" //
+						+ ";");
+		pst.setTimestamp(1, new Timestamp(lastWriteDate.getTime() - WRITE_DATE_OVERLAP_MILLIS));
+		return pst;
+	}
+
 	/**
 	 * UPDATE {} SET openems_is_connected = FALSE;.
 	 *
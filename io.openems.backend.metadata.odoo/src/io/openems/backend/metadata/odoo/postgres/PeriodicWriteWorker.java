@@ -1,33 +1,20 @@
 package io.openems.backend.metadata.odoo.postgres;
 
-import static java.util.Collections.emptySet;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toSet;
-
 import java.sql.SQLException;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.metadata.odoo.MyEdge;
@@ -35,20 +22,55 @@ import io.openems.common.channel.Level;
 import io.openems.common.utils.ThreadPoolUtils;
 
 /**
- * This worker combines writes to lastMessage and lastUpdate fields, to avoid
- * DDOSing Odoo/Postgres by writing too often.
+ * This worker combines writes to lastMessage, connection state, Sum-State,
+ * version and producttype fields, to avoid DDOSing Odoo/Postgres by writing too
+ * often.
+ *
+ * <p>
+ * All pending updates of one Edge are coalesced to one row. On every flush all
+ * rows are written with one multi-row UPDATE statement per
+ * {@link #MAX_ROWS_PER_STATEMENT} Edges on a single connection.
  */
 public class PeriodicWriteWorker {
 
 	/**
-	 * DEBUG_MODE activates printing of reqular statistics about queued tasks.
+	 * Pending updates of one Edge. Null fields are not updated.
+	 *
+	 * @param lastMessage update the lastMessage field to now
+	 * @param isConnected the connection state
+	 * @param sumState    the Sum-State {@link Level}
+	 * @param version     the OpenEMS version
+	 * @param producttype the producttype
 	 */
-	private static final boolean DEBUG_MODE = true;
+	public record EdgeUpdate(boolean lastMessage, Boolean isConnected, Level sumState, String version,
+			String producttype) {
+
+		/**
+		 * Merges a newer {@link EdgeUpdate} into this one.
+		 *
+		 * @param newer the newer {@link EdgeUpdate}
+		 * @return the merged {@link EdgeUpdate}
+		 */
+		public EdgeUpdate merge(EdgeUpdate newer) {
+			return new EdgeUpdate(//
+					this.lastMessage || newer.lastMessage, //
+					newer.isConnected != null ? newer.isConnected : this.isConnected, //
+					newer.sumState != null ? newer.sumState : this.sumState, //
+					newer.version != null ? newer.version : this.version, //
+					newer.producttype != null ? newer.producttype : this.producttype);
+		}
+	}
 
-	private static final int UPDATE_INTERVAL_IN_SECONDS = 30;
+	protected static final int MAX_ROWS_PER_STATEMENT = 1_000;
 
 	private final Logger log = LoggerFactory.getLogger(PeriodicWriteWorker.class);
 	private final PostgresHandler parent;
+	private final int updateIntervalInSeconds;
+
+	/**
+	 * Pending updates per Odoo-ID.
+	 */
+	private final ConcurrentHashMap<Integer, EdgeUpdate> pendingUpdates = new ConcurrentHashMap<>();
 
 	/**
 	 * Holds the scheduled task.
@@ -56,13 +78,20 @@ public class PeriodicWriteWorker {
 	private ScheduledFuture<?> future = null;
 
 	/**
-	 * Executor for subscriptions task.
+	 * Executor for the flush task.
 	 */
-	private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(10,
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
 			new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.PGPeriodic-%d").build());
 
-	public PeriodicWriteWorker(PostgresHandler parent) {
+	/*
+	 * Statistics of the last flush.
+	 */
+	private volatile int lastFlushRows = 0;
+	private volatile long lastFlushMillis = 0;
+
+	public PeriodicWriteWorker(PostgresHandler parent, int updateIntervalInSeconds) {
 		this.parent = parent;
+		this.updateIntervalInSeconds = Math.max(1, updateIntervalInSeconds);
 	}
 
 	/**
@@ -71,8 +100,7 @@ public class PeriodicWriteWorker {
 	public synchronized void start() {
 		this.future = this.executor.scheduleWithFixedDelay(//
 				this::applyChanges, //
-				PeriodicWriteWorker.UPDATE_INTERVAL_IN_SECONDS, PeriodicWriteWorker.UPDATE_INTERVAL_IN_SECONDS,
-				TimeUnit.SECONDS);
+				this.updateIntervalInSeconds, this.updateIntervalInSeconds, TimeUnit.SECONDS);
 	}
 
 	/**
@@ -81,68 +109,67 @@ public class PeriodicWriteWorker {
 	public synchronized void stop() {
 		// unsubscribe regular task
 		if (this.future != null) {
-			this.future.cancel(true);
+			this.future.cancel(false);
 		}
 		// Shutdown executor
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		// Write remaining updates
+		this.applyChanges();
 	}
 
-	private final LinkedBlockingQueue<Integer> lastMessageOdooIds = new LinkedBlockingQueue<>();
-	private ExchangableObject<Map<Integer, Boolean>> connectionStatesToUpdate = new ExchangableObject<>(
-			new ConcurrentHashMap<>());
-	private ExchangableObject<Map<Integer, Level>> sumStatesToUpdate = new ExchangableObject<>(
-			new ConcurrentHashMap<>());
-
-	private final void applyChanges() {
-		final var edge = this.parent.edge;
-		if (PeriodicWriteWorker.DEBUG_MODE) {
-			this.debugLog();
+	private void applyChanges() {
+		final var updates = this.drainPendingUpdates();
+		if (updates.isEmpty()) {
+			this.lastFlushRows = 0;
+			this.lastFlushMillis = 0;
+			return;
 		}
 
+		final var start = System.nanoTime();
 		try {
-			// Last Message
-			edge.updateLastMessage(drainToSet(this.lastMessageOdooIds));
-
-			// Online/Offline
-			final var connectionToUpdate = this.connectionStatesToUpdate.exchange(new ConcurrentHashMap<>());
-			final var edgesByConnection = connectionToUpdate.entrySet().stream() //
-					.collect(groupingBy(Entry::getValue, mapping(Entry::getKey, toSet())));
-			edge.updateOpenemsIsConnected(edgesByConnection.getOrDefault(false, emptySet()), false);
-			edge.updateOpenemsIsConnected(edgesByConnection.getOrDefault(true, emptySet()), true);
-			if (PeriodicWriteWorker.DEBUG_MODE) {
-				this.parent.logInfo(this.log,
-						"Update Edge connection states online["
-								+ edgesByConnection.getOrDefault(true, emptySet()).size() + "] offline["
-								+ edgesByConnection.getOrDefault(false, emptySet()).size() + "]");
-			}
-
-			// Sum-State
-			final var statesToUpdate = this.sumStatesToUpdate.exchange(new ConcurrentHashMap<>());
-			final var edgesByState = statesToUpdate.entrySet().stream()
-					.collect(groupingBy(Entry::getValue, mapping(Entry::getKey, toSet())));
-			for (var stateEntry : edgesByState.entrySet()) {
-				edge.updateSumState(stateEntry.getValue(), stateEntry.getKey());
-			}
-			if (PeriodicWriteWorker.DEBUG_MODE) {
-				this.parent.logInfo(this.log, "Update Edge sum states " + Stream.of(Level.values()) //
-						.map(level -> {
-							final var itemsToUpdate = edgesByState.getOrDefault(level, emptySet());
-							return level.getName() + "[" + itemsToUpdate.size() + "]";
-						}).collect(joining(" ")));
-			}
+			this.parent.edge.updateEdges(updates, MAX_ROWS_PER_STATEMENT);
 
 		} catch (SQLException e) {
 			this.log.error("Unable to execute WriteWorker task: " + e.getMessage());
+			// Retry on next flush; updates that arrived in the meantime are newer
+			updates.forEach((odooId, update) -> this.pendingUpdates.merge(odooId, update,
+					(newer, failed) -> failed.merge(newer)));
 		}
+		this.lastFlushRows = updates.size();
+		this.lastFlushMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		this.parent.logInfo(this.log, "PeriodicWriteWorker. " //
+				+ "Updated [" + this.lastFlushRows + "] Edges " //
+				+ "in [" + this.lastFlushMillis + "ms]");
+	}
+
+	/**
+	 * Removes all pending updates. This is thread-safe: an update that arrives
+	 * concurrently is either part of the result or stays pending.
+	 *
+	 * @return the pending updates per Odoo-ID
+	 */
+	protected Map<Integer, EdgeUpdate> drainPendingUpdates() {
+		final var result = new HashMap<Integer, EdgeUpdate>(this.pendingUpdates.size());
+		for (var odooId : this.pendingUpdates.keySet()) {
+			final var update = this.pendingUpdates.remove(odooId);
+			if (update != null) {
+				result.put(odooId, update);
+			}
+		}
+		return result;
+	}
+
+	private void addUpdate(MyEdge edge, EdgeUpdate update) {
+		this.pendingUpdates.merge(edge.getOdooId(), update, EdgeUpdate::merge);
 	}
 
 	/**
-	 * Called on {@link Edge.Events#ON_SET_LAST_MESSAGE_TIMESTAMP} event.
+	 * Called on {@link Edge.Events#ON_SET_LASTMESSAGE} event.
 	 *
 	 * @param edge the {@link MyEdge}.
 	 */
 	public void onLastMessage(MyEdge edge) {
-		this.lastMessageOdooIds.add(edge.getOdooId());
+		this.addUpdate(edge, new EdgeUpdate(true, null, null, null, null));
 	}
 
 	/**
@@ -152,10 +179,7 @@ public class PeriodicWriteWorker {
 	 * @param isOnline true if online, false if offline
 	 */
 	public void onSetOnline(MyEdge edge, boolean isOnline) {
-		final var odooId = edge.getOdooId();
-		this.connectionStatesToUpdate.lockReading(t -> {
-			t.put(odooId, isOnline);
-		});
+		this.addUpdate(edge, new EdgeUpdate(false, isOnline, null, null, null));
 	}
 
 	/**
@@ -165,69 +189,49 @@ public class PeriodicWriteWorker {
 	 * @param sumState Sum-State {@link Level}
 	 */
 	public void onSetSumState(MyEdge edge, Level sumState) {
-		final var odooId = edge.getOdooId();
-		this.sumStatesToUpdate.lockReading(t -> {
-			t.put(odooId, sumState);
-		});
+		this.addUpdate(edge, new EdgeUpdate(false, null, sumState, null, null));
 	}
 
 	/**
-	 * Moves all entries of a {@link LinkedBlockingQueue} to a Set and clears the
-	 * queue. This is thread-safe.
-	 * 
-	 * @param queue the {@link LinkedBlockingQueue}
-	 * @return the {@link Set}
+	 * Called on {@link Edge.Events#ON_SET_VERSION} event.
+	 *
+	 * @param edge    the {@link MyEdge}.
+	 * @param version the OpenEMS version
 	 */
-	protected static Set<Integer> drainToSet(LinkedBlockingQueue<Integer> queue) {
-		Set<Integer> result = new HashSet<>(queue.size());
-		queue.drainTo(result);
-		return result;
+	public void onSetVersion(MyEdge edge, String version) {
+		this.addUpdate(edge, new EdgeUpdate(false, null, null, version, null));
 	}
 
-	/*
-	 * From here required for DEBUG_MODE
+	/**
+	 * Called on {@link Edge.Events#ON_SET_PRODUCTTYPE} event.
+	 *
+	 * @param edge        the {@link MyEdge}.
+	 * @param producttype the producttype
 	 */
-	private LocalDateTime lastExecute = null;
-
-	private synchronized void debugLog() {
-		var now = LocalDateTime.now();
-		if (this.lastExecute != null) {
-			this.parent.logInfo(this.log, "PeriodicWriteWorker. " //
-					+ "Time since last run: [" + ChronoUnit.SECONDS.between(this.lastExecute, now) + "s]" //
-			);
-		}
-		this.lastExecute = now;
+	public void onSetProducttype(MyEdge edge, String producttype) {
+		this.addUpdate(edge, new EdgeUpdate(false, null, null, null, producttype));
 	}
 
-	private static class ExchangableObject<T> {
-		private final ReadWriteLock lock = new ReentrantReadWriteLock();
-		private volatile T currentObject;
-
-		public ExchangableObject(T currentObject) {
-			super();
-			this.currentObject = currentObject;
-		}
-
-		public T exchange(T newObject) {
-			this.lock.writeLock().lock();
-			try {
-				final var prev = this.currentObject;
-				this.currentObject = newObject;
-				return prev;
-			} finally {
-				this.lock.writeLock().unlock();
-			}
-		}
-
-		public void lockReading(Consumer<T> block) {
-			this.lock.readLock().lock();
-			try {
-				block.accept(this.currentObject);
-			} finally {
-				this.lock.readLock().unlock();
-			}
-		}
+	/**
+	 * Gets some output that is suitable for a continuous Debug log.
+	 *
+	 * @return the debug log output
+	 */
+	public String debugLog() {
+		return "PgWrite: Queue " + this.pendingUpdates.size() //
+				+ ", Last " + this.lastFlushRows + " in " + this.lastFlushMillis + "ms";
+	}
 
+	/**
+	 * Gets the debug metrics of the {@link PeriodicWriteWorker}.
+	 *
+	 * @return the metrics
+	 */
+	public Map<String, JsonElement> debugMetrics() {
+		return Map.of(//
+				"PgWriteQueueSize", new JsonPrimitive(this.pendingUpdates.size()), //
+				"PgWriteLastFlushRows", new JsonPrimitive(this.lastFlushRows), //
+				"PgWriteLastFlushMillis", new JsonPrimitive(this.lastFlushMillis));
 	}
 
 }
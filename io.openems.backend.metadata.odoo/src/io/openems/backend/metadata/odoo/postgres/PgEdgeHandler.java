@@ -3,18 +3,20 @@ package io.openems.backend.metadata.odoo.postgres;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.common.metadata.Metadata.GenericSystemLog;
-import io.openems.backend.metadata.odoo.Field;
 import io.openems.backend.metadata.odoo.Field.EdgeConfigUpdate;
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
-import io.openems.common.channel.Level;
+import io.openems.backend.metadata.odoo.postgres.PeriodicWriteWorker.EdgeUpdate;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.EdgeConfig;
@@ -24,6 +26,8 @@ import io.openems.common.utils.JsonUtils;
 
 public final class PgEdgeHandler {
 
+	private static final String VALUES_ROW = "(?::integer, ?::boolean, ?::boolean, ?::varchar, ?::varchar, ?::varchar)";
+
 	private final HikariDataSource dataSource;
 
 	protected PgEdgeHandler(HikariDataSource dataSource) {
@@ -169,105 +173,73 @@ public final class PgEdgeHandler {
 	}
 
 	/**
-	 * Updates the ProductType for an Edge-ID.
-	 * 
-	 * @param odooId      the Odoo-ID
-	 * @param producttype the ProductType
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
-	 */
-	public void updateProductType(int odooId, String producttype) throws SQLException, OpenemsNamedException {
-		try (var con = this.dataSource.getConnection(); //
-				var pst = con.prepareStatement(new StringBuilder() //
-						.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-						.append(" SET ") //
-						.append(EdgeDevice.PRODUCTTYPE.id()).append(" = ?") //
-						.append(" WHERE id = ?") //
-						.toString())) {
-			pst.setString(1, producttype);
-			pst.setInt(2, odooId);
-			pst.execute();
-		}
-	}
-
-	/**
-	 * Updates the OpenemsIsConnected field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds     the Odoo-IDs
-	 * @param isConnected true if online; false if offline
+	 * Updates the lastMessage, OpenemsIsConnected, Sum-State, version and
+	 * producttype fields for multiple Edges.
+	 *
+	 * <p>
+	 * Uses one multi-row 'UPDATE ... FROM (VALUES ...)' statement per
+	 * maxRowsPerStatement Edges. Null values of an {@link EdgeUpdate} keep the
+	 * current value in the database.
+	 *
+	 * @param updates             the {@link EdgeUpdate}s per Odoo-ID
+	 * @param maxRowsPerStatement the maximum number of Edges per statement
 	 * @throws SQLException on error
 	 */
-	public void updateOpenemsIsConnected(Set<Integer> odooIds, boolean isConnected) throws SQLException {
-		if (odooIds.isEmpty()) {
+	public void updateEdges(Map<Integer, EdgeUpdate> updates, int maxRowsPerStatement) throws SQLException {
+		if (updates.isEmpty()) {
 			return;
 		}
 
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_IS_CONNECTED.id()).append(" = ")
-					.append(isConnected ? "TRUE" : "FALSE") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
+		// Lock rows in a stable order to avoid deadlocks between concurrent updates
+		final var entries = new ArrayList<>(updates.entrySet());
+		entries.sort(Map.Entry.comparingByKey());
+		try (var con = this.dataSource.getConnection()) {
+			for (var from = 0; from < entries.size(); from += maxRowsPerStatement) {
+				final var chunk = entries.subList(from, Math.min(from + maxRowsPerStatement, entries.size()));
+				try (var pst = con.prepareStatement(buildUpdateEdgesQuery(chunk.size()))) {
+					var i = 1;
+					for (var entry : chunk) {
+						final var update = entry.getValue();
+						pst.setInt(i++, entry.getKey());
+						pst.setBoolean(i++, update.lastMessage());
+						pst.setObject(i++, update.isConnected(), Types.BOOLEAN);
+						pst.setString(i++, update.sumState() == null ? null //
+								: update.sumState().getName().toLowerCase());
+						pst.setString(i++, update.version());
+						pst.setString(i++, update.producttype());
+					}
+					pst.executeUpdate();
+				}
+			}
 		}
 	}
 
 	/**
-	 * Updates the LastMessage field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
+	 * Builds the statement for {@link #updateEdges(Map, int)}.
+	 *
+	 * @param rows the number of Edges
+	 * @return the SQL statement
 	 */
-	public void updateLastMessage(Set<Integer> odooIds) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
-
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.LASTMESSAGE.id()).append(" = (now() at time zone 'UTC')") //
-					.append(" WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
-		}
+	static String buildUpdateEdgesQuery(int rows) {
+		return new StringBuilder() //
+				.append("UPDATE ").append(EdgeDevice.ODOO_TABLE).append(" AS d SET ") //
+				.append(EdgeDevice.LASTMESSAGE.id()).append(" = CASE WHEN v.lastmessage") //
+				.append(" THEN (now() at time zone 'UTC')") //
+				.append(" ELSE d.").append(EdgeDevice.LASTMESSAGE.id()).append(" END, ") //
+				.append(coalesce(EdgeDevice.OPENEMS_IS_CONNECTED, "is_connected")).append(", ") //
+				.append(coalesce(EdgeDevice.OPENEMS_SUM_STATE, "sum_state")).append(", ") //
+				.append(coalesce(EdgeDevice.OPENEMS_VERSION, "version")).append(", ") //
+				.append(coalesce(EdgeDevice.PRODUCTTYPE, "producttype")) //
+				.append(" FROM (VALUES ") //
+				.append(Stream.generate(() -> VALUES_ROW) //
+						.limit(rows) //
+						.collect(Collectors.joining(", "))) //
+				.append(") AS v(id, lastmessage, is_connected, sum_state, version, producttype)") //
+				.append(" WHERE d.id = v.id") //
+				.toString();
 	}
 
-	/**
-	 * Updates the Sum-State field for multiple Edge-IDs.
-	 * 
-	 * @param odooIds the Odoo-IDs
-	 * @param level   the Sum-State {@link Level}
-	 * @throws OpenemsNamedException on error
-	 * @throws SQLException          on error
-	 */
-	public void updateSumState(Set<Integer> odooIds, Level level) throws SQLException {
-		if (odooIds.isEmpty()) {
-			return;
-		}
-
-		try (var con = this.dataSource.getConnection(); //
-				var st = con.createStatement()) {
-			st.executeUpdate(new StringBuilder() //
-					.append("UPDATE ").append(EdgeDevice.ODOO_TABLE) //
-					.append(" SET ").append(Field.EdgeDevice.OPENEMS_SUM_STATE.id()).append(" = '")
-					.append(level.getName().toLowerCase()) //
-					.append("' WHERE id IN (") //
-					.append(odooIds.stream() //
-							.map(String::valueOf) //
-							.collect(Collectors.joining(","))) //
-					.append(")") //
-					.toString());
-		}
+	private static String coalesce(EdgeDevice field, String value) {
+		return field.id() + " = COALESCE(v." + value + ", d." + field.id() + ")";
 	}
-}
\ No newline at end of file
+}
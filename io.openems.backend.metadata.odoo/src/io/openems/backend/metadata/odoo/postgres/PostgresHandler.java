@@ -36,7 +36,7 @@ public class PostgresHandler {
 			onInitialized.run();
 		});
 		this.initializeEdgesWorker.start();
-		this.periodicWriteWorker = new PeriodicWriteWorker(this);
+		this.periodicWriteWorker = new PeriodicWriteWorker(this, config.pgWriteInterval());
 		this.periodicWriteWorker.start();
 	}
 
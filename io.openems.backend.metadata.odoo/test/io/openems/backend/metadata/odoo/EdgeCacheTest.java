@@ -0,0 +1,42 @@
+package io.openems.backend.metadata.odoo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+
+public class EdgeCacheTest {
+
+	private static final ZonedDateTime LASTMESSAGE = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	public void test() {
+		final var sut = new EdgeCache(null);
+		final var edge0 = sut.addOrUpdate(1, "edge0", "apikey0", "comment", "2024.1.0", "home", LASTMESSAGE);
+		sut.addOrUpdate(2, "edge1", "apikey1", "", "", "", null);
+
+		assertSame(edge0, sut.getEdgeFromEdgeId("edge0"));
+		assertSame(edge0, sut.getEdgeFromOdooId(1));
+		assertSame(edge0, sut.getEdgeForApikey("apikey0"));
+		assertEquals(2, sut.getAllEdges().size());
+		assertNull(sut.getEdgeFromEdgeId("edge2"));
+
+		// Update keeps the instance; changed Apikey replaces the old one
+		final var updated = sut.addOrUpdate(1, "edge0", "apikey2", "new comment", "2023.1.0", "home",
+				LASTMESSAGE.minusDays(1));
+		assertSame(edge0, updated);
+		assertEquals("new comment", edge0.getComment());
+		assertEquals("apikey2", edge0.getApikey());
+		assertSame(edge0, sut.getEdgeForApikey("apikey2"));
+		assertNull(sut.getEdgeForApikey("apikey0"));
+
+		// Version and Last-Message from the database do not overwrite newer values
+		assertEquals("2024.1.0", edge0.getVersion().toString());
+		assertEquals(LASTMESSAGE, edge0.getLastmessage());
+	}
+
+}
@@ -1,24 +1,62 @@
 package io.openems.backend.metadata.odoo.postgres;
 
 import static org.junit.Assert.assertEquals;
-
-import java.util.concurrent.LinkedBlockingQueue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
+import io.openems.backend.metadata.odoo.MyEdge;
+import io.openems.backend.metadata.odoo.postgres.PeriodicWriteWorker.EdgeUpdate;
+import io.openems.common.channel.Level;
+
 public class PeriodicWriteWorkerTest {
 
+	private static MyEdge edge(int odooId) {
+		return new MyEdge(null, odooId, "edge" + odooId, "apikey" + odooId, "", "", "", null);
+	}
+
+	@Test
+	public void testCoalesce() {
+		final var sut = new PeriodicWriteWorker(null, 30);
+		final var edge1 = edge(1);
+		final var edge2 = edge(2);
+
+		sut.onLastMessage(edge1);
+		sut.onSetOnline(edge1, true);
+		sut.onSetSumState(edge1, Level.WARNING);
+		sut.onSetOnline(edge1, false);
+		sut.onLastMessage(edge1);
+		sut.onSetVersion(edge2, "2024.1.0");
+		sut.onSetProducttype(edge2, "home");
+
+		final var updates = sut.drainPendingUpdates();
+		assertEquals(2, updates.size());
+		assertEquals(new EdgeUpdate(true, false, Level.WARNING, null, null), updates.get(1));
+		assertEquals(new EdgeUpdate(false, null, null, "2024.1.0", "home"), updates.get(2));
+		assertTrue(sut.drainPendingUpdates().isEmpty());
+	}
+
+	@Test
+	public void testMerge() {
+		final var older = new EdgeUpdate(true, true, Level.FAULT, "2024.1.0", null);
+		final var newer = new EdgeUpdate(false, false, null, null, "home");
+		final var merged = older.merge(newer);
+
+		assertTrue(merged.lastMessage());
+		assertFalse(merged.isConnected());
+		assertEquals(Level.FAULT, merged.sumState());
+		assertEquals("2024.1.0", merged.version());
+		assertEquals("home", merged.producttype());
+	}
+
 	@Test
-	public void testDrainToSet() {
-		final LinkedBlockingQueue<Integer> queue = new LinkedBlockingQueue<>();
-		queue.add(1);
-		queue.add(2);
-		queue.add(3);
-		queue.add(2);
-		queue.add(4);
-		var set = PeriodicWriteWorker.drainToSet(queue);
-		assertEquals(4, set.size());
-		assertEquals(0, queue.size());
+	public void testBuildUpdateEdgesQuery() {
+		final var query = PgEdgeHandler.buildUpdateEdgesQuery(3);
+		assertTrue(query.startsWith("UPDATE openems_device AS d SET lastmessage = CASE WHEN v.lastmessage"));
+		assertEquals(3 * 6, query.chars().filter(c -> c == '?').count());
+		assertTrue(query.endsWith(") AS v(id, lastmessage, is_connected, sum_state, version, producttype)"
+				+ " WHERE d.id = v.id"));
 	}
 
 }
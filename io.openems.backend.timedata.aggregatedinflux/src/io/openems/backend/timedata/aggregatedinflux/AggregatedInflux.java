@@ -6,12 +6,15 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 import java.net.URI;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -20,6 +23,9 @@ import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
 import org.osgi.service.component.annotations.Activate;
@@ -36,6 +42,7 @@ import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.influxdb.client.domain.WriteConsistency;
 import com.influxdb.client.domain.WritePrecision;
@@ -48,6 +55,7 @@ import io.openems.backend.common.metadata.Edge;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.timedata.aggregatedinflux.AllowedChannels.ChannelType;
+import io.openems.backend.timedata.aggregatedinflux.StreamingAggregator.Bucket;
 import io.openems.common.event.EventReader;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -60,6 +68,7 @@ import io.openems.common.timedata.DurationUnit;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.SemanticVersion;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.shared.influxdb.DbDataUtils;
 import io.openems.shared.influxdb.InfluxConnector;
 
@@ -86,6 +95,10 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 	// map from edgeId to channelName and availableSince time stamp
 	private final Map<Integer, Map<String, Long>> availableSinceForEdge = new ConcurrentHashMap<>();
 
+	// derives the aggregated data from raw data; null if disabled
+	private volatile StreamingAggregator streamingAggregator;
+	private ScheduledExecutorService flushExecutor;
+
 	@Reference
 	private OpenemsBackendOem oem;
 
@@ -132,10 +145,23 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 		this.availableSinceForEdge.putAll(this.influxConnector.queryAvailableSince().entrySet().stream().map(entry -> {
 			return Map.entry(entry.getKey(), new ConcurrentHashMap<>(entry.getValue()));
 		}).collect(toMap(Entry::getKey, Entry::getValue)));
+
+		if (config.deriveFromRawData()) {
+			this.streamingAggregator = new StreamingAggregator(Set.copyOf(this.zoneToMeasurement.keySet()),
+					Clock.systemUTC());
+			this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+					new ThreadFactoryBuilder().setNameFormat("AggregatedInflux-Flush-%d").build());
+			this.flushExecutor.scheduleWithFixedDelay(this::flushIdleEdges, 1, 1, TimeUnit.MINUTES);
+		}
 	}
 
 	@Deactivate
 	private void deactivate() {
+		if (this.flushExecutor != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.flushExecutor, 5);
+			this.flushExecutor = null;
+		}
+		this.streamingAggregator = null;
 		this.influxConnector.deactivate();
 	}
 
@@ -239,6 +265,10 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public void write(String edgeId, AggregatedDataNotification notification) {
+		if (this.streamingAggregator != null) {
+			// aggregated data is derived from the raw data
+			return;
+		}
 		this.writeNotificationData(edgeId, notification);
 	}
 
@@ -249,7 +279,50 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public void write(String edgeId, TimestampedDataNotification notification) {
-		// empty
+		final var streamingAggregator = this.streamingAggregator;
+		if (streamingAggregator == null) {
+			return;
+		}
+		final var data = notification.getData().rowMap();
+		if (data.isEmpty()) {
+			return;
+		}
+		int influxEdgeId;
+		try {
+			influxEdgeId = InfluxConnector.parseNumberFromName(edgeId);
+		} catch (OpenemsException e) {
+			e.printStackTrace();
+			return;
+		}
+
+		final var completed = new ArrayList<Bucket>();
+		for (var dataEntry : data.entrySet()) {
+			final var timestamp = dataEntry.getKey();
+			for (var channelEntry : dataEntry.getValue().entrySet()) {
+				streamingAggregator.add(influxEdgeId, timestamp, channelEntry.getKey(), channelEntry.getValue(),
+						completed);
+			}
+		}
+		this.writeBuckets(influxEdgeId, completed);
+	}
+
+	private void flushIdleEdges() {
+		final var streamingAggregator = this.streamingAggregator;
+		if (streamingAggregator == null) {
+			return;
+		}
+		streamingAggregator.flushIdle().forEach(this::writeBuckets);
+	}
+
+	private void writeBuckets(int influxEdgeId, List<Bucket> buckets) {
+		if (buckets.isEmpty()) {
+			return;
+		}
+		final var data = new TreeMap<Long, Map<String, JsonElement>>();
+		for (var bucket : buckets) {
+			data.computeIfAbsent(bucket.timestamp(), t -> new HashMap<>()).putAll(bucket.values());
+		}
+		this.writeData(influxEdgeId, data);
 	}
 
 	private void writeNotificationData(String edgeId, AbstractDataNotification notification) {
@@ -264,7 +337,10 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 			e.printStackTrace();
 			return;
 		}
+		this.writeData(influxEdgeId, data);
+	}
 
+	private void writeData(int influxEdgeId, Map<Long, Map<String, JsonElement>> data) {
 		for (var dataEntry : data.entrySet()) {
 			var channelEntries = dataEntry.getValue().entrySet();
 			if (channelEntries.isEmpty()) {
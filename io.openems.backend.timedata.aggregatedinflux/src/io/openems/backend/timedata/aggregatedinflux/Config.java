@@ -44,6 +44,9 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "Read-Only mode", description = "Activates the read-only mode. Then no data is written to InfluxDB.")
 	boolean isReadOnly() default false;
 
+	@AttributeDefinition(name = "Derive from raw data", description = "Derives the aggregated values from the raw data of the Edges instead of using the aggregated data sent by the Edges.")
+	boolean deriveFromRawData() default false;
+
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
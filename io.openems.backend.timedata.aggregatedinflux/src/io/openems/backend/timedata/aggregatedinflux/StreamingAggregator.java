@@ -0,0 +1,299 @@
+package io.openems.backend.timedata.aggregatedinflux;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.timedata.aggregatedinflux.AllowedChannels.DataType;
+import io.openems.common.timedata.DurationUnit;
+
+/**
+ * Derives the aggregated 5-minute values from the raw
+ * {@link io.openems.common.jsonrpc.notification.TimestampedDataNotification}
+ * stream of the Edges.
+ *
+ * <p>
+ * The Edges only send changed values, so every value is held until the next
+ * value of its Channel arrives, also across gaps in the stream. Average
+ * Channels are weighted by the time their value was held within the 5-minute
+ * bucket; cumulated Channels keep their last value. A bucket is completed as
+ * soon as the first value of a later bucket arrives or, for idle Edges, by
+ * {@link #flushIdle()}. Values of completed buckets are ignored.
+ *
+ * <p>
+ * Idleness is decided by the time of the Edge, extrapolated from its last
+ * timestamp by the time that passed since that value was received. This way a
+ * deviating clock of the Edge or a delayed stream does not complete a bucket
+ * early.
+ *
+ * <p>
+ * If the stream of an Edge breaks off, the cumulated values of the last bucket
+ * are additionally completed for the last bucket of its day in every configured
+ * zone, so that the daily values are written even if the Edge is offline at the
+ * change of day. A later bucket of the same day overwrites them.
+ */
+public class StreamingAggregator {
+
+	/**
+	 * A completed bucket.
+	 *
+	 * @param timestamp the start of the bucket in epoch milliseconds
+	 * @param values    the values per Channel-Address
+	 */
+	public record Bucket(long timestamp, Map<String, JsonElement> values) {
+	}
+
+	public static final long BUCKET_MILLIS = 5 * 60 * 1000;
+
+	/**
+	 * Time after the end of a bucket to wait for late values of an idle Edge.
+	 */
+	private static final long IDLE_MILLIS = 60 * 1000;
+
+	private static final String[] CHANNELS;
+	private static final Map<String, Integer> CHANNEL_INDEX = new HashMap<>();
+	private static final boolean[] IS_AVERAGE;
+	private static final boolean[] IS_DOUBLE;
+
+	static {
+		final var averageChannels = AllowedChannels.ALLOWED_AVERAGE_CHANNELS;
+		final var cumulatedChannels = AllowedChannels.ALLOWED_CUMULATED_CHANNELS;
+		CHANNELS = new String[averageChannels.size() + cumulatedChannels.size()];
+		IS_AVERAGE = new boolean[CHANNELS.length];
+		IS_DOUBLE = new boolean[CHANNELS.length];
+		var index = 0;
+		for (var entry : averageChannels.entrySet()) {
+			IS_AVERAGE[index] = true;
+			IS_DOUBLE[index] = entry.getValue() == DataType.DOUBLE;
+			CHANNEL_INDEX.put(entry.getKey(), index);
+			CHANNELS[index++] = entry.getKey();
+		}
+		for (var entry : cumulatedChannels.entrySet()) {
+			IS_DOUBLE[index] = entry.getValue() == DataType.DOUBLE;
+			CHANNEL_INDEX.put(entry.getKey(), index);
+			CHANNELS[index++] = entry.getKey();
+		}
+	}
+
+	private final Set<ZoneId> zones;
+	private final Clock clock;
+	private final Map<Integer, EdgeAccumulator> accumulators = new ConcurrentHashMap<>();
+
+	public StreamingAggregator(Set<ZoneId> zones, Clock clock) {
+		this.zones = zones;
+		this.clock = clock;
+	}
+
+	/**
+	 * Adds one raw value of an Edge.
+	 *
+	 * @param influxEdgeId the numeric Edge-ID
+	 * @param timestamp    the timestamp in epoch milliseconds
+	 * @param channel      the Channel-Address
+	 * @param value        the value; non-numeric values mark the value as
+	 *                     unknown
+	 * @param completed    receives completed {@link Bucket}s
+	 */
+	public void add(int influxEdgeId, long timestamp, String channel, JsonElement value, List<Bucket> completed) {
+		final var index = CHANNEL_INDEX.get(channel);
+		if (index == null) {
+			// Not stored in aggregated buckets
+			return;
+		}
+		final var number = value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber() //
+				? value.getAsDouble() //
+				: Double.NaN;
+		this.accumulators.computeIfAbsent(influxEdgeId, id -> new EdgeAccumulator()) //
+				.add(timestamp, this.clock.millis(), index, number, completed, this.zones);
+	}
+
+	/**
+	 * Completes the buckets of Edges that did not send values after the end of
+	 * their current bucket.
+	 *
+	 * @return the completed {@link Bucket}s per numeric Edge-ID
+	 */
+	public Map<Integer, List<Bucket>> flushIdle() {
+		final var now = this.clock.millis();
+		final var result = new HashMap<Integer, List<Bucket>>();
+		this.accumulators.forEach((influxEdgeId, accumulator) -> {
+			final var completed = new ArrayList<Bucket>();
+			accumulator.flushIdle(now, completed, this.zones);
+			if (!completed.isEmpty()) {
+				result.put(influxEdgeId, completed);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Removes all state.
+	 */
+	public void clear() {
+		this.accumulators.clear();
+	}
+
+	private static final class EdgeAccumulator {
+
+		private static final int INITIAL_CAPACITY = 32;
+
+		/** Start of the current bucket; -1 if none. */
+		private long bucket = -1;
+		/** Start of the last completed bucket. */
+		private long lastCompletedBucket = Long.MIN_VALUE;
+		/** Latest timestamp of the Edge. */
+		private long lastTimestamp = Long.MIN_VALUE;
+		/** Local time when the latest value was received. */
+		private long lastReceivedAt = 0;
+
+		/*
+		 * Channels are stored densely in the order of their first value; 'slots'
+		 * maps the global Channel index to that position.
+		 */
+		private final short[] slots = new short[CHANNELS.length];
+		private int size = 0;
+		private int[] channels = new int[INITIAL_CAPACITY];
+		/** Currently held value; NaN if unknown. */
+		private double[] values = new double[INITIAL_CAPACITY];
+		/** Offset in the bucket since when the value is held. */
+		private int[] heldSince = new int[INITIAL_CAPACITY];
+		/** Sum of value times milliseconds held within the bucket. */
+		private double[] weightedSums = new double[INITIAL_CAPACITY];
+		/** Milliseconds with a known value within the bucket. */
+		private int[] weights = new int[INITIAL_CAPACITY];
+
+		private EdgeAccumulator() {
+			Arrays.fill(this.slots, (short) -1);
+		}
+
+		private synchronized void add(long timestamp, long now, int index, double value, List<Bucket> completed,
+				Set<ZoneId> zones) {
+			final var bucket = Math.floorDiv(timestamp, BUCKET_MILLIS) * BUCKET_MILLIS;
+			if (bucket <= this.lastCompletedBucket || (this.bucket != -1 && bucket < this.bucket)) {
+				// Value of an already completed bucket
+				return;
+			}
+			if (this.bucket == -1) {
+				// First value or first value after idle; held values continue
+				this.bucket = bucket;
+			} else if (bucket > this.bucket) {
+				this.complete(completed, zones, bucket > this.bucket + BUCKET_MILLIS);
+				this.bucket = bucket;
+			}
+			this.lastTimestamp = Math.max(this.lastTimestamp, timestamp);
+			this.lastReceivedAt = now;
+
+			final var slot = this.slotOf(index);
+			final var offset = (int) (timestamp - this.bucket);
+			if (IS_AVERAGE[index]) {
+				this.accumulate(slot, offset);
+			}
+			this.values[slot] = value;
+			this.heldSince[slot] = offset;
+		}
+
+		private synchronized void flushIdle(long now, List<Bucket> completed, Set<ZoneId> zones) {
+			if (this.bucket == -1) {
+				return;
+			}
+			final var edgeNow = this.lastTimestamp + (now - this.lastReceivedAt);
+			if (edgeNow < this.bucket + BUCKET_MILLIS + IDLE_MILLIS) {
+				return;
+			}
+			this.complete(completed, zones, true);
+			this.bucket = -1;
+		}
+
+		private void accumulate(int slot, int offset) {
+			final var held = offset - this.heldSince[slot];
+			if (held <= 0 || Double.isNaN(this.values[slot])) {
+				return;
+			}
+			this.weightedSums[slot] += this.values[slot] * held;
+			this.weights[slot] += held;
+		}
+
+		/**
+		 * Completes the current bucket; held values are carried over to the next
+		 * bucket.
+		 *
+		 * @param completed receives the completed {@link Bucket}s
+		 * @param zones     the zones for the daily backfill
+		 * @param isGap     true if the stream of the Edge broke off
+		 */
+		private void complete(List<Bucket> completed, Set<ZoneId> zones, boolean isGap) {
+			final var result = new HashMap<String, JsonElement>();
+			final var cumulated = new HashMap<String, JsonElement>();
+			for (var slot = 0; slot < this.size; slot++) {
+				final var index = this.channels[slot];
+				if (IS_AVERAGE[index]) {
+					this.accumulate(slot, (int) BUCKET_MILLIS);
+					if (this.weights[slot] > 0) {
+						result.put(CHANNELS[index], toJson(index, this.weightedSums[slot] / this.weights[slot]));
+					}
+					this.weightedSums[slot] = 0;
+					this.weights[slot] = 0;
+				} else if (!Double.isNaN(this.values[slot])) {
+					final var json = toJson(index, this.values[slot]);
+					result.put(CHANNELS[index], json);
+					cumulated.put(CHANNELS[index], json);
+				}
+				this.heldSince[slot] = 0;
+			}
+			this.lastCompletedBucket = this.bucket;
+			if (!result.isEmpty()) {
+				completed.add(new Bucket(this.bucket, result));
+			}
+			if (isGap && !cumulated.isEmpty()) {
+				// Backfill the daily values for the case the Edge stays offline
+				for (var zone : zones) {
+					final var lastBucketOfDay = Instant.ofEpochMilli(this.bucket).atZone(zone) //
+							.truncatedTo(DurationUnit.ofDays(1)) //
+							.plusDays(1) //
+							.toInstant().toEpochMilli() - BUCKET_MILLIS;
+					if (lastBucketOfDay > this.bucket) {
+						completed.add(new Bucket(lastBucketOfDay, cumulated));
+					}
+				}
+			}
+		}
+
+		private int slotOf(int index) {
+			var slot = this.slots[index];
+			if (slot != -1) {
+				return slot;
+			}
+			if (this.size == this.channels.length) {
+				final var capacity = Math.min(this.size * 2, CHANNELS.length);
+				this.channels = Arrays.copyOf(this.channels, capacity);
+				this.values = Arrays.copyOf(this.values, capacity);
+				this.heldSince = Arrays.copyOf(this.heldSince, capacity);
+				this.weightedSums = Arrays.copyOf(this.weightedSums, capacity);
+				this.weights = Arrays.copyOf(this.weights, capacity);
+			}
+			slot = (short) this.size++;
+			this.slots[index] = slot;
+			this.channels[slot] = index;
+			this.values[slot] = Double.NaN;
+			return slot;
+		}
+
+		private static JsonElement toJson(int index, double value) {
+			if (IS_DOUBLE[index]) {
+				return new JsonPrimitive(value);
+			}
+			return new JsonPrimitive(Math.round(value));
+		}
+	}
+
+}
@@ -0,0 +1,113 @@
+package io.openems.backend.timedata.aggregatedinflux;
+
+import static io.openems.backend.timedata.aggregatedinflux.StreamingAggregator.BUCKET_MILLIS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.timedata.aggregatedinflux.StreamingAggregator.Bucket;
+import io.openems.common.test.TimeLeapClock;
+
+public class StreamingAggregatorTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	private static final long START = ZonedDateTime.of(2024, 3, 1, 12, 0, 0, 0, ZONE).toInstant().toEpochMilli();
+	private static final String GRID = "_sum/GridActivePower";
+	private static final String SOC = "_sum/EssSoc";
+	private static final String ENERGY = "_sum/GridBuyActiveEnergy";
+
+	@Test
+	public void testTimeWeightedAverage() {
+		final var sut = new StreamingAggregator(Set.of(ZONE), new TimeLeapClock(Instant.ofEpochMilli(START)));
+		final var completed = new ArrayList<Bucket>();
+
+		// 1000 W for 1 minute, 2000 W for 4 minutes
+		sut.add(1, START, GRID, new JsonPrimitive(1000), completed);
+		sut.add(1, START, ENERGY, new JsonPrimitive(5000), completed);
+		sut.add(1, START, "foo0/Bar", new JsonPrimitive(1), completed);
+		sut.add(1, START + 60_000, GRID, new JsonPrimitive(2000), completed);
+		// SoC is unknown for the first half
+		sut.add(1, START + BUCKET_MILLIS / 2, SOC, new JsonPrimitive(51), completed);
+		sut.add(1, START + BUCKET_MILLIS - 1, ENERGY, new JsonPrimitive(5100), completed);
+		assertTrue(completed.isEmpty());
+
+		// Next bucket completes the first one; GRID is held
+		sut.add(1, START + BUCKET_MILLIS + 150_000, GRID, JsonNull.INSTANCE, completed);
+		assertEquals(1, completed.size());
+		var bucket = completed.get(0);
+		assertEquals(START, bucket.timestamp());
+		assertEquals(3, bucket.values().size());
+		assertEquals(1800, bucket.values().get(GRID).getAsLong());
+		assertEquals(51, bucket.values().get(SOC).getAsLong());
+		assertEquals(5100, bucket.values().get(ENERGY).getAsLong());
+
+		// Held 2000 W for half of the second bucket, then unknown
+		completed.clear();
+		sut.add(1, START + 2 * BUCKET_MILLIS, SOC, new JsonPrimitive(52), completed);
+		bucket = completed.get(0);
+		assertEquals(START + BUCKET_MILLIS, bucket.timestamp());
+		assertEquals(2000, bucket.values().get(GRID).getAsLong());
+
+		// Values of completed buckets are ignored
+		completed.clear();
+		sut.add(1, START, GRID, new JsonPrimitive(0), completed);
+		assertTrue(completed.isEmpty());
+	}
+
+	@Test
+	public void testIdleEdges() {
+		// Clock of the Edges is ten minutes behind
+		final var clock = new TimeLeapClock(Instant.ofEpochMilli(START + 2 * BUCKET_MILLIS));
+		final var sut = new StreamingAggregator(Set.of(ZONE), clock);
+		final var completed = new ArrayList<Bucket>();
+		final var endOfDay = ZonedDateTime.of(2024, 3, 1, 23, 55, 0, 0, ZONE).toInstant().toEpochMilli();
+
+		sut.add(1, START, ENERGY, new JsonPrimitive(5000), completed);
+		sut.add(1, START, GRID, new JsonPrimitive(1000), completed);
+		sut.add(2, START, GRID, new JsonPrimitive(1000), completed);
+
+		// Idle Edges are flushed only one minute after the end of their bucket
+		assertTrue(sut.flushIdle().isEmpty());
+		clock.leap(BUCKET_MILLIS + 59_000, ChronoUnit.MILLIS);
+		assertTrue(sut.flushIdle().isEmpty());
+		clock.leap(1_000, ChronoUnit.MILLIS);
+		final var flushed = sut.flushIdle();
+		assertEquals(Set.of(1, 2), flushed.keySet());
+		assertEquals(List.of(START), flushed.get(2).stream().map(Bucket::timestamp).toList());
+		assertEquals(1000, flushed.get(2).get(0).values().get(GRID).getAsLong());
+
+		// Daily values are backfilled once
+		assertEquals(List.of(START, endOfDay), flushed.get(1).stream().map(Bucket::timestamp).toList());
+		assertEquals(Map.of(ENERGY, new JsonPrimitive(5000)), flushed.get(1).get(1).values());
+		clock.leap(BUCKET_MILLIS, ChronoUnit.MILLIS);
+		assertTrue(sut.flushIdle().isEmpty());
+
+		// Late values of the flushed bucket are ignored
+		sut.add(1, START + 60_000, GRID, new JsonPrimitive(3000), completed);
+		assertTrue(completed.isEmpty());
+		assertTrue(sut.flushIdle().isEmpty());
+
+		// Edge 1 is back after one hour; unchanged values are held across the gap
+		sut.add(1, START + 12 * BUCKET_MILLIS, ENERGY, new JsonPrimitive(5200), completed);
+		assertTrue(completed.isEmpty());
+		sut.add(1, START + 13 * BUCKET_MILLIS, ENERGY, new JsonPrimitive(5300), completed);
+		assertEquals(1, completed.size());
+		assertEquals(START + 12 * BUCKET_MILLIS, completed.get(0).timestamp());
+		assertEquals(1000, completed.get(0).values().get(GRID).getAsLong());
+		assertEquals(5200, completed.get(0).values().get(ENERGY).getAsLong());
+	}
+
+}
@@ -46,6 +46,15 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "Number of max scheduled tasks", description = "Max-Size of Queued tasks.")
 	int maxQueueSize() default 5000;
 
+	@AttributeDefinition(name = "Number of writer threads", description = "The number of threads that concurrently write compressed batches to InfluxDB")
+	int writerThreads() default 4;
+
+	@AttributeDefinition(name = "Max size of write queue", description = "Max number of queued write requests; one per received data notification")
+	int writeQueueSize() default 10000;
+
+	@AttributeDefinition(name = "Max write wait [s]", description = "Max time an Edge connection is blocked while the write queue is full; data is dropped afterwards")
+	int maxWriteWait() default 10;
+
 	@AttributeDefinition(name = "List of blacklisted channels", description = "Blacklisted channels which are not saved by this influx. e.g. \"kacoCore0/Serialnumber\"")
 	String[] blacklistedChannels() default {};
 
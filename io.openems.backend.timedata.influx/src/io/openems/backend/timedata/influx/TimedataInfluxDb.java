@@ -1,6 +1,7 @@
 package io.openems.backend.timedata.influx;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Optional;
@@ -26,8 +27,6 @@ import com.google.common.primitives.Doubles;
 import com.google.common.primitives.Longs;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
-import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
 import io.openems.backend.common.debugcycle.DebugLoggable;
@@ -42,9 +41,12 @@ import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.oem.OpenemsBackendOem;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.shared.influxdb.InfluxConnector;
+import io.openems.shared.influxdb.LineProtocolBuffer;
+import io.openems.shared.influxdb.LineProtocolWriter;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -68,6 +70,7 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	private Config config;
 	private InfluxConnector influxConnector = null;
+	private LineProtocolWriter lineProtocolWriter = null;
 	private TimeFilter timeFilter;
 	private ChannelFilter channelFilter;
 
@@ -99,6 +102,15 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				(e) -> {
 					this.fieldTypeConflictHandler.handleException(e);
 				});
+
+		if (!config.isReadOnly()) {
+			this.lineProtocolWriter = new LineProtocolWriter(config.id(), URI.create(config.url()), config.org(),
+					config.apiKey(), config.bucket(), config.writerThreads(), config.writeQueueSize(),
+					Duration.ofSeconds(config.maxWriteWait()), //
+					(message) -> {
+						this.fieldTypeConflictHandler.handleExceptionMessage(message);
+					});
+		}
 	}
 
 	@Deactivate
@@ -107,6 +119,9 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 		if (this.influxConnector != null) {
 			this.influxConnector.deactivate();
 		}
+		if (this.lineProtocolWriter != null) {
+			this.lineProtocolWriter.deactivate();
+		}
 	}
 
 	@Override
@@ -175,6 +190,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	/**
 	 * Actually writes the data to InfluxDB.
 	 *
+	 * <p>
+	 * Serializes all records of the notification into one
+	 * {@link LineProtocolBuffer}. Blocks if the {@link LineProtocolWriter} is
+	 * behind, to slow down the calling Edge connection.
+	 *
 	 * @param edgeId           the unique identifier of the Edge
 	 * @param notification     the {@link AbstractDataNotification}
 	 * @param shouldWriteValue the function which determines if the value should be
@@ -201,6 +221,8 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			return;
 		}
 
+		final var tagValue = String.valueOf(influxEdgeId);
+		final var buffer = this.lineProtocolWriter.borrow();
 		for (var dataEntry : dataEntries) {
 			var channelEntries = dataEntry.getValue().entrySet();
 			if (channelEntries.isEmpty()) {
@@ -215,11 +237,9 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				continue;
 			}
 
-			// this builds an InfluxDB record ("point") for a given timestamp
-			var point = Point //
-					.measurement(this.config.measurement()) //
-					.addTag(this.oem.getInfluxdbTag(), String.valueOf(influxEdgeId)) //
-					.time(timestamp, WritePrecision.MS);
+			// this builds an InfluxDB record ("line") for a given timestamp
+			buffer.startLine(this.config.measurement()) //
+					.tag(this.oem.getInfluxdbTag(), tagValue);
 			for (var channelEntry : channelEntries) {
 				if (!shouldWriteValue.apply(influxEdgeId, channelEntry.getKey())) {
 					continue;
@@ -228,13 +248,16 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 					continue;
 				}
 				this.addValue(//
-						point, //
+						buffer, //
 						channelEntry.getKey(), //
 						channelEntry.getValue());
 			}
 
-			this.influxConnector.write(point);
+			// lines without fields are discarded
+			buffer.endLine(timestamp);
 		}
+
+		this.lineProtocolWriter.submit(buffer);
 	}
 
 	@Override
@@ -252,6 +275,20 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				this.config.measurement());
 	}
 
+	@Override
+	public ColumnarTimeseries queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		if (!this.timeFilter.isValid(fromDate, toDate)) {
+			return null;
+		}
+
+		// parse the numeric EdgeId
+		Optional<Integer> influxEdgeId = Optional.of(InfluxConnector.parseNumberFromName(edgeId));
+
+		return this.influxConnector.queryHistoricDataColumnar(influxEdgeId, fromDate, toDate, channels, resolution,
+				this.config.measurement());
+	}
+
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
@@ -282,11 +319,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	/**
 	 * Adds the value in the correct data format for InfluxDB.
 	 *
-	 * @param builder the Influx PointBuilder
+	 * @param builder the {@link LineProtocolBuffer}
 	 * @param field   the field name
 	 * @param element the value
 	 */
-	private void addValue(Point builder, String field, JsonElement element) {
+	private void addValue(LineProtocolBuffer builder, String field, JsonElement element) {
 		if (element == null || element.isJsonNull() //
 				|| this.specialCaseFieldHandling(builder, field, element)) { // already handled by special case handling
 			return;
@@ -309,13 +346,13 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 				final var longValue = Longs.tryParse(s);
 				if (longValue != null) {
-					builder.addField(field, longValue);
+					builder.field(field, longValue);
 					return;
 				}
 
 				final var doubleValue = Doubles.tryParse(s);
 				if (doubleValue != null) {
-					builder.addField(field, doubleValue);
+					builder.field(field, doubleValue);
 					return;
 				}
 
@@ -324,17 +361,17 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			}
 
 			if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte) {
-				builder.addField(field, n.longValue());
+				builder.field(field, n.longValue());
 				return;
 			}
 
-			builder.addField(field, n.doubleValue());
+			builder.field(field, n.doubleValue());
 			return;
 		}
 
 		if (p.isBoolean()) {
 			// Booleans are converted to integer (0/1)
-			builder.addField(field, p.getAsBoolean());
+			builder.field(field, p.getAsBoolean());
 			return;
 		}
 
@@ -345,13 +382,13 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			// try to save string value as numbers
 			final var longValue = Longs.tryParse(s);
 			if (longValue != null) {
-				builder.addField(field, longValue);
+				builder.field(field, longValue);
 				return;
 			}
 
 			final var doubleValue = Doubles.tryParse(s);
 			if (doubleValue != null) {
-				builder.addField(field, doubleValue);
+				builder.field(field, doubleValue);
 				return;
 			}
 
@@ -366,12 +403,12 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	 * E.g. to avoid errors like "field type conflict: input field XYZ on
 	 * measurement "data" is type integer, already exists as type string"
 	 *
-	 * @param builder the InfluxDB Builder
+	 * @param builder the {@link LineProtocolBuffer}
 	 * @param field   the fieldName, i.e. the ChannelAddress
 	 * @param value   the value, guaranteed to be not-null and not JsonNull.
 	 * @return true if field was handled; false otherwise
 	 */
-	private boolean specialCaseFieldHandling(Point builder, String field, JsonElement value) {
+	private boolean specialCaseFieldHandling(LineProtocolBuffer builder, String field, JsonElement value) {
 		var handler = this.fieldTypeConflictHandler.getHandler(field);
 		if (handler == null) {
 			// no special handling exists for this field
@@ -404,7 +441,8 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public String debugLog() {
-		return "[" + this.getName() + "] " + this.config.id() + " " + this.influxConnector.debugLog();
+		return "[" + this.getName() + "] " + this.config.id() + " " + this.influxConnector.debugLog()
+				+ (this.lineProtocolWriter != null ? " " + this.lineProtocolWriter.debugLog() : "");
 	}
 
 	@Override
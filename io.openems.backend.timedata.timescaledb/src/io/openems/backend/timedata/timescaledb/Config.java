@@ -33,6 +33,15 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Number of writer threads", description = "The number of threads per priority that write to TimescaleDB via COPY")
+	int writerThreads() default 2;
+
+	@AttributeDefinition(name = "Flush size", description = "The max number of values per COPY")
+	int flushSize() default 10_000;
+
+	@AttributeDefinition(name = "Flush latency [ms]", description = "The max time values are merged before they are written")
+	int flushLatency() default 10_000;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata.TimescaleDB";
 
 }
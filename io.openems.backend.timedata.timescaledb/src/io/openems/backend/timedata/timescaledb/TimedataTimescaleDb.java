@@ -28,6 +28,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.ThreadPoolUtils;
@@ -106,6 +107,12 @@ public class TimedataTimescaleDb extends AbstractOpenemsBackendComponent impleme
 		return this.timescaledbReadHandler.queryHistoricData(edgeId, fromDate, toDate, channels, resolution);
 	}
 
+	@Override
+	public ColumnarTimeseries queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		return this.timescaledbReadHandler.queryHistoricDataColumnar(edgeId, fromDate, toDate, channels, resolution);
+	}
+
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
@@ -1,5 +1,6 @@
 package io.openems.backend.timedata.timescaledb.internal.read;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
@@ -21,9 +22,12 @@ import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.Config;
 import io.openems.backend.timedata.timescaledb.internal.Schema;
+import io.openems.backend.timedata.timescaledb.internal.Type;
 import io.openems.backend.timedata.timescaledb.internal.Utils;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingTriConsumer;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.CommonTimedataService;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
@@ -72,14 +76,71 @@ public class TimescaledbReadHandler {
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		var channelStrings = toStringSet(channels);
-
 		// handle empty call
 		if (channels.isEmpty()) {
 			return new TreeMap<>();
 		}
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
+		this.queryHistoricData(edgeId, fromDate, toDate, channels, resolution, (rs, channelAddress, type) -> {
+			var time = rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(fromDate.getZone());
+			var value = type.parseValueFromResultSet(rs, 3);
+			var resultTime = result.computeIfAbsent(time, t -> new TreeMap<>());
+			resultTime.put(channelAddress, value);
+		});
+		return result;
+	}
+
+	/**
+	 * See
+	 * {@link CommonTimedataService#queryHistoricDataColumnar(String, ZonedDateTime, ZonedDateTime, Set, Resolution)}.
+	 * 
+	 * <p>
+	 * Values are read from the {@link java.sql.ResultSet} as primitive doubles;
+	 * {@link Type#STRING} values are not supported.
+	 * 
+	 * @param edgeId     the Edge-ID; or null query all
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the query result
+	 */
+	public ColumnarTimeseries queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		final var builder = ColumnarTimeseries.builder(fromDate.getZone());
+		// handle empty call
+		if (channels.isEmpty()) {
+			return builder.build();
+		}
+
+		// Same prefilled timestamps and Channels as Utils.prepareDataMap()
+		var timestamp = fromDate;
+		while (timestamp.isBefore(toDate)) {
+			builder.addTimestamp(timestamp.toInstant().toEpochMilli());
+			timestamp = timestamp.plus(resolution.getValue(), resolution.getUnit());
+		}
+		channels.forEach(builder::addChannel);
+
+		this.queryHistoricData(edgeId, fromDate, toDate, channels, resolution, (rs, channelAddress, type) -> {
+			var time = rs.getObject(1, OffsetDateTime.class).toInstant().toEpochMilli();
+			final double value = switch (type) {
+			case INTEGER, FLOAT -> {
+				var v = rs.getDouble(3);
+				yield rs.wasNull() ? Double.NaN : v;
+			}
+			case STRING -> Double.NaN;
+			};
+			builder.put(time, channelAddress, value);
+		});
+		return builder.build();
+	}
+
+	private void queryHistoricData(String edgeId, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, Resolution resolution,
+			ThrowingTriConsumer<ResultSet, ChannelAddress, Type, SQLException> consumer)
+			throws OpenemsNamedException {
+		var channelStrings = toStringSet(channels);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
 
 		// Open ONE database connection
@@ -127,11 +188,8 @@ public class TimescaledbReadHandler {
 
 						var rs = pst.executeQuery();
 						while (rs.next()) {
-							var time = rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(fromDate.getZone());
 							var channelAddress = ChannelAddress.fromString(ids.get(rs.getInt(2)));
-							var value = type.parseValueFromResultSet(rs, 3);
-							var resultTime = result.computeIfAbsent(time, t -> new TreeMap<>());
-							resultTime.put(channelAddress, value);
+							consumer.accept(rs, channelAddress, type);
 						}
 
 					} catch (SQLException e) {
@@ -145,7 +203,6 @@ public class TimescaledbReadHandler {
 			this.log.error("Unable to query historic data: " + e.getMessage());
 			throw new OpenemsException("Error while querying historic data");
 		}
-		return result;
 	}
 
 	/**
@@ -0,0 +1,193 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+
+/**
+ * Encodes rows of a raw data table in the binary format of PostgreSQL
+ * 'COPY ... FROM STDIN (FORMAT binary)'.
+ *
+ * <p>
+ * Each row has the columns 'time' (timestamptz), 'edge_channel_id' (integer)
+ * and 'value' (the SQL data type of the {@link Type}). The encoder writes into
+ * a growable byte array that is reused after {@link #reset()}.
+ *
+ * @see <a href="https://www.postgresql.org/docs/current/sql-copy.html">COPY
+ *      File Formats</a>
+ */
+public class CopyEncoder {
+
+	private static final byte[] HEADER = { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, //
+			0, 0, 0, 0 /* flags */, //
+			0, 0, 0, 0 /* header extension length */ };
+	private static final short COLUMNS = 3;
+
+	/** 2000-01-01T00:00:00Z in epoch milliseconds. */
+	private static final long POSTGRES_EPOCH = 946_684_800_000L;
+
+	private static final int INITIAL_CAPACITY = 64 * 1024;
+
+	private final Type type;
+	private final String copySql;
+
+	private byte[] bytes = new byte[INITIAL_CAPACITY];
+	private int size = 0;
+	private int rows = 0;
+
+	public CopyEncoder(Type type, Priority priority) {
+		this(type, type.getRawTableName(priority));
+	}
+
+	public CopyEncoder(Type type, String table) {
+		this.type = type;
+		this.copySql = "COPY " + table + " (time, edge_channel_id, value) FROM STDIN (FORMAT binary)";
+		this.reset();
+	}
+
+	/**
+	 * Gets the {@link Type} of the 'value' column.
+	 *
+	 * @return the {@link Type}
+	 */
+	public Type getType() {
+		return this.type;
+	}
+
+	/**
+	 * Gets the SQL statement to start the COPY for this table.
+	 *
+	 * @return the SQL statement
+	 */
+	public String getCopySql() {
+		return this.copySql;
+	}
+
+	/**
+	 * Removes all rows; keeps the allocated capacity.
+	 */
+	public void reset() {
+		this.size = 0;
+		this.rows = 0;
+		this.writeBytes(HEADER, HEADER.length);
+	}
+
+	/**
+	 * Starts a row with the 'time' and 'edge_channel_id' columns. Must be followed
+	 * by exactly one call to a value method matching the {@link Type}.
+	 *
+	 * @param timestamp the timestamp in epoch milliseconds
+	 * @param channelId the 'edge_channel_id'
+	 */
+	public void startRow(long timestamp, int channelId) {
+		this.ensureCapacity(2 + 4 + 8 + 4 + 4);
+		this.writeShort(COLUMNS);
+		this.writeInt(8);
+		this.writeLong((timestamp - POSTGRES_EPOCH) * 1000 /* microseconds */);
+		this.writeInt(4);
+		this.writeInt(channelId);
+		this.rows++;
+	}
+
+	/**
+	 * Writes a 'bigint' value.
+	 *
+	 * @param value the value
+	 */
+	public void writeInteger(long value) {
+		this.ensureCapacity(4 + 8);
+		this.writeInt(8);
+		this.writeLong(value);
+	}
+
+	/**
+	 * Writes a 'double precision' value.
+	 *
+	 * @param value the value
+	 */
+	public void writeFloat(double value) {
+		this.ensureCapacity(4 + 8);
+		this.writeInt(8);
+		this.writeLong(Double.doubleToLongBits(value));
+	}
+
+	/**
+	 * Writes a 'text' value. NUL characters are not allowed in PostgreSQL text and
+	 * are removed.
+	 *
+	 * @param value the value
+	 */
+	public void writeString(String value) {
+		if (value.indexOf('\0') >= 0) {
+			value = value.replace("\0", "");
+		}
+		final var utf8 = value.getBytes(UTF_8);
+		this.ensureCapacity(4 + utf8.length);
+		this.writeInt(utf8.length);
+		this.writeBytes(utf8, utf8.length);
+	}
+
+	/**
+	 * Gets the number of encoded rows.
+	 *
+	 * @return the number of rows
+	 */
+	public int rows() {
+		return this.rows;
+	}
+
+	/**
+	 * Gets the encoded data including the file trailer. The returned array is
+	 * valid only up to {@link #size()} and until the next modification.
+	 *
+	 * @return the underlying byte array
+	 */
+	public byte[] finish() {
+		this.ensureCapacity(2);
+		this.writeShort((short) -1);
+		return this.bytes;
+	}
+
+	/**
+	 * Gets the number of encoded bytes.
+	 *
+	 * @return the size in bytes
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	private void writeShort(short value) {
+		this.bytes[this.size++] = (byte) (value >>> 8);
+		this.bytes[this.size++] = (byte) value;
+	}
+
+	private void writeInt(int value) {
+		this.bytes[this.size++] = (byte) (value >>> 24);
+		this.bytes[this.size++] = (byte) (value >>> 16);
+		this.bytes[this.size++] = (byte) (value >>> 8);
+		this.bytes[this.size++] = (byte) value;
+	}
+
+	private void writeLong(long value) {
+		this.writeInt((int) (value >>> 32));
+		this.writeInt((int) value);
+	}
+
+	private void writeBytes(byte[] value, int length) {
+		this.ensureCapacity(length);
+		System.arraycopy(value, 0, this.bytes, this.size, length);
+		this.size += length;
+	}
+
+	private void ensureCapacity(int additional) {
+		final var required = this.size + additional;
+		if (required > this.bytes.length) {
+			this.bytes = Arrays.copyOf(this.bytes, Math.max(required, this.bytes.length * 2));
+		}
+	}
+
+}
@@ -1,12 +1,12 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -16,20 +16,44 @@ import io.openems.common.worker.AbstractImmediateWorker;
 
 public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWorker {
 
+	private static final int MAX_POOLED_ENCODERS = 4;
+
 	private final HikariDataSource dataSource;
 	private final ExecutorService executor;
 	private final Type type;
 	private final Priority priority;
+	private final int flushSize;
+	private final long flushLatency; // [ms]
 	// TODO queue: delete old entries if full; like an EvictingQueue;
 	// https://github.com/google/guava/issues/3882
 	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
+	private final BlockingQueue<CopyEncoder> encoderPool = new ArrayBlockingQueue<>(MAX_POOLED_ENCODERS);
+	private final List<POINT> points;
+	private final AtomicLong writtenPoints = new AtomicLong();
+	private final AtomicLong failedPoints = new AtomicLong();
 	private long countPoints = 0;
 
-	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
+	/**
+	 * Constructor.
+	 *
+	 * @param dataSource   the dataSource to get database connections
+	 * @param executor     the executor to execute writes; shared by all
+	 *                     {@link MergePointsWorker}s of the same {@link Priority}
+	 * @param type         the {@link Type}
+	 * @param priority     the {@link Priority}
+	 * @param flushSize    the max number of Points per COPY
+	 * @param flushLatency the max time in [ms] Points are merged before they are
+	 *                     written
+	 */
+	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority,
+			int flushSize, long flushLatency) {
 		this.dataSource = dataSource;
 		this.executor = executor;
 		this.type = type;
 		this.priority = priority;
+		this.flushSize = flushSize;
+		this.flushLatency = flushLatency;
+		this.points = new ArrayList<>(flushSize);
 	}
 
 	public BlockingQueue<POINT> getQueue() {
@@ -39,51 +63,76 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 	@Override
 	protected void forever() throws InterruptedException {
 		/**
-		 * This task merges single Points to Lists of Points, which are then sent to
-		 * TimescaleDB. This approach improves speed as not every single Point gets sent
-		 * via HTTP individually.
+		 * This task merges single Points and encodes them for one binary COPY to
+		 * TimescaleDB. This approach improves speed as not every single Point gets
+		 * sent individually.
 		 */
-		// Poll and merge Points. Wait max 10 seconds in total.
-		var points = pollAndMergePoints(this.queue);
-
-		if (points.isEmpty()) {
+		if (!this.pollAndMergePoints()) {
 			return;
 		}
 
-		this.countPoints += points.size();
+		var encoder = this.encoderPool.poll();
+		if (encoder == null) {
+			encoder = new CopyEncoder(this.type, this.priority);
+		}
+		for (var point : this.points) {
+			point.encode(encoder);
+		}
+		this.countPoints += this.points.size();
+		this.points.clear();
 
-		// Write points async.
-		this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points));
+		// Write points async. If all writers are busy, this blocks the worker and
+		// Points queue up.
+		this.executor.execute(new WritePointsHandler(this.dataSource, encoder, this::onWritten));
 	}
 
 	/**
-	 * Poll and merge Points. Wait max 10 seconds in total.
-	 * 
-	 * @param <POINT> the type of the Point
-	 * @param queue   the Queue of Points
-	 * @return a list of Points
+	 * Poll and merge Points till either 'flushSize' Points are available or
+	 * 'flushLatency' passed since the first Point was received.
+	 *
+	 * @return true if Points were polled
 	 * @throws InterruptedException on error
 	 */
-	private static <POINT extends Point> List<Point> pollAndMergePoints(BlockingQueue<POINT> queue)
-			throws InterruptedException {
-		final Instant maxWait = Instant.now().plusSeconds(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT);
-		List<Point> points = new ArrayList<>(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < TimescaledbWriteHandler.MAX_POINTS_PER_WRITE; i++) {
-			var point = queue.poll(TimescaledbWriteHandler.MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-			if (point == null) {
+	private boolean pollAndMergePoints() throws InterruptedException {
+		var point = this.queue.poll(this.flushLatency, TimeUnit.MILLISECONDS);
+		if (point == null) {
+			return false;
+		}
+		final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.flushLatency);
+		this.points.add(point);
+		while (true) {
+			this.queue.drainTo(this.points, this.flushSize - this.points.size());
+			if (this.points.size() >= this.flushSize) {
 				break;
 			}
-			points.add(point);
-			if (Instant.now().isAfter(maxWait)) {
+			final var remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
 				break;
 			}
+			point = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (point == null) {
+				break;
+			}
+			this.points.add(point);
 		}
-		return points;
+		return true;
+	}
+
+	/**
+	 * Callback after a {@link CopyEncoder} was written.
+	 *
+	 * @param encoder the {@link CopyEncoder}
+	 * @param success true if the COPY succeeded
+	 */
+	private void onWritten(CopyEncoder encoder, boolean success) {
+		(success ? this.writtenPoints : this.failedPoints).addAndGet(encoder.rows());
+		encoder.reset();
+		this.encoderPool.offer(encoder);
 	}
 
 	/**
 	 * Returns a DebugLog String.
-	 * 
+	 *
 	 * @return debug log
 	 */
 	public String debugLog() {
@@ -93,6 +142,10 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
 				.append("|Total:") //
 				.append(this.countPoints) //
+				.append("|Written:") //
+				.append(this.writtenPoints.get()) //
+				.append("|Failed:") //
+				.append(this.failedPoints.get()) //
 				.toString();
 	}
 }
@@ -1,15 +1,11 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
-import java.time.ZonedDateTime;
-
-import de.bytefish.pgbulkinsert.row.SimpleRow;
-
 public abstract class Point {
 
 	public final int channelId;
-	public final ZonedDateTime timestamp;
+	public final long timestamp; // epoch milliseconds
 
-	private Point(int channelId, ZonedDateTime timestamp) {
+	private Point(int channelId, long timestamp) {
 		this.channelId = channelId;
 		this.timestamp = timestamp;
 	}
@@ -18,14 +14,14 @@ public abstract class Point {
 
 		public final long value;
 
-		public IntPoint(int channelId, ZonedDateTime timestamp, long value) {
+		public IntPoint(int channelId, long timestamp, long value) {
 			super(channelId, timestamp);
 			this.value = value;
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setLong(column, this.value);
+		protected void encodeValue(CopyEncoder encoder) {
+			encoder.writeInteger(this.value);
 		}
 
 		@Override
@@ -38,14 +34,14 @@ public abstract class Point {
 
 		public final double value;
 
-		public FloatPoint(int channelId, ZonedDateTime timestamp, double value) {
+		public FloatPoint(int channelId, long timestamp, double value) {
 			super(channelId, timestamp);
 			this.value = value;
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setDouble(column, this.value);
+		protected void encodeValue(CopyEncoder encoder) {
+			encoder.writeFloat(this.value);
 		}
 
 		@Override
@@ -58,14 +54,14 @@ public abstract class Point {
 
 		public final String value;
 
-		public StringPoint(int channelId, ZonedDateTime timestamp, String value) {
+		public StringPoint(int channelId, long timestamp, String value) {
 			super(channelId, timestamp);
 			this.value = value;
 		}
 
 		@Override
-		public void addToSimpleRow(SimpleRow row, int column) {
-			row.setText(column, this.value);
+		protected void encodeValue(CopyEncoder encoder) {
+			encoder.writeString(this.value);
 		}
 
 		@Override
@@ -75,11 +71,20 @@ public abstract class Point {
 	}
 
 	/**
-	 * Adds the Point to a {@link SimpleRow} for pgBulkInsert.
+	 * Adds the Point as a row to a {@link CopyEncoder}.
+	 * 
+	 * @param encoder the {@link CopyEncoder}
+	 */
+	public void encode(CopyEncoder encoder) {
+		encoder.startRow(this.timestamp, this.channelId);
+		this.encodeValue(encoder);
+	}
+
+	/**
+	 * Adds the value of the Point to a {@link CopyEncoder}.
 	 * 
-	 * @param row    the {@link SimpleRow}
-	 * @param column the index of the column in the SimpleRow
+	 * @param encoder the {@link CopyEncoder}
 	 */
-	public abstract void addToSimpleRow(SimpleRow row, int column);
+	protected abstract void encodeValue(CopyEncoder encoder);
 
 }
\ No newline at end of file
@@ -4,9 +4,12 @@ import java.sql.SQLException;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -34,8 +37,6 @@ import io.openems.common.worker.AbstractWorker;
 public class TimescaledbWriteHandler {
 
 	public static final int POINTS_QUEUE_SIZE = 1_000_000;
-	public static final int MAX_POINTS_PER_WRITE = 10_000;
-	public static final int MAX_AGGREGATE_WAIT = 10; // [s]
 
 	private final Logger log = LoggerFactory.getLogger(TimescaledbWriteHandler.class);
 
@@ -45,10 +46,16 @@ public class TimescaledbWriteHandler {
 	private final HikariDataSource dataSource;
 
 	/**
-	 * A {@link Executor} used solely for writes.
+	 * A {@link Executor} used for Schema lookups.
 	 */
 	private final ThreadPoolExecutor executor;
 
+	/**
+	 * {@link Executor}s used solely for writes; one per {@link Priority}, so that
+	 * high priority data is not delayed by low priority data.
+	 */
+	private final Map<Priority, ThreadPoolExecutor> writeExecutors = new EnumMap<>(Priority.class);
+
 	private final boolean isReadOnly;
 
 	private final HashSet<String> enableWriteEdgeIds = new HashSet<>();
@@ -64,18 +71,30 @@ public class TimescaledbWriteHandler {
 
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
-				config.user(), config.password(), config.poolSize());
+				config.user(), config.password(), //
+				config.poolSize() + config.writerThreads() * Priority.values().length);
 
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.poolSize(),
 				new ThreadFactoryBuilder().setNameFormat("TimescaleDB-%d").build());
 
+		for (var priority : Priority.values()) {
+			// If all writers are busy, the MergePointsWorker executes the write itself
+			// and Points queue up
+			this.writeExecutors.put(priority, new ThreadPoolExecutor(config.writerThreads(),
+					config.writerThreads(), 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<>(config.writerThreads()), new ThreadFactoryBuilder()
+							.setNameFormat("TimescaleDB-Write-" + priority.getTableSuffix() + "-%d").build(),
+					new CallerRunsPolicy()));
+		}
+
 		// Prepare typed merge points workers
 		this.queueHandler = new SimpleDoubleKeyMap<>(new EnumMap<>(Type.class), //
 				t -> new EnumMap<>(Priority.class));
 		for (var type : Type.values()) {
 			for (var priority : Priority.values()) {
 				this.queueHandler.put(type, priority, //
-						QueueHandler.of(type, priority, this.dataSource, this.executor));
+						QueueHandler.of(type, priority, this.dataSource, this.writeExecutors.get(priority),
+								config.flushSize(), config.flushLatency()));
 			}
 		}
 
@@ -106,6 +125,7 @@ public class TimescaledbWriteHandler {
 		this.streamHandler() //
 				.map(QueueHandler::getMergePointsWorker) //
 				.forEach(AbstractWorker::deactivate);
+		this.writeExecutors.values().forEach(e -> ThreadPoolUtils.shutdownAndAwaitTermination(e, 5));
 		if (this.dataSource != null) {
 			this.dataSource.close();
 		}
@@ -142,6 +162,9 @@ public class TimescaledbWriteHandler {
 		var sb = new StringBuilder() //
 				.append(ThreadPoolUtils.debugLog(this.executor)) //
 				.append(" SPLIT:").append(this.splitPointsWorker.debugLog());
+		this.writeExecutors.forEach((priority, executor) -> {
+			sb.append(" WRITE-").append(priority.name()).append(":").append(ThreadPoolUtils.debugLog(executor));
+		});
 		this.streamHandler().forEach((t) -> {
 			sb.append(" ").append(t.debugLog());
 		});
@@ -1,49 +1,44 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.List;
+import java.util.function.BiConsumer;
 
+import org.postgresql.PGConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.zaxxer.hikari.HikariDataSource;
 
-import de.bytefish.pgbulkinsert.row.SimpleRowWriter;
-import de.bytefish.pgbulkinsert.row.SimpleRowWriter.Table;
-import de.bytefish.pgbulkinsert.util.PostgreSqlUtils;
-import io.openems.backend.timedata.timescaledb.internal.Priority;
-import io.openems.backend.timedata.timescaledb.internal.Type;
-
 public class WritePointsHandler implements Runnable {
 
 	private final Logger log = LoggerFactory.getLogger(WritePointsHandler.class);
 
 	private final HikariDataSource dataSource;
-	private final Type type;
-	private final List<Point> points;
-	private final Table table;
+	private final CopyEncoder encoder;
+	private final BiConsumer<CopyEncoder, Boolean> onFinished;
 
-	public WritePointsHandler(HikariDataSource dataSource, Type type, Priority priority, List<Point> points) {
+	/**
+	 * Constructor.
+	 *
+	 * @param dataSource the dataSource to get database connections
+	 * @param encoder    the {@link CopyEncoder} holding the rows
+	 * @param onFinished called with the {@link CopyEncoder} and the success state
+	 *                   after the write
+	 */
+	public WritePointsHandler(HikariDataSource dataSource, CopyEncoder encoder,
+			BiConsumer<CopyEncoder, Boolean> onFinished) {
 		this.dataSource = dataSource;
-		this.type = type;
-		this.points = points;
-
-		this.table = new SimpleRowWriter.Table(null, type.getRawTableName(priority), new String[] { //
-				"time", //
-				"edge_channel_id", //
-				"value" //
-		});
+		this.encoder = encoder;
+		this.onFinished = onFinished;
 	}
 
 	@Override
 	public void run() {
-		try (//
-				var con = this.dataSource.getConnection();
-				SimpleRowWriter writer = new SimpleRowWriter(this.table, PostgreSqlUtils.getPGConnection(con)) //
-		) {
-			for (var point : this.points) {
-				writer.startRow(this.type.fillRow(point));
-			}
+		var success = false;
+		try (var con = this.dataSource.getConnection()) {
+			copy(con, this.encoder);
+			success = true;
 
 		} catch (SQLException e) {
 			// 'Expected errors', e.g. PostgreSQL server stopped
@@ -55,6 +50,31 @@ public class WritePointsHandler implements Runnable {
 			this.log.error("Unable to write Points. " + e.getClass().getSimpleName() + ": " + e.getMessage());
 			e.printStackTrace();
 
+		} finally {
+			this.onFinished.accept(this.encoder, success);
+		}
+	}
+
+	/**
+	 * Writes the rows of a {@link CopyEncoder} via 'COPY ... FROM STDIN (FORMAT
+	 * binary)'.
+	 *
+	 * @param con     the {@link Connection}
+	 * @param encoder the {@link CopyEncoder}
+	 * @return the number of written rows
+	 * @throws SQLException on error
+	 */
+	public static long copy(Connection con, CopyEncoder encoder) throws SQLException {
+		final var copyIn = con.unwrap(PGConnection.class).getCopyAPI().copyIn(encoder.getCopySql());
+		try {
+			final var bytes = encoder.finish();
+			copyIn.writeToCopy(bytes, 0, encoder.size());
+			return copyIn.endCopy();
+
+		} finally {
+			if (copyIn.isActive()) {
+				copyIn.cancelCopy();
+			}
 		}
 	}
 
@@ -14,6 +14,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String database;
 		private boolean isReadOnly;
 		private int poolSize;
+		private int writerThreads = 2;
+		private int flushSize = 10_000;
+		private int flushLatency = 10_000;
 
 		private Builder() {
 		}
@@ -58,6 +61,21 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setWriterThreads(int writerThreads) {
+			this.writerThreads = writerThreads;
+			return this;
+		}
+
+		public Builder setFlushSize(int flushSize) {
+			this.flushSize = flushSize;
+			return this;
+		}
+
+		public Builder setFlushLatency(int flushLatency) {
+			this.flushLatency = flushLatency;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -114,4 +132,19 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.poolSize;
 	}
 
+	@Override
+	public int writerThreads() {
+		return this.builder.writerThreads;
+	}
+
+	@Override
+	public int flushSize() {
+		return this.builder.flushSize;
+	}
+
+	@Override
+	public int flushLatency() {
+		return this.builder.flushLatency;
+	}
+
 }
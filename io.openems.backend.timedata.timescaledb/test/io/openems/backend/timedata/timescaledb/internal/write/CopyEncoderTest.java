@@ -0,0 +1,134 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.Credentials;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.backend.timedata.timescaledb.internal.Utils;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+
+public class CopyEncoderTest {
+
+	@Test
+	public void testEncode() {
+		var sut = new CopyEncoder(Type.INTEGER, Priority.HIGH);
+		assertEquals("COPY data_integer_high_raw (time, edge_channel_id, value) FROM STDIN (FORMAT binary)",
+				sut.getCopySql());
+
+		new IntPoint(7, 946_684_800_001L /* 2000-01-01T00:00:00.001Z */, -2L).encode(sut);
+		new FloatPoint(8, 946_684_800_000L, 1.5).encode(sut);
+		new StringPoint(9, 0L, "ä\0").encode(sut);
+		assertEquals(3, sut.rows());
+
+		var buffer = ByteBuffer.wrap(sut.finish(), 0, sut.size());
+		var signature = new byte[11];
+		buffer.get(signature);
+		assertArrayEquals(new byte[] { 'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0 }, signature);
+		assertEquals(0, buffer.getInt()); // flags
+		assertEquals(0, buffer.getInt()); // header extension
+
+		// IntPoint
+		assertEquals(3, buffer.getShort());
+		assertEquals(8, buffer.getInt());
+		assertEquals(1_000L, buffer.getLong());
+		assertEquals(4, buffer.getInt());
+		assertEquals(7, buffer.getInt());
+		assertEquals(8, buffer.getInt());
+		assertEquals(-2L, buffer.getLong());
+
+		// FloatPoint
+		assertEquals(3, buffer.getShort());
+		assertEquals(8, buffer.getInt());
+		assertEquals(0L, buffer.getLong());
+		assertEquals(4, buffer.getInt());
+		assertEquals(8, buffer.getInt());
+		assertEquals(8, buffer.getInt());
+		assertEquals(1.5, buffer.getDouble(), 0);
+
+		// StringPoint
+		assertEquals(3, buffer.getShort());
+		assertEquals(8, buffer.getInt());
+		assertEquals(-946_684_800_000_000L, buffer.getLong());
+		assertEquals(4, buffer.getInt());
+		assertEquals(9, buffer.getInt());
+		assertEquals(2, buffer.getInt());
+		assertEquals((byte) 0xC3, buffer.get());
+		assertEquals((byte) 0xA4, buffer.get());
+
+		// Trailer
+		assertEquals(-1, buffer.getShort());
+		assertEquals(0, buffer.remaining());
+
+		sut.reset();
+		assertEquals(0, sut.rows());
+		assertEquals(19, sut.size());
+	}
+
+	/**
+	 * Compares batched INSERTs with binary COPY.
+	 *
+	 * <p>
+	 * Requires a local PostgreSQL or TimescaleDB, e.g. 'docker run -p 5432:5432
+	 * -e POSTGRES_USER=user -e POSTGRES_PASSWORD=password -e
+	 * POSTGRES_DB=database timescale/timescaledb:latest-pg16'.
+	 */
+	@Ignore
+	@Test
+	public void benchmark() throws SQLException {
+		final var rows = 1_000_000;
+		final var batch = 10_000;
+		try (var dataSource = Utils.getDataSource(Credentials.HOST, 5432, Credentials.DATABASE, Credentials.USER,
+				Credentials.PASSWORD, 1); //
+				var con = dataSource.getConnection(); //
+				var stmt = con.createStatement()) {
+			stmt.execute("CREATE TEMP TABLE benchmark_raw (" //
+					+ "time TIMESTAMPTZ NOT NULL, edge_channel_id INTEGER NOT NULL, value BIGINT)");
+
+			// Batched INSERT
+			var start = System.nanoTime();
+			try (var insert = con.prepareStatement(
+					"INSERT INTO benchmark_raw (time, edge_channel_id, value) VALUES (?, ?, ?)")) {
+				for (var i = 0; i < rows; i++) {
+					insert.setObject(1, OffsetDateTime.ofInstant(Instant.ofEpochMilli(i * 1000L), ZoneOffset.UTC));
+					insert.setInt(2, i % 1000);
+					insert.setLong(3, i);
+					insert.addBatch();
+					if (i % batch == batch - 1) {
+						insert.executeBatch();
+					}
+				}
+			}
+			var insertNanos = System.nanoTime() - start;
+			stmt.execute("TRUNCATE benchmark_raw");
+
+			// Binary COPY
+			start = System.nanoTime();
+			var encoder = new CopyEncoder(Type.INTEGER, "benchmark_raw");
+			for (var i = 0; i < rows; i++) {
+				new IntPoint(i % 1000, i * 1000L, i).encode(encoder);
+				if (encoder.rows() == batch) {
+					WritePointsHandler.copy(con, encoder);
+					encoder.reset();
+				}
+			}
+			var copyNanos = System.nanoTime() - start;
+
+			System.out.println("INSERT: " + rows * 1_000_000_000L / insertNanos + " rows/s");
+			System.out.println("COPY:   " + rows * 1_000_000_000L / copyNanos + " rows/s");
+		}
+	}
+
+}
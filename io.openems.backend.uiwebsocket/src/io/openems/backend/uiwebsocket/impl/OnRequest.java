@@ -310,7 +310,7 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 	private CompletableFuture<JsonrpcResponseSuccess> handleSubscribeEdgesRequest(WsData wsData,
 			SubscribeEdgesRequest request) throws OpenemsNamedException {
 		// Register subscription in WsData
-		wsData.handleSubscribeEdgesRequest(request.getEdges());
+		this.parent.subscribeEdges(wsData, request.getEdges());
 
 		// JSON-RPC response
 		return CompletableFuture.completedFuture(new GenericJsonrpcResponseSuccess(request.getId()));
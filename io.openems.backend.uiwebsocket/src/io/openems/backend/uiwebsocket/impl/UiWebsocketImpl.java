@@ -5,8 +5,10 @@ import static java.util.stream.Collectors.toUnmodifiableMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -58,6 +60,12 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 
 	protected WebsocketServer server = null;
 
+	/**
+	 * UI sessions by subscribed Edge-ID; maintained on SubscribeEdgesRequest and
+	 * close.
+	 */
+	private final Map<String, Set<WsData>> subscribersByEdgeId = new ConcurrentHashMap<>();
+
 	@Reference
 	protected volatile JsonRpcRequestHandler jsonRpcRequestHandler;
 
@@ -157,9 +165,6 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		}
 		var wsDatas = this.getWsDatasForEdgeId(edgeId);
 		for (WsData wsData : wsDatas) {
-			if (!wsData.isEdgeSubscribed(edgeId)) {
-				continue;
-			}
 			wsData.send(notification);
 		}
 	}
@@ -186,37 +191,64 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Gets the WebSocket connection attachments of all connections that subscribed
+	 * an Edge-ID and whose User has access to it.
 	 *
 	 * @param edgeId the Edge-ID
 	 * @return the WsDatas; empty list if there are none
 	 */
 	private List<WsData> getWsDatasForEdgeId(String edgeId) {
 		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData == null) {
-				continue;
+		var subscribers = this.subscribersByEdgeId.get(edgeId);
+		if (subscribers == null) {
+			return result;
+		}
+		for (var wsData : subscribers) {
+			// get User for attachment User-ID
+			var userOpt = wsData.getUser(this.metadata);
+			if (userOpt.isPresent() && userOpt.get().getRole(edgeId).isPresent()) {
+				// User has access to this Edge-ID
+				result.add(wsData);
 			}
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
+		}
+		return result;
+	}
+
+	/**
+	 * Applies the subscribed Edges of a UI session and updates the index of
+	 * subscribers.
+	 *
+	 * <p>
+	 * Requests and OnClose are handled asynchronously; a request that is handled
+	 * after the connection was closed unsubscribes all.
+	 *
+	 * @param wsData  the WebSocket attachment
+	 * @param edgeIds the subscribed Edge-IDs; empty to unsubscribe all
+	 */
+	protected void subscribeEdges(WsData wsData, Set<String> edgeIds) {
+		synchronized (wsData) {
+			if (!wsData.isOpen()) {
+				edgeIds = Set.of();
+			}
+			var previous = wsData.handleSubscribeEdgesRequest(edgeIds);
+			for (var edgeId : previous) {
+				if (!edgeIds.contains(edgeId)) {
+					this.subscribersByEdgeId.computeIfPresent(edgeId, (k, v) -> {
+						v.remove(wsData);
+						return v.isEmpty() ? null : v;
+					});
 				}
 			}
+			for (var edgeId : edgeIds) {
+				this.subscribersByEdgeId.compute(edgeId, (k, v) -> {
+					if (v == null) {
+						v = ConcurrentHashMap.newKeySet();
+					}
+					v.add(wsData);
+					return v;
+				});
+			}
 		}
-		return result;
 	}
 
 	@Override
@@ -233,12 +265,12 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent
 		if (this.server == null) {
 			return;
 		}
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
-			WsData wsData = websocket.getAttachment();
-			if (wsData != null) {
-				wsData.sendSubscribedChannels(edgeId, edgeCache);
-			}
+		var subscribers = this.subscribersByEdgeId.get(edgeId);
+		if (subscribers == null) {
+			return;
+		}
+		for (var wsData : subscribers) {
+			wsData.sendSubscribedChannels(edgeId, edgeCache);
 		}
 	}
 
@@ -1,5 +1,7 @@
 package io.openems.backend.uiwebsocket.impl;
 
+import java.util.Set;
+
 import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 
@@ -13,6 +15,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnRequest onRequest;
 	private final OnNotification onNotification;
 	private final OnError onError;
+	private final OnClose onClose;
 
 	public WebsocketServer(UiWebsocketImpl parent, String name, int port, int poolSize) {
 		super(name, port, poolSize);
@@ -20,6 +23,12 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		this.onRequest = new OnRequest(parent);
 		this.onNotification = new OnNotification(parent);
 		this.onError = new OnError(parent);
+		this.onClose = (ws, code, reason, remote) -> {
+			WsData wsData = ws.getAttachment();
+			if (wsData != null) {
+				parent.subscribeEdges(wsData, Set.of());
+			}
+		};
 	}
 
 	@Override
@@ -49,7 +58,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 
 	@Override
 	protected OnClose getOnClose() {
-		return OnClose.NO_OP;
+		return this.onClose;
 	}
 
 	@Override
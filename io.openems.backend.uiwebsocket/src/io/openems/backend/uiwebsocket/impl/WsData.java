@@ -69,7 +69,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private Optional<String> userId = Optional.empty();
 	private Optional<String> token = Optional.empty();
 
-	private Set<String> subscribedEdges = new HashSet<>();
+	private volatile Set<String> subscribedEdges = new HashSet<>();
 
 	public WsData(WebSocket ws) {
 		super(ws);
@@ -178,10 +178,13 @@ public class WsData extends io.openems.common.websocket.WsData {
 	 * Applies a SubscribeEdgesRequest.
 	 * 
 	 * @param edgeIds the edges to subscribe
+	 * @return the previously subscribed edges
 	 */
-	public void handleSubscribeEdgesRequest(Set<String> edgeIds) {
+	public synchronized Set<String> handleSubscribeEdgesRequest(Set<String> edgeIds) {
 		// TODO maybe only add and remove on explicit request
+		var previous = this.subscribedEdges;
 		this.subscribedEdges = edgeIds;
+		return previous;
 	}
 
 	/**
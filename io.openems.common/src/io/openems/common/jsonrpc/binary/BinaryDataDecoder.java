@@ -0,0 +1,172 @@
+package io.openems.common.jsonrpc.binary;
+
+import static io.openems.common.jsonrpc.binary.BinaryDataFormat.readString;
+import static io.openems.common.jsonrpc.binary.BinaryDataFormat.readVarInt;
+import static io.openems.common.jsonrpc.binary.BinaryDataFormat.readVarLong;
+import static io.openems.common.jsonrpc.binary.BinaryDataFormat.readZigZag;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.binary.BinaryDataFormat.Compression;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Decodes binary frames created by a {@link BinaryDataEncoder} to
+ * {@link AbstractDataNotification}s; see {@link BinaryDataFormat}.
+ *
+ * <p>
+ * One instance is used per connection, as it keeps the Channel-Address
+ * dictionary. Frames have to be decoded in the order they were received. Not
+ * thread-safe.
+ */
+public class BinaryDataDecoder {
+
+	private static final JsonPrimitive TRUE = new JsonPrimitive(true);
+	private static final JsonPrimitive FALSE = new JsonPrimitive(false);
+
+	/**
+	 * Maximum size of an inflated payload; protects against decompression bombs.
+	 */
+	protected static final int MAX_INFLATED_LENGTH = 16 * 1024 * 1024;
+
+	private final List<String> dictionary = new ArrayList<>();
+	private Inflater inflater = null;
+
+	/**
+	 * Decodes a binary frame.
+	 *
+	 * @param frame the frame
+	 * @return the {@link AbstractDataNotification}
+	 * @throws OpenemsException on malformed input
+	 */
+	public AbstractDataNotification decode(ByteBuffer frame) throws OpenemsException {
+		try {
+			return this.decodeFrame(frame);
+
+		} catch (BufferUnderflowException e) {
+			throw new OpenemsException("Unexpected end of binary data");
+		} catch (JsonParseException e) {
+			throw new OpenemsException("Invalid JSON value in binary data: " + e.getMessage());
+		}
+	}
+
+	private AbstractDataNotification decodeFrame(ByteBuffer frame) throws OpenemsException {
+		if (frame.remaining() < 3) {
+			throw new OpenemsException("Binary frame is too short");
+		}
+		if (frame.get() != BinaryDataFormat.MAGIC) {
+			throw new OpenemsException("Binary frame has invalid magic byte");
+		}
+		var version = frame.get();
+		if (version != BinaryDataFormat.VERSION) {
+			throw new OpenemsException("Unsupported binary frame version [" + version + "]");
+		}
+		var compression = Compression.fromId(frame.get());
+		var bytes = new byte[frame.remaining()];
+		frame.get(bytes);
+		var payload = ByteBuffer.wrap(switch (compression) {
+		case NONE -> bytes;
+		case DEFLATE -> this.inflate(bytes);
+		});
+
+		var type = payload.get();
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		var rows = readVarInt(payload);
+		for (var i = 0; i < rows; i++) {
+			var timestamp = readVarLong(payload);
+			var entries = readVarInt(payload);
+			for (var j = 0; j < entries; j++) {
+				var address = this.readAddress(payload);
+				data.put(timestamp, address, readValue(payload));
+			}
+		}
+
+		return switch (type) {
+		case BinaryDataFormat.TYPE_TIMESTAMPED_DATA -> new TimestampedDataNotification(data);
+		case BinaryDataFormat.TYPE_AGGREGATED_DATA -> new AggregatedDataNotification(data);
+		case BinaryDataFormat.TYPE_RESEND_DATA -> new ResendDataNotification(data);
+		default -> throw new OpenemsException("Unknown binary notification type [" + type + "]");
+		};
+	}
+
+	/**
+	 * Releases native resources.
+	 */
+	public void close() {
+		if (this.inflater != null) {
+			this.inflater.end();
+		}
+	}
+
+	private String readAddress(ByteBuffer in) throws OpenemsException {
+		var id = readVarInt(in);
+		if (id < this.dictionary.size()) {
+			return this.dictionary.get(id);
+		}
+		if (id == this.dictionary.size()) {
+			var address = readString(in);
+			this.dictionary.add(address);
+			return address;
+		}
+		throw new OpenemsException("Unknown Channel-Address id [" + id + "]");
+	}
+
+	private byte[] inflate(byte[] input) throws OpenemsException {
+		if (this.inflater == null) {
+			this.inflater = new Inflater();
+		}
+		this.inflater.reset();
+		this.inflater.setInput(input);
+		var out = new ByteArrayOutputStream(input.length * 4);
+		var buffer = new byte[4096];
+		try {
+			while (!this.inflater.finished()) {
+				var length = this.inflater.inflate(buffer);
+				if (length == 0 && (this.inflater.needsInput() || this.inflater.needsDictionary())) {
+					throw new OpenemsException("Truncated compressed binary frame");
+				}
+				if (out.size() + length > MAX_INFLATED_LENGTH) {
+					throw new OpenemsException(
+							"Compressed binary frame exceeds [" + MAX_INFLATED_LENGTH + "] bytes when inflated");
+				}
+				out.write(buffer, 0, length);
+			}
+		} catch (DataFormatException e) {
+			throw new OpenemsException("Invalid compressed binary frame: " + e.getMessage());
+		}
+		return out.toByteArray();
+	}
+
+	private static JsonElement readValue(ByteBuffer in) throws OpenemsException {
+		var tag = in.get();
+		return switch (tag) {
+		case BinaryDataFormat.TAG_NULL -> JsonNull.INSTANCE;
+		case BinaryDataFormat.TAG_TRUE -> TRUE;
+		case BinaryDataFormat.TAG_FALSE -> FALSE;
+		case BinaryDataFormat.TAG_INTEGER -> new JsonPrimitive(readZigZag(in));
+		case BinaryDataFormat.TAG_FLOAT -> new JsonPrimitive(in.getFloat());
+		case BinaryDataFormat.TAG_DOUBLE -> new JsonPrimitive(in.getDouble());
+		case BinaryDataFormat.TAG_STRING -> new JsonPrimitive(readString(in));
+		case BinaryDataFormat.TAG_JSON -> JsonParser.parseString(readString(in));
+		default -> throw new OpenemsException("Unknown value tag [" + tag + "]");
+		};
+	}
+
+}
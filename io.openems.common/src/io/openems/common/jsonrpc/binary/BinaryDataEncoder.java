@@ -0,0 +1,186 @@
+package io.openems.common.jsonrpc.binary;
+
+import static io.openems.common.jsonrpc.binary.BinaryDataFormat.writeString;
+import static io.openems.common.jsonrpc.binary.BinaryDataFormat.writeVarLong;
+import static io.openems.common.jsonrpc.binary.BinaryDataFormat.writeZigZag;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.jsonrpc.binary.BinaryDataFormat.Compression;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Encodes {@link AbstractDataNotification}s to binary frames; see
+ * {@link BinaryDataFormat}.
+ *
+ * <p>
+ * One instance is used per connection, as it keeps the Channel-Address
+ * dictionary that was already sent. Frames have to be sent in the order they
+ * were encoded. Not thread-safe.
+ */
+public class BinaryDataEncoder {
+
+	private final Compression compression;
+	private final Map<String, Integer> dictionary = new HashMap<>();
+	private final ByteArrayOutputStream payload = new ByteArrayOutputStream(4096);
+	private final Deflater deflater;
+	private final byte[] deflateBuffer = new byte[4096];
+
+	public BinaryDataEncoder(Compression compression) {
+		this.compression = compression;
+		this.deflater = compression == Compression.DEFLATE ? new Deflater(Deflater.BEST_SPEED) : null;
+	}
+
+	/**
+	 * Is the given notification supported by the binary format?.
+	 *
+	 * @param notification the {@link AbstractDataNotification}
+	 * @return true if it can be encoded
+	 */
+	public static boolean isSupported(Object notification) {
+		return notification instanceof TimestampedDataNotification //
+				|| notification instanceof AggregatedDataNotification //
+				|| notification instanceof ResendDataNotification;
+	}
+
+	/**
+	 * Encodes a {@link AbstractDataNotification}.
+	 *
+	 * @param notification the {@link AbstractDataNotification}; see
+	 *                     {@link #isSupported(Object)}
+	 * @return the binary frame
+	 */
+	public byte[] encode(AbstractDataNotification notification) {
+		final var payload = this.payload;
+		payload.reset();
+		payload.write(toType(notification));
+
+		final var rows = notification.getData().rowMap();
+		writeVarLong(payload, rows.size());
+		for (var row : rows.entrySet()) {
+			writeVarLong(payload, row.getKey());
+			writeVarLong(payload, row.getValue().size());
+			for (var entry : row.getValue().entrySet()) {
+				this.writeAddress(entry.getKey());
+				writeValue(payload, entry.getValue());
+			}
+		}
+
+		final var compression = this.deflater != null && payload.size() >= BinaryDataFormat.COMPRESSION_THRESHOLD //
+				? this.compression //
+				: Compression.NONE;
+		final var frame = new ByteArrayOutputStream(payload.size() + 3);
+		frame.write(BinaryDataFormat.MAGIC);
+		frame.write(BinaryDataFormat.VERSION);
+		frame.write(compression.id);
+		switch (compression) {
+		case NONE -> frame.write(payload.toByteArray(), 0, payload.size());
+		case DEFLATE -> this.deflate(payload.toByteArray(), frame);
+		}
+		return frame.toByteArray();
+	}
+
+	/**
+	 * Releases native resources.
+	 */
+	public void close() {
+		if (this.deflater != null) {
+			this.deflater.end();
+		}
+	}
+
+	private void writeAddress(String address) {
+		var id = this.dictionary.get(address);
+		if (id != null) {
+			writeVarLong(this.payload, id);
+			return;
+		}
+		id = this.dictionary.size();
+		this.dictionary.put(address, id);
+		writeVarLong(this.payload, id);
+		writeString(this.payload, address);
+	}
+
+	private void deflate(byte[] input, ByteArrayOutputStream out) {
+		this.deflater.reset();
+		this.deflater.setInput(input);
+		this.deflater.finish();
+		while (!this.deflater.finished()) {
+			var length = this.deflater.deflate(this.deflateBuffer);
+			out.write(this.deflateBuffer, 0, length);
+		}
+	}
+
+	private static byte toType(AbstractDataNotification notification) {
+		if (notification instanceof TimestampedDataNotification) {
+			return BinaryDataFormat.TYPE_TIMESTAMPED_DATA;
+		} else if (notification instanceof AggregatedDataNotification) {
+			return BinaryDataFormat.TYPE_AGGREGATED_DATA;
+		} else if (notification instanceof ResendDataNotification) {
+			return BinaryDataFormat.TYPE_RESEND_DATA;
+		}
+		throw new IllegalArgumentException("Unsupported notification [" + notification.getMethod() + "]");
+	}
+
+	private static void writeValue(ByteArrayOutputStream out, JsonElement value) {
+		if (value == null || value.isJsonNull()) {
+			out.write(BinaryDataFormat.TAG_NULL);
+			return;
+		}
+		if (!value.isJsonPrimitive()) {
+			out.write(BinaryDataFormat.TAG_JSON);
+			writeString(out, value.toString());
+			return;
+		}
+		var primitive = value.getAsJsonPrimitive();
+		if (primitive.isBoolean()) {
+			out.write(primitive.getAsBoolean() ? BinaryDataFormat.TAG_TRUE : BinaryDataFormat.TAG_FALSE);
+
+		} else if (primitive.isString()) {
+			out.write(BinaryDataFormat.TAG_STRING);
+			writeString(out, primitive.getAsString());
+
+		} else {
+			var number = primitive.getAsNumber();
+			if (number instanceof Integer || number instanceof Long || number instanceof Short
+					|| number instanceof Byte) {
+				out.write(BinaryDataFormat.TAG_INTEGER);
+				writeZigZag(out, number.longValue());
+
+			} else if (number instanceof Float f) {
+				out.write(BinaryDataFormat.TAG_FLOAT);
+				writeInt(out, Float.floatToIntBits(f));
+
+			} else if (number instanceof Double d) {
+				out.write(BinaryDataFormat.TAG_DOUBLE);
+				writeLong(out, Double.doubleToLongBits(d));
+
+			} else {
+				// e.g. BigDecimal or LazilyParsedNumber: keep exact representation
+				out.write(BinaryDataFormat.TAG_JSON);
+				writeString(out, primitive.toString());
+			}
+		}
+	}
+
+	private static void writeInt(ByteArrayOutputStream out, int value) {
+		out.write(value >>> 24);
+		out.write(value >>> 16);
+		out.write(value >>> 8);
+		out.write(value);
+	}
+
+	private static void writeLong(ByteArrayOutputStream out, long value) {
+		writeInt(out, (int) (value >>> 32));
+		writeInt(out, (int) value);
+	}
+
+}
@@ -0,0 +1,189 @@
+package io.openems.common.jsonrpc.binary;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import io.openems.common.exceptions.OpenemsException;
+
+/**
+ * Constants and helpers of the binary framing for data notifications from
+ * Edge to Backend.
+ *
+ * <p>
+ * A frame is structured as follows:
+ *
+ * <pre>
+ * [MAGIC: byte][VERSION: byte][Compression: byte] + payload
+ *
+ * payload (possibly compressed):
+ * [Type: byte][rows: varint]
+ *   per row: [timestamp: varlong][entries: varint]
+ *     per entry: [id: varint] (+ [address: string] if id is new) [tag: byte][value]
+ * </pre>
+ *
+ * <p>
+ * Channel-Addresses are sent once per connection: an id equal to the current
+ * size of the dictionary defines a new address, which follows as string.
+ * Varints use the unsigned LEB128 encoding; signed values are zig-zag encoded.
+ * Strings are encoded as [length: varint][UTF-8 bytes].
+ */
+public final class BinaryDataFormat {
+
+	public static final byte MAGIC = 0x4F; // 'O'
+	public static final byte VERSION = 1;
+
+	/** Payloads smaller than this are never compressed. */
+	public static final int COMPRESSION_THRESHOLD = 256;
+
+	/**
+	 * The compression of the payload.
+	 */
+	public static enum Compression {
+		NONE(0), //
+		DEFLATE(1);
+
+		public final byte id;
+
+		private Compression(int id) {
+			this.id = (byte) id;
+		}
+
+		/**
+		 * Gets the {@link Compression} for an id.
+		 *
+		 * @param id the id
+		 * @return the {@link Compression}
+		 * @throws OpenemsException on unknown id
+		 */
+		public static Compression fromId(byte id) throws OpenemsException {
+			for (var compression : Compression.values()) {
+				if (compression.id == id) {
+					return compression;
+				}
+			}
+			throw new OpenemsException("Unknown compression [" + id + "]");
+		}
+	}
+
+	/* Notification types */
+	public static final byte TYPE_TIMESTAMPED_DATA = 1;
+	public static final byte TYPE_AGGREGATED_DATA = 2;
+	public static final byte TYPE_RESEND_DATA = 3;
+
+	/* Value tags */
+	public static final byte TAG_NULL = 0;
+	public static final byte TAG_TRUE = 1;
+	public static final byte TAG_FALSE = 2;
+	public static final byte TAG_INTEGER = 3; // zig-zag varlong
+	public static final byte TAG_FLOAT = 4; // 4 bytes
+	public static final byte TAG_DOUBLE = 5; // 8 bytes
+	public static final byte TAG_STRING = 6;
+	public static final byte TAG_JSON = 7; // JSON serialized as string
+
+	private BinaryDataFormat() {
+	}
+
+	/**
+	 * Writes an unsigned varint.
+	 *
+	 * @param out   the {@link ByteArrayOutputStream}
+	 * @param value the value
+	 */
+	public static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	/**
+	 * Writes a signed, zig-zag encoded varint.
+	 *
+	 * @param out   the {@link ByteArrayOutputStream}
+	 * @param value the value
+	 */
+	public static void writeZigZag(ByteArrayOutputStream out, long value) {
+		writeVarLong(out, (value << 1) ^ (value >> 63));
+	}
+
+	/**
+	 * Writes a String.
+	 *
+	 * @param out   the {@link ByteArrayOutputStream}
+	 * @param value the value
+	 */
+	public static void writeString(ByteArrayOutputStream out, String value) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Reads an unsigned varint.
+	 *
+	 * @param in the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static long readVarLong(ByteBuffer in) throws OpenemsException {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			if (!in.hasRemaining()) {
+				throw new OpenemsException("Unexpected end of binary data");
+			}
+			var b = in.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new OpenemsException("Malformed varint");
+	}
+
+	/**
+	 * Reads an unsigned varint that has to fit into an int.
+	 *
+	 * @param in the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static int readVarInt(ByteBuffer in) throws OpenemsException {
+		var value = readVarLong(in);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new OpenemsException("Varint out of range [" + value + "]");
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Reads a signed, zig-zag encoded varint.
+	 *
+	 * @param in the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static long readZigZag(ByteBuffer in) throws OpenemsException {
+		var value = readVarLong(in);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Reads a String.
+	 *
+	 * @param in the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static String readString(ByteBuffer in) throws OpenemsException {
+		var length = readVarInt(in);
+		if (length > in.remaining()) {
+			throw new OpenemsException("Unexpected end of binary data");
+		}
+		var result = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+		in.position(in.position() + length);
+		return result;
+	}
+
+}
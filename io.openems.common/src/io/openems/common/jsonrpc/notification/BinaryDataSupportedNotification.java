@@ -0,0 +1,89 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.binary.BinaryDataFormat;
+import io.openems.common.jsonrpc.binary.BinaryDataFormat.Compression;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Notification from Backend to Edge, announcing that the
+ * Backend accepts data notifications in the binary format of
+ * {@link BinaryDataFormat}. Edges that do not know this notification keep
+ * sending JSON.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "binaryDataSupported",
+ *   "params": {
+ *     "version": number,
+ *     "compressions": string[] // e.g. ["NONE", "DEFLATE"]
+ *   }
+ * }
+ * </pre>
+ */
+public class BinaryDataSupportedNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "binaryDataSupported";
+
+	/**
+	 * Create {@link BinaryDataSupportedNotification} from a template
+	 * {@link JsonrpcNotification}.
+	 *
+	 * @param notification the template {@link JsonrpcNotification}
+	 * @return Created {@link BinaryDataSupportedNotification}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static BinaryDataSupportedNotification from(JsonrpcNotification notification)
+			throws OpenemsNamedException {
+		var params = notification.getParams();
+		var version = JsonUtils.getAsInt(params, "version");
+		var compressions = new ArrayList<Compression>();
+		for (var compression : JsonUtils.getAsJsonArray(params, "compressions")) {
+			JsonUtils.getAsOptionalEnum(Compression.class, compression).ifPresent(compressions::add);
+		}
+		return new BinaryDataSupportedNotification(version, compressions);
+	}
+
+	public final int version;
+	public final List<Compression> compressions;
+
+	public BinaryDataSupportedNotification(int version, List<Compression> compressions) {
+		super(METHOD);
+		this.version = version;
+		this.compressions = compressions;
+	}
+
+	public BinaryDataSupportedNotification() {
+		this(BinaryDataFormat.VERSION, List.of(Compression.values()));
+	}
+
+	/**
+	 * Gets the preferred {@link Compression} that is supported by both sides.
+	 *
+	 * @return the {@link Compression}
+	 */
+	public Compression getPreferredCompression() {
+		return this.compressions.contains(Compression.DEFLATE) ? Compression.DEFLATE : Compression.NONE;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		var compressions = new JsonArray();
+		for (var compression : this.compressions) {
+			compressions.add(compression.name());
+		}
+		return JsonUtils.buildJsonObject() //
+				.addProperty("version", this.version) //
+				.add("compressions", compressions) //
+				.build();
+	}
+
+}
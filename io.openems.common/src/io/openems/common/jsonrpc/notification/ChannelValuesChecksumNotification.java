@@ -0,0 +1,135 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Notification from Edge to Backend with a checksum of
+ * all Channel values that were sent via {@link TimestampedDataNotification}s.
+ * 
+ * <p>
+ * Edge only sends changed values. The Backend verifies its cached values
+ * against this checksum and sends a {@link ResyncChannelValuesNotification} on
+ * mismatch.
+ * 
+ * <p>
+ * The checksum is the sum of {@link #hash(String, JsonElement)} of all
+ * non-null values; it is independent of the order and can be updated
+ * incrementally.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "channelValuesChecksum",
+ *   "params": {
+ *     "timestamp": number, // epoch in milliseconds
+ *     "count": number, // number of non-null values
+ *     "checksum": number
+ *   }
+ * }
+ * </pre>
+ */
+public class ChannelValuesChecksumNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "channelValuesChecksum";
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	public final long timestamp;
+	public final int count;
+	public final long checksum;
+
+	/**
+	 * Create {@link ChannelValuesChecksumNotification} from a template
+	 * {@link JsonrpcNotification}.
+	 *
+	 * @param notification the template {@link JsonrpcNotification}
+	 * @return Created {@link ChannelValuesChecksumNotification}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static ChannelValuesChecksumNotification from(JsonrpcNotification notification)
+			throws OpenemsNamedException {
+		var params = notification.getParams();
+		return new ChannelValuesChecksumNotification(//
+				JsonUtils.getAsLong(params, "timestamp"), //
+				JsonUtils.getAsInt(params, "count"), //
+				JsonUtils.getAsLong(params, "checksum"));
+	}
+
+	/**
+	 * Calculates the hash of one Channel value.
+	 *
+	 * @param address the Channel-Address
+	 * @param value   the value
+	 * @return the hash; 0 for null values
+	 */
+	public static long hash(String address, JsonElement value) {
+		if (value == null || value.isJsonNull()) {
+			return 0L;
+		}
+		var hash = hash(FNV_OFFSET_BASIS, address);
+		hash = (hash ^ '=') * FNV_PRIME;
+		return hash(hash, value.toString());
+	}
+
+	private static long hash(long hash, String s) {
+		for (var i = 0; i < s.length(); i++) {
+			hash = (hash ^ s.charAt(i)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * Calculates the checksum of Channel values.
+	 *
+	 * @param values map of Channel-Address to value
+	 * @return the checksum
+	 */
+	public static long checksum(Map<String, JsonElement> values) {
+		var checksum = 0L;
+		for (var entry : values.entrySet()) {
+			checksum += hash(entry.getKey(), entry.getValue());
+		}
+		return checksum;
+	}
+
+	/**
+	 * Counts the non-null Channel values.
+	 *
+	 * @param values map of Channel-Address to value
+	 * @return the count
+	 */
+	public static int count(Map<String, JsonElement> values) {
+		var count = 0;
+		for (var value : values.values()) {
+			if (value != null && !value.isJsonNull()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	public ChannelValuesChecksumNotification(long timestamp, int count, long checksum) {
+		super(METHOD);
+		this.timestamp = timestamp;
+		this.count = count;
+		this.checksum = checksum;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("timestamp", this.timestamp) //
+				.addProperty("count", this.count) //
+				.addProperty("checksum", this.checksum) //
+				.build();
+	}
+
+}
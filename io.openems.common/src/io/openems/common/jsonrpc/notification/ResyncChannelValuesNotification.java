@@ -0,0 +1,33 @@
+package io.openems.common.jsonrpc.notification;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+
+/**
+ * Represents a JSON-RPC Notification from Backend to Edge, asking the Edge to
+ * send the values of all Channels once, e.g. because a
+ * {@link ChannelValuesChecksumNotification} did not match.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "resyncChannelValues",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class ResyncChannelValuesNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "resyncChannelValues";
+
+	public ResyncChannelValuesNotification() {
+		super(METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
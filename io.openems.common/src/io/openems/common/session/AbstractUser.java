@@ -3,7 +3,7 @@ package io.openems.common.session;
 import java.util.Collections;
 import java.util.NavigableMap;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import com.google.gson.JsonObject;
 
@@ -40,9 +40,9 @@ public abstract class AbstractUser {
 	private final JsonObject settings;
 
 	/**
-	 * Roles per Edge-ID.
+	 * Roles per Edge-ID. Read by every request of the User without locking.
 	 */
-	private final NavigableMap<String, Role> roles = new TreeMap<>();
+	private final NavigableMap<String, Role> roles = new ConcurrentSkipListMap<>();
 
 	protected AbstractUser(String id, String name, Language language, Role globalRole, NavigableMap<String, Role> roles,
 			JsonObject settings) {
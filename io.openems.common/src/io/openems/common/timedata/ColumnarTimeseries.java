@@ -0,0 +1,413 @@
+package io.openems.common.timedata;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.IntStream;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * The result of a historic data query in columnar form: one array of
+ * timestamps and one array of values per Channel.
+ *
+ * <p>
+ * Compared to the form of
+ * {@link CommonTimedataService#queryHistoricData(String, ZonedDateTime, ZonedDateTime, java.util.Set, Resolution)}
+ * there is no map entry and {@link JsonElement} per value. Missing values are
+ * {@link Double#NaN}; non-numeric values are not supported. Use
+ * {@link #toJsonMap()} if the map form is required.
+ *
+ * <p>
+ * Instances are immutable.
+ */
+public final class ColumnarTimeseries {
+
+	private static final double MAX_EXACT_LONG = 1L << 53;
+
+	private final ZoneId zone;
+	private final long[] timestamps; // epoch milliseconds, sorted
+	private final ImmutableList<ChannelAddress> channels; // sorted
+	private final double[][] values; // [channel][row]
+
+	private ColumnarTimeseries(ZoneId zone, long[] timestamps, ImmutableList<ChannelAddress> channels,
+			double[][] values) {
+		this.zone = zone;
+		this.timestamps = timestamps;
+		this.channels = channels;
+		this.values = values;
+	}
+
+	/**
+	 * Creates a {@link ColumnarTimeseries} with equidistant timestamps.
+	 *
+	 * @param zone     the {@link ZoneId} of the timestamps
+	 * @param from     the first timestamp in epoch milliseconds
+	 * @param step     the distance between two timestamps in milliseconds
+	 * @param channels the values per Channel; arrays shorter than the longest
+	 *                 array are filled with {@link Double#NaN}. The arrays are
+	 *                 not copied and must not be modified afterwards.
+	 * @return the {@link ColumnarTimeseries}
+	 */
+	public static ColumnarTimeseries ofEquidistant(ZoneId zone, long from, long step,
+			Map<ChannelAddress, double[]> channels) {
+		final var sortedChannels = new TreeMap<>(channels);
+		final var size = sortedChannels.values().stream() //
+				.mapToInt(v -> v.length) //
+				.max() //
+				.orElse(0);
+		final var timestamps = new long[size];
+		for (var i = 0; i < size; i++) {
+			timestamps[i] = from + i * step;
+		}
+		final var values = new double[sortedChannels.size()][];
+		var c = 0;
+		for (var column : sortedChannels.values()) {
+			if (column.length < size) {
+				final var filled = Arrays.copyOf(column, size);
+				Arrays.fill(filled, column.length, size, Double.NaN);
+				column = filled;
+			}
+			values[c++] = column;
+		}
+		return new ColumnarTimeseries(zone, timestamps, ImmutableList.copyOf(sortedChannels.keySet()), values);
+	}
+
+	/**
+	 * Creates a {@link ColumnarTimeseries} from the map form of a historic data
+	 * query.
+	 *
+	 * @param zone the {@link ZoneId}, used if the map is empty
+	 * @param data the map form; possibly null
+	 * @return the {@link ColumnarTimeseries}; null if data is null
+	 */
+	public static ColumnarTimeseries fromJsonMap(ZoneId zone,
+			SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> data) {
+		if (data == null) {
+			return null;
+		}
+		final var builder = builder(data.isEmpty() ? zone : data.firstKey().getZone());
+		for (var row : data.entrySet()) {
+			final var timestamp = row.getKey().toInstant().toEpochMilli();
+			builder.addTimestamp(timestamp);
+			for (var entry : row.getValue().entrySet()) {
+				final var value = entry.getValue();
+				builder.put(timestamp, entry.getKey(), value != null && value.isJsonPrimitive()
+						&& value.getAsJsonPrimitive().isNumber() ? value.getAsDouble() : Double.NaN);
+			}
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Creates a {@link Builder} for rows that arrive in any order.
+	 *
+	 * @param zone the {@link ZoneId} of the timestamps
+	 * @return the {@link Builder}
+	 */
+	public static Builder builder(ZoneId zone) {
+		return new Builder(zone);
+	}
+
+	public static class Builder {
+
+		private final ZoneId zone;
+		private final List<ChannelAddress> channels = new ArrayList<>();
+		private final Map<ChannelAddress, Integer> channelIndexes = new HashMap<>();
+		private final List<double[]> columns = new ArrayList<>();
+
+		private long[] timestamps = new long[64];
+		private int size = 0;
+		private boolean isSorted = true;
+
+		// Open addressing hash table: timestamp -> row + 1; '0' is empty
+		private long[] keys = new long[128];
+		private int[] rows = new int[128];
+
+		private Builder(ZoneId zone) {
+			this.zone = zone;
+		}
+
+		/**
+		 * Adds a row for the timestamp, if it does not exist yet.
+		 *
+		 * @param timestamp the timestamp in epoch milliseconds
+		 * @return the row index
+		 */
+		public int addTimestamp(long timestamp) {
+			var slot = this.slot(timestamp);
+			if (this.rows[slot] != 0) {
+				return this.rows[slot] - 1;
+			}
+			final var row = this.size++;
+			if (row == this.timestamps.length) {
+				this.timestamps = Arrays.copyOf(this.timestamps, row * 2);
+				for (var i = 0; i < this.columns.size(); i++) {
+					this.columns.set(i, grow(this.columns.get(i), row * 2));
+				}
+			}
+			if (row > 0 && timestamp < this.timestamps[row - 1]) {
+				this.isSorted = false;
+			}
+			this.timestamps[row] = timestamp;
+			this.keys[slot] = timestamp;
+			this.rows[slot] = row + 1;
+			if (this.size * 2 > this.keys.length) {
+				this.rehash();
+			}
+			return row;
+		}
+
+		/**
+		 * Adds a Channel, if it does not exist yet.
+		 *
+		 * @param channel the {@link ChannelAddress}
+		 * @return the column index
+		 */
+		public int addChannel(ChannelAddress channel) {
+			var index = this.channelIndexes.get(channel);
+			if (index == null) {
+				index = this.channels.size();
+				this.channels.add(channel);
+				this.channelIndexes.put(channel, index);
+				this.columns.add(grow(new double[0], this.timestamps.length));
+			}
+			return index;
+		}
+
+		/**
+		 * Sets a value. Replaces an existing value.
+		 *
+		 * @param timestamp the timestamp in epoch milliseconds
+		 * @param channel   the {@link ChannelAddress}
+		 * @param value     the value; {@link Double#NaN} for no value
+		 * @return myself
+		 */
+		public Builder put(long timestamp, ChannelAddress channel, double value) {
+			final var column = this.addChannel(channel);
+			final var row = this.addTimestamp(timestamp);
+			this.columns.get(column)[row] = value;
+			return this;
+		}
+
+		/**
+		 * Merges a value with an existing value.
+		 *
+		 * @param timestamp the timestamp in epoch milliseconds
+		 * @param channel   the {@link ChannelAddress}
+		 * @param value     the value; {@link Double#NaN} for no value
+		 * @param merge     merges the existing and the new value, if both are not
+		 *                  {@link Double#NaN}
+		 * @return myself
+		 */
+		public Builder merge(long timestamp, ChannelAddress channel, double value, DoubleBinaryOperator merge) {
+			final var column = this.addChannel(channel);
+			final var row = this.addTimestamp(timestamp);
+			final var values = this.columns.get(column);
+			final var existing = values[row];
+			if (Double.isNaN(existing)) {
+				values[row] = value;
+			} else if (!Double.isNaN(value)) {
+				values[row] = merge.applyAsDouble(existing, value);
+			}
+			return this;
+		}
+
+		/**
+		 * Builds the {@link ColumnarTimeseries}.
+		 *
+		 * @return the {@link ColumnarTimeseries}
+		 */
+		public ColumnarTimeseries build() {
+			// Order of rows
+			final int[] order;
+			if (this.isSorted) {
+				order = null;
+			} else {
+				order = IntStream.range(0, this.size) //
+						.boxed() //
+						.sorted((a, b) -> Long.compare(this.timestamps[a], this.timestamps[b])) //
+						.mapToInt(Integer::intValue) //
+						.toArray();
+			}
+			final var timestamps = reorder(this.timestamps, this.size, order);
+
+			// Order of columns
+			final var channels = this.channels.stream().sorted().toList();
+			final var values = new double[channels.size()][];
+			for (var c = 0; c < values.length; c++) {
+				final var column = this.columns.get(this.channelIndexes.get(channels.get(c)));
+				values[c] = reorder(column, this.size, order);
+			}
+			return new ColumnarTimeseries(this.zone, timestamps, ImmutableList.copyOf(channels), values);
+		}
+
+		private static long[] reorder(long[] array, int size, int[] order) {
+			if (order == null) {
+				return Arrays.copyOf(array, size);
+			}
+			final var result = new long[size];
+			for (var i = 0; i < size; i++) {
+				result[i] = array[order[i]];
+			}
+			return result;
+		}
+
+		private static double[] reorder(double[] array, int size, int[] order) {
+			if (order == null) {
+				return Arrays.copyOf(array, size);
+			}
+			final var result = new double[size];
+			for (var i = 0; i < size; i++) {
+				result[i] = array[order[i]];
+			}
+			return result;
+		}
+
+		private int slot(long timestamp) {
+			final var mask = this.keys.length - 1;
+			var slot = Long.hashCode(timestamp * 0x9E3779B97F4A7C15L) & mask;
+			while (this.rows[slot] != 0 && this.keys[slot] != timestamp) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private void rehash() {
+			this.keys = new long[this.keys.length * 2];
+			this.rows = new int[this.rows.length * 2];
+			for (var row = 0; row < this.size; row++) {
+				final var slot = this.slot(this.timestamps[row]);
+				this.keys[slot] = this.timestamps[row];
+				this.rows[slot] = row + 1;
+			}
+		}
+
+		private static double[] grow(double[] array, int length) {
+			final var result = Arrays.copyOf(array, length);
+			Arrays.fill(result, array.length, length, Double.NaN);
+			return result;
+		}
+	}
+
+	/**
+	 * Gets the {@link ZoneId} of the timestamps.
+	 *
+	 * @return the {@link ZoneId}
+	 */
+	public ZoneId getZone() {
+		return this.zone;
+	}
+
+	/**
+	 * Gets the number of rows, i.e. timestamps.
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return this.timestamps.length;
+	}
+
+	/**
+	 * Gets the Channels, sorted.
+	 *
+	 * @return a list of {@link ChannelAddress}es
+	 */
+	public ImmutableList<ChannelAddress> getChannels() {
+		return this.channels;
+	}
+
+	/**
+	 * Gets the timestamp of a row.
+	 *
+	 * @param row the row index
+	 * @return the timestamp in epoch milliseconds
+	 */
+	public long getTimestamp(int row) {
+		return this.timestamps[row];
+	}
+
+	/**
+	 * Gets the timestamp of a row as {@link ZonedDateTime}.
+	 *
+	 * @param row the row index
+	 * @return the {@link ZonedDateTime}
+	 */
+	public ZonedDateTime getDateTime(int row) {
+		return ZonedDateTime.ofInstant(Instant.ofEpochMilli(this.timestamps[row]), this.zone);
+	}
+
+	/**
+	 * Gets a value.
+	 *
+	 * @param channel the {@link ChannelAddress}
+	 * @param row     the row index
+	 * @return the value; {@link Double#NaN} if there is no value or the Channel is
+	 *         not part of the result
+	 */
+	public double getValue(ChannelAddress channel, int row) {
+		final var column = this.channels.indexOf(channel);
+		if (column == -1) {
+			return Double.NaN;
+		}
+		return this.values[column][row];
+	}
+
+	/**
+	 * Gets a copy of the values of one Channel.
+	 *
+	 * @param channel the {@link ChannelAddress}
+	 * @return the values, one per row; {@link Double#NaN} for no value. Null if
+	 *         the Channel is not part of the result
+	 */
+	public double[] getValues(ChannelAddress channel) {
+		final var column = this.channels.indexOf(channel);
+		if (column == -1) {
+			return null;
+		}
+		return this.values[column].clone();
+	}
+
+	/**
+	 * Converts to the map form of
+	 * {@link CommonTimedataService#queryHistoricData(String, ZonedDateTime, ZonedDateTime, java.util.Set, Resolution)}.
+	 * Integral values are converted to integer JSON numbers.
+	 *
+	 * @return the map form
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> toJsonMap() {
+		final var result = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		for (var row = 0; row < this.timestamps.length; row++) {
+			final var values = new TreeMap<ChannelAddress, JsonElement>();
+			for (var c = 0; c < this.values.length; c++) {
+				values.put(this.channels.get(c), toJsonElement(this.values[c][row]));
+			}
+			result.put(this.getDateTime(row), values);
+		}
+		return result;
+	}
+
+	private static JsonElement toJsonElement(double value) {
+		if (Double.isNaN(value)) {
+			return JsonNull.INSTANCE;
+		}
+		if (value == Math.rint(value) && Math.abs(value) < MAX_EXACT_LONG) {
+			return new JsonPrimitive((long) value);
+		}
+		return new JsonPrimitive(value);
+	}
+
+}
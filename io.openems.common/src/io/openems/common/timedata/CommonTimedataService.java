@@ -116,6 +116,28 @@ public interface CommonTimedataService {
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException;
 
+	/**
+	 * Queries historic data in columnar form.
+	 *
+	 * <p>
+	 * Same as
+	 * {@link #queryHistoricData(String, ZonedDateTime, ZonedDateTime, Set, Resolution)},
+	 * but without a {@link JsonElement} per value. Implementations should
+	 * override this default, which is derived from the map form.
+	 *
+	 * @param edgeId     the Edge-ID; or null query all
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @return the query result as {@link ColumnarTimeseries}; possibly null
+	 */
+	public default ColumnarTimeseries queryHistoricDataColumnar(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution) throws OpenemsNamedException {
+		return ColumnarTimeseries.fromJsonMap(fromDate.getZone(),
+				this.queryHistoricData(edgeId, fromDate, toDate, channels, resolution));
+	}
+
 	/**
 	 * Queries historic energy.
 	 *
@@ -127,6 +127,29 @@ public abstract class AbstractWebsocket<T extends WsData> {
 		}
 	}
 
+	/**
+	 * Sends a binary message to the {@link WebSocket}. Returns true if sending was
+	 * successful, otherwise false.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 * @return true if sending was successful
+	 */
+	protected final boolean sendBinaryMessage(WebSocket ws, byte[] message) {
+		if (!ws.isOpen()) {
+			return false;
+		}
+
+		try {
+			ws.send(message);
+			return true;
+
+		} catch (WebsocketNotConnectedException e) {
+			// Fallback for race condition if Connection was closed inbetween
+			return false;
+		}
+	}
+
 	private void sendMessageFailedLog(WebSocket ws, JsonrpcMessage message) {
 		this.logWarn(this.log, new StringBuilder() //
 				.append("[").append(generateWsDataString(ws)) //
@@ -1,9 +1,11 @@
 package io.openems.common.websocket;
 
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
+import static io.openems.common.websocket.WebsocketUtils.generateWsDataString;
 
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -80,6 +82,16 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 						AbstractWebsocketServer.this::logWarn));
 			}
 
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer message) {
+				// Called in order of arrival; implementations may rely on it
+				try {
+					AbstractWebsocketServer.this.handleBinaryMessage(ws, message);
+				} catch (Throwable t) {
+					AbstractWebsocketServer.this.handleInternalError(t, generateWsDataString(ws));
+				}
+			}
+
 			@Override
 			public void onError(WebSocket ws, Exception ex) {
 				AbstractWebsocketServer.this.execute(new OnErrorHandler(//
@@ -174,6 +186,23 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		};
 	}
 
+	/**
+	 * Handles a binary message.
+	 *
+	 * <p>
+	 * Called synchronously on the thread of the connection, i.e. binary messages
+	 * of one connection are handled in the order of arrival. Implementations
+	 * should delegate expensive work via {@link #execute(Runnable)}. Binary
+	 * messages are not supported by default.
+	 *
+	 * @param ws      the {@link WebSocket}
+	 * @param message the binary message
+	 */
+	protected void handleBinaryMessage(WebSocket ws, ByteBuffer message) {
+		this.logWarn(this.log, "[" + generateWsDataString(ws) + "] Unhandled binary message of ["
+				+ message.remaining() + "] bytes");
+	}
+
 	public Collection<WebSocket> getConnections() {
 		return this.ws.getConnections();
 	}
@@ -58,6 +58,15 @@ public abstract class WsData {
 		return this.websocket;
 	}
 
+	/**
+	 * Gets whether the WebSocket is open.
+	 *
+	 * @return true if open; false if it is closed or not available
+	 */
+	public boolean isOpen() {
+		return this.websocket != null && this.websocket.isOpen();
+	}
+
 	/**
 	 * Sends a JSON-RPC request to a Websocket and registers a callback.
 	 *
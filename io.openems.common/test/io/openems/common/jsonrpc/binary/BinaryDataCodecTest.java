@@ -0,0 +1,151 @@
+package io.openems.common.jsonrpc.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.binary.BinaryDataFormat.Compression;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class BinaryDataCodecTest {
+
+	private static TimestampedDataNotification createTimestampedData() {
+		var result = new TimestampedDataNotification();
+		result.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(55));
+		result.add(1_700_000_000_000L, "_sum/GridActivePower", new JsonPrimitive(-1234L));
+		result.add(1_700_000_000_000L, "meter0/Frequency", new JsonPrimitive(49.98F));
+		result.add(1_700_000_000_000L, "meter0/Voltage", new JsonPrimitive(230.123456789D));
+		result.add(1_700_000_000_000L, "ess0/State", JsonNull.INSTANCE);
+		result.add(1_700_000_001_000L, "ess0/Name", new JsonPrimitive("ess0 ÄÖÜ"));
+		result.add(1_700_000_001_000L, "ess0/IsOn", new JsonPrimitive(true));
+		result.add(1_700_000_001_000L, "ess0/IsOff", new JsonPrimitive(false));
+		var array = new JsonArray();
+		array.add(1);
+		array.add("two");
+		result.add(1_700_000_001_000L, "ess0/Array", array);
+		return result;
+	}
+
+	private static AbstractDataNotification roundtrip(BinaryDataEncoder encoder, BinaryDataDecoder decoder,
+			AbstractDataNotification notification) throws OpenemsException {
+		return decoder.decode(ByteBuffer.wrap(encoder.encode(notification)));
+	}
+
+	@Test
+	public void testRoundtrip() throws OpenemsException {
+		var encoder = new BinaryDataEncoder(Compression.NONE);
+		var decoder = new BinaryDataDecoder();
+
+		var timestamped = createTimestampedData();
+		var result = roundtrip(encoder, decoder, timestamped);
+		assertTrue(result instanceof TimestampedDataNotification);
+		assertEquals(timestamped.getParams(), result.getParams());
+
+		var aggregated = new AggregatedDataNotification();
+		aggregated.add(1_700_000_300_000L, "_sum/EssSoc", new JsonPrimitive(56));
+		result = roundtrip(encoder, decoder, aggregated);
+		assertTrue(result instanceof AggregatedDataNotification);
+		assertEquals(aggregated.getParams(), result.getParams());
+
+		var resend = new ResendDataNotification(timestamped.getData());
+		result = roundtrip(encoder, decoder, resend);
+		assertTrue(result instanceof ResendDataNotification);
+		assertEquals(resend.getParams(), result.getParams());
+
+		encoder.close();
+		decoder.close();
+	}
+
+	@Test
+	public void testDictionary() throws OpenemsException {
+		var encoder = new BinaryDataEncoder(Compression.NONE);
+		var decoder = new BinaryDataDecoder();
+
+		var first = encoder.encode(createTimestampedData());
+		var second = encoder.encode(createTimestampedData());
+		assertTrue(second.length < first.length);
+
+		assertEquals(createTimestampedData().getParams(), decoder.decode(ByteBuffer.wrap(first)).getParams());
+		assertEquals(createTimestampedData().getParams(), decoder.decode(ByteBuffer.wrap(second)).getParams());
+	}
+
+	@Test
+	public void testDeflate() throws OpenemsException {
+		var encoder = new BinaryDataEncoder(Compression.DEFLATE);
+		var decoder = new BinaryDataDecoder();
+
+		// Small payloads are not compressed
+		var small = new TimestampedDataNotification();
+		small.add(1_700_000_000_000L, "_sum/EssSoc", new JsonPrimitive(55));
+		var frame = encoder.encode(small);
+		assertEquals(Compression.NONE.id, frame[2]);
+		assertEquals(small.getParams(), decoder.decode(ByteBuffer.wrap(frame)).getParams());
+
+		var large = new TimestampedDataNotification();
+		for (var i = 0; i < 200; i++) {
+			large.add(1_700_000_000_000L, "meter" + i + "/ActivePower", new JsonPrimitive(i * 10));
+		}
+		frame = encoder.encode(large);
+		assertEquals(Compression.DEFLATE.id, frame[2]);
+		assertEquals(large.getParams(), decoder.decode(ByteBuffer.wrap(frame)).getParams());
+		assertTrue(frame.length < large.toString().length() / 2);
+	}
+
+	@Test
+	public void testMalformed() {
+		var frame = new BinaryDataEncoder(Compression.NONE).encode(createTimestampedData());
+
+		// Truncated
+		assertThrowsOpenemsException(Arrays.copyOf(frame, frame.length - 3));
+
+		// Invalid magic byte
+		var invalid = frame.clone();
+		invalid[0] = 0;
+		assertThrowsOpenemsException(invalid);
+
+		// Unknown dictionary id
+		assertThrowsOpenemsException(new byte[] { BinaryDataFormat.MAGIC, BinaryDataFormat.VERSION, 0, //
+				BinaryDataFormat.TYPE_TIMESTAMPED_DATA, 1 /* rows */, 0 /* timestamp */, 1 /* entries */, //
+				5 /* id */, BinaryDataFormat.TAG_NULL });
+	}
+
+	@Test
+	public void testDecompressionBomb() {
+		var deflater = new Deflater();
+		deflater.setInput(new byte[BinaryDataDecoder.MAX_INFLATED_LENGTH + 1]);
+		deflater.finish();
+		var compressed = new byte[64 * 1024];
+		var length = deflater.deflate(compressed);
+		deflater.end();
+
+		var frame = new byte[3 + length];
+		frame[0] = BinaryDataFormat.MAGIC;
+		frame[1] = BinaryDataFormat.VERSION;
+		frame[2] = Compression.DEFLATE.id;
+		System.arraycopy(compressed, 0, frame, 3, length);
+		assertThrowsOpenemsException(frame);
+	}
+
+	private static void assertThrowsOpenemsException(byte[] frame) {
+		try {
+			new BinaryDataDecoder().decode(ByteBuffer.wrap(frame));
+		} catch (OpenemsException e) {
+			return;
+		}
+		throw new AssertionError("Expected OpenemsException");
+	}
+
+}
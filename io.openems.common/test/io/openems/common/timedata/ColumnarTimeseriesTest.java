@@ -0,0 +1,95 @@
+package io.openems.common.timedata;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+public class ColumnarTimeseriesTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	private static final ZonedDateTime TIME = ZonedDateTime.of(2024, 3, 1, 0, 0, 0, 0, ZONE);
+	private static final long MILLIS = TIME.toInstant().toEpochMilli();
+	private static final long QUARTER = 15 * 60 * 1000;
+	private static final ChannelAddress SUM_GRID = new ChannelAddress("_sum", "GridActivePower");
+	private static final ChannelAddress SUM_PRODUCTION = new ChannelAddress("_sum", "ProductionActivePower");
+
+	@Test
+	public void testOfEquidistant() {
+		final var sut = ColumnarTimeseries.ofEquidistant(ZONE, MILLIS, QUARTER, Map.of(//
+				SUM_PRODUCTION, new double[] { 1, 2 }, //
+				SUM_GRID, new double[] { 3, Double.NaN, 5.5 }));
+
+		assertEquals(3, sut.size());
+		assertEquals(SUM_GRID, sut.getChannels().get(0));
+		assertEquals(TIME.plusMinutes(30), sut.getDateTime(2));
+		assertArrayEquals(new double[] { 1, 2, Double.NaN }, sut.getValues(SUM_PRODUCTION), 0);
+		assertNull(sut.getValues(new ChannelAddress("_sum", "EssSoc")));
+
+		final var map = sut.toJsonMap();
+		assertEquals(3, map.size());
+		assertEquals(new JsonPrimitive(3L), map.get(TIME).get(SUM_GRID));
+		assertEquals(JsonNull.INSTANCE, map.get(TIME.plusMinutes(15)).get(SUM_GRID));
+		assertEquals(new JsonPrimitive(5.5), map.get(TIME.plusMinutes(30)).get(SUM_GRID));
+	}
+
+	@Test
+	public void testBuilder() {
+		final var builder = ColumnarTimeseries.builder(ZONE);
+		// Unsorted timestamps; more than the initial capacity
+		for (var i = 199; i >= 0; i--) {
+			builder.put(MILLIS + i * QUARTER, SUM_PRODUCTION, i);
+		}
+		builder.put(MILLIS + 10 * QUARTER, SUM_GRID, 100);
+		builder.merge(MILLIS + 10 * QUARTER, SUM_GRID, 200, (a, b) -> (a + b) / 2);
+		builder.merge(MILLIS + 11 * QUARTER, SUM_GRID, 300, (a, b) -> (a + b) / 2);
+		final var sut = builder.build();
+
+		assertEquals(200, sut.size());
+		for (var i = 0; i < 200; i++) {
+			assertEquals(MILLIS + i * QUARTER, sut.getTimestamp(i));
+			assertEquals(i, sut.getValue(SUM_PRODUCTION, i), 0);
+		}
+		assertEquals(150, sut.getValue(SUM_GRID, 10), 0);
+		assertEquals(300, sut.getValue(SUM_GRID, 11), 0);
+		assertTrue(Double.isNaN(sut.getValue(SUM_GRID, 12)));
+	}
+
+	@Test
+	public void testFromJsonMap() {
+		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> map = new TreeMap<>();
+		for (var i = 0; i < 4; i++) {
+			final SortedMap<ChannelAddress, JsonElement> row = new TreeMap<>();
+			row.put(SUM_GRID, i == 2 ? JsonNull.INSTANCE : new JsonPrimitive(i * 10));
+			row.put(SUM_PRODUCTION, new JsonPrimitive("foo"));
+			map.put(TIME.plusMinutes(15 * i), row);
+		}
+
+		final var sut = ColumnarTimeseries.fromJsonMap(ZONE, map);
+		assertEquals(4, sut.size());
+		assertArrayEquals(new double[] { 0, 10, Double.NaN, 30 }, sut.getValues(SUM_GRID), 0);
+		assertTrue(Double.isNaN(sut.getValue(SUM_PRODUCTION, 0)));
+
+		final var back = sut.toJsonMap();
+		assertEquals(map.keySet(), back.keySet());
+		assertEquals(map.get(TIME.plusMinutes(15)).get(SUM_GRID), back.get(TIME.plusMinutes(15)).get(SUM_GRID));
+
+		assertNull(ColumnarTimeseries.fromJsonMap(ZONE, null));
+		assertEquals(0, ColumnarTimeseries.fromJsonMap(ZONE, new TreeMap<>()).size());
+	}
+
+}
@@ -6,8 +6,6 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
-import org.osgi.service.event.EventHandler;
-import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 
 import com.ghgande.j2mod.modbus.Modbus;
@@ -27,7 +25,8 @@ import io.openems.edge.bridge.modbus.api.BridgeModbusSerial;
 import io.openems.edge.bridge.modbus.api.Parity;
 import io.openems.edge.bridge.modbus.api.Stopbit;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.cycle.CycleEventHandler;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/RTU
@@ -39,12 +38,9 @@ import io.openems.edge.common.event.EdgeEventConstants;
 		immediate = true, //
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
-@EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
-		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
-})
 public class BridgeModbusSerialImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, EventHandler {
+		implements BridgeModbus, BridgeModbusSerial, OpenemsComponent, CycleEventHandler,
+		ComponentJsonApi {
 
 	/** The configured Port-Name (e.g. '/dev/ttyUSB0' or 'COM3'). */
 	private String portName = "";
@@ -87,14 +83,14 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigSerial config) {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.readTasksMaxGap());
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigSerial config) {
 		super.modified(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.readTasksMaxGap());
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
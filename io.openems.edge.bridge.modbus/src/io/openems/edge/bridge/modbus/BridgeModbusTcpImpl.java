@@ -9,8 +9,6 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
-import org.osgi.service.event.EventHandler;
-import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 
 import com.ghgande.j2mod.modbus.io.ModbusTCPTransaction;
@@ -22,8 +20,11 @@ import io.openems.common.utils.InetAddressUtils;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
+import io.openems.edge.bridge.modbus.tcp.ModbusTcpConnectionPool;
+import io.openems.edge.bridge.modbus.tcp.PipelinedModbusTcpTransaction;
 import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.cycle.CycleEventHandler;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
 
 /**
  * Provides a service for connecting to, querying and writing to a Modbus/TCP
@@ -35,16 +36,18 @@ import io.openems.edge.common.event.EdgeEventConstants;
 		immediate = true, //
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
-@EventTopics({ //
-		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
-		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
-})
 public class BridgeModbusTcpImpl extends AbstractModbusBridge
-		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, EventHandler {
+		implements BridgeModbus, BridgeModbusTcp, OpenemsComponent, CycleEventHandler,
+		ComponentJsonApi {
 
 	/** The configured IP address. */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int connections = 1;
+	private int pipelineDepth = 1;
+
+	/** Used instead of the j2mod connection if 'connections' or 'pipelineDepth' > 1. */
+	private ModbusTcpConnectionPool pool = null;
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -57,14 +60,14 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	@Activate
 	private void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.readTasksMaxGap());
 		this.applyConfig(config);
 	}
 
 	@Modified
 	private void modified(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.modified(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.readTasksMaxGap());
 		this.applyConfig(config);
 		this.closeModbusConnection();
 	}
@@ -72,12 +75,17 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	private void applyConfig(ConfigTcp config) {
 		this.setIpAddress(InetAddressUtils.parseOrNull(config.ip()));
 		this.port = config.port();
+		this.connections = Math.max(1, config.connections());
+		this.pipelineDepth = Math.max(1, config.pipelineDepth());
+		this.closePool();
+		this.worker.setMaxConcurrentReads(this.connections * this.pipelineDepth);
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.closePool();
 	}
 
 	@Override
@@ -86,16 +94,45 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 			this._connection.close();
 			this._connection = null;
 		}
+		synchronized (this) {
+			if (this.pool != null) {
+				// Connections are reopened on the next request
+				this.pool.close();
+			}
+		}
 	}
 
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
+		if (this.connections > 1 || this.pipelineDepth > 1) {
+			var transaction = new PipelinedModbusTcpTransaction(this.getPool());
+			transaction.setRetries(AbstractModbusBridge.DEFAULT_RETRIES);
+			return transaction;
+		}
 		var connection = this.getModbusConnection();
 		var transaction = new ModbusTCPTransaction(connection);
 		transaction.setRetries(AbstractModbusBridge.DEFAULT_RETRIES);
 		return transaction;
 	}
 
+	private synchronized ModbusTcpConnectionPool getPool() throws OpenemsException {
+		if (this.pool == null) {
+			if (this.getIpAddress() == null) {
+				throw new OpenemsException("IP-Address is not configured");
+			}
+			this.pool = new ModbusTcpConnectionPool(this.getIpAddress(), this.port, this.connections,
+					this.pipelineDepth, AbstractModbusBridge.DEFAULT_TIMEOUT);
+		}
+		return this.pool;
+	}
+
+	private synchronized void closePool() {
+		if (this.pool != null) {
+			this.pool.close();
+			this.pool = null;
+		}
+	}
+
 	private TCPMasterConnection _connection = null;
 
 	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
@@ -51,5 +51,8 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Merge read tasks up to a gap of how many registers?", description = "Neighbouring read tasks of the same device are read in one request if they are separated by at most this many registers. Reduces the number of round trips, especially on slow serial lines. Gaps the device rejects are split again automatically. Set to '-1' to disable.", min = "-1")
+	int readTasksMaxGap() default -1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
@@ -33,5 +33,14 @@ import io.openems.edge.bridge.modbus.api.LogVerbosity;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Merge read tasks up to a gap of how many registers?", description = "Neighbouring read tasks of the same device are read in one request if they are separated by at most this many registers. Reduces the number of round trips, especially on slow serial lines. Gaps the device rejects are split again automatically. Set to '-1' to disable.", min = "-1")
+	int readTasksMaxGap() default -1;
+
+	@AttributeDefinition(name = "Number of connections", description = "Number of TCP connections to the device or gateway. Values > 1 allow to read from multiple devices behind one gateway concurrently.", min = "1")
+	int connections() default 1;
+
+	@AttributeDefinition(name = "Pipeline depth", description = "Maximum number of requests that are in flight on one connection at the same time. Responses are matched by Modbus transaction identifier. Only increase if the device or gateway supports it.", min = "1")
+	int pipelineDepth() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/TCP [{id}]";
 }
\ No newline at end of file
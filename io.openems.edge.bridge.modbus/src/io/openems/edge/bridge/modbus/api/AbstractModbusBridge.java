@@ -1,23 +1,28 @@
 package io.openems.edge.bridge.modbus.api;
 
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.osgi.service.component.ComponentContext;
-import org.osgi.service.event.Event;
-import org.osgi.service.event.EventHandler;
 
 import com.ghgande.j2mod.modbus.io.ModbusTransaction;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.worker.ModbusWorker;
+import io.openems.edge.bridge.modbus.jsonrpc.GetModbusStatisticsRequest;
+import io.openems.edge.bridge.modbus.jsonrpc.GetModbusStatisticsResponse;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
-import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.cycle.CycleEventHandler;
+import io.openems.edge.common.cycle.CyclePhase;
+import io.openems.edge.common.jsonapi.ComponentJsonApi;
+import io.openems.edge.common.jsonapi.JsonApiBuilder;
 
 /**
  * Abstract service for connecting to, querying and writing to a Modbus device.
  */
-public abstract class AbstractModbusBridge extends AbstractOpenemsComponent implements BridgeModbus, EventHandler {
+public abstract class AbstractModbusBridge extends AbstractOpenemsComponent
+		implements BridgeModbus, CycleEventHandler, ComponentJsonApi {
 
 	/**
 	 * Default Modbus timeout in [ms].
@@ -38,6 +43,8 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	private final AtomicReference<LogVerbosity> logVerbosity = new AtomicReference<>(LogVerbosity.NONE);
 	private int invalidateElementsAfterReadErrors = 1;
 
+	protected final ModbusStatistics statistics = new ModbusStatistics();
+
 	protected final ModbusWorker worker = new ModbusWorker(
 			// Execute Task
 			task -> task.execute(this),
@@ -64,8 +71,13 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
 			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+		this.activate(context, id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, -1);
+	}
+
+	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int readTasksMaxGap) {
 		super.activate(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, readTasksMaxGap);
 		if (enabled) {
 			this.worker.activate(id);
 		}
@@ -86,8 +98,13 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	protected void modified(ComponentContext context, String id, String alias, boolean enabled,
 			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+		this.modified(context, id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, -1);
+	}
+
+	protected void modified(ComponentContext context, String id, String alias, boolean enabled,
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int readTasksMaxGap) {
 		super.modified(context, id, alias, enabled);
-		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors);
+		this.applyConfig(logVerbosity, invalidateElementsAfterReadErrors, readTasksMaxGap);
 		if (enabled) {
 			this.worker.modified(id);
 		} else {
@@ -95,9 +112,11 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 	}
 
-	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+	private void applyConfig(LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors,
+			int readTasksMaxGap) {
 		this.logVerbosity.set(logVerbosity);
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.worker.setReadTasksMaxGap(readTasksMaxGap);
 	}
 
 	/**
@@ -120,23 +139,54 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 	@Override
 	public void removeProtocol(String sourceId) {
 		this.worker.removeProtocol(sourceId);
+		this.statistics.removeComponent(sourceId);
+	}
+
+	private static final Set<CyclePhase> CYCLE_PHASES = Set.of(CyclePhase.BEFORE_PROCESS_IMAGE,
+			CyclePhase.EXECUTE_WRITE);
+
+	@Override
+	public Set<CyclePhase> getCyclePhases() {
+		return CYCLE_PHASES;
 	}
 
 	@Override
-	public void handleEvent(Event event) {
+	public void handleCycleEvent(CyclePhase phase) {
 		if (!this.isEnabled()) {
 			return;
 		}
-		switch (event.getTopic()) {
-		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
+		switch (phase) {
+		case BEFORE_PROCESS_IMAGE:
 			this.worker.onBeforeProcessImage();
+			this.updateStatisticsChannels();
 			break;
-		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
+		case EXECUTE_WRITE:
 			this.worker.onExecuteWrite();
 			break;
+		default:
+			break;
 		}
 	}
 
+	/**
+	 * Publishes the summary of the {@link ModbusStatistics} since the last Cycle
+	 * to the Channels.
+	 */
+	private void updateStatisticsChannels() {
+		var summary = this.statistics.pollSummary();
+		this._setRequestDurationAvg(summary.avgDuration());
+		this._setRequestDurationMax(summary.maxDuration());
+		this._setRequestErrors(summary.errors());
+		this._setRequestTimeouts(summary.timeouts());
+		this._setBytesTransferred(summary.bytes());
+	}
+
+	@Override
+	public void buildJsonApiRoutes(JsonApiBuilder builder) {
+		builder.handleRequest(GetModbusStatisticsRequest.METHOD, call -> //
+		new GetModbusStatisticsResponse(call.getRequest().getId(), this.statistics.toJson()));
+	}
+
 	@Override
 	public String debugLog() {
 		return switch (this.logVerbosity.get()) {
@@ -180,6 +230,15 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		return this.invalidateElementsAfterReadErrors;
 	}
 
+	/**
+	 * Gets the {@link ModbusStatistics} of this Bridge.
+	 *
+	 * @return the {@link ModbusStatistics}
+	 */
+	public ModbusStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	@Override
 	public void retryModbusCommunication(String sourceId) {
 		this.worker.retryModbusCommunication(sourceId);
@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -23,7 +24,30 @@ public interface BridgeModbus extends OpenemsComponent {
 		 * can be reduced by this amount, without causing CYCLE_TIME_IS_TOO_SHORT.
 		 */
 		CYCLE_DELAY(Doc.of(OpenemsType.LONG) //
-				.unit(Unit.MILLISECONDS)); //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Average duration of the Modbus requests in the last Cycle.
+		 */
+		REQUEST_DURATION_AVG(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum duration of the Modbus requests in the last Cycle.
+		 */
+		REQUEST_DURATION_MAX(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Number of failed Modbus requests in the last Cycle, including timeouts.
+		 */
+		REQUEST_ERRORS(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Number of timed out Modbus requests in the last Cycle.
+		 */
+		REQUEST_TIMEOUTS(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Number of bytes transferred in the last Cycle; Unit-ID, function code and
+		 * data of requests and responses.
+		 */
+		BYTES_TRANSFERRED(Doc.of(OpenemsType.LONG)); //
 
 		private final Doc doc;
 
@@ -94,6 +118,148 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getCycleDelayChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_DURATION_AVG}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestDurationAvgChannel() {
+		return this.channel(ChannelId.REQUEST_DURATION_AVG);
+	}
+
+	/**
+	 * Gets the average Request Duration in [ms], see
+	 * {@link ChannelId#REQUEST_DURATION_AVG}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestDurationAvg() {
+		return this.getRequestDurationAvgChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_DURATION_AVG} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestDurationAvg(long value) {
+		this.getRequestDurationAvgChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_DURATION_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getRequestDurationMaxChannel() {
+		return this.channel(ChannelId.REQUEST_DURATION_MAX);
+	}
+
+	/**
+	 * Gets the maximum Request Duration in [ms], see
+	 * {@link ChannelId#REQUEST_DURATION_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getRequestDurationMax() {
+		return this.getRequestDurationMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_DURATION_MAX} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestDurationMax(long value) {
+		this.getRequestDurationMaxChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_ERRORS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getRequestErrorsChannel() {
+		return this.channel(ChannelId.REQUEST_ERRORS);
+	}
+
+	/**
+	 * Gets the number of Request Errors, see {@link ChannelId#REQUEST_ERRORS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getRequestErrors() {
+		return this.getRequestErrorsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_ERRORS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestErrors(int value) {
+		this.getRequestErrorsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_TIMEOUTS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getRequestTimeoutsChannel() {
+		return this.channel(ChannelId.REQUEST_TIMEOUTS);
+	}
+
+	/**
+	 * Gets the number of Request Timeouts, see {@link ChannelId#REQUEST_TIMEOUTS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getRequestTimeouts() {
+		return this.getRequestTimeoutsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_TIMEOUTS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestTimeouts(int value) {
+		this.getRequestTimeoutsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#BYTES_TRANSFERRED}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getBytesTransferredChannel() {
+		return this.channel(ChannelId.BYTES_TRANSFERRED);
+	}
+
+	/**
+	 * Gets the number of Bytes Transferred, see {@link ChannelId#BYTES_TRANSFERRED}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getBytesTransferred() {
+		return this.getBytesTransferredChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#BYTES_TRANSFERRED} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setBytesTransferred(long value) {
+		this.getBytesTransferredChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
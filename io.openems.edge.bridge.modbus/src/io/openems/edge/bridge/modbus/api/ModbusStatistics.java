@@ -0,0 +1,223 @@
+package io.openems.edge.bridge.modbus.api;
+
+import java.net.SocketTimeoutException;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Collects statistics about the Modbus requests of one Bridge: per task a
+ * latency histogram, number of requests, errors, timeouts and transferred
+ * bytes; and a summary per Cycle that is published to the Channels of the
+ * Bridge.
+ */
+public class ModbusStatistics {
+
+	/**
+	 * Inclusive upper bounds of the latency histogram buckets in [ms]. The last
+	 * bucket collects all slower requests.
+	 */
+	public static final int[] BUCKETS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000 };
+
+	/**
+	 * Identifies a task.
+	 *
+	 * @param componentId  the Component-ID
+	 * @param task         the name of the task, i.e. the function code
+	 * @param unitId       the Modbus Unit-ID
+	 * @param startAddress the start address
+	 * @param length       the length
+	 */
+	public static record TaskKey(String componentId, String task, int unitId, int startAddress, int length) {
+	}
+
+	/**
+	 * A summary of all requests since the last call to
+	 * {@link ModbusStatistics#pollSummary()}.
+	 *
+	 * @param requests    number of requests
+	 * @param avgDuration average duration in [ms]
+	 * @param maxDuration maximum duration in [ms]
+	 * @param errors      number of failed requests, including timeouts
+	 * @param timeouts    number of timed out requests
+	 * @param bytes       number of transferred bytes
+	 */
+	public static record Summary(int requests, long avgDuration, long maxDuration, int errors, int timeouts,
+			long bytes) {
+	}
+
+	private static class TaskStatistics {
+
+		private final long[] histogram = new long[BUCKETS.length + 1];
+		private long requests = 0;
+		private long errors = 0;
+		private long timeouts = 0;
+		private long bytes = 0;
+		private long totalNanos = 0;
+		private long maxNanos = 0;
+
+		private synchronized void add(long nanos, boolean isError, boolean isTimeout, int bytes) {
+			this.histogram[toBucket(nanos)]++;
+			this.requests++;
+			if (isError) {
+				this.errors++;
+			}
+			if (isTimeout) {
+				this.timeouts++;
+			}
+			this.bytes += bytes;
+			this.totalNanos += nanos;
+			this.maxNanos = Math.max(this.maxNanos, nanos);
+		}
+
+		private synchronized JsonObject toJson(TaskKey key) {
+			var histogram = new JsonArray();
+			for (var i = 0; i < this.histogram.length; i++) {
+				histogram.add(JsonUtils.buildJsonObject() //
+						.addProperty("le", i < BUCKETS.length ? String.valueOf(BUCKETS[i]) : "+Inf") //
+						.addProperty("count", this.histogram[i]) //
+						.build());
+			}
+			return JsonUtils.buildJsonObject() //
+					.addProperty("componentId", key.componentId()) //
+					.addProperty("task", key.task()) //
+					.addProperty("unitId", key.unitId()) //
+					.addProperty("startAddress", key.startAddress()) //
+					.addProperty("length", key.length()) //
+					.addProperty("requests", this.requests) //
+					.addProperty("errors", this.errors) //
+					.addProperty("timeouts", this.timeouts) //
+					.addProperty("bytes", this.bytes) //
+					.addProperty("avgDuration", this.requests == 0 ? 0 : toMillis(this.totalNanos / this.requests)) //
+					.addProperty("maxDuration", toMillis(this.maxNanos)) //
+					.add("histogram", histogram) //
+					.build();
+		}
+	}
+
+	private final Map<TaskKey, TaskStatistics> tasks = new ConcurrentHashMap<>();
+
+	/* Summary since last pollSummary(); guarded by 'this' */
+	private int cycleRequests = 0;
+	private long cycleTotalNanos = 0;
+	private long cycleMaxNanos = 0;
+	private int cycleErrors = 0;
+	private int cycleTimeouts = 0;
+	private long cycleBytes = 0;
+
+	/**
+	 * Adds a request.
+	 *
+	 * @param key   the {@link TaskKey}
+	 * @param nanos the duration in [ns]
+	 * @param error the Exception if the request failed; null otherwise
+	 * @param bytes the number of transferred bytes
+	 */
+	public void add(TaskKey key, long nanos, Exception error, int bytes) {
+		final var isError = error != null;
+		final var isTimeout = isError && isTimeout(error);
+		this.tasks.computeIfAbsent(key, k -> new TaskStatistics()).add(nanos, isError, isTimeout, bytes);
+		synchronized (this) {
+			this.cycleRequests++;
+			this.cycleTotalNanos += nanos;
+			this.cycleMaxNanos = Math.max(this.cycleMaxNanos, nanos);
+			if (isError) {
+				this.cycleErrors++;
+			}
+			if (isTimeout) {
+				this.cycleTimeouts++;
+			}
+			this.cycleBytes += bytes;
+		}
+	}
+
+	/**
+	 * Gets the {@link Summary} since the last call and resets it.
+	 *
+	 * @return the {@link Summary}
+	 */
+	public synchronized Summary pollSummary() {
+		var result = new Summary(this.cycleRequests, //
+				this.cycleRequests == 0 ? 0 : toMillis(this.cycleTotalNanos / this.cycleRequests), //
+				toMillis(this.cycleMaxNanos), //
+				this.cycleErrors, this.cycleTimeouts, this.cycleBytes);
+		this.cycleRequests = 0;
+		this.cycleTotalNanos = 0;
+		this.cycleMaxNanos = 0;
+		this.cycleErrors = 0;
+		this.cycleTimeouts = 0;
+		this.cycleBytes = 0;
+		return result;
+	}
+
+	/**
+	 * Removes the statistics of a Component.
+	 *
+	 * @param componentId the Component-ID
+	 */
+	public void removeComponent(String componentId) {
+		this.tasks.keySet().removeIf(k -> componentId.equals(k.componentId()));
+	}
+
+	/**
+	 * Removes all statistics.
+	 */
+	public void clear() {
+		this.tasks.clear();
+		this.pollSummary();
+	}
+
+	/**
+	 * Gets the per-task statistics as JSON, sorted by Component-ID and start
+	 * address.
+	 *
+	 * @return a {@link JsonArray}
+	 */
+	public JsonArray toJson() {
+		var result = new JsonArray();
+		this.tasks.entrySet().stream() //
+				.sorted(Map.Entry.comparingByKey(Comparator //
+						.comparing(TaskKey::componentId) //
+						.thenComparing(TaskKey::task) //
+						.thenComparingInt(TaskKey::startAddress))) //
+				.forEach(e -> result.add(e.getValue().toJson(e.getKey())));
+		return result;
+	}
+
+	private static int toBucket(long nanos) {
+		for (var i = 0; i < BUCKETS.length; i++) {
+			if (nanos <= BUCKETS[i] * 1_000_000L) {
+				return i;
+			}
+		}
+		return BUCKETS.length;
+	}
+
+	private static long toMillis(long nanos) {
+		return (nanos + 500_000L) / 1_000_000L;
+	}
+
+	/**
+	 * Is the given Exception caused by a timeout, i.e. is a
+	 * {@link SocketTimeoutException} or {@link TimeoutException} in its causal
+	 * chain?.
+	 *
+	 * @param e the Exception
+	 * @return true for timeout
+	 */
+	protected static boolean isTimeout(Throwable e) {
+		for (var t = e; t != null; t = t.getCause()) {
+			if (t instanceof SocketTimeoutException || t instanceof TimeoutException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -8,6 +8,7 @@ import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.ghgande.j2mod.modbus.procimg.Register;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.element.ModbusRegisterElement;
 import io.openems.edge.common.taskmanager.Priority;
@@ -34,4 +35,39 @@ public abstract class AbstractReadRegistersTask<//
 	protected final int calculateNextPosition(ModbusElement modbusElement, int position) {
 		return position + modbusElement.length;
 	}
+
+	@Override
+	protected final REQUEST createModbusRequest() {
+		return this.createModbusRequest(this.startAddress, this.length);
+	}
+
+	/**
+	 * Factory for a {@link ModbusRequest} for the given register range.
+	 *
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return a new {@link ModbusRequest}
+	 */
+	protected abstract REQUEST createModbusRequest(int startAddress, int length);
+
+	/**
+	 * Reads a register range that covers this task - and possibly other tasks of
+	 * the same Component with the same function code - in one request.
+	 *
+	 * <p>
+	 * Use {@link #applyResult(Register[], int)} and
+	 * {@link #applyError(AbstractModbusBridge, Exception)} to apply the outcome to
+	 * the covered tasks.
+	 *
+	 * @param bridge       the Modbus-Bridge
+	 * @param startAddress the start address
+	 * @param length       the number of registers
+	 * @return the registers
+	 * @throws Exception on error
+	 */
+	public final Register[] readRegisters(AbstractModbusBridge bridge, int startAddress, int length)
+			throws Exception {
+		return this.parseResponse(
+				this.executeRequest(bridge, this.createModbusRequest(startAddress, length), startAddress, length));
+	}
 }
\ No newline at end of file
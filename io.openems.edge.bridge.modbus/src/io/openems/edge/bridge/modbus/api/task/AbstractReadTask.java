@@ -48,14 +48,7 @@ public abstract class AbstractReadTask<//
 			// On error a log message has already been logged
 
 			try {
-				var result = this.parseResponse(response);
-				validateResponse(result, this.length);
-
-				// NOTE: onExecute has to be called before filling elements; but OK could be
-				// wrong if fillElements throws an exception.
-				this.onExecute.accept(ExecuteState.OK);
-				this.fillElements(result);
-
+				this.applyResult(this.parseResponse(response), 0);
 				return ExecuteState.OK;
 
 			} catch (OpenemsException e1) {
@@ -64,15 +57,49 @@ public abstract class AbstractReadTask<//
 			}
 
 		} catch (Exception e) {
-			var executeState = new ExecuteState.Error(e);
-			this.onExecute.accept(executeState);
-
-			// Invalidate Elements
-			Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
-			return executeState;
+			return this.applyError(bridge, e);
 		}
 	}
 
+	/**
+	 * Applies a successful result to this task, i.e. calls the onExecute callback
+	 * and fills the {@link ModbusElement}s.
+	 *
+	 * <p>
+	 * The result might have been read by a merged request that covers more than
+	 * this task; the offset is the position of this task's start address within
+	 * the result.
+	 *
+	 * @param result the parsed response values
+	 * @param offset the offset of this task within the result
+	 * @throws OpenemsException on error
+	 */
+	public final void applyResult(T[] result, int offset) throws OpenemsException {
+		validateResponse(result, offset + this.length);
+
+		// NOTE: onExecute has to be called before filling elements; but OK could be
+		// wrong if fillElements throws an exception.
+		this.onExecute.accept(ExecuteState.OK);
+		this.fillElements(result, offset);
+	}
+
+	/**
+	 * Applies an error to this task, i.e. calls the onExecute callback and
+	 * invalidates the {@link ModbusElement}s.
+	 *
+	 * @param bridge the Modbus-Bridge
+	 * @param e      the Exception
+	 * @return the {@link ExecuteState}
+	 */
+	public final ExecuteState applyError(AbstractModbusBridge bridge, Exception e) {
+		var executeState = new ExecuteState.Error(e);
+		this.onExecute.accept(executeState);
+
+		// Invalidate Elements
+		Stream.of(this.elements).forEach(el -> el.invalidate(bridge));
+		return executeState;
+	}
+
 	/**
 	 * Verify length of response array.
 	 * 
@@ -92,13 +119,14 @@ public abstract class AbstractReadTask<//
 	 * Fills {@link ModbusElement}s with values from response.
 	 * 
 	 * @param response the response values
+	 * @param offset   the offset of this task within the response values
 	 * @throws OpenemsException on error
 	 */
-	private void fillElements(T[] response) throws OpenemsException {
+	private void fillElements(T[] response, int offset) throws OpenemsException {
 		var errors = new ArrayList<String>();
 
-		this.fillElements(FillElementsPriority.HIGH, errors, response);
-		this.fillElements(FillElementsPriority.DEFAULT, errors, response);
+		this.fillElements(FillElementsPriority.HIGH, errors, response, offset);
+		this.fillElements(FillElementsPriority.DEFAULT, errors, response, offset);
 
 		if (!errors.isEmpty()) {
 			throw new OpenemsException(String.join(", ", errors));
@@ -106,8 +134,8 @@ public abstract class AbstractReadTask<//
 	}
 
 	@SuppressWarnings("unchecked")
-	private void fillElements(FillElementsPriority priority, List<String> errors, T[] response) {
-		var position = 0;
+	private void fillElements(FillElementsPriority priority, List<String> errors, T[] response, int offset) {
+		var position = offset;
 
 		for (var element : this.elements) {
 			// Filter for FillElementsPriority
@@ -10,6 +10,7 @@ import org.slf4j.LoggerFactory;
 
 import com.ghgande.j2mod.modbus.Modbus;
 import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusMessage;
 import com.ghgande.j2mod.modbus.msg.ModbusRequest;
 import com.ghgande.j2mod.modbus.msg.ModbusResponse;
 import com.google.common.base.Stopwatch;
@@ -20,6 +21,7 @@ import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
+import io.openems.edge.bridge.modbus.api.ModbusStatistics;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 
 /**
@@ -113,18 +115,40 @@ public abstract non-sealed class AbstractTask<//
 	 * @throws OpenemsException on error
 	 */
 	protected RESPONSE executeRequest(AbstractModbusBridge bridge, REQUEST request) throws Exception {
+		return this.executeRequest(bridge, request, this.startAddress, this.length);
+	}
+
+	/**
+	 * Actually executes a {@link ModbusRequest} and returns its
+	 * {@link ModbusResponse}.
+	 * 
+	 * <p>
+	 * StartAddress and length need to be provided explicitly if the request does
+	 * not cover exactly the range of this task; they are used for the
+	 * {@link ModbusStatistics}.
+	 * 
+	 * @param bridge       the {@link AbstractModbusBridge}
+	 * @param request      the typed {@link ModbusRequest}
+	 * @param startAddress the start address of the request
+	 * @param length       the length of the request
+	 * @return the typed {@link ModbusResponse}
+	 * @throws OpenemsException on error
+	 */
+	protected RESPONSE executeRequest(AbstractModbusBridge bridge, REQUEST request, int startAddress, int length)
+			throws Exception {
 		var unitId = this.getParent().getUnitId();
 		var logVerbosity = this.getLogVerbosity(bridge);
+		var key = new ModbusStatistics.TaskKey(this.parent.id(), this.name, unitId, startAddress, length);
 		try {
 			// First try
 			return this.logRequest(TryExecute.FIRST_TRY, bridge, logVerbosity, request,
-					() -> sendRequest(bridge, unitId, this.responseClazz, request));
+					() -> sendRequest(bridge, key, this.responseClazz, request));
 
 		} catch (Exception e) {
 			// Second try; with new connection
 			bridge.closeModbusConnection();
 			return this.logRequest(TryExecute.SECOND_TRY, bridge, logVerbosity, request,
-					() -> sendRequest(bridge, unitId, this.responseClazz, request));
+					() -> sendRequest(bridge, key, this.responseClazz, request));
 		}
 	}
 
@@ -354,22 +378,37 @@ public abstract non-sealed class AbstractTask<//
 	/**
 	 * Sends a {@link ModbusRequest} and returns the {@link ModbusResponse}.
 	 * 
+	 * <p>
+	 * Duration, outcome and transferred bytes are recorded in the
+	 * {@link ModbusStatistics} of the Bridge.
+	 * 
 	 * @param <RESPONSE> the type of the response
 	 * @param bridge     the {@link AbstractModbusBridge}
-	 * @param unitId     the Modbus Unit-ID
+	 * @param key        the {@link ModbusStatistics.TaskKey}; provides the Modbus
+	 *                   Unit-ID
 	 * @param clazz      the class of the response
 	 * @param request    the {@link ModbusRequest}
 	 * @return the {@link ModbusResponse}
 	 * @throws Exception on error
 	 */
-	private static <RESPONSE extends ModbusResponse> RESPONSE sendRequest(AbstractModbusBridge bridge, int unitId,
-			Class<RESPONSE> clazz, ModbusRequest request) throws Exception {
-		request.setUnitID(unitId);
-		var transaction = bridge.getNewModbusTransaction();
-		transaction.setRequest(request);
-		transaction.execute();
-
-		var response = transaction.getResponse();
+	private static <RESPONSE extends ModbusResponse> RESPONSE sendRequest(AbstractModbusBridge bridge,
+			ModbusStatistics.TaskKey key, Class<RESPONSE> clazz, ModbusRequest request) throws Exception {
+		request.setUnitID(key.unitId());
+		final var start = System.nanoTime();
+		ModbusResponse response = null;
+		try {
+			var transaction = bridge.getNewModbusTransaction();
+			transaction.setRequest(request);
+			transaction.execute();
+			response = transaction.getResponse();
+
+		} catch (Exception e) {
+			bridge.getStatistics().add(key, System.nanoTime() - start, e, getPduLength(request));
+			throw e;
+		}
+		bridge.getStatistics().add(key, System.nanoTime() - start, null,
+				getPduLength(request) + getPduLength(response));
+
 		if (clazz.isInstance(response)) {
 			return (RESPONSE) clazz.cast(response);
 		}
@@ -378,4 +417,18 @@ public abstract non-sealed class AbstractTask<//
 				+ "Expected [" + clazz.getSimpleName() + "] " //
 				+ "Got [" + response.getClass().getSimpleName() + "]");
 	}
+
+	/**
+	 * Gets the length of a Modbus message in bytes, i.e. Unit-ID, function code
+	 * and data; without transport specific header and checksum.
+	 * 
+	 * @param message the {@link ModbusMessage}, possibly null
+	 * @return the length in bytes
+	 */
+	private static int getPduLength(ModbusMessage message) {
+		if (message == null) {
+			return 0;
+		}
+		return message.getDataLength() + 2;
+	}
 }
@@ -56,7 +56,7 @@ public class FC16WriteRegistersTask
 		Exception lastError = null;
 		for (var request : requests) {
 			try {
-				this.executeRequest(bridge, request);
+				this.executeRequest(bridge, request, request.getReference(), request.getWordCount());
 
 			} catch (Exception e) {
 				// On error a log message has already been logged
@@ -1,15 +1,24 @@
 package io.openems.edge.bridge.modbus.api.worker;
 
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.LogVerbosity;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.bridge.modbus.api.ModbusProtocol;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.Task.ExecuteState;
 import io.openems.edge.bridge.modbus.api.worker.internal.CycleTasks;
@@ -66,13 +75,66 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				cycleTimeIsTooShortChannel, cycleDelayChannel, logVerbosity);
 	}
 
+	/**
+	 * Maximum number of Read-Tasks that are executed concurrently; 1 for strictly
+	 * sequential execution.
+	 */
+	private volatile int maxConcurrentReads = 1;
+	private ExecutorService executor = null;
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.cycleTasksManager.getNextTask();
 
+		if (task instanceof ReadTask && this.maxConcurrentReads > 1) {
+			this.executeConcurrently(task);
+			return;
+		}
+
 		// execute the task
 		var result = this.execute.apply(task);
+		this.handleResult(task, result);
+	}
+
+	/**
+	 * Executes the given Read-Task together with further Read-Tasks of the current
+	 * read phase concurrently and waits for all of them.
+	 *
+	 * @param task the first Read-Task
+	 * @throws InterruptedException on interrupt
+	 */
+	private void executeConcurrently(Task task) throws InterruptedException {
+		var tasks = new ArrayList<Task>();
+		tasks.add(task);
+		tasks.addAll(this.cycleTasksManager.pollReadTasks(this.maxConcurrentReads - 1));
+
+		var executor = this.getExecutor();
+		var futures = new ArrayList<Future<ExecuteState>>(tasks.size());
+		for (var t : tasks) {
+			futures.add(executor.submit(() -> this.execute.apply(t)));
+		}
+		for (var i = 0; i < tasks.size(); i++) {
+			ExecuteState result;
+			try {
+				result = futures.get(i).get();
+			} catch (ExecutionException e) {
+				result = new ExecuteState.Error(e);
+			}
+			this.handleResult(tasks.get(i), result);
+		}
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (this.executor == null) {
+			// Called from the worker thread, which is named after the Bridge
+			this.executor = Executors.newFixedThreadPool(this.maxConcurrentReads, new ThreadFactoryBuilder() //
+					.setNameFormat(Thread.currentThread().getName() + ":Read-%d") //
+					.build());
+		}
+		return this.executor;
+	}
 
+	private void handleResult(Task task, ExecuteState result) {
 		// NOTE: with Java 21 LTS this can be refactored to a pattern matching switch
 		// statement
 		if (result instanceof ExecuteState.Ok) {
@@ -90,6 +152,35 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		}
 	}
 
+	/**
+	 * Sets the maximum number of Read-Tasks that are executed concurrently. This
+	 * requires a Bridge that supports concurrent requests.
+	 *
+	 * @param maxConcurrentReads the maximum number; 1 for sequential execution
+	 */
+	public synchronized void setMaxConcurrentReads(int maxConcurrentReads) {
+		maxConcurrentReads = Math.max(1, maxConcurrentReads);
+		if (this.maxConcurrentReads != maxConcurrentReads) {
+			this.shutdownExecutor();
+			this.maxConcurrentReads = maxConcurrentReads;
+		}
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		synchronized (this) {
+			this.shutdownExecutor();
+		}
+	}
+
+	private void shutdownExecutor() {
+		if (this.executor != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+			this.executor = null;
+		}
+	}
+
 	/**
 	 * Marks the given {@link ModbusComponent} as defective or non-defective.
 	 * 
@@ -137,6 +228,17 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		this.defectiveComponents.remove(sourceId); // Cleanup
 	}
 
+	/**
+	 * Sets the maximum gap in number of registers up to which neighbouring
+	 * Read-Tasks of the same Component are merged into one request. Negative
+	 * values disable merging.
+	 *
+	 * @param maxGap the maximum gap
+	 */
+	public void setReadTasksMaxGap(int maxGap) {
+		this.tasksSupplier.setReadTasksMaxGap(maxGap);
+	}
+
 	/**
 	 * Retry Modbus communication to given Component-ID.
 	 * 
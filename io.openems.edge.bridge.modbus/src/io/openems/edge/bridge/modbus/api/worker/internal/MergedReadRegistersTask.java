@@ -0,0 +1,151 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.procimg.Register;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the registers of multiple neighbouring
+ * {@link AbstractReadRegistersTask}s of the same Component, function code and
+ * {@link Priority} in one request. Created by the {@link ReadTasksOptimizer}.
+ */
+public class MergedReadRegistersTask implements ReadTask {
+
+	private final Logger log = LoggerFactory.getLogger(MergedReadRegistersTask.class);
+
+	private final List<AbstractReadRegistersTask<?, ?>> tasks;
+	private final Consumer<MergedReadRegistersTask> onIllegalAddress;
+	private final int startAddress;
+	private final int length;
+	private final ModbusElement[] elements;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param tasks            the merged tasks, sorted by start address
+	 * @param onIllegalAddress callback if the device rejected the merged register
+	 *                         range with an ILLEGAL_DATA_ADDRESS exception
+	 */
+	public MergedReadRegistersTask(List<AbstractReadRegistersTask<?, ?>> tasks,
+			Consumer<MergedReadRegistersTask> onIllegalAddress) {
+		this.tasks = tasks;
+		this.onIllegalAddress = onIllegalAddress;
+		var startAddress = Integer.MAX_VALUE;
+		var endAddress = Integer.MIN_VALUE;
+		for (var task : tasks) {
+			startAddress = Math.min(startAddress, task.getStartAddress());
+			endAddress = Math.max(endAddress, task.getStartAddress() + task.getLength());
+		}
+		this.startAddress = startAddress;
+		this.length = endAddress - startAddress;
+		this.elements = tasks.stream() //
+				.flatMap(t -> Stream.of(t.getElements())) //
+				.toArray(ModbusElement[]::new);
+	}
+
+	/**
+	 * Gets the merged tasks, sorted by start address.
+	 *
+	 * @return the tasks
+	 */
+	public List<AbstractReadRegistersTask<?, ?>> getTasks() {
+		return this.tasks;
+	}
+
+	@Override
+	public ModbusElement[] getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public int getStartAddress() {
+		return this.startAddress;
+	}
+
+	@Override
+	public int getLength() {
+		return this.length;
+	}
+
+	@Override
+	public void setParent(AbstractOpenemsModbusComponent parent) {
+		// Parent is given by the merged tasks
+	}
+
+	@Override
+	public ModbusComponent getParent() {
+		return this.tasks.get(0).getParent();
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.tasks.get(0).getPriority();
+	}
+
+	@Override
+	public void deactivate() {
+		// The merged tasks are deactivated by their ModbusProtocol
+	}
+
+	@Override
+	public ExecuteState execute(AbstractModbusBridge bridge) {
+		final Register[] registers;
+		try {
+			registers = this.tasks.get(0).readRegisters(bridge, this.startAddress, this.length);
+
+		} catch (Exception e) {
+			if (e instanceof ModbusSlaveException mse && mse.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION)) {
+				this.onIllegalAddress.accept(this);
+			}
+			for (var task : this.tasks) {
+				task.applyError(bridge, e);
+			}
+			return new ExecuteState.Error(e);
+		}
+
+		// Communication was successful; parsing errors only affect the Elements of the
+		// single task. Report OK if at least one task could be applied, as the worker
+		// would otherwise invalidate the Elements of all merged tasks.
+		var successes = 0;
+		ExecuteState error = null;
+		for (var task : this.tasks) {
+			try {
+				task.applyResult(registers, task.getStartAddress() - this.startAddress);
+				successes++;
+
+			} catch (OpenemsException e) {
+				this.log.error("Parsing Response failed. " + this + " " + e.getMessage());
+				error = task.applyError(bridge, e);
+			}
+		}
+		if (successes == 0 && error != null) {
+			return error;
+		}
+		return ExecuteState.OK;
+	}
+
+	@Override
+	public String toString() {
+		return "MergedReadRegistersTask [" + this.getParent().id() //
+				+ ";ref=" + this.startAddress + "/0x" + Integer.toHexString(this.startAddress) //
+				+ ";length=" + this.length //
+				+ ";tasks=" + this.tasks.size() //
+				+ "]";
+	}
+}
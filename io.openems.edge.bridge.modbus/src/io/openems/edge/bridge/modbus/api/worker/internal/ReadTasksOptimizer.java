@@ -0,0 +1,205 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.bridge.modbus.api.ModbusComponent;
+import io.openems.edge.bridge.modbus.api.task.AbstractReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Merges neighbouring {@link AbstractReadRegistersTask}s into fewer requests.
+ *
+ * <p>
+ * Tasks are only merged if they belong to the same Component (i.e. the same
+ * Unit-ID), use the same function code and have the same {@link Priority}; if
+ * the gap between them is at most 'maxGap' registers and if the merged request
+ * does not exceed {@link #MAX_LENGTH} registers.
+ *
+ * <p>
+ * Some devices reject reads of undefined registers with an ILLEGAL_DATA_ADDRESS
+ * exception. In that case the merged task is split at its largest gap and the
+ * split is remembered; repeated failures split further until - in the worst
+ * case - the original tasks are restored.
+ */
+public class ReadTasksOptimizer {
+
+	/** Maximum number of registers for FC3 and FC4 requests. */
+	public static final int MAX_LENGTH = 125;
+
+	private static record GroupKey(ModbusComponent parent, Class<?> clazz, Priority priority) {
+	}
+
+	private static record Split(ReadTask left, ReadTask right) {
+	}
+
+	private final Logger log = LoggerFactory.getLogger(ReadTasksOptimizer.class);
+
+	/** Neighbouring tasks that must not be merged. */
+	private final Set<Split> splits = new HashSet<>();
+
+	/** Merged tasks of the last Cycle; reused as long as the plan is unchanged. */
+	private Map<List<AbstractReadRegistersTask<?, ?>>, MergedReadRegistersTask> mergedTasks = new HashMap<>();
+
+	private int maxGap = -1;
+
+	/**
+	 * Sets the maximum gap between two tasks in number of registers. Negative
+	 * values disable merging.
+	 *
+	 * @param maxGap the maximum gap
+	 */
+	public synchronized void setMaxGap(int maxGap) {
+		if (this.maxGap != maxGap) {
+			this.maxGap = maxGap;
+			this.mergedTasks.clear();
+		}
+	}
+
+	/**
+	 * Forgets everything learned about the given Component.
+	 *
+	 * @param sourceId Component-ID of the source
+	 */
+	public synchronized void removeComponent(String sourceId) {
+		this.splits.removeIf(s -> s.left.getParent() != null && sourceId.equals(s.left.getParent().id()));
+		this.mergedTasks.values().removeIf(t -> sourceId.equals(t.getParent().id()));
+	}
+
+	/**
+	 * Merges the given {@link ReadTask}s. Keeps the order of the tasks; a merged
+	 * task takes the position of its first task.
+	 *
+	 * @param tasks the {@link ReadTask}s of one Cycle
+	 * @return the optimized {@link ReadTask}s
+	 */
+	public synchronized LinkedList<ReadTask> optimize(LinkedList<ReadTask> tasks) {
+		if (this.maxGap < 0 || tasks.size() < 2) {
+			return tasks;
+		}
+
+		// Group mergeable tasks
+		final var groups = new LinkedHashMap<GroupKey, List<AbstractReadRegistersTask<?, ?>>>();
+		for (var task : tasks) {
+			if (task instanceof AbstractReadRegistersTask<?, ?> t && t.getParent() != null) {
+				groups.computeIfAbsent(new GroupKey(t.getParent(), t.getClass(), t.getPriority()),
+						k -> new ArrayList<>()).add(t);
+			}
+		}
+
+		// Find runs of neighbouring tasks; map first task to merged task, others to
+		// null
+		final var replacements = new IdentityHashMap<ReadTask, ReadTask>();
+		final var nextMergedTasks = new HashMap<List<AbstractReadRegistersTask<?, ?>>, MergedReadRegistersTask>();
+		for (var group : groups.values()) {
+			if (group.size() < 2) {
+				continue;
+			}
+			group.sort(Comparator.comparingInt(ReadTask::getStartAddress));
+			for (var run : this.toRuns(group)) {
+				if (run.size() < 2) {
+					continue;
+				}
+				var merged = this.mergedTasks.get(run);
+				if (merged == null) {
+					merged = new MergedReadRegistersTask(run, this::onIllegalAddress);
+				}
+				nextMergedTasks.put(run, merged);
+				replacements.put(run.get(0), merged);
+				for (var i = 1; i < run.size(); i++) {
+					replacements.put(run.get(i), null);
+				}
+			}
+		}
+		this.mergedTasks = nextMergedTasks;
+		if (replacements.isEmpty()) {
+			return tasks;
+		}
+
+		final var result = new LinkedList<ReadTask>();
+		for (var task : tasks) {
+			if (!replacements.containsKey(task)) {
+				result.add(task);
+				continue;
+			}
+			var replacement = replacements.get(task);
+			if (replacement != null) {
+				result.add(replacement);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Splits a sorted group of tasks into runs that can be read in one request.
+	 *
+	 * @param group the tasks, sorted by start address
+	 * @return the runs
+	 */
+	private List<List<AbstractReadRegistersTask<?, ?>>> toRuns(List<AbstractReadRegistersTask<?, ?>> group) {
+		final var result = new ArrayList<List<AbstractReadRegistersTask<?, ?>>>();
+		List<AbstractReadRegistersTask<?, ?>> run = null;
+		var runStart = 0;
+		var runEnd = 0;
+		AbstractReadRegistersTask<?, ?> previous = null;
+		for (var task : group) {
+			var start = task.getStartAddress();
+			var end = start + task.getLength();
+			if (run != null //
+					&& start - runEnd <= this.maxGap //
+					&& Math.max(runEnd, end) - runStart <= MAX_LENGTH //
+					&& !this.splits.contains(new Split(previous, task))) {
+				run.add(task);
+				runEnd = Math.max(runEnd, end);
+			} else {
+				run = new ArrayList<>();
+				run.add(task);
+				result.add(run);
+				runStart = start;
+				runEnd = end;
+			}
+			previous = task;
+		}
+		return result;
+	}
+
+	/**
+	 * Called by a {@link MergedReadRegistersTask} if the device rejected its
+	 * register range. Splits the merged task at its largest gap.
+	 *
+	 * @param merged the {@link MergedReadRegistersTask}
+	 */
+	synchronized void onIllegalAddress(MergedReadRegistersTask merged) {
+		var tasks = merged.getTasks();
+		Split split = null;
+		var largestGap = Integer.MIN_VALUE;
+		var end = tasks.get(0).getStartAddress() + tasks.get(0).getLength();
+		for (var i = 1; i < tasks.size(); i++) {
+			var task = tasks.get(i);
+			var gap = task.getStartAddress() - end;
+			if (gap > largestGap) {
+				largestGap = gap;
+				split = new Split(tasks.get(i - 1), task);
+			}
+			end = Math.max(end, task.getStartAddress() + task.getLength());
+		}
+		if (split != null && this.splits.add(split)) {
+			this.mergedTasks.remove(tasks);
+			this.log.info("Splitting " + merged + " at [" + split.right.getStartAddress() + "] after "
+					+ "ILLEGAL_DATA_ADDRESS exception");
+		}
+	}
+
+}
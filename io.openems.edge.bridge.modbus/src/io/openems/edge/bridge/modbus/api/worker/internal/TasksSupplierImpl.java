@@ -30,6 +30,11 @@ public class TasksSupplierImpl implements TasksSupplier {
 	 */
 	private final Queue<Tuple<String, ReadTask>> nextLowPriorityTasks = new LinkedList<>();
 
+	/**
+	 * Merges neighbouring {@link ReadTask}s.
+	 */
+	private final ReadTasksOptimizer readTasksOptimizer = new ReadTasksOptimizer();
+
 	/**
 	 * Adds the protocol.
 	 *
@@ -48,6 +53,17 @@ public class TasksSupplierImpl implements TasksSupplier {
 	public synchronized void removeProtocol(String sourceId) {
 		this.taskManagers.remove(sourceId);
 		this.nextLowPriorityTasks.removeIf(t -> t.a() == sourceId);
+		this.readTasksOptimizer.removeComponent(sourceId);
+	}
+
+	/**
+	 * Sets the maximum gap in number of registers up to which neighbouring
+	 * {@link ReadTask}s are merged. Negative values disable merging.
+	 *
+	 * @param maxGap the maximum gap
+	 */
+	public void setReadTasksMaxGap(int maxGap) {
+		this.readTasksOptimizer.setMaxGap(maxGap);
 	}
 
 	@Override
@@ -85,11 +101,11 @@ public class TasksSupplierImpl implements TasksSupplier {
 			}
 		});
 		return new CycleTasks(//
-				tasks.values().stream().flatMap(LinkedList::stream) //
+				this.readTasksOptimizer.optimize(tasks.values().stream().flatMap(LinkedList::stream) //
 						.filter(ReadTask.class::isInstance).map(ReadTask.class::cast) //
 						// Sort HIGH priority to the end
 						.sorted((a, b) -> b.getPriority().compareTo(a.getPriority())) //
-						.collect(Collectors.toCollection(LinkedList::new)),
+						.collect(Collectors.toCollection(LinkedList::new))),
 				tasks.values().stream().flatMap(LinkedList::stream) //
 						.filter(WriteTask.class::isInstance).map(WriteTask.class::cast) //
 						.collect(Collectors.toCollection(LinkedList::new)));
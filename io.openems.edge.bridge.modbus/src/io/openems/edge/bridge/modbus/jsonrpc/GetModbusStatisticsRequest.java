@@ -0,0 +1,32 @@
+package io.openems.edge.bridge.modbus.jsonrpc;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Wraps a JSON-RPC Request to query the statistics of the Modbus requests.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getModbusStatistics",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetModbusStatisticsRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getModbusStatistics";
+
+	public GetModbusStatisticsRequest() {
+		super(METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
@@ -0,0 +1,58 @@
+package io.openems.edge.bridge.modbus.jsonrpc;
+
+import java.util.UUID;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Wraps a JSON-RPC Response to "getModbusStatistics" Request.
+ *
+ * <p>
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "tasks": [{
+ *       "componentId": string,
+ *       "task": string,
+ *       "unitId": number,
+ *       "startAddress": number,
+ *       "length": number,
+ *       "requests": number,
+ *       "errors": number,
+ *       "timeouts": number,
+ *       "bytes": number,
+ *       "avgDuration": number, // [ms]
+ *       "maxDuration": number, // [ms]
+ *       "histogram": [{
+ *         "le": string, // upper bound in [ms] or "+Inf"
+ *         "count": number
+ *       }]
+ *     }]
+ *   }
+ * }
+ * </pre>
+ */
+public class GetModbusStatisticsResponse extends JsonrpcResponseSuccess {
+
+	private final JsonArray tasks;
+
+	public GetModbusStatisticsResponse(UUID id, JsonArray tasks) {
+		super(id);
+		this.tasks = tasks;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return JsonUtils.buildJsonObject() //
+				.add("tasks", this.tasks) //
+				.build();
+	}
+
+}
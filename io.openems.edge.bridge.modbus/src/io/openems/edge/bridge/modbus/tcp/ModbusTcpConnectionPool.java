@@ -0,0 +1,60 @@
+package io.openems.edge.bridge.modbus.tcp;
+
+import java.net.InetAddress;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+/**
+ * A pool of {@link PipelinedModbusTcpConnection}s to one Modbus/TCP device or
+ * gateway. Every request is sent via the connection with the most free slots.
+ */
+public class ModbusTcpConnectionPool {
+
+	private final PipelinedModbusTcpConnection[] connections;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param address       the IP address
+	 * @param port          the port
+	 * @param connections   the number of connections
+	 * @param pipelineDepth the maximum number of requests in flight per connection
+	 * @param timeout       the timeout for connect and response in [ms]
+	 */
+	public ModbusTcpConnectionPool(InetAddress address, int port, int connections, int pipelineDepth,
+			int timeout) {
+		this.connections = new PipelinedModbusTcpConnection[Math.max(1, connections)];
+		for (var i = 0; i < this.connections.length; i++) {
+			this.connections[i] = new PipelinedModbusTcpConnection(address, port, pipelineDepth, timeout);
+		}
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for its {@link ModbusResponse}.
+	 *
+	 * @param request the {@link ModbusRequest}; Unit-ID has to be set
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error
+	 */
+	public ModbusResponse execute(ModbusRequest request) throws ModbusException {
+		var connection = this.connections[0];
+		for (var i = 1; i < this.connections.length; i++) {
+			if (this.connections[i].getAvailableSlots() > connection.getAvailableSlots()) {
+				connection = this.connections[i];
+			}
+		}
+		return connection.execute(request);
+	}
+
+	/**
+	 * Closes all connections.
+	 */
+	public void close() {
+		for (var connection : this.connections) {
+			connection.close();
+		}
+	}
+
+}
@@ -0,0 +1,305 @@
+package io.openems.edge.bridge.modbus.tcp;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ModbusResponse;
+
+/**
+ * A Modbus/TCP connection that keeps multiple requests in flight over one
+ * socket. Responses are matched to their requests by the Modbus/TCP
+ * transaction identifier, so they may arrive in any order.
+ *
+ * <p>
+ * The socket is opened lazily on the first request and closed on any I/O
+ * error, if no byte is received within the timeout while requests are pending
+ * or after {@value #MAX_CONSECUTIVE_TIMEOUTS} consecutive request timeouts; all
+ * pending requests fail in that case and the next request opens a new socket.
+ */
+public class PipelinedModbusTcpConnection {
+
+	private static final int MBAP_HEADER_LENGTH = 7;
+	private static final int MAX_CONSECUTIVE_TIMEOUTS = 3;
+
+	private final Logger log = LoggerFactory.getLogger(PipelinedModbusTcpConnection.class);
+
+	private final InetAddress address;
+	private final int port;
+	private final int timeout;
+	private final Semaphore inFlight;
+	private final ConcurrentHashMap<Integer, CompletableFuture<byte[]>> pending = new ConcurrentHashMap<>();
+	private final AtomicInteger nextTransactionId = new AtomicInteger();
+	private final AtomicInteger consecutiveTimeouts = new AtomicInteger();
+
+	/** Time of the last request in [ns]; used to tell a dead from an idle socket. */
+	private volatile long lastWriteNanos = 0;
+
+	/* Guarded by 'this' */
+	private Socket socket = null;
+	private OutputStream out = null;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param address     the IP address
+	 * @param port        the port
+	 * @param maxInFlight the maximum number of requests in flight
+	 * @param timeout     the timeout for connect and response in [ms]
+	 */
+	public PipelinedModbusTcpConnection(InetAddress address, int port, int maxInFlight, int timeout) {
+		this.address = address;
+		this.port = port;
+		this.timeout = timeout;
+		this.inFlight = new Semaphore(Math.max(1, maxInFlight), true);
+	}
+
+	/**
+	 * Gets the number of requests that could currently be sent without waiting.
+	 *
+	 * @return the number of free slots
+	 */
+	public int getAvailableSlots() {
+		return this.inFlight.availablePermits();
+	}
+
+	/**
+	 * Sends a {@link ModbusRequest} and waits for its {@link ModbusResponse}.
+	 *
+	 * @param request the {@link ModbusRequest}; Unit-ID has to be set
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on error, e.g. {@link ModbusSlaveException} for
+	 *                         exception responses
+	 */
+	public ModbusResponse execute(ModbusRequest request) throws ModbusException {
+		try {
+			this.inFlight.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ModbusIOException("Interrupted while waiting for a free slot");
+		}
+		try {
+			final var transactionId = this.registerTransaction();
+			final var future = this.pending.get(transactionId);
+			final Socket socket;
+			try {
+				socket = this.write(transactionId, request);
+			} catch (IOException e) {
+				this.pending.remove(transactionId);
+				throw new ModbusIOException("Sending request to [" + this.address.getHostAddress() + ":"
+						+ this.port + "] failed: " + e.getMessage());
+			}
+
+			final byte[] pdu;
+			try {
+				pdu = future.get(this.timeout, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				// A late response for this transaction is ignored by the reader
+				this.pending.remove(transactionId);
+				if (this.consecutiveTimeouts.incrementAndGet() >= MAX_CONSECUTIVE_TIMEOUTS) {
+					this.close(socket, e);
+				}
+				final var ex = new ModbusIOException("Timeout waiting for response from ["
+						+ this.address.getHostAddress() + ":" + this.port + "] transaction [" + transactionId + "]");
+				ex.initCause(e);
+				throw ex;
+			} catch (ExecutionException e) {
+				final var ex = new ModbusIOException("Connection to [" + this.address.getHostAddress() + ":"
+						+ this.port + "] failed: " + e.getCause().getMessage());
+				ex.initCause(e.getCause());
+				throw ex;
+			} catch (InterruptedException e) {
+				this.pending.remove(transactionId);
+				Thread.currentThread().interrupt();
+				throw new ModbusIOException("Interrupted while waiting for response");
+			}
+			this.consecutiveTimeouts.set(0);
+			return parseResponse(request, pdu);
+
+		} finally {
+			this.inFlight.release();
+		}
+	}
+
+	/**
+	 * Closes the socket. Pending requests fail.
+	 */
+	public synchronized void close() {
+		this.close(this.socket, new IOException("Connection closed"));
+	}
+
+	private int registerTransaction() {
+		while (true) {
+			var transactionId = this.nextTransactionId.incrementAndGet() & 0xFFFF;
+			if (this.pending.putIfAbsent(transactionId, new CompletableFuture<>()) == null) {
+				return transactionId;
+			}
+		}
+	}
+
+	private synchronized Socket write(int transactionId, ModbusRequest request) throws IOException {
+		// Encode PDU
+		var pdu = new ByteArrayOutputStream(256);
+		var pduOut = new DataOutputStream(pdu);
+		request.writeData(pduOut);
+		pduOut.flush();
+
+		// Encode ADU with MBAP header
+		var adu = new ByteArrayOutputStream(MBAP_HEADER_LENGTH + 1 + pdu.size());
+		var aduOut = new DataOutputStream(adu);
+		aduOut.writeShort(transactionId);
+		aduOut.writeShort(0); // Protocol-ID
+		aduOut.writeShort(pdu.size() + 2); // Unit-ID + Function-Code + Data
+		aduOut.writeByte(request.getUnitID());
+		aduOut.writeByte(request.getFunctionCode());
+		pdu.writeTo(aduOut);
+		aduOut.flush();
+
+		final var socket = this.connect();
+		try {
+			this.lastWriteNanos = System.nanoTime();
+			this.out.write(adu.toByteArray());
+			this.out.flush();
+		} catch (IOException e) {
+			this.close(socket, e);
+			throw e;
+		}
+		return socket;
+	}
+
+	private synchronized Socket connect() throws IOException {
+		if (this.socket != null && !this.socket.isClosed()) {
+			return this.socket;
+		}
+		var socket = new Socket();
+		socket.setTcpNoDelay(true);
+		socket.setSoTimeout(this.timeout);
+		socket.connect(new InetSocketAddress(this.address, this.port), this.timeout);
+		this.socket = socket;
+		this.out = socket.getOutputStream();
+		this.consecutiveTimeouts.set(0);
+
+		var reader = new Thread(() -> this.read(socket),
+				"Modbus-TCP-Reader-" + this.address.getHostAddress() + ":" + this.port);
+		reader.setDaemon(true);
+		reader.start();
+		return socket;
+	}
+
+	private void read(Socket socket) {
+		try (var in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+			while (true) {
+				final int first;
+				try {
+					first = in.read();
+				} catch (SocketTimeoutException e) {
+					if (this.pending.isEmpty()
+							|| System.nanoTime() - this.lastWriteNanos < TimeUnit.MILLISECONDS.toNanos(this.timeout)) {
+						// Idle socket
+						continue;
+					}
+					throw e;
+				}
+				if (first < 0) {
+					throw new IOException("Connection closed by remote");
+				}
+				// A timeout within a frame is fatal, as the stream is out of sync then
+				var transactionId = first << 8 | in.readUnsignedByte();
+				in.readUnsignedShort(); // Protocol-ID
+				var length = in.readUnsignedShort();
+				in.readUnsignedByte(); // Unit-ID
+				if (length < 2) {
+					throw new IOException("Invalid MBAP length [" + length + "]");
+				}
+				var pdu = new byte[length - 1];
+				in.readFully(pdu);
+
+				var future = this.pending.remove(transactionId);
+				if (future != null) {
+					future.complete(pdu);
+				}
+			}
+		} catch (IOException e) {
+			this.close(socket, e);
+		}
+	}
+
+	/**
+	 * Closes the given socket, if it is still the current one, and fails all
+	 * pending requests. Does nothing if the socket had already been replaced.
+	 *
+	 * @param socket the socket the error was detected on
+	 * @param cause  the cause
+	 */
+	private synchronized void close(Socket socket, Exception cause) {
+		if (socket == null || this.socket != socket) {
+			return;
+		}
+		try {
+			socket.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close socket: " + e.getMessage());
+		}
+		this.socket = null;
+		this.out = null;
+		for (var transactionId : this.pending.keySet()) {
+			var future = this.pending.remove(transactionId);
+			if (future != null) {
+				future.completeExceptionally(cause);
+			}
+		}
+	}
+
+	/**
+	 * Parses the PDU (Function-Code + Data) of a response.
+	 *
+	 * @param request the {@link ModbusRequest}
+	 * @param pdu     the PDU
+	 * @return the {@link ModbusResponse}
+	 * @throws ModbusException on exception response or parse error
+	 */
+	protected static ModbusResponse parseResponse(ModbusRequest request, byte[] pdu) throws ModbusException {
+		if (pdu.length < 1) {
+			throw new ModbusIOException("Empty response");
+		}
+		var functionCode = pdu[0] & 0xFF;
+		if ((functionCode & 0x80) != 0) {
+			throw new ModbusSlaveException(pdu.length > 1 ? pdu[1] & 0xFF : 0);
+		}
+		if (functionCode != request.getFunctionCode()) {
+			throw new ModbusIOException("Unexpected function code. " //
+					+ "Expected [" + request.getFunctionCode() + "] Got [" + functionCode + "]");
+		}
+		var response = request.getResponse();
+		response.setUnitID(request.getUnitID());
+		try {
+			response.readData(new DataInputStream(new ByteArrayInputStream(pdu, 1, pdu.length - 1)));
+		} catch (IOException e) {
+			throw new ModbusIOException("Unable to parse response: " + e.getMessage());
+		}
+		return response;
+	}
+
+}
@@ -0,0 +1,34 @@
+package io.openems.edge.bridge.modbus.tcp;
+
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusIOException;
+import com.ghgande.j2mod.modbus.io.ModbusTransaction;
+
+/**
+ * A {@link ModbusTransaction} that is executed via a
+ * {@link ModbusTcpConnectionPool}. I/O errors are retried up to
+ * {@link #getRetries()} times; exception responses of the device are not.
+ */
+public class PipelinedModbusTcpTransaction extends ModbusTransaction {
+
+	private final ModbusTcpConnectionPool pool;
+
+	public PipelinedModbusTcpTransaction(ModbusTcpConnectionPool pool) {
+		this.pool = pool;
+	}
+
+	@Override
+	public void execute() throws ModbusException {
+		for (var attempt = 0;; attempt++) {
+			try {
+				this.response = this.pool.execute(this.request);
+				return;
+			} catch (ModbusIOException e) {
+				if (attempt >= this.getRetries()) {
+					throw e;
+				}
+			}
+		}
+	}
+
+}
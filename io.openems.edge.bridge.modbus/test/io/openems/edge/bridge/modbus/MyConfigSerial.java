@@ -20,6 +20,7 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		private int delayAfterTx;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readTasksMaxGap = -1;
 
 		private Builder() {
 		}
@@ -79,6 +80,11 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setReadTasksMaxGap(int readTasksMaxGap) {
+			this.readTasksMaxGap = readTasksMaxGap;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -150,4 +156,9 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int readTasksMaxGap() {
+		return this.builder.readTasksMaxGap;
+	}
+
 }
\ No newline at end of file
@@ -12,6 +12,9 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private int port;
 		private LogVerbosity logVerbosity;
 		private int invalidateElementsAfterReadErrors;
+		private int readTasksMaxGap = -1;
+		private int connections = 1;
+		private int pipelineDepth = 1;
 
 		private Builder() {
 		}
@@ -41,6 +44,21 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setReadTasksMaxGap(int readTasksMaxGap) {
+			this.readTasksMaxGap = readTasksMaxGap;
+			return this;
+		}
+
+		public Builder setConnections(int connections) {
+			this.connections = connections;
+			return this;
+		}
+
+		public Builder setPipelineDepth(int pipelineDepth) {
+			this.pipelineDepth = pipelineDepth;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -82,4 +100,19 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int readTasksMaxGap() {
+		return this.builder.readTasksMaxGap;
+	}
+
+	@Override
+	public int connections() {
+		return this.builder.connections;
+	}
+
+	@Override
+	public int pipelineDepth() {
+		return this.builder.pipelineDepth;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package io.openems.edge.bridge.modbus.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.ModbusIOException;
+
+public class ModbusStatisticsTest {
+
+	private static final long MS = 1_000_000L;
+
+	private static final ModbusStatistics.TaskKey KEY_1 = new ModbusStatistics.TaskKey("device0",
+			"FC3ReadHoldingRegisters", 1, 100, 10);
+	private static final ModbusStatistics.TaskKey KEY_2 = new ModbusStatistics.TaskKey("device1",
+			"FC4ReadInputRegisters", 2, 0, 2);
+
+	@Test
+	public void testSummary() {
+		var sut = new ModbusStatistics();
+		sut.add(KEY_1, 4 * MS, null, 30);
+		sut.add(KEY_1, 10 * MS, null, 30);
+		sut.add(KEY_2, 16 * MS, timeout(), 6);
+		sut.add(KEY_2, 2 * MS, new IOException("Connection reset"), 6);
+
+		var summary = sut.pollSummary();
+		assertEquals(4, summary.requests());
+		assertEquals(8, summary.avgDuration());
+		assertEquals(16, summary.maxDuration());
+		assertEquals(2, summary.errors());
+		assertEquals(1, summary.timeouts());
+		assertEquals(72, summary.bytes());
+
+		// Summary is reset
+		summary = sut.pollSummary();
+		assertEquals(0, summary.requests());
+		assertEquals(0, summary.avgDuration());
+		assertEquals(0, summary.maxDuration());
+	}
+
+	@Test
+	public void testToJson() {
+		var sut = new ModbusStatistics();
+		sut.add(KEY_2, 0, null, 6);
+		sut.add(KEY_1, 3 * MS, null, 30);
+		sut.add(KEY_1, 2 * MS, null, 30);
+		sut.add(KEY_1, 5000 * MS, new SocketTimeoutException(), 8);
+
+		var json = sut.toJson();
+		assertEquals(2, json.size());
+
+		var task = json.get(0).getAsJsonObject();
+		assertEquals("device0", task.get("componentId").getAsString());
+		assertEquals(3, task.get("requests").getAsLong());
+		assertEquals(1, task.get("errors").getAsLong());
+		assertEquals(1, task.get("timeouts").getAsLong());
+		assertEquals(68, task.get("bytes").getAsLong());
+		assertEquals(5000, task.get("maxDuration").getAsLong());
+
+		var histogram = task.get("histogram").getAsJsonArray();
+		assertEquals(ModbusStatistics.BUCKETS.length + 1, histogram.size());
+		assertEquals(1, histogram.get(1).getAsJsonObject().get("count").getAsLong()); // <= 2 ms
+		assertEquals(1, histogram.get(2).getAsJsonObject().get("count").getAsLong()); // <= 5 ms
+		assertEquals("+Inf", histogram.get(ModbusStatistics.BUCKETS.length).getAsJsonObject().get("le").getAsString());
+		assertEquals(1, histogram.get(ModbusStatistics.BUCKETS.length).getAsJsonObject().get("count").getAsLong());
+
+		sut.removeComponent("device0");
+		assertEquals(1, sut.toJson().size());
+		sut.clear();
+		assertEquals(0, sut.toJson().size());
+	}
+
+	@Test
+	public void testIsTimeout() {
+		assertTrue(ModbusStatistics.isTimeout(new SocketTimeoutException()));
+		assertTrue(ModbusStatistics.isTimeout(new Exception(new SocketTimeoutException("Read timed out"))));
+		assertTrue(ModbusStatistics.isTimeout(timeout()));
+		assertFalse(ModbusStatistics.isTimeout(new ModbusIOException("Timeout waiting for response")));
+		assertFalse(ModbusStatistics.isTimeout(new IOException("Connection refused")));
+	}
+
+	private static ModbusIOException timeout() {
+		var e = new ModbusIOException("Timeout waiting for response");
+		e.initCause(new TimeoutException());
+		return e;
+	}
+
+}
@@ -0,0 +1,116 @@
+package io.openems.edge.bridge.modbus.api.worker.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.procimg.Register;
+import com.ghgande.j2mod.modbus.procimg.SimpleRegister;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.DummyModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
+import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.FC4ReadInputRegistersTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.common.taskmanager.Priority;
+
+public class ReadTasksOptimizerTest {
+
+	@Test
+	public void testOptimize() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var fc3a = new FC3ReadRegistersTask(0, Priority.HIGH, //
+				new UnsignedWordElement(0), new UnsignedWordElement(1));
+		var fc3b = new FC3ReadRegistersTask(3, Priority.HIGH, new UnsignedWordElement(3));
+		var fc3c = new FC3ReadRegistersTask(10, Priority.HIGH, new UnsignedWordElement(10));
+		var fc3low = new FC3ReadRegistersTask(4, Priority.LOW, new UnsignedWordElement(4));
+		var fc4 = new FC4ReadInputRegistersTask(2, Priority.HIGH, new UnsignedWordElement(2));
+		var protocol = component.getModbusProtocol();
+		protocol.addTasks(fc3a, fc3b, fc3c, fc3low, fc4);
+
+		var sut = new ReadTasksOptimizer();
+		var tasks = new LinkedList<ReadTask>(List.of(fc3low, fc3a, fc4, fc3b, fc3c));
+
+		// Disabled by default
+		assertSame(tasks, sut.optimize(tasks));
+
+		// Merge with gap of 1 register
+		sut.setMaxGap(1);
+		var result = sut.optimize(tasks);
+		assertEquals(4, result.size());
+		assertSame(fc3low, result.get(0));
+		var merged = (MergedReadRegistersTask) result.get(1);
+		assertEquals(List.of(fc3a, fc3b), merged.getTasks());
+		assertEquals(0, merged.getStartAddress());
+		assertEquals(4, merged.getLength());
+		assertEquals(3, merged.getElements().length);
+		assertSame(fc4, result.get(2));
+		assertSame(fc3c, result.get(3));
+
+		// Merged task is reused in next Cycle
+		assertSame(merged, sut.optimize(tasks).get(1));
+
+		// Larger gap merges fc3c
+		sut.setMaxGap(6);
+		result = sut.optimize(tasks);
+		assertEquals(3, result.size());
+		merged = (MergedReadRegistersTask) result.get(1);
+		assertEquals(List.of(fc3a, fc3b, fc3c), merged.getTasks());
+		assertEquals(11, merged.getLength());
+
+		// Device rejects gap -> split at largest gap
+		sut.onIllegalAddress(merged);
+		result = sut.optimize(tasks);
+		assertEquals(4, result.size());
+		assertEquals(List.of(fc3a, fc3b), ((MergedReadRegistersTask) result.get(1)).getTasks());
+		assertSame(fc3c, result.get(3));
+
+		// Device rejects again -> original tasks
+		sut.onIllegalAddress((MergedReadRegistersTask) result.get(1));
+		result = sut.optimize(tasks);
+		assertEquals(tasks, result);
+
+		// Forget learned splits
+		sut.removeComponent(component.id());
+		assertEquals(3, sut.optimize(tasks).size());
+	}
+
+	@Test
+	public void testMaxLength() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var task0 = new FC3ReadRegistersTask(0, Priority.HIGH, new UnsignedWordElement(0));
+		var task1 = new FC3ReadRegistersTask(100, Priority.HIGH, new UnsignedWordElement(100));
+		var task2 = new FC3ReadRegistersTask(125, Priority.HIGH, new UnsignedWordElement(125));
+		component.getModbusProtocol().addTasks(task0, task1, task2);
+
+		var sut = new ReadTasksOptimizer();
+		sut.setMaxGap(ReadTasksOptimizer.MAX_LENGTH);
+		var result = sut.optimize(new LinkedList<ReadTask>(List.of(task0, task1, task2)));
+		assertEquals(2, result.size());
+		assertTrue(result.get(0) instanceof MergedReadRegistersTask);
+		assertSame(task2, result.get(1));
+	}
+
+	@Test
+	public void testApplyResultWithOffset() throws OpenemsException {
+		var component = new DummyModbusComponent();
+		var value = new AtomicReference<Integer>();
+		var element = new UnsignedWordElement(3);
+		element.onUpdateCallback(value::set);
+		var task = new FC3ReadRegistersTask(3, Priority.HIGH, element);
+		component.getModbusProtocol().addTask(task);
+
+		task.applyResult(new Register[] { //
+				new SimpleRegister(1), new SimpleRegister(2), //
+				new SimpleRegister(3), new SimpleRegister(4) }, 3);
+		assertEquals(Integer.valueOf(4), value.get());
+	}
+
+}
@@ -0,0 +1,108 @@
+package io.openems.edge.bridge.modbus.tcp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersResponse;
+
+public class PipelinedModbusTcpConnectionTest {
+
+	private static record Request(int transactionId, int unitId, int startAddress) {
+	}
+
+	@Test
+	public void testOutOfOrderResponses() throws Exception {
+		try (var server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			// Server reads two requests and answers them in reverse order; the value of
+			// the register is its start address
+			var serverThread = CompletableFuture.runAsync(() -> {
+				try (var socket = server.accept(); //
+						var in = new DataInputStream(socket.getInputStream()); //
+						var out = new DataOutputStream(socket.getOutputStream())) {
+					var requests = new ArrayList<Request>();
+					while (requests.size() < 2) {
+						var transactionId = in.readUnsignedShort();
+						in.readUnsignedShort(); // Protocol-ID
+						in.readUnsignedShort(); // Length
+						var unitId = in.readUnsignedByte();
+						in.readUnsignedByte(); // Function-Code
+						var startAddress = in.readUnsignedShort();
+						in.readUnsignedShort(); // Quantity
+						requests.add(new Request(transactionId, unitId, startAddress));
+					}
+					for (var i = requests.size() - 1; i >= 0; i--) {
+						var request = requests.get(i);
+						out.writeShort(request.transactionId);
+						out.writeShort(0);
+						out.writeShort(5);
+						out.writeByte(request.unitId);
+						out.writeByte(Modbus.READ_MULTIPLE_REGISTERS);
+						out.writeByte(2);
+						out.writeShort(request.startAddress);
+					}
+					out.flush();
+					// Wait for client to close
+					in.read();
+				} catch (Exception e) {
+					throw new RuntimeException(e);
+				}
+			});
+
+			var sut = new PipelinedModbusTcpConnection(InetAddress.getLoopbackAddress(), server.getLocalPort(), 2,
+					5_000);
+			try {
+				var futures = new ArrayList<CompletableFuture<Integer>>();
+				for (var startAddress : new int[] { 100, 200 }) {
+					futures.add(CompletableFuture.supplyAsync(() -> {
+						try {
+							var request = new ReadMultipleRegistersRequest(startAddress, 1);
+							request.setUnitID(1);
+							var response = (ReadMultipleRegistersResponse) sut.execute(request);
+							return response.getRegisterValue(0);
+						} catch (Exception e) {
+							throw new RuntimeException(e);
+						}
+					}));
+				}
+				assertEquals(Integer.valueOf(100), futures.get(0).get(5, TimeUnit.SECONDS));
+				assertEquals(Integer.valueOf(200), futures.get(1).get(5, TimeUnit.SECONDS));
+			} finally {
+				sut.close();
+			}
+			serverThread.get(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	public void testParseResponse() throws Exception {
+		var request = new ReadMultipleRegistersRequest(0, 2);
+		request.setUnitID(3);
+		var response = (ReadMultipleRegistersResponse) PipelinedModbusTcpConnection.parseResponse(request,
+				new byte[] { 0x03, 0x04, 0x00, 0x01, 0x00, 0x02 });
+		assertEquals(3, response.getUnitID());
+		assertEquals(1, response.getRegisterValue(0));
+		assertEquals(2, response.getRegisterValue(1));
+
+		try {
+			PipelinedModbusTcpConnection.parseResponse(request, new byte[] { (byte) 0x83, 0x02 });
+			fail();
+		} catch (ModbusSlaveException e) {
+			assertTrue(e.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION));
+		}
+	}
+
+}
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.internal.AbstractReadChannel;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
@@ -168,12 +169,24 @@ public interface Channel<T> {
 
 	/**
 	 * Gets the past values for this Channel.
+	 * 
+	 * <p>
+	 * The returned map is a copy of {@link #pastValues()}; prefer the range
+	 * queries of {@link PastValues} where possible.
 	 *
 	 * @return a map of recording time and historic value at that time
 	 */
 	// TODO this should be a ZonedDateTime
 	public TreeMap<LocalDateTime, Value<T>> getPastValues();
 
+	/**
+	 * Gets the past values for this Channel, i.e. the values of the last
+	 * {@link #MAX_AGE_OF_PAST_VALUES}.
+	 *
+	 * @return the {@link PastValues}
+	 */
+	public PastValues<T> pastValues();
+
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
@@ -19,6 +19,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.ChannelId;
 import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 
@@ -34,7 +35,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final TreeMap<LocalDateTime, Value<T>> pastValues = new TreeMap<>();
+	private final PastValues<T> pastValues = new PastValues<>();
 
 	/**
 	 * The 'next' value of the Channel. Copied to 'active' in
@@ -125,7 +126,7 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 			}
 
 			// Additionally append to 'pastValues'
-			this.appendPastValue(newValue);
+			this.pastValues.add(newValue);
 
 		} catch (RuntimeException e) {
 			var component = this.parent != null ? this.parent.id() : "";
@@ -135,19 +136,6 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		}
 	}
 
-	/**
-	 * Appends a value to `pastValues` and deletes entries that are elder than
-	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
-	 * 
-	 * @param value a new {@link Value}
-	 */
-	private void appendPastValue(Value<T> value) {
-		final var compareTime = value.getTimestamp().minus(Channel.MAX_AGE_OF_PAST_VALUES);
-		this.pastValues.put(value.getTimestamp(), value);
-		// changes to sub map are also applied to the backed map
-		this.pastValues.headMap(compareTime).clear();
-	}
-
 	@Override
 	public ChannelAddress address() {
 		return new ChannelAddress(this.parent.id(), this.channelId().id());
@@ -298,13 +286,13 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		return false;
 	}
 
-	/**
-	 * Gets the past values for this Channel.
-	 *
-	 * @return a map of recording time and historic value at that time
-	 */
 	@Override
 	public TreeMap<LocalDateTime, Value<T>> getPastValues() {
+		return this.pastValues.toTreeMap();
+	}
+
+	@Override
+	public PastValues<T> pastValues() {
 		return this.pastValues;
 	}
 
@@ -0,0 +1,265 @@
+package io.openems.edge.common.channel.value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.cycle.Cycle;
+
+/**
+ * Holds the past values of a {@link Channel} in a ring buffer with primitive
+ * epoch-millisecond timestamps.
+ *
+ * <p>
+ * Values that are older than {@link Channel#MAX_AGE_OF_PAST_VALUES} relative
+ * to the latest value are evicted on {@link #add(Value)}. The buffer starts
+ * small - many Channels never change their value - and grows up to
+ * {@link #EXPECTED_CAPACITY}, i.e. one value per Cycle at
+ * {@link Cycle#DEFAULT_CYCLE_TIME}. It only grows beyond that if values are
+ * added more frequently, e.g. with a shorter Cycle-Time.
+ *
+ * <p>
+ * Compared to a {@link TreeMap} this avoids one tree node and one
+ * {@link LocalDateTime} per Channel and Cycle.
+ *
+ * @param <T> the type of the Channel
+ */
+public class PastValues<T> {
+
+	/** Maximum age of past values in milliseconds. */
+	public static final long MAX_AGE_MILLIS = Duration.from(Channel.MAX_AGE_OF_PAST_VALUES).toMillis();
+
+	/** Expected number of values within {@link #MAX_AGE_MILLIS}. */
+	public static final int EXPECTED_CAPACITY = (int) (MAX_AGE_MILLIS / Cycle.DEFAULT_CYCLE_TIME) + 1;
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private long[] timestamps = new long[INITIAL_CAPACITY];
+	private Object[] values = new Object[INITIAL_CAPACITY];
+
+	/** Index of the oldest value. */
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Appends a value and evicts values that are older than
+	 * {@link Channel#MAX_AGE_OF_PAST_VALUES}.
+	 *
+	 * <p>
+	 * Adding the same {@link Value} instance as the latest one - i.e. the Channel
+	 * value was not updated within the last Cycle - is a no-op.
+	 *
+	 * @param value the {@link Value}
+	 */
+	public synchronized void add(Value<T> value) {
+		if (this.size > 0 && this.values[this.index(this.size - 1)] == value) {
+			return;
+		}
+		final var timestamp = value.getTimestampMillis();
+		if (this.size > 0 && this.timestamps[this.index(this.size - 1)] > timestamp) {
+			// System clock was set back; keep values sorted
+			this.clear();
+		}
+
+		// Evict old values
+		final var compareTime = timestamp - MAX_AGE_MILLIS;
+		while (this.size > 0 && this.timestamps[this.head] < compareTime) {
+			this.values[this.head] = null;
+			this.head = (this.head + 1) % this.values.length;
+			this.size--;
+		}
+
+		if (this.size == this.values.length) {
+			this.grow();
+		}
+		final var index = this.index(this.size);
+		this.timestamps[index] = timestamp;
+		this.values[index] = value;
+		this.size++;
+	}
+
+	private void grow() {
+		final var capacity = this.values.length;
+		final int newCapacity;
+		if (capacity < EXPECTED_CAPACITY) {
+			newCapacity = Math.min(capacity * 2, EXPECTED_CAPACITY);
+		} else {
+			newCapacity = capacity + capacity / 2;
+		}
+		final var newTimestamps = new long[newCapacity];
+		final var newValues = new Object[newCapacity];
+		final var firstPart = Math.min(this.size, capacity - this.head);
+		System.arraycopy(this.timestamps, this.head, newTimestamps, 0, firstPart);
+		System.arraycopy(this.values, this.head, newValues, 0, firstPart);
+		System.arraycopy(this.timestamps, 0, newTimestamps, firstPart, this.size - firstPart);
+		System.arraycopy(this.values, 0, newValues, firstPart, this.size - firstPart);
+		this.timestamps = newTimestamps;
+		this.values = newValues;
+		this.head = 0;
+	}
+
+	private int index(int position) {
+		return (this.head + position) % this.values.length;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Value<T> valueAt(int position) {
+		return (Value<T>) this.values[this.index(position)];
+	}
+
+	/**
+	 * Gets the number of past values.
+	 *
+	 * @return the number of values
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the latest value.
+	 *
+	 * @return the latest {@link Value}; null if there is no value
+	 */
+	public synchronized Value<T> getLatest() {
+		if (this.size == 0) {
+			return null;
+		}
+		return this.valueAt(this.size - 1);
+	}
+
+	/**
+	 * Gets the latest value with a timestamp less than or equal to the given
+	 * timestamp.
+	 *
+	 * @param timestamp the timestamp in epoch milliseconds
+	 * @return the {@link Value}; null if there is no such value
+	 */
+	public synchronized Value<T> getFloor(long timestamp) {
+		var position = this.floorPosition(timestamp);
+		if (position < 0) {
+			return null;
+		}
+		return this.valueAt(position);
+	}
+
+	/**
+	 * Iterates over all values with a timestamp within [fromInclusive,
+	 * toExclusive), in ascending order.
+	 *
+	 * @param fromInclusive the start timestamp in epoch milliseconds (inclusive)
+	 * @param toExclusive   the end timestamp in epoch milliseconds (exclusive)
+	 * @param consumer      the {@link Consumer}
+	 */
+	public synchronized void forEach(long fromInclusive, long toExclusive, Consumer<Value<T>> consumer) {
+		var start = fromInclusive == Long.MIN_VALUE ? 0 : this.floorPosition(fromInclusive - 1) + 1;
+		for (var position = start; position < this.size; position++) {
+			if (this.timestamps[this.index(position)] >= toExclusive) {
+				return;
+			}
+			consumer.accept(this.valueAt(position));
+		}
+	}
+
+	/**
+	 * Gets all values with a timestamp within [fromInclusive, toExclusive), in
+	 * ascending order.
+	 *
+	 * @param fromInclusive the start timestamp in epoch milliseconds (inclusive)
+	 * @param toExclusive   the end timestamp in epoch milliseconds (exclusive)
+	 * @return a new {@link List} of {@link Value}s
+	 */
+	public synchronized List<Value<T>> getValues(long fromInclusive, long toExclusive) {
+		final var result = new ArrayList<Value<T>>();
+		this.forEach(fromInclusive, toExclusive, result::add);
+		return result;
+	}
+
+	/**
+	 * Gets all values in ascending order.
+	 *
+	 * @return a new {@link List} of {@link Value}s
+	 */
+	public List<Value<T>> getValues() {
+		return this.getValues(Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Iterates over all values in descending order, i.e. starting with the latest
+	 * value.
+	 *
+	 * @param consumer the {@link Consumer}
+	 */
+	public synchronized void forEachDescending(Consumer<Value<T>> consumer) {
+		for (var position = this.size - 1; position >= 0; position--) {
+			consumer.accept(this.valueAt(position));
+		}
+	}
+
+	/**
+	 * Binary search for the position of the latest value with a timestamp less
+	 * than or equal to the given timestamp.
+	 *
+	 * @param timestamp the timestamp in epoch milliseconds
+	 * @return the position; -1 if there is no such value
+	 */
+	private int floorPosition(long timestamp) {
+		var low = 0;
+		var high = this.size - 1;
+		var result = -1;
+		while (low <= high) {
+			var mid = (low + high) >>> 1;
+			if (this.timestamps[this.index(mid)] <= timestamp) {
+				result = mid;
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a {@link TreeMap} copy of the past values, keyed by their
+	 * {@link Value#getTimestamp()}.
+	 *
+	 * @return a new {@link TreeMap}
+	 */
+	public synchronized TreeMap<LocalDateTime, Value<T>> toTreeMap() {
+		final var zone = ZoneId.systemDefault();
+		final var result = new TreeMap<LocalDateTime, Value<T>>();
+		for (var position = 0; position < this.size; position++) {
+			result.put(LocalDateTime.ofInstant(Instant.ofEpochMilli(this.timestamps[this.index(position)]), zone),
+					this.valueAt(position));
+		}
+		return result;
+	}
+
+	/**
+	 * Converts a {@link LocalDateTime} in the system default time-zone - like
+	 * {@link Value#getTimestamp()} - to epoch milliseconds.
+	 *
+	 * @param localDateTime the {@link LocalDateTime}
+	 * @return the timestamp in epoch milliseconds
+	 */
+	public static long toEpochMilli(LocalDateTime localDateTime) {
+		return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * Removes all values.
+	 */
+	public synchronized void clear() {
+		Arrays.fill(this.values, null);
+		this.head = 0;
+		this.size = 0;
+	}
+
+}
@@ -0,0 +1,33 @@
+package io.openems.edge.common.cycle;
+
+import java.util.Set;
+
+/**
+ * A Component that is notified directly by the Cycle about its
+ * {@link CyclePhase}s, without going through the OSGi EventAdmin.
+ *
+ * <p>
+ * Handlers are registered via the OSGi whiteboard pattern: a Component only
+ * has to provide this interface as a service. Handlers are called
+ * synchronously on the Cycle thread in the same order as EventAdmin would
+ * deliver the corresponding EdgeEventConstants.TOPIC_CYCLE_* events, so a
+ * Component must not listen to the same phase via both mechanisms.
+ */
+public interface CycleEventHandler {
+
+	/**
+	 * Gets the {@link CyclePhase}s this handler wants to be notified about. Called
+	 * once when the handler is registered.
+	 *
+	 * @return the {@link CyclePhase}s
+	 */
+	public Set<CyclePhase> getCyclePhases();
+
+	/**
+	 * Handles a {@link CyclePhase}.
+	 *
+	 * @param phase the {@link CyclePhase}
+	 */
+	public void handleCycleEvent(CyclePhase phase);
+
+}
@@ -0,0 +1,49 @@
+package io.openems.edge.common.cycle;
+
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * The phases of a Cycle, in order of execution. Each phase corresponds to one
+ * of the EdgeEventConstants.TOPIC_CYCLE_* Event topics.
+ */
+public enum CyclePhase {
+	BEFORE_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE), //
+	AFTER_PROCESS_IMAGE(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE), //
+	BEFORE_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS), //
+	AFTER_CONTROLLERS(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS), //
+	BEFORE_WRITE(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE), //
+	EXECUTE_WRITE(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE), //
+	AFTER_WRITE(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+
+	private static final CyclePhase[] VALUES = values();
+
+	private final String topic;
+
+	private CyclePhase(String topic) {
+		this.topic = topic;
+	}
+
+	/**
+	 * Gets the Event topic of this {@link CyclePhase}.
+	 *
+	 * @return the topic
+	 */
+	public String getTopic() {
+		return this.topic;
+	}
+
+	/**
+	 * Gets the {@link CyclePhase} for an Event topic.
+	 *
+	 * @param topic the Event topic
+	 * @return the {@link CyclePhase}; null if the topic is not a Cycle topic
+	 */
+	public static CyclePhase fromTopic(String topic) {
+		for (var phase : VALUES) {
+			if (phase.topic.equals(topic)) {
+				return phase;
+			}
+		}
+		return null;
+	}
+}
@@ -41,6 +41,8 @@ import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.component.ClockProvider;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.cycle.CycleEventHandler;
+import io.openems.edge.common.cycle.CyclePhase;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -718,7 +720,10 @@ public abstract class AbstractComponentTest<SELF extends AbstractComponentTest<S
 
 	/**
 	 * If the 'system-under-test' is a {@link EventHandler} call the
-	 * {@link EventHandler#handleEvent(Event)} method.
+	 * {@link EventHandler#handleEvent(Event)} method. If it is a
+	 * {@link CycleEventHandler} that subscribed to the corresponding
+	 * {@link CyclePhase} call the
+	 * {@link CycleEventHandler#handleCycleEvent(CyclePhase)} method.
 	 *
 	 * @param topic the {@link Event} topic
 	 * @throws Exception on error
@@ -729,6 +734,12 @@ public abstract class AbstractComponentTest<SELF extends AbstractComponentTest<S
 			var event = new Event(topic, new HashMap<String, Object>());
 			((EventHandler) this.sut).handleEvent(event);
 		}
+		if (this.sut instanceof CycleEventHandler handler) {
+			var phase = CyclePhase.fromTopic(topic);
+			if (phase != null && handler.getCyclePhases().contains(phase)) {
+				handler.handleCycleEvent(phase);
+			}
+		}
 	}
 
 	/**
@@ -0,0 +1,126 @@
+package io.openems.edge.common.channel.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+public class PastValuesTest {
+
+	private static final long START = 1_700_000_000_000L;
+
+	private static Value<Integer> value(int value, long timestamp) {
+		return new Value<>(null, value, timestamp);
+	}
+
+	@Test
+	public void testAddAndQuery() {
+		var sut = new PastValues<Integer>();
+		assertNull(sut.getLatest());
+
+		var v0 = value(0, START);
+		var v1 = value(1, START + 1000);
+		var v2 = value(2, START + 2000);
+		sut.add(v0);
+		sut.add(v1);
+		sut.add(v1); // same instance is ignored
+		sut.add(v2);
+
+		assertEquals(3, sut.size());
+		assertSame(v2, sut.getLatest());
+		assertSame(v1, sut.getFloor(START + 1999));
+		assertNull(sut.getFloor(START - 1));
+		assertEquals(2, sut.getValues(START + 1000, START + 3000).size());
+		assertEquals(1, sut.getValues(START, START + 1000).size());
+		assertEquals(3, sut.getValues().size());
+		assertEquals(3, sut.toTreeMap().size());
+
+		var descending = new ArrayList<Value<Integer>>();
+		sut.forEachDescending(descending::add);
+		assertSame(v2, descending.get(0));
+		assertSame(v0, descending.get(2));
+	}
+
+	@Test
+	public void testEvictAndGrow() {
+		var sut = new PastValues<Integer>();
+		var count = PastValues.EXPECTED_CAPACITY * 3;
+		for (var i = 0; i < count; i++) {
+			sut.add(value(i, START + i * 1000L));
+		}
+		// Only values within MAX_AGE_MILLIS are kept
+		assertEquals(PastValues.EXPECTED_CAPACITY, sut.size());
+		assertEquals(count - 1, sut.getLatest().get().intValue());
+		assertEquals(count - PastValues.EXPECTED_CAPACITY, sut.getValues().get(0).get().intValue());
+
+		// Shorter Cycle-Time: grows beyond expected capacity
+		sut.clear();
+		for (var i = 0; i < count; i++) {
+			sut.add(value(i, START + i * 100L));
+		}
+		assertEquals(count, sut.size());
+	}
+
+	@Test
+	public void testClockSetBack() {
+		var sut = new PastValues<Integer>();
+		sut.add(value(0, START));
+		sut.add(value(1, START + 1000));
+		sut.add(value(2, START - 5000));
+		assertEquals(1, sut.size());
+		assertEquals(2, sut.getLatest().get().intValue());
+	}
+
+	@Ignore // Remove '@Ignore' tag to compare allocations of TreeMap and PastValues
+	@Test
+	public void benchmark() {
+		final var channels = 20_000;
+		final var cycles = 600;
+
+		var treeMapBytes = measureAllocatedBytes(() -> {
+			var maps = new ArrayList<TreeMap<LocalDateTime, Value<Integer>>>(channels);
+			for (var c = 0; c < channels; c++) {
+				maps.add(new TreeMap<>());
+			}
+			for (var i = 0; i < cycles; i++) {
+				for (var map : maps) {
+					var value = value(i, START + i * 1000L);
+					var timestamp = value.getTimestamp();
+					map.put(timestamp, value);
+					map.headMap(timestamp.minusSeconds(310)).clear();
+				}
+			}
+		});
+
+		var pastValuesBytes = measureAllocatedBytes(() -> {
+			var buffers = new ArrayList<PastValues<Integer>>(channels);
+			for (var c = 0; c < channels; c++) {
+				buffers.add(new PastValues<>());
+			}
+			for (var i = 0; i < cycles; i++) {
+				for (var buffer : buffers) {
+					buffer.add(value(i, START + i * 1000L));
+				}
+			}
+		});
+
+		System.out.println(String.format("%d Channels, %d Cycles: TreeMap [%d MB] PastValues [%d MB]", //
+				channels, cycles, treeMapBytes / 1_000_000, pastValuesBytes / 1_000_000));
+	}
+
+	private static long measureAllocatedBytes(Runnable runnable) {
+		var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		var threadId = Thread.currentThread().getId();
+		var before = bean.getThreadAllocatedBytes(threadId);
+		runnable.run();
+		return bean.getThreadAllocatedBytes(threadId) - before;
+	}
+
+}
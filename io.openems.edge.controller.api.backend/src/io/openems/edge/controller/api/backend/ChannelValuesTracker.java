@@ -0,0 +1,303 @@
+package io.openems.edge.controller.api.backend;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+import io.openems.common.jsonrpc.notification.ChannelValuesChecksumNotification;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.EnumDoc;
+
+/**
+ * Tracks the last sent value of every Channel and detects changes.
+ *
+ * <p>
+ * Values are held as primitives per Channel; a {@link JsonElement} is only
+ * created for changed values. Numeric values within a configurable
+ * {@link Deadband} of the last sent value are not reported as changed.
+ * Channels that disappeared are reported once with a {@link JsonNull} value.
+ *
+ * <p>
+ * {@link #collectChanges(Iterable)} is called synchronously with the Cycle;
+ * {@link #commit(Delta)} is called after the {@link Delta} was sent
+ * successfully. If sending fails, the next {@link Delta} again contains all
+ * changes since the last successful send.
+ *
+ * <p>
+ * The tracker keeps an order independent checksum of all sent values, see
+ * {@link ChannelValuesChecksumNotification}.
+ */
+public class ChannelValuesTracker {
+
+	/**
+	 * Tolerances for numeric Channels. Values that differ from the last sent
+	 * value by at most the tolerance are not sent. Never applied to cumulated
+	 * values (e.g. energy) and to Enum Channels.
+	 *
+	 * @param floatingPoint tolerance for FLOAT and DOUBLE Channels
+	 * @param integer       tolerance for SHORT, INTEGER and LONG Channels
+	 */
+	public static record Deadband(double floatingPoint, long integer) {
+
+		/** No tolerance; every change is sent. */
+		public static final Deadband NONE = new Deadband(0, 0);
+	}
+
+	/**
+	 * The changes of one Cycle.
+	 */
+	public static class Delta {
+
+		private final List<Slot> slots;
+		private final List<String> removed;
+		private final boolean isFullSnapshot;
+
+		private Delta(List<Slot> slots, List<String> removed, boolean isFullSnapshot) {
+			this.slots = slots;
+			this.removed = removed;
+			this.isFullSnapshot = isFullSnapshot;
+		}
+
+		/**
+		 * Gets the changed values as map of Channel-Address to value; removed
+		 * Channels have a {@link JsonNull} value.
+		 *
+		 * @return the values
+		 */
+		public Map<String, JsonElement> getValues() {
+			var result = new HashMap<String, JsonElement>(this.slots.size() + this.removed.size());
+			for (var slot : this.slots) {
+				result.put(slot.address, slot.json);
+			}
+			for (var address : this.removed) {
+				result.put(address, JsonNull.INSTANCE);
+			}
+			return result;
+		}
+
+		/**
+		 * Is this {@link Delta} empty?.
+		 *
+		 * @return true if there are no changes
+		 */
+		public boolean isEmpty() {
+			return this.slots.isEmpty() && this.removed.isEmpty();
+		}
+
+		/**
+		 * Did the tracker not know any sent values when this {@link Delta} was
+		 * collected, i.e. does it contain the values of all Channels?.
+		 *
+		 * @return true for a full snapshot
+		 */
+		public boolean isFullSnapshot() {
+			return this.isFullSnapshot;
+		}
+	}
+
+	private static class Slot {
+
+		private final String address;
+		private final boolean defined;
+		private final long bits;
+		private final String string;
+		private final JsonElement json;
+		private long hash;
+
+		private Slot(String address, boolean defined, long bits, String string, JsonElement json) {
+			this.address = address;
+			this.defined = defined;
+			this.bits = bits;
+			this.string = string;
+			this.json = json;
+		}
+	}
+
+	private static class Entry {
+
+		private Slot sent;
+		private long lastSeen;
+
+		private Entry(Slot sent) {
+			this.sent = sent;
+		}
+	}
+
+	/* Guarded by 'this' */
+	private final Map<String, Entry> entries = new HashMap<>();
+	private Deadband deadband = Deadband.NONE;
+	private long cycle = 0;
+	private long checksum = 0;
+	private int count = 0;
+
+	/**
+	 * Sets the {@link Deadband}.
+	 *
+	 * @param deadband the {@link Deadband}
+	 */
+	public synchronized void setDeadband(Deadband deadband) {
+		this.deadband = deadband;
+	}
+
+	/**
+	 * Forgets all sent values; the next {@link Delta} contains all Channels.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+		this.checksum = 0;
+		this.count = 0;
+	}
+
+	/**
+	 * Collects the changes since the last successful send.
+	 *
+	 * @param channels all Channels that should be sent
+	 * @return the {@link Delta}
+	 */
+	public synchronized Delta collectChanges(Iterable<? extends Channel<?>> channels) {
+		final var cycle = ++this.cycle;
+		final var isFullSnapshot = this.entries.isEmpty();
+		final var slots = new ArrayList<Slot>();
+		for (var channel : channels) {
+			final var address = channel.address().toString();
+			var entry = this.entries.get(address);
+			if (entry == null) {
+				entry = new Entry(null);
+				this.entries.put(address, entry);
+			}
+			entry.lastSeen = cycle;
+			final var slot = this.toSlotIfChanged(channel, entry.sent);
+			if (slot != null) {
+				slots.add(slot);
+			}
+		}
+
+		// Channels that disappeared
+		final var removed = new ArrayList<String>();
+		for (var e : this.entries.entrySet()) {
+			if (e.getValue().lastSeen != cycle) {
+				removed.add(e.getKey());
+			}
+		}
+		return new Delta(slots, removed, isFullSnapshot);
+	}
+
+	/**
+	 * Applies a successfully sent {@link Delta}.
+	 *
+	 * @param delta the {@link Delta}
+	 */
+	public synchronized void commit(Delta delta) {
+		for (var slot : delta.slots) {
+			slot.hash = ChannelValuesChecksumNotification.hash(slot.address, slot.json);
+			var entry = this.entries.get(slot.address);
+			if (entry == null) {
+				// Tracker was cleared in the meantime
+				entry = new Entry(null);
+				entry.lastSeen = this.cycle;
+				this.entries.put(slot.address, entry);
+			}
+			this.remove(entry.sent);
+			entry.sent = slot;
+			this.add(slot);
+		}
+		for (var address : delta.removed) {
+			var entry = this.entries.get(address);
+			if (entry != null && entry.lastSeen != this.cycle) {
+				this.remove(entry.sent);
+				this.entries.remove(address);
+			}
+		}
+	}
+
+	/**
+	 * Gets the checksum of all sent values.
+	 *
+	 * @return the checksum
+	 */
+	public synchronized long getChecksum() {
+		return this.checksum;
+	}
+
+	/**
+	 * Gets the number of sent non-null values.
+	 *
+	 * @return the count
+	 */
+	public synchronized int getCount() {
+		return this.count;
+	}
+
+	private void add(Slot slot) {
+		this.checksum += slot.hash;
+		if (slot.defined) {
+			this.count++;
+		}
+	}
+
+	private void remove(Slot slot) {
+		if (slot == null) {
+			return;
+		}
+		this.checksum -= slot.hash;
+		if (slot.defined) {
+			this.count--;
+		}
+	}
+
+	/**
+	 * Compares the current value of the Channel with the last sent value.
+	 *
+	 * @param channel the {@link Channel}
+	 * @param sent    the last sent {@link Slot}; null if nothing was sent
+	 * @return a new {@link Slot} if the value changed; null otherwise
+	 */
+	private Slot toSlotIfChanged(Channel<?> channel, Slot sent) {
+		final var value = channel.value();
+		final var object = value.get();
+		if (object == null) {
+			if (sent != null && !sent.defined) {
+				return null;
+			}
+			return new Slot(channel.address().toString(), false, 0, null, JsonNull.INSTANCE);
+		}
+
+		final var type = channel.getType();
+		final var string = type == OpenemsType.STRING ? object.toString() : null;
+		final long bits = switch (type) {
+		case BOOLEAN -> (Boolean) object ? 1 : 0;
+		case SHORT, INTEGER, LONG -> ((Number) object).longValue();
+		case FLOAT, DOUBLE -> Double.doubleToLongBits(((Number) object).doubleValue());
+		case STRING -> 0;
+		};
+
+		if (sent != null && sent.defined && this.isWithinDeadband(channel, type, sent, bits, string)) {
+			return null;
+		}
+		return new Slot(channel.address().toString(), true, bits, string, value.asJson());
+	}
+
+	private boolean isWithinDeadband(Channel<?> channel, OpenemsType type, Slot sent, long bits, String string) {
+		if (sent.bits == bits && (type != OpenemsType.STRING || sent.string.equals(string))) {
+			return true;
+		}
+		final var doc = channel.channelDoc();
+		if (doc instanceof EnumDoc || doc.getUnit().isCumulated()) {
+			return false;
+		}
+		return switch (type) {
+		case SHORT, INTEGER, LONG -> this.deadband.integer() > 0 //
+				&& Math.abs(sent.bits - bits) <= this.deadband.integer();
+		case FLOAT, DOUBLE -> this.deadband.floatingPoint() > 0 //
+				&& Math.abs(Double.longBitsToDouble(sent.bits) - Double.longBitsToDouble(bits)) //
+						<= this.deadband.floatingPoint();
+		case BOOLEAN, STRING -> false;
+		};
+	}
+
+}
@@ -49,6 +49,12 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Resend values Persistence Priority", description = "Resend only Channels with a Persistence Priority greater-or-equals this. Should match with the persistence priority configured in your timedata.")
 	PersistencePriority resendPriority() default PersistencePriority.HIGH;
 
+	@AttributeDefinition(name = "Floating point deadband", description = "Do not send changes of FLOAT and DOUBLE Channels up to this absolute value. Not applied to cumulated values.")
+	double floatingPointDeadband() default 0;
+
+	@AttributeDefinition(name = "Integer deadband", description = "Do not send changes of SHORT, INTEGER and LONG Channels up to this absolute value. Not applied to cumulated values and Enums.")
+	long integerDeadband() default 0;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -122,6 +122,10 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		// initialize ApiWorker
 		this.apiWorker.setTimeoutSeconds(config.apiTimeout());
 
+		// initialize SendChannelValuesWorker
+		this.sendChannelValuesWorker.setDeadband(
+				new ChannelValuesTracker.Deadband(config.floatingPointDeadband(), config.integerDeadband()));
+
 		// Get URI
 		URI uri = null;
 		try {
@@ -153,7 +157,8 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 				this.getLastSuccessFulResendChannel().address(), //
 				config.resendPriority(), //
 				t -> this.getLastSuccessFulResendChannel().setNextValue(t), //
-				t -> this.websocket.sendMessage(t) //
+				t -> this.websocket.sendMessage(t), //
+				() -> this.websocket.hasBufferedData() //
 		));
 		this.resendHistoricDataWorker.activate(this.id(), false);
 
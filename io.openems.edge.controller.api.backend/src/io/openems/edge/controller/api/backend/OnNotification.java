@@ -4,8 +4,11 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.binary.BinaryDataFormat;
+import io.openems.common.jsonrpc.notification.BinaryDataSupportedNotification;
+import io.openems.common.jsonrpc.notification.ResyncChannelValuesNotification;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
@@ -17,8 +20,18 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 	}
 
 	@Override
-	public void accept(WebSocket ws, JsonrpcNotification notification) throws OpenemsException {
-		this.parent.logWarn(this.log, "Unhandled Notification: " + notification);
+	public void accept(WebSocket ws, JsonrpcNotification notification) throws OpenemsNamedException {
+		switch (notification.getMethod()) {
+		case ResyncChannelValuesNotification.METHOD ->
+			this.parent.sendChannelValuesWorker.resyncChannelValues();
+		case BinaryDataSupportedNotification.METHOD -> {
+			var n = BinaryDataSupportedNotification.from(notification);
+			if (n.version == BinaryDataFormat.VERSION) {
+				this.parent.websocket.enableBinaryData(n.getPreferredCompression());
+			}
+		}
+		default -> this.parent.logWarn(this.log, "Unhandled Notification: " + notification);
+		}
 	}
 
 }
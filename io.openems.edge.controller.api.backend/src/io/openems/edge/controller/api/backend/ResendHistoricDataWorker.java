@@ -12,6 +12,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -52,7 +53,8 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 			ChannelAddress addressForSuccessfulResend, //
 			PersistencePriority resendPriority, //
 			Consumer<? super Long> onLastSuccessfulResendUpdated, //
-			Function<? super JsonrpcMessage, Boolean> onSendData //
+			Function<? super JsonrpcMessage, Boolean> onSendData, //
+			BooleanSupplier hasBufferedData //
 	) {
 
 	}
@@ -72,7 +74,12 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 	protected static final int DELAY_TRIGGER_TIME = 300_000; // [milliseconds] 5 min
 	private static final int MAX_RANDOM_DELAY = 3_600_000; // [milliseconds] 1 h
 	private static final int BUFFER_SECONDS = 300; // [seconds] 5 min
-	private static final int MAX_RESEND_TIMESPAN_SECONDS = 300; // [seconds] 5 min
+	protected static final int MIN_RESEND_TIMESPAN_SECONDS = 300; // [seconds] 5 min
+	protected static final int MAX_RESEND_TIMESPAN_SECONDS = 21_600; // [seconds] 6 h
+	protected static final int MAX_VALUES_PER_MESSAGE = 100_000;
+	protected static final long TARGET_SEND_MILLIS = 1_000; // [milliseconds] 1 s
+	private static final long MAX_SEND_MILLIS = 60_000; // [milliseconds] 1 min
+	private static final long SEND_POLL_MILLIS = 50; // [milliseconds]
 
 	private final Logger log = LoggerFactory.getLogger(ResendHistoricDataWorker.class);
 
@@ -82,6 +89,12 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 
 	private Config config;
 
+	/**
+	 * Timespan of one {@link ResendDataNotification}; adapted to the throughput
+	 * of the connection.
+	 */
+	private long resendTimespan = MIN_RESEND_TIMESPAN_SECONDS;
+
 	/**
 	 * Trigger helper variable to delay execution of the forever method by
 	 * DELAY_TRIGGER_TIME. If during the forever method timedata or the
@@ -147,36 +160,95 @@ public final class ResendHistoricDataWorker extends AbstractWorker {
 
 		final var channelsToResend = this.getChannelsToResend(config.resendPriority());
 
-		// maximum of 5 minutes range of resend data
-		for (var timerange : timeranges.maxDataInTime(MAX_RESEND_TIMESPAN_SECONDS)) {
-			final var from = Instant.ofEpochSecond(timerange.getMinTimestamp()).atZone(now.getZone());
-			final var to = Instant.ofEpochSecond(timerange.getMaxTimestamp()).atZone(now.getZone());
-
-			timedata = this.timedata;
-			if (timedata == null) {
-				synchronized (this.triggerState) {
-					timedata = this.timedata;
-					if (timedata == null) {
-						this.triggerState.set(TriggerState.WAITING_FOR_TIMEDATA);
-						this.log.info("Missing timedata reference!");
-						return;
+		for (var timerange : timeranges.getTimerangeAscending()) {
+			var fromTimestamp = timerange.getMinTimestamp();
+			while (fromTimestamp <= timerange.getMaxTimestamp()) {
+				final var toTimestamp = Math.min(fromTimestamp + this.resendTimespan - 1, timerange.getMaxTimestamp());
+				final var from = Instant.ofEpochSecond(fromTimestamp).atZone(now.getZone());
+				final var to = Instant.ofEpochSecond(toTimestamp).atZone(now.getZone());
+
+				timedata = this.timedata;
+				if (timedata == null) {
+					synchronized (this.triggerState) {
+						timedata = this.timedata;
+						if (timedata == null) {
+							this.triggerState.set(TriggerState.WAITING_FOR_TIMEDATA);
+							this.log.info("Missing timedata reference!");
+							return;
+						}
 					}
 				}
-			}
 
-			final var data = timedata.queryResendData(from, to, channelsToResend);
+				// Values are put directly into the table of the notification
+				final var data = TreeBasedTable.<Long, String, JsonElement>create();
+				timedata.queryResendData(from, to, channelsToResend, (timestamp, channel, value) -> {
+					data.put(timestamp, channel.toString(), value);
+				});
+
+				final var start = System.nanoTime();
+				final var successful = data.isEmpty() //
+						|| config.onSendData().apply(new ResendDataNotification(data));
+				if (!successful) {
+					// if data can not be send wait for next trigger
+					this.log.warn("Unable to resend data!");
+					return;
+				}
 
-			final var successful = config.onSendData().apply(new ResendDataNotification(mapResendData(data)));
+				// Wait till the data is actually written to the connection
+				final var sent = awaitSent(config.hasBufferedData());
+				this.resendTimespan = getNextResendTimespan(this.resendTimespan, data.size(),
+						(System.nanoTime() - start) / 1_000_000);
+				if (!sent) {
+					// connection is too slow; resend this chunk on next trigger
+					this.log.warn("Unable to resend data: connection is too slow");
+					return;
+				}
+				config.onLastSuccessfulResendUpdated().accept(toTimestamp);
 
-			if (successful) {
-				config.onLastSuccessfulResendUpdated().accept(timerange.getMaxTimestamp());
-			} else {
-				// if data can not be send wait for next trigger
-				this.log.warn("Unable to resend data!");
-				return;
+				fromTimestamp = toTimestamp + 1;
+			}
+		}
+	}
+
+	/**
+	 * Waits till there is no more buffered data to send.
+	 * 
+	 * @param hasBufferedData whether there is buffered data
+	 * @return false if the data was not sent within {@link #MAX_SEND_MILLIS}
+	 * @throws InterruptedException on interrupt
+	 */
+	private static boolean awaitSent(BooleanSupplier hasBufferedData) throws InterruptedException {
+		final var start = System.nanoTime();
+		while (hasBufferedData.getAsBoolean()) {
+			if ((System.nanoTime() - start) / 1_000_000 > MAX_SEND_MILLIS) {
+				return false;
 			}
+			Thread.sleep(SEND_POLL_MILLIS);
 		}
+		return true;
+	}
 
+	/**
+	 * Calculates the timespan of the next {@link ResendDataNotification}.
+	 * 
+	 * <p>
+	 * The timespan is doubled while messages are sent fast and halved as soon as
+	 * sending takes longer than {@link #TARGET_SEND_MILLIS} or a message gets too
+	 * large.
+	 * 
+	 * @param timespan   the current timespan in seconds
+	 * @param values     the number of values in the last message
+	 * @param sendMillis the time in milliseconds it took to send the last message
+	 * @return the next timespan in seconds
+	 */
+	protected static long getNextResendTimespan(long timespan, int values, long sendMillis) {
+		if (values > MAX_VALUES_PER_MESSAGE || sendMillis > TARGET_SEND_MILLIS) {
+			return Math.max(MIN_RESEND_TIMESPAN_SECONDS, timespan / 2);
+		}
+		if (sendMillis < TARGET_SEND_MILLIS / 2 && values <= MAX_VALUES_PER_MESSAGE / 2) {
+			return Math.min(MAX_RESEND_TIMESPAN_SECONDS, timespan * 2);
+		}
+		return timespan;
 	}
 
 	@Reference(//
@@ -12,8 +12,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -24,8 +22,6 @@ import java.util.stream.Collector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.TreeBasedTable;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
@@ -33,12 +29,15 @@ import com.google.gson.JsonPrimitive;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ChannelValuesChecksumNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.value.PastValues;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.TypeUtils;
 
@@ -48,13 +47,17 @@ import io.openems.edge.common.type.TypeUtils;
  * asynchronous task.
  *
  * <p>
- * The logic tries to send changed values once per Cycle and all values once
- * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ * The logic sends changed values once per Cycle, as detected by the
+ * {@link ChannelValuesTracker}. Instead of repeating the values of all
+ * Channels, a {@link ChannelValuesChecksumNotification} is sent every
+ * {@link #SEND_CHECKSUM_AFTER_SECONDS}; the Backend answers with a
+ * {@link io.openems.common.jsonrpc.notification.ResyncChannelValuesNotification}
+ * if its cache does not match.
  */
 public class SendChannelValuesWorker {
 
 	private static final int AGGREGATION_MINUTES = 5;
-	private static final int SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS = 300; /* 5 minutes */
+	private static final int SEND_CHECKSUM_AFTER_SECONDS = 300; /* 5 minutes */
 
 	private final Logger log = LoggerFactory.getLogger(SendChannelValuesWorker.class);
 
@@ -72,14 +75,14 @@ public class SendChannelValuesWorker {
 	private final AtomicBoolean sendValuesOfAllChannelsAggregated = new AtomicBoolean(true);
 
 	/**
-	 * Keeps the last timestamp when all channel values were sent.
+	 * Keeps the last timestamp when the checksum was sent.
 	 */
-	private Instant lastSendValuesOfAllChannels = Instant.MIN;
+	private Instant lastSendChecksum = Instant.MIN;
 
 	/**
 	 * Keeps the values of last successful send.
 	 */
-	private Map<String, JsonElement> lastAllValues = ImmutableMap.of();
+	private final ChannelValuesTracker tracker = new ChannelValuesTracker();
 
 	private Instant lastSendAggregatedDataTimestamp;
 
@@ -95,6 +98,23 @@ public class SendChannelValuesWorker {
 		this.sendValuesOfAllChannelsAggregated.set(true);
 	}
 
+	/**
+	 * Triggers sending all Channel values once, e.g. on request of the Backend;
+	 * aggregated values are not affected.
+	 */
+	public void resyncChannelValues() {
+		this.sendValuesOfAllChannels.set(true);
+	}
+
+	/**
+	 * Sets the {@link ChannelValuesTracker.Deadband} for numeric Channels.
+	 *
+	 * @param deadband the {@link ChannelValuesTracker.Deadband}
+	 */
+	public void setDeadband(ChannelValuesTracker.Deadband deadband) {
+		this.tracker.setDeadband(deadband);
+	}
+
 	/**
 	 * Stops the {@link SendChannelValuesWorker}.
 	 */
@@ -110,57 +130,62 @@ public class SendChannelValuesWorker {
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
-		// Update the values of all channels
+		// Send values of all Channels if explicitly asked for
+		if (this.sendValuesOfAllChannels.getAndSet(false)) {
+			this.tracker.clear();
+		}
+
+		// Collect the changed values of all channels
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		final var delta = this.collectData(enabledComponents);
 		final var aggregatedValues = this.collectAggregatedData(enabledComponents);
 
-		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		// Add to send Queue; unchanged Cycles are not sent
+		if (delta != null && !delta.isEmpty()) {
+			this.executor.execute(new SendTask(this, now, delta));
+		}
 		if (aggregatedValues != null && !aggregatedValues.isEmpty()) {
-			aggregatedValues.rowMap().forEach((timestamp, data) -> {
-				this.executor.execute(new SendAggregatedDataTask(this, Instant.ofEpochMilli(timestamp), data));
-			});
+			this.executor.execute(new SendAggregatedDataTask(this, this.lastSendAggregatedDataTimestamp, //
+					aggregatedValues));
 		}
 	}
 
 	/**
-	 * Cycles through all Channels and collects the value.
+	 * Cycles through all Channels and collects the changed values.
 	 *
 	 * @param enabledComponents the enabled components
-	 * @return collected data
+	 * @return the {@link ChannelValuesTracker.Delta}; null on error
 	 */
-	private ImmutableMap<String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
+	private ChannelValuesTracker.Delta collectData(List<OpenemsComponent> enabledComponents) {
 		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
-							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(//
-							ImmutableMap.toImmutableMap(//
-									c -> c.address().toString(), //
-									c -> c.value().asJson(), //
-									// simple/stupid merge function to avoid
-									// 'java.lang.IllegalArgumentException Duplicate Key'
-									(t, u) -> {
-										this.parent.logWarn(this.log, "Duplicate Key [" + t.toString() + "]");
-										return t;
-									}));
+			final var persistencePriority = this.parent.config.persistencePriority();
+			final var channels = new ArrayList<Channel<?>>();
+			for (var component : enabledComponents) {
+				for (var channel : component.channels()) {
+					final var doc = channel.channelDoc();
+					// Ignore WRITE_ONLY and Low-Priority Channels
+					if (doc.getAccessMode() != AccessMode.WRITE_ONLY
+							&& doc.getPersistencePriority().isAtLeast(persistencePriority)) {
+						channels.add(channel);
+					}
+				}
+			}
+			return this.tracker.collectChanges(channels);
+
 		} catch (Exception e) {
 			// ConcurrentModificationException can happen if Channels are dynamically added
 			// or removed
 			this.parent.logWarn(this.log, "Unable to collect date: " + e.getMessage());
-			return ImmutableMap.of();
+			return null;
 		}
 	}
 
-	private TreeBasedTable<Long, String, JsonElement> collectAggregatedData(List<OpenemsComponent> enabledComponents) {
+	private Map<String, JsonElement> collectAggregatedData(List<OpenemsComponent> enabledComponents) {
 		final var now = LocalDateTime.now(this.parent.componentManager.getClock());
 		final var endTime = now.truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES));
 		final var startTime = endTime.minusMinutes(AGGREGATION_MINUTES);
+		final var startMillis = PastValues.toEpochMilli(startTime);
+		final var endMillis = PastValues.toEpochMilli(endTime);
 
 		final var timestamp = Instant.now().truncatedTo(DurationUnit.ofMinutes(AGGREGATION_MINUTES)) //
 				.minus(AGGREGATION_MINUTES, ChronoUnit.MINUTES);
@@ -172,11 +197,10 @@ public class SendChannelValuesWorker {
 			return null;
 		}
 		this.lastSendAggregatedDataTimestamp = timestamp;
-		final var timestampMillis = timestamp.toEpochMilli();
 
 		final var sendAllChannels = this.sendValuesOfAllChannelsAggregated.getAndSet(false);
 
-		final var table = TreeBasedTable.<Long, String, JsonElement>create();
+		final var values = new HashMap<String, JsonElement>();
 		enabledComponents.stream() //
 				.flatMap(component -> component.channels().stream()) //
 				.filter(channel -> // Ignore WRITE_ONLY Channels
@@ -186,37 +210,38 @@ public class SendChannelValuesWorker {
 								.isAtLeast(this.parent.config.aggregationPriority()))
 				.forEach(channel -> {
 					try {
-						// This is the highest timestamp before `startTime`. If existing it is used for
-						// the tailMap to make sure we get a Value even for Channels where the value has
+						final var pastValues = channel.pastValues();
+
+						// This is the highest timestamp before `startTime`. If existing it is used as
+						// start to make sure we get a Value even for Channels where the value has
 						// not changed within the last 5 minutes.
-						var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(startTime))
-								.orElse(startTime);
-
-						var value = channel.getPastValues() //
-								.tailMap(channelStartTime, true) //
-								.entrySet() //
-								.stream() //
-								.filter(e -> e.getKey().isBefore(endTime)) //
-								.filter(e -> e.getValue().isDefined()).map(e -> e.getValue().get()) //
+						final var channelStartValue = pastValues.getFloor(startMillis);
+						final var channelStartTime = channelStartValue != null //
+								? channelStartValue.getTimestampMillis() //
+								: startMillis;
+
+						var value = pastValues.getValues(channelStartTime, endMillis).stream() //
+								.filter(Value::isDefined) //
+								.map(Value::get) //
 								.collect(aggregateCollector(channel.channelDoc().getUnit().isCumulated(), //
 										channel.getType()));
 
 						// TODO aggregation should be modifiable in Doc e. g. not every EnumDoc may want
 						// this behaviour
 						if (channel.channelDoc() instanceof EnumDoc) {
-							value = aggregateEnumChannel(channel, channelStartTime, endTime);
+							value = aggregateEnumChannel(channel, channelStartTime, endMillis);
 						}
 
 						if (!sendAllChannels && value.isJsonNull()) {
 							return;
 						}
-						table.put(timestampMillis, channel.address().toString(), value);
+						values.put(channel.address().toString(), value);
 					} catch (IllegalArgumentException e) {
 						// unable to collect data because types are not matching the expected one
 						e.printStackTrace();
 					}
 				});
-		return table;
+		return values;
 	}
 
 	// TODO aggregation should be moved to doc
@@ -224,18 +249,24 @@ public class SendChannelValuesWorker {
 			Channel<?> channel, //
 			LocalDateTime channelStartTime, //
 			LocalDateTime endTime //
+	) {
+		return aggregateEnumChannel(channel, PastValues.toEpochMilli(channelStartTime),
+				PastValues.toEpochMilli(endTime));
+	}
+
+	protected static JsonElement aggregateEnumChannel(//
+			Channel<?> channel, //
+			long channelStartTime, //
+			long endTime //
 	) {
 		final var doc = channel.channelDoc();
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+		final var pastValues = channel.pastValues();
+		final var numberOfValuesPerOption = pastValues.getValues(channelStartTime, endTime).stream() //
+				.filter(Value::isDefined) //
+				.map(v -> (Integer) v.get()) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -258,13 +289,15 @@ public class SendChannelValuesWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
+		final var allValues = pastValues.getValues();
+		for (var i = allValues.size() - 1; i >= 0; i--) {
+			final var value = allValues.get(i);
+			if (!value.isDefined()) {
+				continue;
+			}
+			final var entryValue = (Integer) value.get();
 			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
+				if (entryValue.intValue() == optionValue) {
 					return new JsonPrimitive(optionValue);
 				}
 			}
@@ -330,6 +363,29 @@ public class SendChannelValuesWorker {
 		return JsonNull.INSTANCE;
 	}
 
+	/**
+	 * Decides if a {@link ChannelValuesChecksumNotification} should be sent after
+	 * the given {@link ChannelValuesTracker.Delta} was sent.
+	 *
+	 * <p>
+	 * The Backend only verifies a checksum against the timestamp of the last
+	 * values it received, so a checksum is never sent for an empty
+	 * {@link ChannelValuesTracker.Delta}.
+	 *
+	 * @param delta            the sent {@link ChannelValuesTracker.Delta}
+	 * @param lastSendChecksum the timestamp of the last sent checksum
+	 * @param timestamp        the timestamp of the {@link ChannelValuesTracker.Delta}
+	 * @return true if the checksum should be sent
+	 */
+	protected static boolean isSendChecksum(ChannelValuesTracker.Delta delta, Instant lastSendChecksum,
+			Instant timestamp) {
+		if (delta.isEmpty()) {
+			return false;
+		}
+		return delta.isFullSnapshot()
+				|| Duration.between(lastSendChecksum, timestamp).getSeconds() > SEND_CHECKSUM_AFTER_SECONDS;
+	}
+
 	/*
 	 * From here things run asynchronously.
 	 */
@@ -337,51 +393,22 @@ public class SendChannelValuesWorker {
 
 		private final SendChannelValuesWorker parent;
 		private final Instant timestamp;
-		private final Map<String, JsonElement> allValues;
+		private final ChannelValuesTracker.Delta delta;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp, Map<String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent, Instant timestamp, ChannelValuesTracker.Delta delta) {
 			this.parent = parent;
 			this.timestamp = timestamp;
-			this.allValues = allValues;
+			this.delta = delta;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Map<String, JsonElement> lastAllValues;
-
-			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableMap.of();
-
-			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
-					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableMap.of();
-
-			} else {
-				// Actually use the kept 'lastSentValues'
-				// CHECKSTYLE:OFF
-				lastAllValues = this.parent.lastAllValues;
-				// CHECKSTYLE:ON
-			}
-
 			// Round timestamp to Global Cycle-Time
 			final var cycleTime = this.parent.parent.cycle.getCycleTime();
 			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
 
 			// Prepare message values
-			var sendValuesMap = new HashMap<String, JsonElement>();
-
-			// Collect Changed values
-			for (var entry : this.allValues.entrySet()) {
-				var channelAddress = entry.getKey();
-				var value = entry.getValue();
-				if (!Objects.equals(value, lastAllValues.get(channelAddress))) {
-					sendValuesMap.put(channelAddress, value);
-				}
-			}
+			final var sendValuesMap = this.delta.getValues();
 
 			// Create JSON-RPC notification
 			var message = new TimestampedDataNotification();
@@ -395,16 +422,23 @@ public class SendChannelValuesWorker {
 
 			// Try to send
 			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			if (!wasSent) {
+				// Changes are sent again with the next Delta
+				return;
+			}
 
-			if (wasSent) {
-				// Successfully sent: update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
-					this.parent.lastSendValuesOfAllChannels = this.timestamp;
+			// Successfully sent: update information for next runs
+			final var tracker = this.parent.tracker;
+			tracker.commit(this.delta);
+
+			// Send checksum once in a while and after values of all Channels were sent
+			if (isSendChecksum(this.delta, this.parent.lastSendChecksum, this.timestamp)) {
+				var checksum = new ChannelValuesChecksumNotification(timestampMillis, tracker.getCount(),
+						tracker.getChecksum());
+				if (this.parent.parent.websocket.sendMessage(checksum)) {
+					this.parent.lastSendChecksum = this.timestamp;
 				}
 			}
-
 		}
 
 	}
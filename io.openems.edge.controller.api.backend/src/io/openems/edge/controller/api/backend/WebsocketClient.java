@@ -11,6 +11,10 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.binary.BinaryDataEncoder;
+import io.openems.common.jsonrpc.binary.BinaryDataFormat.Compression;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.websocket.AbstractWebsocketClient;
 import io.openems.common.websocket.OnClose;
 
@@ -24,6 +28,12 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
+	/**
+	 * Encoder for binary data notifications; null if the Backend did not announce
+	 * support. Guarded by 'this'.
+	 */
+	private BinaryDataEncoder binaryDataEncoder = null;
+
 	protected WebsocketClient(ControllerApiBackendImpl parent, String name, URI serverUri,
 			Map<String, String> httpHeaders, Proxy proxy) {
 		super(name, serverUri, httpHeaders, proxy);
@@ -35,6 +45,7 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
+			this.disableBinaryData();
 		};
 	}
 
@@ -83,6 +94,60 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.parent.logError(log, message);
 	}
 
+	/**
+	 * Gets whether there is outgoing data, that was not yet written to the
+	 * connection.
+	 *
+	 * @return true if there is buffered data
+	 */
+	public boolean hasBufferedData() {
+		return this.ws.hasBufferedData();
+	}
+
+	@Override
+	public boolean sendMessage(JsonrpcMessage message) {
+		if (message instanceof AbstractDataNotification n && BinaryDataEncoder.isSupported(n)) {
+			synchronized (this) {
+				if (this.binaryDataEncoder != null) {
+					final byte[] frame;
+					try {
+						frame = this.binaryDataEncoder.encode(n);
+					} catch (RuntimeException e) {
+						this.parent.logWarn(this.log, "Unable to encode binary data: " + e.getMessage());
+						this.disableBinaryData();
+						return super.sendMessage(message);
+					}
+					if (this.sendBinaryMessage(this.ws, frame)) {
+						return true;
+					}
+					// Dictionary of the encoder is not in sync with the Backend anymore
+					this.disableBinaryData();
+					return false;
+				}
+			}
+		}
+		return super.sendMessage(message);
+	}
+
+	/**
+	 * Enables sending of data notifications in binary format, after the Backend
+	 * announced support.
+	 *
+	 * @param compression the {@link Compression}
+	 */
+	protected synchronized void enableBinaryData(Compression compression) {
+		this.disableBinaryData();
+		this.binaryDataEncoder = new BinaryDataEncoder(compression);
+		this.parent.logInfo(this.log, "Sending data in binary format with compression [" + compression + "]");
+	}
+
+	private synchronized void disableBinaryData() {
+		if (this.binaryDataEncoder != null) {
+			this.binaryDataEncoder.close();
+			this.binaryDataEncoder = null;
+		}
+	}
+
 	public boolean isConnected() {
 		return this.ws.isOpen();
 	}
@@ -0,0 +1,171 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.jsonrpc.notification.ChannelValuesChecksumNotification;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+
+public class ChannelValuesTrackerTest {
+
+	private static class DummyComponent extends AbstractOpenemsComponent implements OpenemsComponent {
+
+		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			POWER(Doc.of(OpenemsType.INTEGER) //
+					.unit(Unit.WATT)), //
+			ENERGY(Doc.of(OpenemsType.LONG) //
+					.unit(Unit.CUMULATED_WATT_HOURS)), //
+			VOLTAGE(Doc.of(OpenemsType.DOUBLE) //
+					.unit(Unit.VOLT)), //
+			NAME(Doc.of(OpenemsType.STRING)), //
+			;
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		public DummyComponent(String id) {
+			super(//
+					OpenemsComponent.ChannelId.values(), //
+					ChannelId.values() //
+			);
+			super.activate(null, id, "", true);
+		}
+
+		private void set(ChannelId channelId, Object value) {
+			var channel = this.channel(channelId);
+			channel.setNextValue(value);
+			channel.nextProcessImage();
+		}
+
+		private List<Channel<?>> trackedChannels() {
+			return List.of(this.channel(ChannelId.POWER), this.channel(ChannelId.ENERGY),
+					this.channel(ChannelId.VOLTAGE), this.channel(ChannelId.NAME));
+		}
+	}
+
+	@Test
+	public void testChanges() {
+		var component = new DummyComponent("dummy0");
+		var channels = component.trackedChannels();
+		var sut = new ChannelValuesTracker();
+
+		// Full snapshot, including undefined values
+		var delta = sut.collectChanges(channels);
+		assertTrue(delta.isFullSnapshot());
+		assertEquals(4, delta.getValues().size());
+		assertEquals(JsonNull.INSTANCE, delta.getValues().get("dummy0/Power"));
+		sut.commit(delta);
+		assertEquals(0, sut.getCount());
+		assertEquals(0, sut.getChecksum());
+
+		// Nothing changed
+		assertTrue(sut.collectChanges(channels).isEmpty());
+
+		// Changes
+		component.set(DummyComponent.ChannelId.POWER, 1000);
+		component.set(DummyComponent.ChannelId.NAME, "foo");
+		delta = sut.collectChanges(channels);
+		assertFalse(delta.isFullSnapshot());
+		assertEquals(Map.of("dummy0/Power", 1000, "dummy0/Name", "foo"), toPrimitives(delta.getValues()));
+
+		// Not committed -> changes are collected again
+		delta = sut.collectChanges(channels);
+		assertEquals(2, delta.getValues().size());
+		sut.commit(delta);
+		assertEquals(2, sut.getCount());
+		assertEquals(ChannelValuesChecksumNotification.checksum(delta.getValues()), sut.getChecksum());
+		assertTrue(sut.collectChanges(channels).isEmpty());
+
+		// Clear -> full snapshot
+		sut.clear();
+		delta = sut.collectChanges(channels);
+		assertTrue(delta.isFullSnapshot());
+		assertEquals(4, delta.getValues().size());
+	}
+
+	@Test
+	public void testDeadband() {
+		var component = new DummyComponent("dummy0");
+		var channels = component.trackedChannels();
+		var sut = new ChannelValuesTracker();
+		sut.setDeadband(new ChannelValuesTracker.Deadband(0.5, 10));
+
+		component.set(DummyComponent.ChannelId.POWER, 1000);
+		component.set(DummyComponent.ChannelId.ENERGY, 5000L);
+		component.set(DummyComponent.ChannelId.VOLTAGE, 230.0);
+		sut.commit(sut.collectChanges(channels));
+
+		// Within deadband; cumulated values are always sent
+		component.set(DummyComponent.ChannelId.POWER, 1010);
+		component.set(DummyComponent.ChannelId.ENERGY, 5001L);
+		component.set(DummyComponent.ChannelId.VOLTAGE, 230.4);
+		assertEquals(Map.of("dummy0/Energy", 5001), toPrimitives(sut.collectChanges(channels).getValues()));
+
+		// Exceeds deadband
+		component.set(DummyComponent.ChannelId.POWER, 1011);
+		component.set(DummyComponent.ChannelId.VOLTAGE, 229.4);
+		var values = toPrimitives(sut.collectChanges(channels).getValues());
+		assertEquals(1011, values.get("dummy0/Power"));
+		assertEquals(229.4, (double) values.get("dummy0/Voltage"), 0.001);
+	}
+
+	@Test
+	public void testRemovedChannels() {
+		var component = new DummyComponent("dummy0");
+		var channels = component.trackedChannels();
+		var sut = new ChannelValuesTracker();
+
+		component.set(DummyComponent.ChannelId.POWER, 1000);
+		sut.commit(sut.collectChanges(channels));
+		assertEquals(1, sut.getCount());
+
+		var delta = sut.collectChanges(channels.subList(1, channels.size()));
+		assertEquals(JsonNull.INSTANCE, delta.getValues().get("dummy0/Power"));
+		assertEquals(1, delta.getValues().size());
+		sut.commit(delta);
+		assertEquals(0, sut.getCount());
+		assertEquals(0, sut.getChecksum());
+
+		assertTrue(sut.collectChanges(channels.subList(1, channels.size())).isEmpty());
+	}
+
+	private static Map<String, Object> toPrimitives(Map<String, JsonElement> values) {
+		return values.entrySet().stream() //
+				.collect(Collectors.toMap(Map.Entry::getKey, e -> {
+					var p = e.getValue().getAsJsonPrimitive();
+					if (p.isString()) {
+						return p.getAsString();
+					}
+					var n = p.getAsNumber();
+					if (n instanceof Double || n instanceof Float) {
+						return n.doubleValue();
+					}
+					return n.intValue();
+				}));
+	}
+
+}
@@ -19,6 +19,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private PersistencePriority persistencePriority;
 		private PersistencePriority aggregationPriority;
 		private PersistencePriority resendPriority;
+		private double floatingPointDeadband;
+		private long integerDeadband;
 		private boolean debugMode;
 
 		private Builder() {
@@ -74,6 +76,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setFloatingPointDeadband(double floatingPointDeadband) {
+			this.floatingPointDeadband = floatingPointDeadband;
+			return this;
+		}
+
+		public Builder setIntegerDeadband(long integerDeadband) {
+			this.integerDeadband = integerDeadband;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -145,6 +157,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.resendPriority;
 	}
 
+	@Override
+	public double floatingPointDeadband() {
+		return this.builder.floatingPointDeadband;
+	}
+
+	@Override
+	public long integerDeadband() {
+		return this.builder.integerDeadband;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
@@ -40,4 +40,25 @@ public class ResendHistoricDataWorkerTest {
 		assertEquals(testValue, mapped.get(testTimestamp, testChannel.toString()));
 	}
 
+	@Test
+	public void testGetNextResendTimespan() {
+		final var min = ResendHistoricDataWorker.MIN_RESEND_TIMESPAN_SECONDS;
+		final var max = ResendHistoricDataWorker.MAX_RESEND_TIMESPAN_SECONDS;
+		final var target = ResendHistoricDataWorker.TARGET_SEND_MILLIS;
+		final var maxValues = ResendHistoricDataWorker.MAX_VALUES_PER_MESSAGE;
+
+		// Fast connection: grow up to max
+		assertEquals(2 * min, ResendHistoricDataWorker.getNextResendTimespan(min, 100, 10));
+		assertEquals(max, ResendHistoricDataWorker.getNextResendTimespan(max, 100, 10));
+
+		// Slow connection or large message: shrink down to min
+		assertEquals(max / 2, ResendHistoricDataWorker.getNextResendTimespan(max, 100, target + 1));
+		assertEquals(max / 2, ResendHistoricDataWorker.getNextResendTimespan(max, maxValues + 1, 10));
+		assertEquals(min, ResendHistoricDataWorker.getNextResendTimespan(min, 100, target + 1));
+
+		// Within target: keep
+		assertEquals(1200, ResendHistoricDataWorker.getNextResendTimespan(1200, 100, target));
+		assertEquals(1200, ResendHistoricDataWorker.getNextResendTimespan(1200, maxValues, 10));
+	}
+
 }
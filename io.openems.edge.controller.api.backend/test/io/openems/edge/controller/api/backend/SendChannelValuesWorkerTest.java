@@ -1,9 +1,12 @@
 package io.openems.edge.controller.api.backend;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.Test;
 
@@ -119,6 +122,32 @@ public class SendChannelValuesWorkerTest {
 		});
 	}
 
+	@Test
+	public void testSendChecksumOnlyWithChanges() throws Exception {
+		final var component = new DummyComponent("component0");
+		final var channel = component.<Channel<DummyEnum>>channel(DummyComponent.ChannelId.DUMMY_ENUM_CHANNEL);
+		final var channels = List.<Channel<?>>of(channel);
+		final var tracker = new ChannelValuesTracker();
+		final var start = Instant.ofEpochSecond(1577836800L);
+
+		// Full snapshot
+		writeValue(channel, DummyEnum.VALUE_1);
+		var delta = tracker.collectChanges(channels);
+		assertTrue(SendChannelValuesWorker.isSendChecksum(delta, Instant.MIN, start));
+		tracker.commit(delta);
+
+		// Unchanged Cycle: nothing is sent, even if the checksum is due
+		delta = tracker.collectChanges(channels);
+		assertTrue(delta.isEmpty());
+		assertFalse(SendChannelValuesWorker.isSendChecksum(delta, start, start.plusSeconds(600)));
+
+		// Changed Cycle
+		writeValue(channel, DummyEnum.VALUE_2);
+		delta = tracker.collectChanges(channels);
+		assertFalse(SendChannelValuesWorker.isSendChecksum(delta, start, start.plusSeconds(60)));
+		assertTrue(SendChannelValuesWorker.isSendChecksum(delta, start, start.plusSeconds(600)));
+	}
+
 	private static void testAggregateEnumChannel(int numberOfValues,
 			ThrowingFunction<Channel<?>, DummyEnum, Exception> test) throws Exception {
 		final var component = new DummyComponent("component0");
@@ -185,7 +185,7 @@ public class ControllerEssEmergencyCapacityReserveImpl extends AbstractOpenemsCo
 	 */
 	private OptionalInt getLastValidSoc(IntegerReadChannel channel) {
 		// get first defined value
-		return channel.getPastValues().values() //
+		return channel.pastValues().getValues() //
 				.stream() //
 				.filter(Value::isDefined) //
 				.mapToInt(Value::get) //
@@ -25,6 +25,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.DateUtils;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.StateChannel;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.type.TypeUtils;
 import io.openems.edge.ess.power.api.Phase;
@@ -308,9 +309,11 @@ public class DelayCharge {
 		// active, to avoid standby of the inverter directly after it.
 		var minimumPowerFactor = MINIMUM_POWER_FACTOR;
 
-		boolean delayChargeMinimumReached = this.parent.getDelayChargeStateChannel().getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).with(MINUTE_OF_DAY, 5), true)
-				.values().stream().filter(Value::isDefined)
+		boolean delayChargeMinimumReached = this.parent.getDelayChargeStateChannel().pastValues()
+				.getValues(PastValues.toEpochMilli(
+						LocalDateTime.now(this.parent.componentManager.getClock()).with(MINUTE_OF_DAY, 5)),
+						Long.MAX_VALUE)
+				.stream().filter(Value::isDefined)
 				.filter(channel -> channel.asEnum() == DelayChargeState.ACTIVE_LIMIT).findAny().isPresent();
 
 		minimumPowerFactor = delayChargeMinimumReached ? minimumPowerFactor * 0.5F : minimumPowerFactor;
@@ -357,9 +360,10 @@ public class DelayCharge {
 		IntegerReadChannel delayChargeLimitRawChannel = this.parent.getRawDelayChargeLimitChannel();
 		this.parent._setRawDelayChargeLimit(calculatedPower);
 
-		var pastLimits = delayChargeLimitRawChannel.getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900), true) //
-				.values().stream().filter(Value::isDefined).mapToInt(Value::get);
+		var pastLimits = delayChargeLimitRawChannel.pastValues()
+				.getValues(PastValues.toEpochMilli(
+						LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900)), Long.MAX_VALUE) //
+				.stream().filter(Value::isDefined).mapToInt(Value::get);
 
 		var currentLimit = IntStream.of(calculatedPower);
 
@@ -26,6 +26,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
@@ -156,13 +157,12 @@ public class ControllerIoChannelSingleThresholdImpl extends AbstractOpenemsCompo
 
 		// Get average input value of the last 'minimumSwitchingTime' seconds
 		IntegerReadChannel inputChannel = this.componentManager.getChannel(inputChannelAddress);
-		var values = inputChannel.getPastValues().tailMap(
-				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime()),
-				true).values();
+		var values = inputChannel.pastValues().getValues(PastValues.toEpochMilli(
+				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime())),
+				Long.MAX_VALUE);
 
 		// make sure we have at least one value
 		if (values.isEmpty()) {
-			values = new ArrayList<>();
 			values.add(inputChannel.value());
 		}
 
@@ -0,0 +1,368 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Keeps an in-memory index of all registered {@link OpenemsComponent}
+ * services.
+ *
+ * <p>
+ * The index is maintained from OSGi {@link ServiceEvent}s and is published as
+ * an immutable {@link Snapshot} that is replaced on every change. Lookups by
+ * Component-ID and by service interface are therefore served without building
+ * LDAP filters or querying the OSGi service registry, which matters on the hot
+ * path of the Cycle.
+ *
+ * <p>
+ * The actual service objects are resolved lazily on first access and then
+ * cached for the lifetime of the service registration.
+ */
+public class ComponentRegistry implements ServiceListener {
+
+	private static final String FILTER = "(" + Constants.OBJECTCLASS + "=" + OpenemsComponent.class.getName() + ")";
+
+	private final Logger log = LoggerFactory.getLogger(ComponentRegistry.class);
+
+	/** Guarded by 'this'. */
+	private final Map<Object, Entry> entries = new LinkedHashMap<>();
+
+	private BundleContext bundleContext = null;
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+	/**
+	 * Starts tracking {@link OpenemsComponent} services of the given
+	 * {@link BundleContext}.
+	 *
+	 * @param bundleContext the {@link BundleContext}; can be null in JUnit tests
+	 */
+	public synchronized void activate(BundleContext bundleContext) {
+		if (bundleContext == this.bundleContext) {
+			return;
+		}
+		this.deactivate();
+		if (bundleContext == null) {
+			return;
+		}
+		this.bundleContext = bundleContext;
+		try {
+			// Add listener first, so that no registration gets lost in between
+			bundleContext.addServiceListener(this, FILTER);
+			var references = bundleContext.getServiceReferences(OpenemsComponent.class, null);
+			for (var reference : references) {
+				this.register(reference);
+			}
+		} catch (InvalidSyntaxException | RuntimeException e) {
+			this.log.error("Unable to initialize Component-Registry: " + e.getMessage());
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Stops tracking services and clears the index.
+	 */
+	public synchronized void deactivate() {
+		if (this.bundleContext != null) {
+			try {
+				this.bundleContext.removeServiceListener(this);
+			} catch (RuntimeException e) {
+				// BundleContext might already be invalid
+			}
+			this.bundleContext = null;
+		}
+		this.entries.clear();
+		this.snapshot = Snapshot.EMPTY;
+	}
+
+	@Override
+	public void serviceChanged(ServiceEvent event) {
+		switch (event.getType()) {
+		case ServiceEvent.REGISTERED, ServiceEvent.MODIFIED //
+			-> this.register(event.getServiceReference());
+		case ServiceEvent.UNREGISTERING, ServiceEvent.MODIFIED_ENDMATCH //
+			-> this.unregister(event.getServiceReference());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized void register(ServiceReference<?> reference) {
+		final var bundleContext = this.bundleContext;
+		if (bundleContext == null) {
+			return;
+		}
+		final var ref = (ServiceReference<OpenemsComponent>) reference;
+		this.register(reference, //
+				toString(ref.getProperty("id")), //
+				"true".equals(toString(ref.getProperty("enabled"))), //
+				toString(ref.getProperty("service.factoryPid")), //
+				toStringArray(ref.getProperty(Constants.OBJECTCLASS)), //
+				() -> {
+					try {
+						var component = bundleContext.getService(ref);
+						if (component != null) {
+							bundleContext.ungetService(ref);
+						}
+						return component;
+					} catch (RuntimeException e) {
+						// Service is not available (anymore)
+						return null;
+					}
+				});
+	}
+
+	/**
+	 * Adds or updates an entry in the index.
+	 *
+	 * @param key           the unique key of the service registration
+	 * @param id            the Component-ID
+	 * @param enabled       true if the Component is enabled
+	 * @param factoryPid    the Factory-PID; possibly null
+	 * @param objectClasses the names of the registered service interfaces
+	 * @param resolver      a {@link Supplier} for the actual service object
+	 */
+	protected synchronized void register(Object key, String id, boolean enabled, String factoryPid,
+			String[] objectClasses, Supplier<? extends OpenemsComponent> resolver) {
+		if (id == null) {
+			return;
+		}
+		var entry = new Entry(id, enabled, ComponentManager.SINGLETON_SERVICE_PID.equals(factoryPid), objectClasses,
+				resolver);
+		var previous = this.entries.put(key, entry);
+		if (previous != null) {
+			// Properties were modified; the registered service object stays the same
+			entry.component = previous.component;
+		}
+		this.snapshot = new Snapshot(this.entries.values());
+	}
+
+	/**
+	 * Removes an entry from the index.
+	 *
+	 * @param key the unique key of the service registration
+	 */
+	protected synchronized void unregister(Object key) {
+		if (this.entries.remove(key) != null) {
+			this.snapshot = new Snapshot(this.entries.values());
+		}
+	}
+
+	/**
+	 * Gets a Component by its Component-ID.
+	 *
+	 * @param componentId    the Component-ID
+	 * @param hasToBeEnabled if the Component has to be enabled
+	 * @return the Component or null if not found
+	 */
+	public OpenemsComponent getComponent(String componentId, boolean hasToBeEnabled) {
+		final var snapshot = this.snapshot;
+		var entry = (hasToBeEnabled ? snapshot.enabledById : snapshot.byId).get(componentId);
+		if (entry == null) {
+			return null;
+		}
+		return entry.resolve();
+	}
+
+	/**
+	 * Gets all enabled Components, excluding the {@link ComponentManager} itself.
+	 *
+	 * @return an unmodifiable List of Components
+	 */
+	public List<OpenemsComponent> getEnabledComponents() {
+		final var snapshot = this.snapshot;
+		var result = snapshot.enabledComponents;
+		if (result == null) {
+			result = resolve(snapshot.enabled, OpenemsComponent.class);
+			if (result != null) {
+				snapshot.enabledComponents = result;
+			} else {
+				result = resolveAvailable(snapshot.enabled, OpenemsComponent.class);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets all Components - enabled or not - excluding the
+	 * {@link ComponentManager} itself.
+	 *
+	 * @return an unmodifiable List of Components
+	 */
+	public List<OpenemsComponent> getAllComponents() {
+		final var snapshot = this.snapshot;
+		var result = snapshot.allComponents;
+		if (result == null) {
+			result = resolve(snapshot.all, OpenemsComponent.class);
+			if (result != null) {
+				snapshot.allComponents = result;
+			} else {
+				result = resolveAvailable(snapshot.all, OpenemsComponent.class);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets all enabled Components that are registered under the given service
+	 * interface.
+	 *
+	 * @param <T>   the service interface type
+	 * @param clazz the service interface
+	 * @return an unmodifiable List of Components
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends OpenemsComponent> List<T> getEnabledComponentsOfType(Class<T> clazz) {
+		final var snapshot = this.snapshot;
+		var result = (List<T>) snapshot.enabledByType.get(clazz);
+		if (result == null) {
+			var entries = snapshot.enabledByObjectClass.getOrDefault(clazz.getName(), Collections.emptyList());
+			result = resolve(entries, clazz);
+			if (result != null) {
+				snapshot.enabledByType.putIfAbsent(clazz, result);
+			} else {
+				result = resolveAvailable(entries, clazz);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Resolves all entries to their service objects.
+	 *
+	 * @param <T>     the type
+	 * @param entries the entries
+	 * @param clazz   the type
+	 * @return an unmodifiable List; null if at least one service object was not
+	 *         available
+	 */
+	private static <T> List<T> resolve(List<Entry> entries, Class<T> clazz) {
+		var result = new ArrayList<T>(entries.size());
+		for (var entry : entries) {
+			var component = entry.resolve();
+			if (component == null) {
+				return null;
+			}
+			if (clazz.isInstance(component)) {
+				result.add(clazz.cast(component));
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Resolves all entries to their service objects, skipping unavailable ones.
+	 *
+	 * @param <T>     the type
+	 * @param entries the entries
+	 * @param clazz   the type
+	 * @return an unmodifiable List
+	 */
+	private static <T> List<T> resolveAvailable(List<Entry> entries, Class<T> clazz) {
+		var result = new ArrayList<T>(entries.size());
+		for (var entry : entries) {
+			var component = entry.resolve();
+			if (clazz.isInstance(component)) {
+				result.add(clazz.cast(component));
+			}
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	private static String toString(Object value) {
+		if (value == null) {
+			return null;
+		}
+		return value.toString();
+	}
+
+	private static String[] toStringArray(Object value) {
+		if (value instanceof String[] array) {
+			return array;
+		}
+		if (value == null) {
+			return new String[0];
+		}
+		return new String[] { value.toString() };
+	}
+
+	private static final class Entry {
+
+		private final String id;
+		private final boolean enabled;
+		private final boolean isComponentManager;
+		private final String[] objectClasses;
+		private final Supplier<? extends OpenemsComponent> resolver;
+
+		private volatile OpenemsComponent component = null;
+
+		private Entry(String id, boolean enabled, boolean isComponentManager, String[] objectClasses,
+				Supplier<? extends OpenemsComponent> resolver) {
+			this.id = id;
+			this.enabled = enabled;
+			this.isComponentManager = isComponentManager;
+			this.objectClasses = objectClasses;
+			this.resolver = resolver;
+		}
+
+		private OpenemsComponent resolve() {
+			var component = this.component;
+			if (component == null) {
+				component = this.resolver.get();
+				this.component = component;
+			}
+			return component;
+		}
+	}
+
+	private static final class Snapshot {
+
+		private static final Snapshot EMPTY = new Snapshot(Collections.emptyList());
+
+		private final Map<String, Entry> byId = new HashMap<>();
+		private final Map<String, Entry> enabledById = new HashMap<>();
+		private final Map<String, List<Entry>> enabledByObjectClass = new HashMap<>();
+		private final List<Entry> enabled = new ArrayList<>();
+		private final List<Entry> all = new ArrayList<>();
+
+		/* Lazily resolved service objects */
+		private final Map<Class<?>, List<?>> enabledByType = new ConcurrentHashMap<>();
+		private volatile List<OpenemsComponent> enabledComponents = null;
+		private volatile List<OpenemsComponent> allComponents = null;
+
+		private Snapshot(Iterable<Entry> entries) {
+			for (var entry : entries) {
+				this.byId.putIfAbsent(entry.id, entry);
+				if (!entry.isComponentManager) {
+					this.all.add(entry);
+				}
+				if (!entry.enabled) {
+					continue;
+				}
+				this.enabledById.putIfAbsent(entry.id, entry);
+				for (var objectClass : entry.objectClasses) {
+					this.enabledByObjectClass.computeIfAbsent(objectClass, c -> new ArrayList<>()).add(entry);
+				}
+				if (!entry.isComponentManager) {
+					this.enabled.add(entry);
+				}
+			}
+		}
+	}
+}
@@ -13,6 +13,18 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Parallel Process-Image", description = "Switch the Process-Image of independent Components in parallel")
+	boolean parallelProcessImage() default false;
+
+	@AttributeDefinition(name = "Process-Image Threads", description = "Maximum number of threads for the parallel Process-Image switch; 0 = number of available processors")
+	int processImageThreads() default 0;
+
+	@AttributeDefinition(name = "Profiling", description = "Publish min/avg/max/p99 durations of every Cycle phase and Controller as Channels")
+	boolean profiling() default false;
+
+	@AttributeDefinition(name = "Profiling Window", description = "Number of Cycles in the sliding window for profiling statistics")
+	int profilingWindow() default 300;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.cycle.CycleEventHandler;
+import io.openems.edge.common.cycle.CyclePhase;
+
+/**
+ * Dispatches the {@link CyclePhase}s of the Cycle.
+ *
+ * <p>
+ * {@link CycleEventHandler}s are held per {@link CyclePhase} in copy-on-write
+ * arrays and are called directly on the Cycle thread; dispatching does not
+ * allocate and does not lock.
+ *
+ * <p>
+ * For Components that still listen via OSGi EventAdmin the subscribed topics
+ * of all EventHandler services are tracked. The Event for a phase is only sent
+ * via EventAdmin if at least one EventHandler is subscribed to its topic. The
+ * Events are created once and reused, as they carry no properties.
+ */
+public class CycleEventDispatcher {
+
+	private static final CyclePhase[] PHASES = CyclePhase.values();
+	private static final Event[] EVENTS = new Event[PHASES.length];
+
+	static {
+		for (var phase : PHASES) {
+			EVENTS[phase.ordinal()] = new Event(phase.getTopic(), Map.of());
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(CycleEventDispatcher.class);
+
+	/* Guarded by 'this'; copied to the volatile arrays on every change */
+	private final Map<CycleEventHandler, Set<CyclePhase>> handlers = new LinkedHashMap<>();
+	private final Map<Object, Set<CyclePhase>> eventAdminSubscribers = new LinkedHashMap<>();
+
+	private volatile CycleEventHandler[][] handlersByPhase = new CycleEventHandler[PHASES.length][0];
+	private volatile int[] eventAdminSubscribersByPhase = new int[PHASES.length];
+
+	/**
+	 * Adds a {@link CycleEventHandler}.
+	 *
+	 * @param handler the {@link CycleEventHandler}
+	 */
+	public synchronized void addHandler(CycleEventHandler handler) {
+		var phases = handler.getCyclePhases();
+		this.handlers.put(handler, phases == null ? EnumSet.noneOf(CyclePhase.class) : EnumSet.copyOf(phases));
+		this.updateHandlers();
+	}
+
+	/**
+	 * Removes a {@link CycleEventHandler}.
+	 *
+	 * @param handler the {@link CycleEventHandler}
+	 */
+	public synchronized void removeHandler(CycleEventHandler handler) {
+		if (this.handlers.remove(handler) != null) {
+			this.updateHandlers();
+		}
+	}
+
+	/**
+	 * Adds or updates an EventAdmin EventHandler.
+	 *
+	 * @param key    a unique key for the EventHandler, e.g. its ServiceReference
+	 * @param topics the value of its {@link EventConstants#EVENT_TOPIC} property
+	 */
+	public synchronized void addEventAdminSubscriber(Object key, Object topics) {
+		var phases = getSubscribedPhases(topics);
+		if (phases.isEmpty()) {
+			if (this.eventAdminSubscribers.remove(key) == null) {
+				return;
+			}
+		} else {
+			this.eventAdminSubscribers.put(key, phases);
+		}
+		this.updateEventAdminSubscribers();
+	}
+
+	/**
+	 * Removes an EventAdmin EventHandler.
+	 *
+	 * @param key the key that was used in
+	 *            {@link #addEventAdminSubscriber(Object, Object)}
+	 */
+	public synchronized void removeEventAdminSubscriber(Object key) {
+		if (this.eventAdminSubscribers.remove(key) != null) {
+			this.updateEventAdminSubscribers();
+		}
+	}
+
+	/**
+	 * Dispatches a {@link CyclePhase} to all {@link CycleEventHandler}s and - if
+	 * there are any subscribers - via EventAdmin.
+	 *
+	 * @param phase      the {@link CyclePhase}
+	 * @param eventAdmin the {@link EventAdmin}; may be null
+	 */
+	public void dispatch(CyclePhase phase, EventAdmin eventAdmin) {
+		final var ordinal = phase.ordinal();
+		for (var handler : this.handlersByPhase[ordinal]) {
+			try {
+				handler.handleCycleEvent(phase);
+			} catch (RuntimeException e) {
+				this.log.warn("Error while handling [" + phase + "] in [" + handler.getClass().getSimpleName()
+						+ "]. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+				e.printStackTrace();
+			}
+		}
+		if (eventAdmin != null && this.eventAdminSubscribersByPhase[ordinal] > 0) {
+			eventAdmin.sendEvent(EVENTS[ordinal]);
+		}
+	}
+
+	/**
+	 * Gets the number of EventAdmin EventHandlers that are subscribed to the
+	 * topic of a {@link CyclePhase}.
+	 *
+	 * @param phase the {@link CyclePhase}
+	 * @return the number of subscribers
+	 */
+	public int getEventAdminSubscribers(CyclePhase phase) {
+		return this.eventAdminSubscribersByPhase[phase.ordinal()];
+	}
+
+	private void updateHandlers() {
+		final var result = new CycleEventHandler[PHASES.length][];
+		for (var phase : PHASES) {
+			final List<CycleEventHandler> list = new ArrayList<>();
+			for (var entry : this.handlers.entrySet()) {
+				if (entry.getValue().contains(phase)) {
+					list.add(entry.getKey());
+				}
+			}
+			result[phase.ordinal()] = list.toArray(CycleEventHandler[]::new);
+		}
+		this.handlersByPhase = result;
+	}
+
+	private void updateEventAdminSubscribers() {
+		final var result = new int[PHASES.length];
+		for (var phases : this.eventAdminSubscribers.values()) {
+			for (var phase : phases) {
+				result[phase.ordinal()]++;
+			}
+		}
+		this.eventAdminSubscribersByPhase = result;
+	}
+
+	/**
+	 * Gets the {@link CyclePhase}s whose topics are matched by the
+	 * {@link EventConstants#EVENT_TOPIC} property of an EventHandler. Supports
+	 * exact topics and wildcards like 'io/openems/edge/cycle/*' or '*'.
+	 *
+	 * @param topics the property value; a String, String[] or Collection
+	 * @return the {@link CyclePhase}s
+	 */
+	protected static Set<CyclePhase> getSubscribedPhases(Object topics) {
+		final var result = EnumSet.noneOf(CyclePhase.class);
+		if (topics instanceof String topic) {
+			addSubscribedPhases(result, topic);
+		} else if (topics instanceof String[] array) {
+			for (var topic : array) {
+				addSubscribedPhases(result, topic);
+			}
+		} else if (topics instanceof Collection<?> collection) {
+			for (var topic : collection) {
+				if (topic instanceof String s) {
+					addSubscribedPhases(result, s);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void addSubscribedPhases(Set<CyclePhase> result, String topic) {
+		if (topic == null) {
+			return;
+		}
+		for (var phase : PHASES) {
+			if (topic.equals("*") || topic.equals(phase.getTopic())) {
+				result.add(phase);
+			} else if (topic.endsWith("/*")
+					&& phase.getTopic().startsWith(topic.substring(0, topic.length() - 1))) {
+				result.add(phase);
+			}
+		}
+	}
+
+}
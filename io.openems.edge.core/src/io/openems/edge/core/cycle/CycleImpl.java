@@ -3,6 +3,7 @@ package io.openems.edge.core.cycle;
 import java.util.Comparator;
 import java.util.TreeSet;
 
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -14,16 +15,21 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.osgi.service.component.runtime.ServiceComponentRuntime;
 import org.osgi.service.event.EventAdmin;
+import org.osgi.service.event.EventConstants;
+import org.osgi.service.event.EventHandler;
 import org.osgi.service.metatype.annotations.Designate;
 import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.cycle.CycleEventHandler;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.scheduler.api.Scheduler;
 
@@ -39,6 +45,9 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 
 	private final CycleWorker worker = new CycleWorker(this);
 
+	@Reference
+	private ServiceComponentRuntime scr;
+
 	@Reference
 	private ConfigurationAdmin cm;
 
@@ -51,6 +60,12 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	@Reference
 	protected ComponentManager componentManager;
 
+	protected ProcessImageSwitcher processImageSwitcher;
+
+	protected final CycleProfiler profiler = new CycleProfiler(this);
+
+	protected final CycleEventDispatcher eventDispatcher = new CycleEventDispatcher();
+
 	/**
 	 * Holds the Schedulers and their relative cycleTime. They are sorted ascending
 	 * by their cycleTimes.
@@ -76,6 +91,41 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE)
+	protected void addCycleEventHandler(CycleEventHandler handler) {
+		this.eventDispatcher.addHandler(handler);
+	}
+
+	protected void removeCycleEventHandler(CycleEventHandler handler) {
+		this.eventDispatcher.removeHandler(handler);
+	}
+
+	/*
+	 * EventAdmin EventHandlers are only tracked by their ServiceReference to
+	 * decide whether a Cycle Event has to be sent via EventAdmin at all; the
+	 * services themselves are never retrieved.
+	 */
+	@Reference(//
+			service = EventHandler.class, //
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE, //
+			updated = "updatedEventHandler")
+	protected void addEventHandler(ServiceReference<EventHandler> reference) {
+		this.eventDispatcher.addEventAdminSubscriber(reference, reference.getProperty(EventConstants.EVENT_TOPIC));
+	}
+
+	protected void updatedEventHandler(ServiceReference<EventHandler> reference) {
+		this.eventDispatcher.addEventAdminSubscriber(reference, reference.getProperty(EventConstants.EVENT_TOPIC));
+	}
+
+	protected void removeEventHandler(ServiceReference<EventHandler> reference) {
+		this.eventDispatcher.removeEventAdminSubscriber(reference);
+	}
+
 	public CycleImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -87,6 +137,9 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		super.activate(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.processImageSwitcher = new ProcessImageSwitcher(this.scr);
+		this.processImageSwitcher.configure(config.parallelProcessImage(), config.processImageThreads());
+		this.profiler.configure(config.profiling(), config.profilingWindow());
 		this.worker.activate(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -98,6 +151,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
 		this.config = config;
+		this.processImageSwitcher.configure(config.parallelProcessImage(), config.processImageThreads());
+		this.profiler.configure(config.profiling(), config.profilingWindow());
 		this.worker.modified(this.id());
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
@@ -110,6 +165,8 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.processImageSwitcher.deactivate();
+		this.profiler.clear();
 	}
 
 	@Override
@@ -122,6 +179,19 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.logWarn(log, message);
 	}
 
+	@Override
+	public String debugLog() {
+		return this.profiler.debugLog();
+	}
+
+	protected Channel<?> addProfilingChannel(io.openems.edge.common.channel.ChannelId channelId) {
+		return this.addChannel(channelId);
+	}
+
+	protected void removeProfilingChannel(Channel<?> channel) {
+		this.removeChannel(channel);
+	}
+
 	@Override
 	public int getCycleTime() {
 		var config = this.config;
@@ -0,0 +1,232 @@
+package io.openems.edge.core.cycle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.CaseFormat;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.ChannelId.ChannelIdImpl;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * Measures the duration of every Cycle event phase and of every
+ * Controller.run() and publishes min, average, max and 99th percentile over a
+ * sliding window as Channels of {@link CycleImpl}, e.g.
+ * 'EventBeforeProcessImageP99' or 'ControllerCtrlBalancing0Max'.
+ *
+ * <p>
+ * The statistics are published every {@link #PUBLISH_INTERVAL_CYCLES} Cycles.
+ * Channels of Controllers that were not executed within a full window are
+ * removed again.
+ */
+public class CycleProfiler {
+
+	private static final String PHASE_PREFIX = "EVENT_";
+	private static final String PROCESS_IMAGE = "PROCESS_IMAGE";
+	private static final String CONTROLLER_PREFIX = "CONTROLLER_";
+	private static final int PUBLISH_INTERVAL_CYCLES = 10;
+
+	private final CycleImpl parent;
+	private final Map<String, Entry> entries = new HashMap<>();
+
+	private volatile boolean enabled = false;
+	private int windowSize = 1;
+	private long cycle = 0;
+
+	public CycleProfiler(CycleImpl parent) {
+		this.parent = parent;
+	}
+
+	/**
+	 * Configures the {@link CycleProfiler}. Removes all existing profiling
+	 * Channels.
+	 *
+	 * @param enabled    true to enable profiling
+	 * @param windowSize the size of the sliding window in number of Cycles
+	 */
+	public synchronized void configure(boolean enabled, int windowSize) {
+		this.clear();
+		this.enabled = enabled;
+		this.windowSize = Math.max(1, windowSize);
+	}
+
+	/**
+	 * Removes all profiling Channels.
+	 */
+	public synchronized void clear() {
+		for (var entry : this.entries.values()) {
+			entry.remove(this.parent);
+		}
+		this.entries.clear();
+	}
+
+	/**
+	 * Gets the start timestamp for a measurement.
+	 *
+	 * @return the timestamp in nanoseconds; 0 if profiling is disabled
+	 */
+	public long start() {
+		return this.enabled ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Adds the duration of a Cycle event phase.
+	 *
+	 * @param topic the Event topic, one of EdgeEventConstants.TOPIC_CYCLE_*
+	 * @param start the start timestamp from {@link #start()}
+	 */
+	public void addEvent(String topic, long start) {
+		if (!this.enabled) {
+			return;
+		}
+		this.add(topic, start, true);
+	}
+
+	/**
+	 * Adds the duration of the Process-Image switch.
+	 *
+	 * @param start the start timestamp from {@link #start()}
+	 */
+	public void addProcessImage(long start) {
+		if (!this.enabled) {
+			return;
+		}
+		this.add(PROCESS_IMAGE, start, false);
+	}
+
+	/**
+	 * Adds the duration of a Controller.run().
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param start        the start timestamp from {@link #start()}
+	 */
+	public void addController(String controllerId, long start) {
+		if (!this.enabled) {
+			return;
+		}
+		this.add(CONTROLLER_PREFIX + controllerId, start, false);
+	}
+
+	private synchronized void add(String key, long start, boolean isEvent) {
+		final var duration = System.nanoTime() - start;
+		var entry = this.entries.get(key);
+		if (entry == null) {
+			final String name;
+			if (isEvent) {
+				name = PHASE_PREFIX + key.substring(EdgeEventConstants.TOPIC_CYCLE.length());
+			} else if (key.startsWith(CONTROLLER_PREFIX)) {
+				name = CONTROLLER_PREFIX + CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE,
+						key.substring(CONTROLLER_PREFIX.length()).replaceAll("[^A-Za-z0-9]", "_"));
+			} else {
+				name = key;
+			}
+			entry = new Entry(this.parent, name, this.windowSize);
+			this.entries.put(key, entry);
+		}
+		entry.statistics.add(duration);
+		entry.lastCycle = this.cycle;
+	}
+
+	/**
+	 * Publishes the statistics to the Channels every
+	 * {@link #PUBLISH_INTERVAL_CYCLES} Cycles. Called once at the end of every
+	 * Cycle.
+	 */
+	public synchronized void publish() {
+		if (!this.enabled) {
+			return;
+		}
+		if (this.cycle++ % PUBLISH_INTERVAL_CYCLES != 0) {
+			return;
+		}
+		var iterator = this.entries.values().iterator();
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+			if (this.cycle - entry.lastCycle > this.windowSize) {
+				// e.g. Controller was removed from Scheduler
+				entry.remove(this.parent);
+				iterator.remove();
+				continue;
+			}
+			entry.publish();
+		}
+	}
+
+	/**
+	 * Gets a short debug log with the Controller that has the highest 99th
+	 * percentile duration.
+	 *
+	 * @return the debug log or null
+	 */
+	public synchronized String debugLog() {
+		if (!this.enabled) {
+			return null;
+		}
+		Map.Entry<String, Entry> slowest = null;
+		for (var entry : this.entries.entrySet()) {
+			if (!entry.getKey().startsWith(CONTROLLER_PREFIX)) {
+				continue;
+			}
+			if (slowest == null || entry.getValue().statistics.getP99() > slowest.getValue().statistics.getP99()) {
+				slowest = entry;
+			}
+		}
+		if (slowest == null) {
+			return null;
+		}
+		return "Slowest:" + slowest.getKey().substring(CONTROLLER_PREFIX.length()) //
+				+ " p99 " + toMillis(slowest.getValue().statistics.getP99()) + " ms";
+	}
+
+	private static long toMillis(long nanos) {
+		return (nanos + 500_000L) / 1_000_000L;
+	}
+
+	private static class Entry {
+
+		private final DurationStatistics statistics;
+		private final Channel<Long> min;
+		private final Channel<Long> avg;
+		private final Channel<Long> max;
+		private final Channel<Long> p99;
+
+		private long lastCycle = 0;
+
+		private Entry(CycleImpl parent, String name, int windowSize) {
+			this.statistics = new DurationStatistics(windowSize);
+			this.min = addChannel(parent, name + "_MIN");
+			this.avg = addChannel(parent, name + "_AVG");
+			this.max = addChannel(parent, name + "_MAX");
+			this.p99 = addChannel(parent, name + "_P99");
+		}
+
+		@SuppressWarnings("unchecked")
+		private static Channel<Long> addChannel(CycleImpl parent, String name) {
+			return (Channel<Long>) parent.addProfilingChannel(new ChannelIdImpl(name, //
+					Doc.of(OpenemsType.LONG) //
+							.unit(Unit.MILLISECONDS)));
+		}
+
+		private void publish() {
+			if (!this.statistics.calculate()) {
+				return;
+			}
+			this.min.setNextValue(toMillis(this.statistics.getMin()));
+			this.avg.setNextValue(toMillis(this.statistics.getAvg()));
+			this.max.setNextValue(toMillis(this.statistics.getMax()));
+			this.p99.setNextValue(toMillis(this.statistics.getP99()));
+		}
+
+		private void remove(CycleImpl parent) {
+			parent.removeProfilingChannel(this.min);
+			parent.removeProfilingChannel(this.avg);
+			parent.removeProfilingChannel(this.max);
+			parent.removeProfilingChannel(this.p99);
+		}
+	}
+
+}
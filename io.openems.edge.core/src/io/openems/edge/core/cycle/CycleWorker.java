@@ -8,11 +8,9 @@ import org.slf4j.LoggerFactory;
 import com.google.common.base.Stopwatch;
 
 import info.faljse.SDNotify.SDNotify;
-import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.worker.AbstractWorker;
-import io.openems.edge.common.event.EdgeEventConstants;
-import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.cycle.CyclePhase;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.scheduler.api.Scheduler;
 
@@ -47,18 +45,13 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(CyclePhase.BEFORE_PROCESS_IMAGE);
 
 			/*
 			 * Before Controllers start: switch to next process image for each channel
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
+			var processImageStart = this.parent.profiler.start();
+			this.parent.processImageSwitcher.switchProcessImage(this.parent.componentManager.getEnabledComponents());
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
@@ -70,16 +63,17 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			this.parent.profiler.addProcessImage(processImageStart);
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(CyclePhase.AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(CyclePhase.BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
 
@@ -109,6 +103,7 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
+						var controllerStart = this.parent.profiler.start();
 						try {
 							// Execute Controller logic
 							controller.run();
@@ -133,6 +128,7 @@ public class CycleWorker extends AbstractWorker {
 							// announce running failed
 							controller._setRunFailed(true);
 						}
+						this.parent.profiler.addController(controller.id(), controllerStart);
 					}
 
 					// announce Scheduler Controller is missing
@@ -146,22 +142,22 @@ public class CycleWorker extends AbstractWorker {
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(CyclePhase.AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(CyclePhase.BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(CyclePhase.EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(CyclePhase.AFTER_WRITE);
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -173,6 +169,18 @@ public class CycleWorker extends AbstractWorker {
 
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		this.parent.profiler.publish();
+	}
+
+	/**
+	 * Dispatches a {@link CyclePhase} and measures its duration.
+	 *
+	 * @param phase the {@link CyclePhase}
+	 */
+	private void sendEvent(CyclePhase phase) {
+		var start = this.parent.profiler.start();
+		this.parent.eventDispatcher.dispatch(phase, this.parent.eventAdmin);
+		this.parent.profiler.addEvent(phase.getTopic(), start);
 	}
 
 }
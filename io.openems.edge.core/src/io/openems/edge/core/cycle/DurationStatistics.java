@@ -0,0 +1,92 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the last durations in a sliding window and calculates min, average,
+ * max and 99th percentile.
+ *
+ * <p>
+ * All arrays are pre-allocated; adding a sample and calculating the
+ * statistics does not allocate.
+ */
+public class DurationStatistics {
+
+	private final long[] samples;
+	private final long[] sorted;
+
+	private int next = 0;
+	private int count = 0;
+
+	private long min;
+	private long avg;
+	private long max;
+	private long p99;
+
+	public DurationStatistics(int windowSize) {
+		this.samples = new long[windowSize];
+		this.sorted = new long[windowSize];
+	}
+
+	/**
+	 * Adds a sample to the window, replacing the oldest one if the window is
+	 * full.
+	 *
+	 * @param duration the duration
+	 */
+	public void add(long duration) {
+		this.samples[this.next] = duration;
+		this.next = (this.next + 1) % this.samples.length;
+		if (this.count < this.samples.length) {
+			this.count++;
+		}
+	}
+
+	/**
+	 * Calculates the statistics over the current window.
+	 *
+	 * @return false if there are no samples
+	 */
+	public boolean calculate() {
+		if (this.count == 0) {
+			return false;
+		}
+		System.arraycopy(this.samples, 0, this.sorted, 0, this.count);
+		Arrays.sort(this.sorted, 0, this.count);
+		var sum = 0L;
+		for (var i = 0; i < this.count; i++) {
+			sum += this.sorted[i];
+		}
+		this.min = this.sorted[0];
+		this.max = this.sorted[this.count - 1];
+		this.avg = sum / this.count;
+		this.p99 = this.sorted[Math.max(0, (int) Math.ceil(this.count * 0.99) - 1)];
+		return true;
+	}
+
+	/**
+	 * Gets the number of samples in the window.
+	 *
+	 * @return the number of samples
+	 */
+	public int getCount() {
+		return this.count;
+	}
+
+	public long getMin() {
+		return this.min;
+	}
+
+	public long getAvg() {
+		return this.avg;
+	}
+
+	public long getMax() {
+		return this.max;
+	}
+
+	public long getP99() {
+		return this.p99;
+	}
+
+}
@@ -0,0 +1,208 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.osgi.service.component.runtime.ServiceComponentRuntime;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.Sum;
+
+/**
+ * Switches the Process-Image of all enabled Components, except {@link Sum}.
+ *
+ * <p>
+ * In serial mode all Components are switched one after the other on the Cycle
+ * thread.
+ *
+ * <p>
+ * In parallel mode the Components are ordered in levels by their OSGi
+ * references: a Component is only switched after all Components it references
+ * were switched, so that onUpdate/onChange callbacks that read other
+ * Components see their new values. The Components within one level are
+ * switched concurrently on a bounded {@link ForkJoinPool}.
+ */
+public class ProcessImageSwitcher {
+
+	/** Levels with fewer Components are switched on the Cycle thread. */
+	private static final int MIN_PARALLEL_LEVEL_SIZE = 4;
+
+	private final ServiceComponentRuntime scr;
+
+	private ForkJoinPool pool = null;
+
+	/* Cached plan; recalculated if the List of enabled Components changes */
+	private List<OpenemsComponent> lastComponents = null;
+	private List<List<OpenemsComponent>> levels = Collections.emptyList();
+
+	public ProcessImageSwitcher(ServiceComponentRuntime scr) {
+		this.scr = scr;
+	}
+
+	/**
+	 * Configures the {@link ProcessImageSwitcher}.
+	 *
+	 * @param parallel true for parallel mode
+	 * @param threads  maximum number of threads in parallel mode; 0 for number of
+	 *                 available processors
+	 */
+	public synchronized void configure(boolean parallel, int threads) {
+		this.deactivate();
+		if (parallel) {
+			var parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+			this.pool = new ForkJoinPool(parallelism);
+		}
+	}
+
+	/**
+	 * Shuts down the thread pool.
+	 */
+	public synchronized void deactivate() {
+		if (this.pool != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.pool, 0);
+			this.pool = null;
+		}
+		this.lastComponents = null;
+		this.levels = Collections.emptyList();
+	}
+
+	/**
+	 * Switches the Process-Image of the given Components.
+	 *
+	 * @param components the enabled Components
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	public synchronized void switchProcessImage(List<OpenemsComponent> components) throws InterruptedException {
+		final var pool = this.pool;
+		if (pool == null) {
+			for (var component : components) {
+				if (isSwitched(component)) {
+					switchProcessImage(component);
+				}
+			}
+			return;
+		}
+
+		if (components != this.lastComponents) {
+			this.levels = toLevels(components, getDependencies(this.scr));
+			this.lastComponents = components;
+		}
+		for (var level : this.levels) {
+			if (level.size() < MIN_PARALLEL_LEVEL_SIZE) {
+				level.forEach(ProcessImageSwitcher::switchProcessImage);
+				continue;
+			}
+			try {
+				pool.submit(() -> level.parallelStream().forEach(ProcessImageSwitcher::switchProcessImage)).get();
+			} catch (ExecutionException e) {
+				// Errors are handled per Channel in nextProcessImage()
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static boolean isSwitched(OpenemsComponent component) {
+		return component.isEnabled() && !(component instanceof Sum);
+	}
+
+	private static void switchProcessImage(OpenemsComponent component) {
+		for (var channel : component.channels()) {
+			channel.nextProcessImage();
+		}
+	}
+
+	/**
+	 * Orders the Components in levels. Level 0 contains Components without
+	 * dependencies; every other Component is in the level after its deepest
+	 * dependency. Circular dependencies are cut.
+	 *
+	 * @param components   the Components
+	 * @param dependencies map of Component-ID to IDs of referenced Components
+	 * @return the levels
+	 */
+	protected static List<List<OpenemsComponent>> toLevels(List<OpenemsComponent> components,
+			Map<String, Set<String>> dependencies) {
+		final var componentsById = new HashMap<String, OpenemsComponent>();
+		for (var component : components) {
+			if (isSwitched(component)) {
+				componentsById.put(component.id(), component);
+			}
+		}
+
+		final var levelById = new HashMap<String, Integer>();
+		final var result = new ArrayList<List<OpenemsComponent>>();
+		for (var component : componentsById.values()) {
+			var level = getLevel(component.id(), componentsById, dependencies, levelById, new HashSet<>());
+			while (result.size() <= level) {
+				result.add(new ArrayList<>());
+			}
+			result.get(level).add(component);
+		}
+		return result;
+	}
+
+	private static int getLevel(String id, Map<String, OpenemsComponent> componentsById,
+			Map<String, Set<String>> dependencies, Map<String, Integer> levelById, Set<String> visiting) {
+		var cached = levelById.get(id);
+		if (cached != null) {
+			return cached;
+		}
+		if (!visiting.add(id)) {
+			// Circular dependency
+			return -1;
+		}
+		var level = 0;
+		for (var dependency : dependencies.getOrDefault(id, Collections.emptySet())) {
+			if (!componentsById.containsKey(dependency)) {
+				continue;
+			}
+			level = Math.max(level, getLevel(dependency, componentsById, dependencies, levelById, visiting) + 1);
+		}
+		visiting.remove(id);
+		levelById.put(id, level);
+		return level;
+	}
+
+	/**
+	 * Gets the references between Components from the
+	 * {@link ServiceComponentRuntime}.
+	 *
+	 * @param scr the {@link ServiceComponentRuntime}
+	 * @return map of Component-ID to IDs of referenced Components
+	 */
+	private static Map<String, Set<String>> getDependencies(ServiceComponentRuntime scr) {
+		final var result = new HashMap<String, Set<String>>();
+		if (scr == null) {
+			return result;
+		}
+		for (var description : scr.getComponentDescriptionDTOs()) {
+			for (var configuration : scr.getComponentConfigurationDTOs(description)) {
+				if (!(configuration.properties.get("id") instanceof String componentId)
+						|| configuration.satisfiedReferences == null) {
+					continue;
+				}
+				for (var reference : configuration.satisfiedReferences) {
+					if (reference.boundServices == null) {
+						continue;
+					}
+					for (var service : reference.boundServices) {
+						if (service.properties.get("id") instanceof String dependencyId
+								&& !dependencyId.equals(componentId)) {
+							result.computeIfAbsent(componentId, k -> new HashSet<>()).add(dependencyId);
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,78 @@
+package io.openems.edge.core.componentmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.api.Controller;
+import io.openems.edge.controller.test.DummyController;
+
+public class ComponentRegistryTest {
+
+	private static final String[] CONTROLLER_CLASSES = new String[] { //
+			Controller.class.getName(), OpenemsComponent.class.getName() };
+
+	@Test
+	public void testRegisterAndLookup() {
+		var sut = new ComponentRegistry();
+		var ctrl0 = new DummyController("ctrl0");
+		var ctrl1 = new DummyController("ctrl1");
+		sut.register("ref0", "ctrl0", true, "Controller.Foo", CONTROLLER_CLASSES, () -> ctrl0);
+		sut.register("ref1", "ctrl1", false, "Controller.Foo", CONTROLLER_CLASSES, () -> ctrl1);
+		sut.register("ref2", ComponentManager.SINGLETON_COMPONENT_ID, true, ComponentManager.SINGLETON_SERVICE_PID,
+				new String[] { OpenemsComponent.class.getName() }, () -> null);
+
+		assertSame(ctrl0, sut.getComponent("ctrl0", true));
+		assertNull(sut.getComponent("ctrl1", true));
+		assertSame(ctrl1, sut.getComponent("ctrl1", false));
+		assertNull(sut.getComponent("foo", false));
+
+		assertEquals(1, sut.getEnabledComponents().size());
+		assertEquals(2, sut.getAllComponents().size());
+		assertEquals(1, sut.getEnabledComponentsOfType(Controller.class).size());
+
+		// Cached Lists are reused
+		assertSame(sut.getEnabledComponents(), sut.getEnabledComponents());
+		assertSame(sut.getEnabledComponentsOfType(Controller.class),
+				sut.getEnabledComponentsOfType(Controller.class));
+	}
+
+	@Test
+	public void testModifyAndUnregister() {
+		var sut = new ComponentRegistry();
+		var ctrl0 = new DummyController("ctrl0");
+		sut.register("ref0", "ctrl0", false, "Controller.Foo", CONTROLLER_CLASSES, () -> ctrl0);
+		assertTrue(sut.getEnabledComponentsOfType(Controller.class).isEmpty());
+
+		// Enable via modified properties
+		sut.register("ref0", "ctrl0", true, "Controller.Foo", CONTROLLER_CLASSES, () -> ctrl0);
+		assertSame(ctrl0, sut.getComponent("ctrl0", true));
+		assertEquals(1, sut.getEnabledComponentsOfType(Controller.class).size());
+
+		sut.unregister("ref0");
+		assertNull(sut.getComponent("ctrl0", false));
+		assertTrue(sut.getEnabledComponents().isEmpty());
+	}
+
+	@Test
+	public void testUnavailableServiceIsNotCached() {
+		var sut = new ComponentRegistry();
+		var ctrl0 = new DummyController("ctrl0");
+		var available = new boolean[] { false };
+		sut.register("ref0", "ctrl0", true, "Controller.Foo", CONTROLLER_CLASSES,
+				() -> available[0] ? ctrl0 : null);
+
+		assertTrue(sut.getEnabledComponents().isEmpty());
+		assertNull(sut.getComponent("ctrl0", true));
+
+		available[0] = true;
+		assertEquals(1, sut.getEnabledComponents().size());
+		assertSame(ctrl0, sut.getComponent("ctrl0", true));
+	}
+
+}
@@ -0,0 +1,106 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventAdmin;
+
+import io.openems.edge.common.cycle.CycleEventHandler;
+import io.openems.edge.common.cycle.CyclePhase;
+import io.openems.edge.common.event.EdgeEventConstants;
+
+public class CycleEventDispatcherTest {
+
+	private static class MyHandler implements CycleEventHandler {
+
+		private final Set<CyclePhase> phases;
+		private final List<CyclePhase> handled = new ArrayList<>();
+
+		private MyHandler(CyclePhase... phases) {
+			this.phases = Set.of(phases);
+		}
+
+		@Override
+		public Set<CyclePhase> getCyclePhases() {
+			return this.phases;
+		}
+
+		@Override
+		public void handleCycleEvent(CyclePhase phase) {
+			this.handled.add(phase);
+		}
+	}
+
+	private static class MyEventAdmin implements EventAdmin {
+
+		private final List<String> sent = new ArrayList<>();
+
+		@Override
+		public void postEvent(Event event) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void sendEvent(Event event) {
+			this.sent.add(event.getTopic());
+		}
+	}
+
+	@Test
+	public void testDispatch() {
+		var sut = new CycleEventDispatcher();
+		var eventAdmin = new MyEventAdmin();
+		var handler0 = new MyHandler(CyclePhase.BEFORE_PROCESS_IMAGE, CyclePhase.EXECUTE_WRITE);
+		var handler1 = new MyHandler(CyclePhase.EXECUTE_WRITE);
+		sut.addHandler(handler0);
+		sut.addHandler(handler1);
+
+		for (var phase : CyclePhase.values()) {
+			sut.dispatch(phase, eventAdmin);
+		}
+		assertEquals(List.of(CyclePhase.BEFORE_PROCESS_IMAGE, CyclePhase.EXECUTE_WRITE), handler0.handled);
+		assertEquals(List.of(CyclePhase.EXECUTE_WRITE), handler1.handled);
+		assertTrue(eventAdmin.sent.isEmpty());
+
+		sut.removeHandler(handler0);
+		sut.dispatch(CyclePhase.EXECUTE_WRITE, eventAdmin);
+		assertEquals(2, handler0.handled.size());
+		assertEquals(2, handler1.handled.size());
+	}
+
+	@Test
+	public void testEventAdminFallback() {
+		var sut = new CycleEventDispatcher();
+		var eventAdmin = new MyEventAdmin();
+		sut.addEventAdminSubscriber("handler0", EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+		sut.addEventAdminSubscriber("handler1", new String[] { "io/openems/edge/cycle/*" });
+		sut.addEventAdminSubscriber("handler2", "io/openems/edge/config/*");
+
+		assertEquals(2, sut.getEventAdminSubscribers(CyclePhase.AFTER_PROCESS_IMAGE));
+		assertEquals(1, sut.getEventAdminSubscribers(CyclePhase.AFTER_WRITE));
+
+		sut.removeEventAdminSubscriber("handler1");
+		for (var phase : CyclePhase.values()) {
+			sut.dispatch(phase, eventAdmin);
+		}
+		assertEquals(List.of(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE), eventAdmin.sent);
+	}
+
+	@Test
+	public void testGetSubscribedPhases() {
+		assertEquals(CyclePhase.values().length, CycleEventDispatcher.getSubscribedPhases("*").size());
+		assertEquals(CyclePhase.values().length,
+				CycleEventDispatcher.getSubscribedPhases(List.of("io/openems/edge/*")).size());
+		assertEquals(Set.of(CyclePhase.BEFORE_WRITE),
+				CycleEventDispatcher.getSubscribedPhases(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE));
+		assertTrue(CycleEventDispatcher.getSubscribedPhases(null).isEmpty());
+		assertTrue(CycleEventDispatcher.getSubscribedPhases("io/openems/edge/cycle").isEmpty());
+	}
+
+}
@@ -0,0 +1,36 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DurationStatisticsTest {
+
+	@Test
+	public void test() {
+		var sut = new DurationStatistics(100);
+		assertFalse(sut.calculate());
+
+		for (var i = 1; i <= 100; i++) {
+			sut.add(i);
+		}
+		assertTrue(sut.calculate());
+		assertEquals(1, sut.getMin());
+		assertEquals(50, sut.getAvg());
+		assertEquals(100, sut.getMax());
+		assertEquals(99, sut.getP99());
+
+		// Sliding window: replaces oldest samples
+		for (var i = 0; i < 10; i++) {
+			sut.add(1000);
+		}
+		assertTrue(sut.calculate());
+		assertEquals(100, sut.getCount());
+		assertEquals(11, sut.getMin());
+		assertEquals(1000, sut.getMax());
+		assertEquals(1000, sut.getP99());
+	}
+
+}
@@ -0,0 +1,54 @@
+package io.openems.edge.core.cycle;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.controller.test.DummyController;
+
+public class ProcessImageSwitcherTest {
+
+	@Test
+	public void testToLevels() {
+		final var bridge = new DummyController("modbus0");
+		final var ess0 = new DummyController("ess0");
+		final var ess1 = new DummyController("ess1");
+		final var cluster = new DummyController("ess2");
+		final var meter = new DummyController("meter0");
+		final List<OpenemsComponent> components = List.of(cluster, ess0, ess1, bridge, meter);
+
+		var levels = ProcessImageSwitcher.toLevels(components, Map.of(//
+				"ess0", Set.of("modbus0"), //
+				"ess1", Set.of("modbus0"), //
+				"ess2", Set.of("ess0", "ess1", "unknown0")));
+
+		assertEquals(3, levels.size());
+		assertEquals(2, levels.get(0).size());
+		assertTrue(levels.get(0).contains(bridge));
+		assertTrue(levels.get(0).contains(meter));
+		assertEquals(2, levels.get(1).size());
+		assertTrue(levels.get(1).contains(ess0));
+		assertTrue(levels.get(1).contains(ess1));
+		assertEquals(List.of(cluster), levels.get(2));
+	}
+
+	@Test
+	public void testCircularDependency() {
+		final var ctrl0 = new DummyController("ctrl0");
+		final var ctrl1 = new DummyController("ctrl1");
+		final List<OpenemsComponent> components = List.of(ctrl0, ctrl1);
+
+		var levels = ProcessImageSwitcher.toLevels(components, Map.of(//
+				"ctrl0", Set.of("ctrl1"), //
+				"ctrl1", Set.of("ctrl0")));
+
+		assertEquals(2, levels.stream().mapToInt(List::size).sum());
+	}
+
+}
@@ -0,0 +1,123 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.optimizer.Simulator.EFFICIENCY_FACTOR;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.energy.optimizer.Params.OptimizePeriod;
+
+/**
+ * Calculates the cost of a Schedule without allocating objects.
+ *
+ * <p>
+ * The {@link OptimizePeriod}s of the {@link Params} are copied to primitive
+ * arrays once; evaluating a {@link Genotype} then only works on these arrays
+ * and local variables. This is equivalent to
+ * {@link Simulator#calculateCost(Params, StateMachine[])}, but avoids the
+ * {@link EnergyFlow} records and the {@link StateMachine} array per
+ * evaluation.
+ *
+ * <p>
+ * Instances are immutable and can be shared by concurrent evaluation threads.
+ */
+public class CostFunction {
+
+	private final StateMachine[] states;
+	private final int essTotalEnergy;
+	private final int essMinSocEnergy;
+	private final int essMaxSocEnergy;
+	private final int essInitialEnergy;
+
+	private final int[] essMaxChargeEnergy;
+	private final int[] essMaxDischargeEnergy;
+	private final int[] essChargeInChargeGrid;
+	private final int[] maxBuyFromGrid;
+	private final int[] production;
+	private final int[] consumption;
+	private final double[] price; // negative prices filtered
+
+	public CostFunction(Params p) {
+		this.states = p.states().clone();
+		this.essTotalEnergy = p.essTotalEnergy();
+		this.essMinSocEnergy = p.essMinSocEnergy();
+		this.essMaxSocEnergy = p.essMaxSocEnergy();
+		this.essInitialEnergy = p.essInitialEnergy();
+
+		final var periods = p.optimizePeriods();
+		final var length = periods.size();
+		this.essMaxChargeEnergy = new int[length];
+		this.essMaxDischargeEnergy = new int[length];
+		this.essChargeInChargeGrid = new int[length];
+		this.maxBuyFromGrid = new int[length];
+		this.production = new int[length];
+		this.consumption = new int[length];
+		this.price = new double[length];
+		for (var i = 0; i < length; i++) {
+			final var op = periods.get(i);
+			this.essMaxChargeEnergy[i] = op.essMaxChargeEnergy();
+			this.essMaxDischargeEnergy[i] = op.essMaxDischargeEnergy();
+			this.essChargeInChargeGrid[i] = op.essChargeInChargeGrid();
+			this.maxBuyFromGrid[i] = op.maxBuyFromGrid();
+			this.production[i] = op.production();
+			this.consumption[i] = op.consumption();
+			this.price[i] = max(0, op.price());
+		}
+	}
+
+	/**
+	 * Simulates the Schedule represented by a {@link Genotype} and calculates the
+	 * cost.
+	 *
+	 * @param gt the {@link Genotype}; one chromosome per period with the index of
+	 *           the {@link StateMachine} in {@link Params#states()}
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(Genotype<IntegerGene> gt) {
+		var essInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.price.length; i++) {
+			final var state = this.states[gt.get(i).get(0).intValue()];
+			essInitial = max(0, essInitial); // always at least '0'
+			final var production = this.production[i];
+			final var consumption = this.consumption[i];
+
+			// Same as EnergyFlow.withBalancing/withDelayDischarge/withChargeGrid
+			final int essMaxSocEnergy = switch (state) {
+			case BALANCING, DELAY_DISCHARGE -> this.essTotalEnergy;
+			case CHARGE_GRID -> this.essMaxSocEnergy;
+			};
+			final int essTarget = switch (state) {
+			case BALANCING -> consumption - production;
+			case DELAY_DISCHARGE -> min(0, consumption - production);
+			case CHARGE_GRID -> min(0, consumption - production) - this.essChargeInChargeGrid[i];
+			};
+
+			// Same as EnergyFlow.create()
+			final var essMaxDischarge = max(0, essInitial - this.essMinSocEnergy);
+			final var essMaxCharge = max(0, essMaxSocEnergy - essInitial);
+			var ess = max(consumption - production - this.maxBuyFromGrid[i], essTarget);
+			ess = max(-essMaxCharge, min(essMaxDischarge, ess));
+			ess = max(-this.essMaxChargeEnergy[i], min(this.essMaxDischargeEnergy[i], ess));
+
+			final var grid = consumption - production - ess;
+			essInitial = essInitial - ess;
+
+			// Same as Simulator.simulatePeriod()
+			if (grid > 0) {
+				final var productionToConsumption = min(production, consumption);
+				final var productionToEss = max(0, min(-ess, production - productionToConsumption));
+				final var productionToGrid = max(0, production - productionToConsumption - productionToEss);
+				final var essToConsumption = max(0, min(consumption - productionToConsumption, ess - productionToGrid));
+				final var gridToConsumption = max(0, consumption - essToConsumption - productionToConsumption);
+				final var gridToEss = grid - gridToConsumption + productionToGrid;
+				final var price = this.price[i];
+				sum += gridToConsumption * price + gridToEss * price * EFFICIENCY_FACTOR;
+			}
+		}
+		return sum;
+	}
+
+}
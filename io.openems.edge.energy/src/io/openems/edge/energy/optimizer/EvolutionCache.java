@@ -0,0 +1,133 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.EvolutionResult;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Keeps the evolved population of the last optimization run, to warm-start the
+ * next one.
+ *
+ * <p>
+ * The population is shifted to the periods of the new {@link Params} by time,
+ * i.e. when the leading quarter dropped off, every period keeps the state it
+ * had in the last run. Costs are not kept, as the inputs of the
+ * {@link CostFunction}, e.g. the initial ESS energy, change with every run.
+ */
+public class EvolutionCache {
+
+	private Params params = null;
+	private ImmutableList<Genotype<IntegerGene>> population = ImmutableList.of();
+
+	/**
+	 * Is a population of a previous optimization run available?.
+	 *
+	 * @return true if available
+	 */
+	public synchronized boolean hasPopulation() {
+		return !this.population.isEmpty();
+	}
+
+	/**
+	 * Builds the initial population: the Genotypes of
+	 * {@link InitialPopulationUtils#buildInitialPopulation(Params)}, followed by
+	 * the last population shifted to the periods of the given {@link Params}.
+	 *
+	 * @param p the {@link Params}
+	 * @return the initial population
+	 */
+	public synchronized ImmutableList<Genotype<IntegerGene>> buildInitialPopulation(Params p) {
+		final var result = ImmutableList.<Genotype<IntegerGene>>builder() //
+				.addAll(InitialPopulationUtils.buildInitialPopulation(p));
+		if (this.params != null) {
+			final var mapping = mapPeriods(this.params, p);
+			for (var gt : this.population) {
+				result.add(shift(gt, this.params.states(), p.states(), mapping));
+			}
+		}
+		return result.build();
+	}
+
+	/**
+	 * Stores the population of an {@link EvolutionResult}.
+	 *
+	 * @param p      the {@link Params} of the optimization run
+	 * @param result the {@link EvolutionResult}
+	 */
+	public synchronized void update(Params p, EvolutionResult<IntegerGene, Double> result) {
+		this.params = p;
+		this.population = ImmutableList.<Genotype<IntegerGene>>builder() //
+				.add(result.bestPhenotype().genotype()) //
+				.addAll(result.genotypes()) //
+				.build();
+	}
+
+	/**
+	 * Resets the cache, e.g. if no valid {@link Params} are available.
+	 */
+	public synchronized void clear() {
+		this.params = null;
+		this.population = ImmutableList.of();
+	}
+
+	/**
+	 * Maps the periods of the new {@link Params} to the periods of the old
+	 * {@link Params} by time.
+	 *
+	 * @param from the old {@link Params}
+	 * @param to   the new {@link Params}
+	 * @return for every new period the index of the old period; -1 if there is
+	 *         none
+	 */
+	protected static int[] mapPeriods(Params from, Params to) {
+		final var result = new int[to.optimizePeriods().size()];
+		var j = 0;
+		for (var i = 0; i < result.length; i++) {
+			final var time = getStart(to, i);
+			while (j < from.optimizePeriods().size() && !time.isBefore(getEnd(from, j))) {
+				j++;
+			}
+			result[i] = j < from.optimizePeriods().size() && !time.isBefore(getStart(from, j)) //
+					? j //
+					: -1;
+		}
+		return result;
+	}
+
+	private static ZonedDateTime getStart(Params p, int index) {
+		return p.optimizePeriods().get(index).quarterPeriods().get(0).time();
+	}
+
+	private static ZonedDateTime getEnd(Params p, int index) {
+		final var quarterPeriods = p.optimizePeriods().get(index).quarterPeriods();
+		return quarterPeriods.get(quarterPeriods.size() - 1).time().plusMinutes(15);
+	}
+
+	private static Genotype<IntegerGene> shift(Genotype<IntegerGene> gt, StateMachine[] fromStates,
+			StateMachine[] toStates, int[] mapping) {
+		final var states = List.of(toStates);
+		final var balancing = states.indexOf(BALANCING);
+		final var chromosomes = new IntegerChromosome[mapping.length];
+		for (var i = 0; i < mapping.length; i++) {
+			var index = balancing;
+			if (mapping[i] >= 0 && mapping[i] < gt.length()) {
+				index = states.indexOf(fromStates[gt.get(mapping[i]).get(0).intValue()]);
+				if (index == -1) {
+					index = balancing;
+				}
+			}
+			chromosomes[i] = IntegerChromosome.of(IntegerGene.of(index, 0, toStates.length));
+		}
+		return Genotype.of(List.of(chromosomes));
+	}
+
+}
@@ -15,16 +15,22 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.test.TimeLeapClock;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.optimizer.Simulator.Period;
 
@@ -39,6 +45,16 @@ public class Optimizer extends AbstractImmediateWorker {
 	private final ThrowingSupplier<GlobalContext, OpenemsException> globalContext;
 	private final TreeMap<ZonedDateTime, Period> schedule = new TreeMap<>();
 
+	/**
+	 * Evaluates Genotypes on all cores; null on single-core systems or while not
+	 * activated. If the bounded queue is full, the Optimizer thread runs the task
+	 * itself.
+	 */
+	private volatile ThreadPoolExecutor executor = null;
+
+	/** Population and costs of the last run. */
+	private final EvolutionCache evolutionCache = new EvolutionCache();
+
 	private Params params = null;
 
 	public Optimizer(ThrowingSupplier<GlobalContext, OpenemsException> globalContext) {
@@ -49,6 +65,40 @@ public class Optimizer extends AbstractImmediateWorker {
 		this.setPriority(Thread.MIN_PRIORITY);
 	}
 
+	@Override
+	public synchronized void activate(String name, boolean initiallyTriggerNextRun) {
+		this.createExecutor();
+		super.activate(name, initiallyTriggerNextRun);
+	}
+
+	@Override
+	public synchronized void modified(String name, boolean initiallyTriggerNextRun) {
+		this.createExecutor();
+		super.modified(name, initiallyTriggerNextRun);
+	}
+
+	@Override
+	public synchronized void deactivate() {
+		super.deactivate();
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+		this.executor = null;
+	}
+
+	private void createExecutor() {
+		final var threads = Runtime.getRuntime().availableProcessors();
+		if (this.executor != null || threads < 2) {
+			return;
+		}
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(threads * 4), //
+				new ThreadFactoryBuilder() //
+						.setNameFormat("Energy:Optimizer-%d") //
+						.setPriority(Thread.MIN_PRIORITY) //
+						.setDaemon(true) //
+						.build(), //
+				(task, e) -> task.run() /* also after shutdown */);
+	}
+
 	@Override
 	public void forever() throws InterruptedException, OpenemsException {
 		this.log.info("# Start next run of Optimizer");
@@ -63,9 +113,23 @@ public class Optimizer extends AbstractImmediateWorker {
 		// Calculate max execution time till next quarter (with buffer)
 		executionLimitSeconds = calculateExecutionLimitSeconds(globalContext.clock());
 
-		// Find best Schedule
-		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		// Find best Schedule; warm-started from the last run if possible
+		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds, this.executor,
+				this.evolutionCache, s -> this.applySchedule(globalContext, s));
+		this.applySchedule(globalContext, schedule);
 
+		// Sleep remaining time
+		if (!(globalContext.clock() instanceof TimeLeapClock)) {
+			var remainingExecutionLimit = Duration
+					.between(Instant.now(globalContext.clock()), start.plusSeconds(executionLimitSeconds)).getSeconds();
+			if (remainingExecutionLimit > 0) {
+				this.log.info("Sleep [" + remainingExecutionLimit + "s] till next run of Optimizer");
+				sleep(remainingExecutionLimit * 1000);
+			}
+		}
+	}
+
+	private void applySchedule(GlobalContext globalContext, StateMachine[] schedule) {
 		// Re-Simulate and keep best Schedule
 		var newSchedule = simulate(this.params, schedule);
 
@@ -83,16 +147,6 @@ public class Optimizer extends AbstractImmediateWorker {
 						Entry::getKey, //
 						e -> new EnergyScheduleHandler.Period<>(e.getValue().state(),
 								e.getValue().op().essChargeInChargeGrid()))));
-
-		// Sleep remaining time
-		if (!(globalContext.clock() instanceof TimeLeapClock)) {
-			var remainingExecutionLimit = Duration
-					.between(Instant.now(globalContext.clock()), start.plusSeconds(executionLimitSeconds)).getSeconds();
-			if (remainingExecutionLimit > 0) {
-				this.log.info("Sleep [" + remainingExecutionLimit + "s] till next run of Optimizer");
-				sleep(remainingExecutionLimit * 1000);
-			}
-		}
 	}
 
 	/**
@@ -115,6 +169,7 @@ public class Optimizer extends AbstractImmediateWorker {
 			} catch (OpenemsException e) {
 				this.log.info("# Stuck trying to get Params. " + e.getMessage());
 				this.params = null;
+				this.evolutionCache.clear();
 				synchronized (this.schedule) {
 					this.schedule.clear();
 				}
@@ -1,14 +1,18 @@
 package io.openems.edge.energy.optimizer;
 
+import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
 import static io.jenetics.engine.EvolutionResult.toBestGenotype;
 import static io.jenetics.engine.Limits.byExecutionTime;
 import static io.openems.edge.energy.optimizer.InitialPopulationUtils.buildInitialPopulation;
 import static io.openems.edge.energy.optimizer.Utils.paramsAreValid;
 import static io.openems.edge.energy.optimizer.Utils.postprocessSimulatorState;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.time.Duration.ofSeconds;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -32,6 +36,9 @@ public class Simulator {
 	/** Used to incorporate charge/discharge efficiency. */
 	public static final double EFFICIENCY_FACTOR = 1.17;
 
+	/** Execution limit for the first Schedule of a warm-started optimization. */
+	public static final long WARM_START_SECONDS = 10;
+
 	public record Period(OptimizePeriod op, StateMachine state, int essInitial, EnergyFlow ef) {
 	}
 
@@ -138,8 +145,60 @@ public class Simulator {
 		return getBestSchedule(p, executionLimitSeconds, null, null);
 	}
 
+	/**
+	 * Runs the optimization, warm-started from the population of the last run.
+	 * 
+	 * <p>
+	 * If the {@link EvolutionCache} holds a population of the last run, a first
+	 * Schedule is evolved within {@link #WARM_START_SECONDS} and passed to
+	 * 'onWarmStartSchedule'; the evolution then continues with the same
+	 * population till the execution limit.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param executor              the {@link Executor} for the evolution steps;
+	 *                              null for current thread
+	 * @param cache                 the {@link EvolutionCache}
+	 * @param onWarmStartSchedule   receives the first Schedule of a warm-started
+	 *                              optimization
+	 * @return the best schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Executor executor,
+			EvolutionCache cache, Consumer<StateMachine[]> onWarmStartSchedule) {
+		// Return pure BALANCING Schedule if no predictions are available
+		if (!paramsAreValid(p)) {
+			cache.clear();
+			return p.optimizePeriods().stream() //
+					.map(op -> StateMachine.BALANCING) //
+					.toArray(StateMachine[]::new);
+		}
+
+		final var start = System.nanoTime();
+		final var engine = buildEngine(p, null, executor);
+		final var isWarmStart = cache.hasPopulation();
+		var stream = engine.stream(cache.buildInitialPopulation(p));
+		if (isWarmStart) {
+			final var result = stream //
+					.limit(byExecutionTime(ofSeconds(min(WARM_START_SECONDS, executionLimitSeconds)))) //
+					.collect(toBestEvolutionResult());
+			onWarmStartSchedule.accept(toSchedule(p, result.bestPhenotype().genotype()));
+			stream = engine.stream(result.toEvolutionStart());
+		}
+		final var remaining = ofSeconds(executionLimitSeconds).minusNanos(System.nanoTime() - start);
+		final var result = stream //
+				.limit(byExecutionTime(remaining.isNegative() ? Duration.ZERO : remaining)) //
+				.collect(toBestEvolutionResult());
+		cache.update(p, result);
+		return toSchedule(p, result.bestPhenotype().genotype());
+	}
+
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, executionLimitSeconds, populationSize, limit, null);
+	}
+
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
+			Integer limit, Executor executor) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
 			return p.optimizePeriods().stream() //
@@ -147,22 +206,7 @@ public class Simulator {
 					.toArray(StateMachine[]::new);
 		}
 
-		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
-		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.optimizePeriods().size()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
-			}
-			return calculateCost(p, modes);
-		};
-		var engine = Engine //
-				.builder(eval, gtf) //
-				.executor(Runnable::run) // current thread
-				.minimizing();
-		if (populationSize != null) {
-			engine.populationSize(populationSize); //
-		}
-		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
+		Stream<EvolutionResult<IntegerGene, Double>> stream = buildEngine(p, populationSize, executor) //
 				.stream(buildInitialPopulation(p)) //
 				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
 		if (limit != null) {
@@ -170,8 +214,36 @@ public class Simulator {
 		}
 		var bestGt = stream //
 				.collect(toBestGenotype());
+		return toSchedule(p, bestGt);
+	}
+
+	private static StateMachine[] toSchedule(Params p, Genotype<IntegerGene> gt) {
 		return IntStream.range(0, p.optimizePeriods().size()) //
-				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
+				.mapToObj(period -> p.states()[gt.get(period).get(0).intValue()]) //
 				.toArray(StateMachine[]::new);
 	}
+
+	/**
+	 * Builds the Jenetics {@link Engine}.
+	 * 
+	 * @param p              the {@link Params}
+	 * @param populationSize the population size; null for default
+	 * @param executor       the {@link Executor} for the evolution steps, e.g.
+	 *                       the evaluation of the {@link CostFunction}; null for
+	 *                       current thread
+	 * @return the {@link Engine}
+	 */
+	protected static Engine<IntegerGene, Double> buildEngine(Params p, Integer populationSize, Executor executor) {
+		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
+		var costFunction = new CostFunction(p);
+		var eval = (Function<Genotype<IntegerGene>, Double>) costFunction::calculateCost;
+		var engine = Engine //
+				.builder(eval, gtf) //
+				.executor(executor != null ? executor : Runnable::run) // default: current thread
+				.minimizing();
+		if (populationSize != null) {
+			engine.populationSize(populationSize); //
+		}
+		return engine.build();
+	}
 }
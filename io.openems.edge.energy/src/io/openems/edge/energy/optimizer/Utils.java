@@ -116,7 +116,8 @@ public final class Utils {
 		if (isUnitTest) {
 			RandomRegistry.random(rgf.create(315));
 		} else {
-			RandomRegistry.random(rgf.create());
+			// Thread-local instances; Genotypes are evaluated in parallel
+			RandomRegistry.random(rgf);
 		}
 	}
 
@@ -0,0 +1,79 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.jenetics.engine.Limits.byExecutionTime;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.CHARGE_GRID;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_DISCHARGE;
+import static io.openems.edge.energy.optimizer.SimulatorTest.createParams888d20231106;
+import static java.time.Duration.ofSeconds;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.util.RandomRegistry;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class CostFunctionTest {
+
+	@Before
+	public void before() {
+		// Make reproducible results
+		System.setProperty("io.jenetics.util.defaultRandomGenerator", "Random");
+		RandomRegistry.random(new Random(123));
+	}
+
+	@Test
+	public void testCalculateCost() {
+		final var p = createParams888d20231106(BALANCING, DELAY_DISCHARGE, CHARGE_GRID);
+		final var sut = new CostFunction(p);
+		final var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)),
+				p.optimizePeriods().size());
+
+		for (var i = 0; i < 1000; i++) {
+			final var gt = gtf.newInstance();
+			final var schedule = new StateMachine[p.optimizePeriods().size()];
+			for (var j = 0; j < schedule.length; j++) {
+				schedule[j] = p.states()[gt.get(j).get(0).intValue()];
+			}
+			assertEquals(Simulator.calculateCost(p, schedule), sut.calculateCost(gt), 0.);
+		}
+	}
+
+	/**
+	 * Reports generations per second with single-threaded and parallel
+	 * evaluation.
+	 */
+	@Ignore
+	@Test
+	public void benchmark() {
+		final var p = createParams888d20231106(BALANCING, DELAY_DISCHARGE, CHARGE_GRID);
+		final var seconds = 10;
+
+		var generations = Simulator.buildEngine(p, null, null) //
+				.stream() //
+				.limit(byExecutionTime(ofSeconds(seconds))) //
+				.count();
+		System.out.println("Current thread: " + generations / seconds + " generations/s");
+
+		final var threads = Runtime.getRuntime().availableProcessors();
+		final var executor = Executors.newFixedThreadPool(threads);
+		try {
+			generations = Simulator.buildEngine(p, null, executor) //
+					.stream() //
+					.limit(byExecutionTime(ofSeconds(seconds))) //
+					.count();
+			System.out.println(threads + " threads: " + generations / seconds + " generations/s");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
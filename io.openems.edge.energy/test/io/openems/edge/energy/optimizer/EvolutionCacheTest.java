@@ -0,0 +1,89 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.CHARGE_GRID;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_DISCHARGE;
+import static io.openems.edge.energy.optimizer.SimulatorTest.TIME;
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+public class EvolutionCacheTest {
+
+	private static Params createParams(ZonedDateTime time, int numberOfQuarters) {
+		return Params.create() //
+				.setTime(time) //
+				.setEssTotalEnergy(22000) //
+				.setEssMinSocEnergy(0) //
+				.setEssMaxSocEnergy(22000) //
+				.setEssMaxChargeEnergy(2500) //
+				.setEssMaxDischargeEnergy(2500) //
+				.seMaxBuyFromGrid(6000) //
+				.setProductions(IntStream.range(0, numberOfQuarters).map(i -> 100).toArray()) //
+				.setConsumptions(IntStream.range(0, numberOfQuarters).map(i -> 200).toArray()) //
+				.setPrices(IntStream.range(0, numberOfQuarters).mapToDouble(i -> i).toArray()) //
+				.setStates(BALANCING, DELAY_DISCHARGE, CHARGE_GRID) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+
+	@Test
+	public void testMapPeriods() {
+		// 24 quarters from 00:00; 6 hours from 06:00
+		final var from = createParams(TIME, 48);
+		assertEquals(30, from.optimizePeriods().size());
+
+		// 27 quarters from 00:15; 6 hours from 07:00
+		final var to = createParams(TIME.plusMinutes(15), 49);
+		assertEquals(33, to.optimizePeriods().size());
+
+		final var mapping = EvolutionCache.mapPeriods(from, to);
+		assertEquals(1, mapping[0]); // 00:15
+		assertEquals(23, mapping[22]); // 05:45
+		assertEquals(24, mapping[23]); // 06:00 -> hour 06:00
+		assertEquals(24, mapping[26]); // 06:45 -> hour 06:00
+		assertEquals(25, mapping[27]); // hour 07:00
+		assertEquals(29, mapping[31]); // hour 11:00
+		assertEquals(-1, mapping[32]); // hour 12:00 -> not available
+	}
+
+	@Test
+	public void testBuildInitialPopulation() {
+		final var sut = new EvolutionCache();
+		final var from = createParams(TIME, 48);
+		final var to = createParams(TIME.plusMinutes(15), 49);
+
+		// Without previous population
+		final var initial = InitialPopulationUtils.buildInitialPopulation(to);
+		assertEquals(initial, sut.buildInitialPopulation(to));
+
+		// With previous population
+		final var result = Simulator.buildEngine(from, 4, null) //
+				.stream() //
+				.limit(1) //
+				.collect(toBestEvolutionResult());
+		sut.update(from, result);
+		final var population = sut.buildInitialPopulation(to);
+		assertEquals(initial.size() + 1 + 4, population.size());
+
+		// Shifted best Genotype keeps the states by time
+		final var best = result.bestPhenotype().genotype();
+		final var shifted = population.get(initial.size());
+		final var mapping = EvolutionCache.mapPeriods(from, to);
+		assertEquals(to.optimizePeriods().size(), shifted.length());
+		for (var i = 0; i < mapping.length; i++) {
+			final var expected = mapping[i] == -1 //
+					? Arrays.asList(to.states()).indexOf(BALANCING) //
+					: best.get(mapping[i]).get(0).intValue();
+			assertEquals(expected, shifted.get(i).get(0).intValue());
+		}
+	}
+
+}
@@ -23,6 +23,9 @@ import io.openems.edge.ess.power.api.SolverStrategy;
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default EssPower.DEFAULT_DEBUG_MODE;
 
+	@AttributeDefinition(name = "Cached Solver", description = "Re-uses the linear programs of previous Cycles and warm-starts them from the last solution")
+	boolean cachedSolver() default false;
+
 	@AttributeDefinition(name = "Enable PID Filter", description = "Enables the PID Filter with the settings for P, I and D below")
 	boolean enablePid() default true;
 
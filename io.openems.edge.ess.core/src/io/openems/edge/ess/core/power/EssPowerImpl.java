@@ -32,6 +32,7 @@ import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.ess.core.power.data.ConstraintUtil;
 import io.openems.edge.ess.core.power.data.LogUtil;
 import io.openems.edge.ess.core.power.solver.CalculatePowerExtrema;
+import io.openems.edge.ess.core.power.solver.ConstraintSolver;
 import io.openems.edge.ess.power.api.Coefficient;
 import io.openems.edge.ess.power.api.Constraint;
 import io.openems.edge.ess.power.api.Phase;
@@ -113,6 +114,7 @@ public class EssPowerImpl extends AbstractOpenemsComponent implements EssPower,
 		this.data.setSymmetricMode(config.symmetricMode());
 		this.debugMode = config.debugMode();
 		this.solver.setDebugMode(config.debugMode());
+		ConstraintSolver.setUseCachedSolver(config.cachedSolver());
 		this.config = config;
 
 		if (config.enablePid()) {
@@ -0,0 +1,96 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.Relationship;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+
+import io.openems.edge.ess.power.api.Coefficients;
+
+/**
+ * Solves the same problem as {@link LinearConstraintsSolver}, but keeps the
+ * {@link LinearProgram}s of recently solved problems.
+ *
+ * <p>
+ * Between two Cycles usually only the values of the Constraints change, e.g.
+ * the allowed charge/discharge power or the target power of a Controller,
+ * while coefficients and relationships stay the same. For such a problem the
+ * constraint matrix is re-used and the {@link LinearProgram} is warm-started
+ * from the optimal basis of the last solve.
+ */
+public class CachedLinearConstraintsSolver {
+
+	/** Max number of cached {@link LinearProgram}s. */
+	private static final int MAX_CACHED_PROGRAMS = 8;
+
+	/** Most recently used first. */
+	private static final LinkedList<LinearProgram> PROGRAMS = new LinkedList<>();
+
+	/**
+	 * Solves the problem with the given list of LinearConstraints.
+	 *
+	 * @param coefficients the {@link Coefficients}
+	 * @param constraints  a list of LinearConstraints
+	 * @return a solution as {@link PointValuePair}
+	 * @throws NoFeasibleSolutionException if not solvable
+	 * @throws UnboundedSolutionException  if not solvable
+	 */
+	public static PointValuePair solve(Coefficients coefficients, List<LinearConstraint> constraints)
+			throws NoFeasibleSolutionException, UnboundedSolutionException {
+		final var noOfRows = constraints.size();
+		final var matrix = new double[noOfRows][];
+		final var relationships = new Relationship[noOfRows];
+		final var b = new double[noOfRows];
+		for (var i = 0; i < noOfRows; i++) {
+			final var constraint = constraints.get(i);
+			matrix[i] = constraint.getCoefficients().toArray();
+			relationships[i] = constraint.getRelationship();
+			b[i] = constraint.getValue();
+		}
+		final var objective = new double[coefficients.getNoOfCoefficients()];
+		Arrays.fill(objective, 1); // same as LinearSolverUtil.getDefaultObjectiveFunction()
+
+		synchronized (PROGRAMS) {
+			final var program = getProgram(matrix, relationships, objective);
+			final var x = program.solve(b);
+			var value = 0.;
+			for (var j = 0; j < x.length; j++) {
+				value += objective[j] * x[j];
+			}
+			return new PointValuePair(x, value);
+		}
+	}
+
+	/**
+	 * Removes all cached {@link LinearProgram}s.
+	 */
+	public static void clear() {
+		synchronized (PROGRAMS) {
+			PROGRAMS.clear();
+		}
+	}
+
+	private static LinearProgram getProgram(double[][] matrix, Relationship[] relationships, double[] objective) {
+		final var iterator = PROGRAMS.iterator();
+		while (iterator.hasNext()) {
+			final var program = iterator.next();
+			if (program.matches(matrix, relationships, objective)) {
+				iterator.remove();
+				PROGRAMS.addFirst(program);
+				return program;
+			}
+		}
+		final var program = new LinearProgram(matrix, relationships, objective);
+		PROGRAMS.addFirst(program);
+		if (PROGRAMS.size() > MAX_CACHED_PROGRAMS) {
+			PROGRAMS.removeLast();
+		}
+		return program;
+	}
+
+}
@@ -12,6 +12,21 @@ import io.openems.edge.ess.power.api.Constraint;
 
 public class ConstraintSolver {
 
+	private static volatile boolean useCachedSolver = false;
+
+	/**
+	 * Use the {@link CachedLinearConstraintsSolver} instead of the
+	 * {@link LinearConstraintsSolver}.
+	 *
+	 * @param useCachedSolver true to use the {@link CachedLinearConstraintsSolver}
+	 */
+	public static void setUseCachedSolver(boolean useCachedSolver) {
+		if (!useCachedSolver) {
+			CachedLinearConstraintsSolver.clear();
+		}
+		ConstraintSolver.useCachedSolver = useCachedSolver;
+	}
+
 	/**
 	 * Solves the problem with the given list of Constraints.
 	 *
@@ -24,6 +39,9 @@ public class ConstraintSolver {
 	public static PointValuePair solve(Coefficients coefficients, List<Constraint> constraints)
 			throws NoFeasibleSolutionException, UnboundedSolutionException {
 		var linearConstraints = LinearSolverUtil.convertToLinearConstraints(coefficients, constraints);
+		if (useCachedSolver) {
+			return CachedLinearConstraintsSolver.solve(coefficients, linearConstraints);
+		}
 		return LinearConstraintsSolver.solve(coefficients, linearConstraints);
 	}
 
@@ -0,0 +1,426 @@
+package io.openems.edge.ess.core.power.solver;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.exception.TooManyIterationsException;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.Relationship;
+import org.apache.commons.math3.optim.linear.UnboundedSolutionException;
+
+/**
+ * A linear program 'minimize c * x subject to A * x [=, &gt;=, &lt;=] b' with
+ * unrestricted variables x, solved on a dense primitive simplex tableau.
+ *
+ * <p>
+ * Matrix 'A', the {@link Relationship}s and the objective 'c' are fixed; the
+ * right-hand side 'b' is passed on every call to {@link #solve(double[])}. The
+ * first solve runs the two-phase simplex method. Afterwards the tableau of the
+ * optimal basis is kept: it is still dual feasible for any new 'b', so later
+ * solves re-use the basis and only run the dual simplex method till the basis
+ * is primal feasible again. If this fails for numerical reasons, the solve
+ * falls back to the two-phase method.
+ *
+ * <p>
+ * Tableau columns are [x+ | x- | slack | artificial | rhs], with x = x+ - x-.
+ * The artificial columns start as identity matrix and therefore always hold the
+ * inverse of the current basis.
+ *
+ * <p>
+ * Pivoting follows Bland's rule to avoid cycling. This class is not
+ * thread-safe.
+ */
+class LinearProgram {
+
+	/** Tolerance for reduced costs, right-hand sides and pivot elements. */
+	private static final double EPSILON = 1e-9;
+	/** Relative tolerance for verifying a solution against the constraints. */
+	private static final double FEASIBILITY_TOLERANCE = 1e-6;
+	/** Max number of consecutive warm starts before the tableau is rebuilt. */
+	private static final int MAX_WARM_STARTS = 100;
+
+	private final int noOfVariables;
+	private final double[][] matrix;
+	private final Relationship[] relationships;
+	private final double[] objective;
+
+	private final int noOfRows;
+	private final int firstArtificial;
+	private final int rhs;
+	private final int[] slacks; // slack column per row; -1 for EQUALS
+	private final double[][] tableau;
+	private final double[] sign; // row was multiplied by -1 in the tableau
+	private final int[] basis;
+	private final boolean[] isBasic;
+	private final double[] phase1Costs;
+	private final double[] phase2Costs;
+
+	private boolean hasOptimalBasis = false;
+	private int warmStarts = 0;
+	private int pivots = 0;
+
+	/**
+	 * Constructor. The arrays are not copied and must not be modified afterwards.
+	 *
+	 * @param matrix        the coefficients 'A', one row per constraint
+	 * @param relationships the {@link Relationship} per row
+	 * @param objective     the objective function coefficients 'c'
+	 */
+	public LinearProgram(double[][] matrix, Relationship[] relationships, double[] objective) {
+		this.noOfVariables = objective.length;
+		this.matrix = matrix;
+		this.relationships = relationships;
+		this.objective = objective;
+
+		this.noOfRows = matrix.length;
+		this.slacks = new int[this.noOfRows];
+		var column = 2 * this.noOfVariables;
+		for (var i = 0; i < this.noOfRows; i++) {
+			this.slacks[i] = relationships[i] == Relationship.EQ ? -1 : column++;
+		}
+		this.firstArtificial = column;
+		this.rhs = this.firstArtificial + this.noOfRows;
+		this.tableau = new double[this.noOfRows][this.rhs + 1];
+		this.sign = new double[this.noOfRows];
+		this.basis = new int[this.noOfRows];
+		this.isBasic = new boolean[this.rhs];
+		this.phase1Costs = new double[this.rhs + 1];
+		this.phase2Costs = new double[this.rhs + 1];
+	}
+
+	/**
+	 * Does this {@link LinearProgram} have the given structure?.
+	 *
+	 * @param matrix        the coefficients 'A'
+	 * @param relationships the {@link Relationship}s
+	 * @param objective     the objective function coefficients 'c'
+	 * @return true if all values are equal
+	 */
+	public boolean matches(double[][] matrix, Relationship[] relationships, double[] objective) {
+		if (matrix.length != this.noOfRows //
+				|| !Arrays.equals(relationships, this.relationships) //
+				|| !Arrays.equals(objective, this.objective)) {
+			return false;
+		}
+		for (var i = 0; i < this.noOfRows; i++) {
+			if (!Arrays.equals(matrix[i], this.matrix[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Solves the linear program for the right-hand side 'b'.
+	 *
+	 * @param b the right-hand side per row
+	 * @return the optimal 'x'
+	 * @throws NoFeasibleSolutionException if there is no feasible solution
+	 * @throws UnboundedSolutionException  if the objective is unbounded
+	 */
+	public double[] solve(double[] b) throws NoFeasibleSolutionException, UnboundedSolutionException {
+		if (this.hasOptimalBasis && this.warmStarts < MAX_WARM_STARTS) {
+			this.warmStarts++;
+			var result = this.warmStart(b);
+			if (result != null) {
+				return result;
+			}
+		}
+		this.warmStarts = 0;
+		return this.coldStart(b);
+	}
+
+	/**
+	 * Gets the total number of pivot operations, e.g. for benchmarks.
+	 *
+	 * @return the number of pivots
+	 */
+	public int getPivots() {
+		return this.pivots;
+	}
+
+	private double[] coldStart(double[] b) throws NoFeasibleSolutionException, UnboundedSolutionException {
+		this.hasOptimalBasis = false;
+		final var n = this.noOfVariables;
+		Arrays.fill(this.basis, -1);
+		Arrays.fill(this.isBasic, false);
+		Arrays.fill(this.phase1Costs, 0.);
+
+		for (var i = 0; i < this.noOfRows; i++) {
+			final var row = this.tableau[i];
+			Arrays.fill(row, 0.);
+			final var s = b[i] < 0 ? -1. : 1.;
+			this.sign[i] = s;
+			for (var j = 0; j < n; j++) {
+				final var value = s * this.matrix[i][j];
+				row[j] = value;
+				row[n + j] = -value;
+			}
+			final var slack = this.slacks[i];
+			if (slack != -1) {
+				row[slack] = this.relationships[i] == Relationship.GEQ ? -s : s;
+			}
+			row[this.firstArtificial + i] = 1.;
+			row[this.rhs] = s * b[i];
+
+			if (slack != -1 && row[slack] > 0) {
+				// Slack is a feasible initial basic variable
+				this.setBasic(i, slack);
+			} else {
+				this.setBasic(i, this.firstArtificial + i);
+				// Phase 1 objective: minimize the sum of artificial variables
+				for (var j = 0; j <= this.rhs; j++) {
+					this.phase1Costs[j] -= row[j];
+				}
+				this.phase1Costs[this.firstArtificial + i] = 0.;
+			}
+		}
+
+		// Phase 1: find a feasible basis
+		this.primalSimplex(this.phase1Costs);
+		if (this.phase1Costs[this.rhs] < -this.getTolerance(b)) {
+			throw new NoFeasibleSolutionException();
+		}
+
+		// Drive remaining artificial variables out of the basis
+		var hasRedundantRows = false;
+		for (var i = 0; i < this.noOfRows; i++) {
+			if (this.basis[i] < this.firstArtificial) {
+				continue;
+			}
+			var column = -1;
+			for (var j = 0; j < this.firstArtificial; j++) {
+				if (!this.isBasic[j] && Math.abs(this.tableau[i][j]) > EPSILON) {
+					column = j;
+					break;
+				}
+			}
+			if (column == -1) {
+				// Linearly dependent row; artificial stays basic at zero
+				hasRedundantRows = true;
+			} else {
+				this.pivot(i, column, this.phase1Costs);
+			}
+		}
+
+		// Phase 2: find the optimal basis
+		this.initializePhase2Costs();
+		if (!this.primalSimplex(this.phase2Costs)) {
+			throw new UnboundedSolutionException();
+		}
+		this.hasOptimalBasis = !hasRedundantRows;
+		return this.getSolution();
+	}
+
+	private double[] warmStart(double[] b) {
+		// New basic solution x_B = B^-1 * b; B^-1 is held in the artificial columns
+		for (var i = 0; i < this.noOfRows; i++) {
+			final var row = this.tableau[i];
+			var value = 0.;
+			for (var k = 0; k < this.noOfRows; k++) {
+				value += row[this.firstArtificial + k] * this.sign[k] * b[k];
+			}
+			row[this.rhs] = value;
+		}
+
+		// Dual simplex: the basis stays dual feasible, restore primal feasibility
+		final var maxIterations = 10 * (this.noOfRows + this.rhs);
+		for (var iteration = 0;; iteration++) {
+			if (iteration > maxIterations) {
+				return null;
+			}
+			// Leaving row: infeasible row with lowest basic variable index
+			var leaving = -1;
+			for (var i = 0; i < this.noOfRows; i++) {
+				if (this.tableau[i][this.rhs] < -EPSILON
+						&& (leaving == -1 || this.basis[i] < this.basis[leaving])) {
+					leaving = i;
+				}
+			}
+			if (leaving == -1) {
+				break;
+			}
+			// Entering column: min ratio of reduced cost to negative pivot element
+			final var row = this.tableau[leaving];
+			var entering = -1;
+			var minRatio = Double.POSITIVE_INFINITY;
+			for (var j = 0; j < this.firstArtificial; j++) {
+				if (this.isBasic[j] || row[j] >= -EPSILON) {
+					continue;
+				}
+				final var ratio = Math.max(0., this.phase2Costs[j]) / -row[j];
+				if (ratio < minRatio) {
+					minRatio = ratio;
+					entering = j;
+				}
+			}
+			if (entering == -1) {
+				// Infeasible; let the two-phase method confirm it
+				return null;
+			}
+			this.pivot(leaving, entering, this.phase2Costs);
+		}
+
+		// Fix reduced costs that became negative by rounding errors
+		try {
+			if (!this.primalSimplex(this.phase2Costs)) {
+				return null;
+			}
+		} catch (TooManyIterationsException e) {
+			return null;
+		}
+
+		final var result = this.getSolution();
+		return this.isFeasible(result, b) ? result : null;
+	}
+
+	/**
+	 * Runs the primal simplex method on the given objective row.
+	 *
+	 * @param costs the reduced costs of the objective
+	 * @return false if the objective is unbounded
+	 * @throws TooManyIterationsException on cycling
+	 */
+	private boolean primalSimplex(double[] costs) throws TooManyIterationsException {
+		final var maxIterations = 10 * (this.noOfRows + this.rhs);
+		for (var iteration = 0;; iteration++) {
+			if (iteration > maxIterations) {
+				throw new TooManyIterationsException(maxIterations);
+			}
+			// Entering column: lowest index with negative reduced cost
+			var entering = -1;
+			for (var j = 0; j < this.firstArtificial; j++) {
+				if (!this.isBasic[j] && costs[j] < -EPSILON) {
+					entering = j;
+					break;
+				}
+			}
+			if (entering == -1) {
+				return true;
+			}
+			// Leaving row: min ratio; ties by lowest basic variable index
+			var leaving = -1;
+			var minRatio = Double.POSITIVE_INFINITY;
+			for (var i = 0; i < this.noOfRows; i++) {
+				final var element = this.tableau[i][entering];
+				if (element <= EPSILON) {
+					continue;
+				}
+				final var ratio = Math.max(0., this.tableau[i][this.rhs]) / element;
+				if (ratio < minRatio - EPSILON
+						|| (ratio <= minRatio + EPSILON && this.basis[i] < this.basis[leaving])) {
+					minRatio = ratio;
+					leaving = i;
+				}
+			}
+			if (leaving == -1) {
+				return false;
+			}
+			this.pivot(leaving, entering, costs);
+		}
+	}
+
+	private void pivot(int pivotRow, int pivotColumn, double[] costs) {
+		this.pivots++;
+		final var row = this.tableau[pivotRow];
+		final var element = row[pivotColumn];
+		for (var j = 0; j <= this.rhs; j++) {
+			row[j] /= element;
+		}
+		row[pivotColumn] = 1.;
+		for (var i = 0; i < this.noOfRows; i++) {
+			if (i != pivotRow) {
+				eliminate(this.tableau[i], row, pivotColumn);
+			}
+		}
+		eliminate(costs, row, pivotColumn);
+		this.setBasic(pivotRow, pivotColumn);
+	}
+
+	private static void eliminate(double[] target, double[] pivotRow, int pivotColumn) {
+		final var factor = target[pivotColumn];
+		if (factor == 0.) {
+			return;
+		}
+		for (var j = 0; j < target.length; j++) {
+			target[j] -= factor * pivotRow[j];
+		}
+		target[pivotColumn] = 0.;
+	}
+
+	private void setBasic(int row, int column) {
+		if (this.basis[row] != -1) {
+			this.isBasic[this.basis[row]] = false;
+		}
+		this.basis[row] = column;
+		this.isBasic[column] = true;
+	}
+
+	private void initializePhase2Costs() {
+		final var n = this.noOfVariables;
+		Arrays.fill(this.phase2Costs, 0.);
+		for (var j = 0; j < n; j++) {
+			this.phase2Costs[j] = this.objective[j];
+			this.phase2Costs[n + j] = -this.objective[j];
+		}
+		for (var i = 0; i < this.noOfRows; i++) {
+			final var column = this.basis[i];
+			final var cost = column < n //
+					? this.objective[column] //
+					: column < 2 * n //
+							? -this.objective[column - n] //
+							: 0.;
+			if (cost != 0.) {
+				final var row = this.tableau[i];
+				for (var j = 0; j <= this.rhs; j++) {
+					this.phase2Costs[j] -= cost * row[j];
+				}
+			}
+		}
+	}
+
+	private double[] getSolution() {
+		final var n = this.noOfVariables;
+		final var result = new double[n];
+		for (var i = 0; i < this.noOfRows; i++) {
+			final var column = this.basis[i];
+			final var value = this.tableau[i][this.rhs];
+			if (column < n) {
+				result[column] += value;
+			} else if (column < 2 * n) {
+				result[column - n] -= value;
+			}
+		}
+		return result;
+	}
+
+	private boolean isFeasible(double[] x, double[] b) {
+		for (var i = 0; i < this.noOfRows; i++) {
+			var lhs = 0.;
+			var scale = Math.abs(b[i]);
+			for (var j = 0; j < this.noOfVariables; j++) {
+				final var value = this.matrix[i][j] * x[j];
+				lhs += value;
+				scale += Math.abs(value);
+			}
+			final var tolerance = FEASIBILITY_TOLERANCE * Math.max(1., scale);
+			final var ok = switch (this.relationships[i]) {
+			case EQ -> Math.abs(lhs - b[i]) <= tolerance;
+			case GEQ -> lhs >= b[i] - tolerance;
+			case LEQ -> lhs <= b[i] + tolerance;
+			};
+			if (!ok) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private double getTolerance(double[] b) {
+		var scale = 1.;
+		for (var value : b) {
+			scale = Math.max(scale, Math.abs(value));
+		}
+		return FEASIBILITY_TOLERANCE * scale;
+	}
+
+}
@@ -0,0 +1,253 @@
+package io.openems.edge.ess.core.power.solver;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.optim.PointValuePair;
+import org.apache.commons.math3.optim.linear.LinearConstraint;
+import org.apache.commons.math3.optim.linear.LinearConstraintSet;
+import org.apache.commons.math3.optim.linear.LinearObjectiveFunction;
+import org.apache.commons.math3.optim.linear.NoFeasibleSolutionException;
+import org.apache.commons.math3.optim.linear.PivotSelectionRule;
+import org.apache.commons.math3.optim.linear.Relationship;
+import org.apache.commons.math3.optim.linear.SimplexSolver;
+import org.apache.commons.math3.optim.nonlinear.scalar.GoalType;
+import org.junit.After;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.core.power.Data;
+import io.openems.edge.ess.core.power.data.LinearSolverUtil;
+import io.openems.edge.ess.power.api.Phase;
+import io.openems.edge.ess.power.api.Pwr;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyMetaEss;
+
+public class CachedLinearConstraintsSolverTest {
+
+	private static final double DELTA = 0.001;
+
+	@After
+	public void after() {
+		CachedLinearConstraintsSolver.clear();
+	}
+
+	@Test
+	public void testRandomPrograms() {
+		final var random = new Random(4711);
+		for (var run = 0; run < 200; run++) {
+			final var n = 2 + random.nextInt(5);
+			final var m = 1 + random.nextInt(6);
+			final var matrix = new double[2 * n + m][];
+			final var relationships = new Relationship[matrix.length];
+			final var objective = new double[n];
+			for (var j = 0; j < n; j++) {
+				objective[j] = random.nextInt(5) - 2;
+				// Bounds keep the program bounded
+				matrix[2 * j] = unitVector(n, j);
+				relationships[2 * j] = Relationship.LEQ;
+				matrix[2 * j + 1] = unitVector(n, j);
+				relationships[2 * j + 1] = Relationship.GEQ;
+			}
+			for (var i = 2 * n; i < matrix.length; i++) {
+				matrix[i] = new double[n];
+				for (var j = 0; j < n; j++) {
+					matrix[i][j] = random.nextInt(7) - 3;
+				}
+				relationships[i] = Relationship.values()[random.nextInt(3)];
+			}
+			final var sut = new LinearProgram(matrix, relationships, objective);
+
+			// Same structure, different right-hand sides: first solve is a cold start,
+			// the following ones are warm starts
+			for (var step = 0; step < 5; step++) {
+				final var b = new double[matrix.length];
+				for (var j = 0; j < n; j++) {
+					b[2 * j] = random.nextInt(1000);
+					b[2 * j + 1] = -random.nextInt(1000);
+				}
+				for (var i = 2 * n; i < matrix.length; i++) {
+					b[i] = random.nextInt(2001) - 1000;
+				}
+				assertSameSolution(matrix, relationships, objective, b, sut);
+			}
+		}
+	}
+
+	@Test
+	public void testInfeasible() {
+		// 'b0 <= x + y <= b1', 'x >= 0', 'y >= 0'
+		final var matrix = new double[][] { { 1, 1 }, { 1, 1 }, { 1, 0 }, { 0, 1 } };
+		final var relationships = new Relationship[] { Relationship.GEQ, Relationship.LEQ, Relationship.GEQ,
+				Relationship.GEQ };
+		final var sut = new LinearProgram(matrix, relationships, new double[] { 1, 1 });
+
+		assertArrayEquals(new double[] { 5, 0 }, sut.solve(new double[] { 5, 10, 0, 0 }), DELTA);
+		try {
+			sut.solve(new double[] { 10, 5, 0, 0 });
+			fail();
+		} catch (NoFeasibleSolutionException e) {
+			// expected
+		}
+		assertArrayEquals(new double[] { 2, 0 }, sut.solve(new double[] { 2, 10, 0, 0 }), DELTA);
+		assertArrayEquals(new double[] { 3, 0 }, sut.solve(new double[] { 3, 10, 0, 0 }), DELTA);
+	}
+
+	@Test
+	public void testMetaEssClusters() throws OpenemsException {
+		final var data = createData(4, 6);
+		final var random = new Random(1234);
+		for (var cycle = 0; cycle < 20; cycle++) {
+			final var constraints = createCycleConstraints(data, random);
+			final var expected = LinearConstraintsSolver.solve(data.getCoefficients(), constraints);
+			final var actual = CachedLinearConstraintsSolver.solve(data.getCoefficients(), constraints);
+			assertEquals(expected.getValue(), actual.getValue(), DELTA);
+			assertFeasible(constraints, actual);
+		}
+	}
+
+	@Ignore
+	@Test
+	public void benchmark() throws OpenemsException {
+		final var data = createData(4, 6); // 24 inverters in 4 clusters
+		final var cycles = 1_000;
+		final var random = new Random(1234);
+		final var problems = new ArrayList<List<LinearConstraint>>();
+		for (var cycle = 0; cycle < cycles; cycle++) {
+			problems.add(createCycleConstraints(data, random));
+		}
+		final var coefficients = data.getCoefficients();
+
+		for (var round = 0; round < 3; round++) {
+			var start = System.nanoTime();
+			for (var constraints : problems) {
+				LinearConstraintsSolver.solve(coefficients, constraints);
+			}
+			final var linearConstraintsSolver = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (var constraints : problems) {
+				CachedLinearConstraintsSolver.solve(coefficients, constraints);
+			}
+			final var cachedSolver = System.nanoTime() - start;
+
+			System.out.println(String.format(
+					"LinearConstraintsSolver: %d us/cycle; CachedLinearConstraintsSolver: %d us/cycle", //
+					linearConstraintsSolver / cycles / 1000, cachedSolver / cycles / 1000));
+		}
+	}
+
+	private static void assertSameSolution(double[][] matrix, Relationship[] relationships, double[] objective,
+			double[] b, LinearProgram sut) {
+		final var constraints = new ArrayList<LinearConstraint>();
+		for (var i = 0; i < matrix.length; i++) {
+			constraints.add(new LinearConstraint(matrix[i], relationships[i], b[i]));
+		}
+		PointValuePair expected;
+		try {
+			expected = new SimplexSolver().optimize(//
+					new LinearObjectiveFunction(objective, 0), //
+					new LinearConstraintSet(constraints), //
+					GoalType.MINIMIZE, //
+					PivotSelectionRule.BLAND);
+		} catch (NoFeasibleSolutionException e) {
+			expected = null;
+		}
+
+		double[] actual;
+		try {
+			actual = sut.solve(b);
+		} catch (NoFeasibleSolutionException e) {
+			actual = null;
+		}
+
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+		var value = 0.;
+		for (var j = 0; j < objective.length; j++) {
+			value += objective[j] * actual[j];
+		}
+		assertEquals(expected.getValue(), value, DELTA);
+		assertFeasible(constraints, new PointValuePair(actual, value));
+	}
+
+	private static void assertFeasible(List<LinearConstraint> constraints, PointValuePair solution) {
+		for (var constraint : constraints) {
+			final var lhs = constraint.getCoefficients().dotProduct(new ArrayRealVector(solution.getPointRef(), false));
+			final var rhs = constraint.getValue();
+			final var ok = switch (constraint.getRelationship()) {
+			case EQ -> Math.abs(lhs - rhs) < DELTA;
+			case GEQ -> lhs > rhs - DELTA;
+			case LEQ -> lhs < rhs + DELTA;
+			};
+			assertTrue(constraint + " with " + lhs, ok);
+		}
+	}
+
+	private static double[] unitVector(int length, int index) {
+		final var result = new double[length];
+		result[index] = 1;
+		return result;
+	}
+
+	private static MyData createData(int clusters, int essPerCluster) {
+		final var data = new MyData();
+		for (var c = 0; c < clusters; c++) {
+			final var esss = new DummyManagedSymmetricEss[essPerCluster];
+			for (var e = 0; e < essPerCluster; e++) {
+				esss[e] = new DummyManagedSymmetricEss("ess" + (c * essPerCluster + e + clusters)) //
+						.withAllowedChargePower(-50000) //
+						.withAllowedDischargePower(50000) //
+						.withMaxApparentPower(12000) //
+						.withSoc(50 + e);
+				data.addEss(esss[e]);
+			}
+			data.addEss(new DummyMetaEss("ess" + c, esss));
+		}
+		data.initializeCycle();
+		return data;
+	}
+
+	/**
+	 * Creates the Constraints of one Cycle: a target active power per Cluster,
+	 * reactive power zero.
+	 */
+	private static List<LinearConstraint> createCycleConstraints(MyData data, Random random)
+			throws OpenemsException {
+		data.initializeCycle();
+		for (var c = 0; c < 4; c++) {
+			data.addSimpleConstraint("", "ess" + c, Phase.ALL, Pwr.ACTIVE,
+					io.openems.edge.ess.power.api.Relationship.EQUALS, random.nextInt(60001) - 30000);
+			data.addSimpleConstraint("", "ess" + c, Phase.ALL, Pwr.REACTIVE,
+					io.openems.edge.ess.power.api.Relationship.EQUALS, 0);
+		}
+		return LinearSolverUtil.convertToLinearConstraints(data.getCoefficients(),
+				data.getConstraintsForAllInverters());
+	}
+
+	private static class MyData extends Data {
+
+		@Override
+		protected synchronized void addEss(ManagedSymmetricEss ess) {
+			super.addEss(ess);
+		}
+
+		@Override
+		protected synchronized void initializeCycle() {
+			super.initializeCycle();
+		}
+	}
+
+}
@@ -1,11 +1,7 @@
 package io.openems.edge.predictor.api.prediction;
 
-import static io.openems.common.utils.DateUtils.roundDownToQuarter;
-import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
-
 import java.time.ZonedDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.LinkedHashSet;
 
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
@@ -21,7 +17,9 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 
 	private final Logger log = LoggerFactory.getLogger(AbstractPredictor.class);
 
-	private final Map<ChannelAddress, Prediction> predictions = new HashMap<>();
+	private final PredictionCache predictions = new PredictionCache();
+
+	private ChannelAddress[] channelAddresses = {};
 
 	private LogVerbosity logVerbosity = LogVerbosity.NONE;
 
@@ -45,27 +43,24 @@ public abstract class AbstractPredictor extends AbstractOpenemsComponent impleme
 		super.activate(context, id, alias, enabled);
 		this.logVerbosity = logVerbosity;
 
+		this.predictions.clear();
+		var addresses = new LinkedHashSet<ChannelAddress>();
 		for (var i = 0; i < channelAddresses.length; i++) {
-			this.predictions.put(ChannelAddress.fromString(channelAddresses[i]), EMPTY_PREDICTION);
+			addresses.add(ChannelAddress.fromString(channelAddresses[i]));
 		}
+		this.channelAddresses = addresses.toArray(ChannelAddress[]::new);
 	}
 
 	@Override
 	public ChannelAddress[] getChannelAddresses() {
-		return this.predictions.keySet().toArray(ChannelAddress[]::new);
+		return this.channelAddresses.clone();
 	}
 
 	@Override
 	public Prediction getPrediction(ChannelAddress channelAddress) {
-		var now = roundDownToQuarter(ZonedDateTime.now(this.getClockProvider().getClock()));
-		var prediction = this.predictions.get(channelAddress);
-		if (prediction == null || prediction.isEmpty() || now.isAfter(prediction.valuePerQuarter.firstKey())) {
-			// Create new prediction
-			prediction = this.createNewPrediction(channelAddress);
-			this.predictions.put(channelAddress, prediction);
-		} else {
-			// Reuse existing prediction
-		}
+		var now = ZonedDateTime.now(this.getClockProvider().getClock());
+		// Created at most once per quarter-hour; reused otherwise
+		var prediction = this.predictions.get(channelAddress, now, this::createNewPrediction);
 		switch (this.logVerbosity) {
 		case NONE -> {
 		}
@@ -0,0 +1,78 @@
+package io.openems.edge.predictor.api.prediction;
+
+import static io.openems.common.utils.DateUtils.roundDownToQuarter;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches one {@link Prediction} per {@link ChannelAddress} and quarter-hour.
+ *
+ * <p>
+ * Controllers, the Energy Scheduler and UI requests ask for the same
+ * Predictions independently and possibly from different threads. A
+ * {@link Prediction} is created at most once per quarter-hour; concurrent
+ * callers for the same {@link ChannelAddress} wait for the running creation
+ * instead of starting their own.
+ */
+public class PredictionCache {
+
+	private record Entry(ZonedDateTime quarter, FutureTask<Prediction> task) {
+	}
+
+	private final ConcurrentHashMap<ChannelAddress, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the cached {@link Prediction} for the current quarter-hour; creates
+	 * it if there is none yet.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param now            the current time
+	 * @param factory        creates a new {@link Prediction} for a
+	 *                       {@link ChannelAddress}
+	 * @return the {@link Prediction}
+	 */
+	public Prediction get(ChannelAddress channelAddress, ZonedDateTime now,
+			Function<ChannelAddress, Prediction> factory) {
+		final var quarter = roundDownToQuarter(now);
+		var entry = this.entries.get(channelAddress);
+		if (entry == null || !entry.quarter.isEqual(quarter)) {
+			// Only the caller that installs the Entry runs the task
+			final var created = new Entry(quarter, new FutureTask<>(() -> factory.apply(channelAddress)));
+			entry = this.entries.compute(channelAddress,
+					(key, existing) -> existing != null && existing.quarter.isEqual(quarter) ? existing : created);
+			if (entry == created) {
+				created.task.run();
+			}
+		}
+
+		try {
+			return entry.task.get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Prediction.EMPTY_PREDICTION;
+
+		} catch (ExecutionException e) {
+			// Do not keep the failure; retry on next call
+			this.entries.remove(channelAddress, entry);
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Removes all cached {@link Prediction}s.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+}
@@ -0,0 +1,108 @@
+package io.openems.edge.predictor.api.prediction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+
+public class PredictionCacheTest {
+
+	private static final ChannelAddress SUM_PRODUCTION_ACTIVE_POWER = new ChannelAddress("_sum",
+			"ProductionActivePower");
+	private static final ChannelAddress SUM_CONSUMPTION_ACTIVE_POWER = new ChannelAddress("_sum",
+			"ConsumptionActivePower");
+
+	private static final ZonedDateTime NOW = ZonedDateTime.of(2020, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testQuarters() {
+		final var sut = new PredictionCache();
+		final var counter = new AtomicInteger();
+
+		final var p1 = sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW, c -> create(NOW, counter));
+		assertSame(p1, sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW.plusMinutes(14), c -> create(NOW, counter)));
+		assertEquals(1, counter.get());
+
+		// Other Channel
+		sut.get(SUM_CONSUMPTION_ACTIVE_POWER, NOW, c -> create(NOW, counter));
+		assertEquals(2, counter.get());
+
+		// Next quarter
+		final var p2 = sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW.plusMinutes(15), c -> create(NOW, counter));
+		assertEquals(3, counter.get());
+		assertSame(p2, sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW.plusMinutes(29), c -> create(NOW, counter)));
+
+		sut.clear();
+		sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW.plusMinutes(29), c -> create(NOW, counter));
+		assertEquals(4, counter.get());
+	}
+
+	@Test
+	public void testConcurrentCallers() throws Exception {
+		final var sut = new PredictionCache();
+		final var counter = new AtomicInteger();
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var executor = Executors.newFixedThreadPool(4);
+		try {
+			final var first = executor.submit(() -> sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW, c -> {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return create(NOW, counter);
+			}));
+			started.await();
+			@SuppressWarnings("unchecked")
+			final Future<Prediction>[] others = new Future[3];
+			for (var i = 0; i < others.length; i++) {
+				others[i] = executor.submit(() -> sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW, c -> create(NOW, counter)));
+			}
+			release.countDown();
+
+			final var prediction = first.get(10, TimeUnit.SECONDS);
+			for (var other : others) {
+				assertSame(prediction, other.get(10, TimeUnit.SECONDS));
+			}
+			assertEquals(1, counter.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testException() {
+		final var sut = new PredictionCache();
+		try {
+			sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW, c -> {
+				throw new IllegalArgumentException("foo");
+			});
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("foo", e.getMessage());
+		}
+		// Failure is not cached
+		final var counter = new AtomicInteger();
+		sut.get(SUM_PRODUCTION_ACTIVE_POWER, NOW, c -> create(NOW, counter));
+		assertEquals(1, counter.get());
+	}
+
+	private static Prediction create(ZonedDateTime time, AtomicInteger counter) {
+		final var value = counter.incrementAndGet();
+		return Prediction.from(time, value, value);
+	}
+
+}
@@ -4,10 +4,9 @@ import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTI
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.SortedMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
@@ -26,9 +25,9 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.AtomicDouble;
-import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.ClockProvider;
@@ -97,10 +96,10 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 		var fromDate = now.minus(24 * 60 + EXTRA_QUERY_QUARTERS * 15, ChronoUnit.MINUTES);
 
 		// Query database
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+		final ColumnarTimeseries queryResult;
 		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
+			queryResult = this.timedata.queryHistoricDataColumnar(null, fromDate, now,
+					Sets.newHashSet(channelAddress), new Resolution(15, ChronoUnit.MINUTES));
 		} catch (OpenemsNamedException e) {
 			this.logError(this.log, "Historic data is not available: " + e.getMessage());
 			e.printStackTrace();
@@ -111,17 +110,13 @@ public class PredictorPersistenceModelImpl extends AbstractPredictor implements
 			return EMPTY_PREDICTION;
 		}
 		// Extract data
-		var data = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				}).toList();
+		var values = queryResult.getValues(channelAddress);
+		var data = values == null //
+				? List.<Integer>of() //
+				: Arrays.stream(values) //
+						// convert double to Integer; NaN marks a missing value
+						.mapToObj(v -> Double.isNaN(v) ? (Integer) null : (int) v) //
+						.toList();
 		if (data.isEmpty()) {
 			this.logError(this.log, "Historic data is not available: query result is empty");
 			return EMPTY_PREDICTION;
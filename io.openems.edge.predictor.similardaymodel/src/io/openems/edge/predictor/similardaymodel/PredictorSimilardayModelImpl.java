@@ -6,9 +6,10 @@ import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTI
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.SortedMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -21,9 +22,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Sets;
-import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.ClockProvider;
@@ -64,6 +65,8 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Reference
 	private ComponentManager componentManager;
 
+	private final Map<ChannelAddress, QuarterlyHistory> histories = new ConcurrentHashMap<>();
+
 	private Config config;
 
 	public PredictorSimilardayModelImpl() throws OpenemsNamedException {
@@ -77,6 +80,7 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsNamedException {
 		this.config = config;
+		this.histories.clear();
 		super.activate(context, this.config.id(), this.config.alias(), this.config.enabled(),
 				this.config.channelAddresses(), config.logVerbosity());
 	}
@@ -98,12 +102,15 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 		// From now time to Last 4 weeks
 		var fromDate = now.minus(this.config.numOfWeeks(), ChronoUnit.WEEKS);
 
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+		// Only the quarters since the last Prediction have to be queried
+		final var history = this.histories.computeIfAbsent(channelAddress, QuarterlyHistory::new);
+		final var queryFromDate = history.getQueryFromDate(fromDate, now);
+		final ColumnarTimeseries queryResult;
 
 		// Query database
 		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
+			queryResult = this.timedata.queryHistoricDataColumnar(null, queryFromDate, now,
+					Sets.newHashSet(channelAddress), new Resolution(15, ChronoUnit.MINUTES));
 		} catch (OpenemsNamedException e) {
 			this.logError(this.log, e.getMessage());
 			e.printStackTrace();
@@ -111,19 +118,11 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 		}
 
 		// Extract data
-		List<Integer> result = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				})
-				// get as Array
-				.toList();
+		var result = history.update(fromDate, now, queryFromDate, queryResult);
+		if (result.stream().allMatch(Objects::isNull)) {
+			this.logError(this.log, "Historic data is not available: query result is empty");
+			return EMPTY_PREDICTION;
+		}
 
 		// Num of Data per day
 		// TODO change this variable based on the resolution which is 900 in query
@@ -0,0 +1,103 @@
+package io.openems.edge.predictor.similardaymodel;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.openems.common.timedata.ColumnarTimeseries;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Holds the quarterly values of one Channel within a sliding window.
+ *
+ * <p>
+ * After the first full query only the quarters since the last update have to
+ * be queried from Timedata. The last known quarter is always queried again,
+ * because its value might not have been complete at the time of the previous
+ * query.
+ */
+class QuarterlyHistory {
+
+	private static final long QUARTER = 15 * 60 * 1000;
+
+	private final ChannelAddress channelAddress;
+
+	/** Values from {@link #fromMillis} (inclusive) to {@link #toMillis}. */
+	private Integer[] values = null;
+	private long fromMillis;
+	private long toMillis;
+
+	public QuarterlyHistory(ChannelAddress channelAddress) {
+		this.channelAddress = channelAddress;
+	}
+
+	/**
+	 * Gets the start of the range that has to be queried to update the window to
+	 * the given range.
+	 *
+	 * @param fromDate the start of the window (inclusive)
+	 * @param toDate   the end of the window (exclusive)
+	 * @return the start of the query; equal to fromDate if a full query is
+	 *         required
+	 */
+	public synchronized ZonedDateTime getQueryFromDate(ZonedDateTime fromDate, ZonedDateTime toDate) {
+		final var from = fromDate.toInstant().toEpochMilli();
+		final var to = toDate.toInstant().toEpochMilli();
+		if (this.values == null //
+				|| this.toMillis - QUARTER <= from // no overlap
+				|| this.toMillis > to // clock went backwards
+				|| this.fromMillis > from) {
+			return fromDate;
+		}
+		return fromDate.plus(this.toMillis - QUARTER - from, ChronoUnit.MILLIS);
+	}
+
+	/**
+	 * Updates the window with the result of a query.
+	 *
+	 * @param fromDate      the start of the window (inclusive)
+	 * @param toDate        the end of the window (exclusive)
+	 * @param queryFromDate the start of the query as returned by
+	 *                      {@link #getQueryFromDate(ZonedDateTime, ZonedDateTime)}
+	 * @param data          the query result from queryFromDate to toDate
+	 * @return the values of the window, one per quarter; null for missing values
+	 */
+	public synchronized List<Integer> update(ZonedDateTime fromDate, ZonedDateTime toDate,
+			ZonedDateTime queryFromDate, ColumnarTimeseries data) {
+		final var from = fromDate.toInstant().toEpochMilli();
+		final var to = toDate.toInstant().toEpochMilli();
+		final var queryFrom = queryFromDate.toInstant().toEpochMilli();
+		final var values = new Integer[(int) Math.max(0, Math.floorDiv(to - from, QUARTER))];
+
+		// Keep known values before the queried range
+		if (this.values != null && queryFrom > from) {
+			final var offset = (int) Math.floorDiv(from - this.fromMillis, QUARTER);
+			final var length = (int) Math.min(Math.floorDiv(queryFrom - from, QUARTER), this.values.length - offset);
+			System.arraycopy(this.values, offset, values, 0, Math.max(0, length));
+		}
+
+		// Add queried values
+		final var column = data == null ? null : data.getValues(this.channelAddress);
+		if (column != null) {
+			for (var row = 0; row < column.length; row++) {
+				final var timestamp = data.getTimestamp(row);
+				if (timestamp < queryFrom || Double.isNaN(column[row])) {
+					continue;
+				}
+				final var index = Math.floorDiv(timestamp - from, QUARTER);
+				if (index >= 0 && index < values.length) {
+					values[(int) index] = (int) column[row];
+				}
+			}
+		}
+
+		this.values = values;
+		this.fromMillis = from;
+		this.toMillis = to;
+		// 'values' is never modified after this point
+		return Collections.unmodifiableList(Arrays.asList(values));
+	}
+
+}
@@ -0,0 +1,83 @@
+package io.openems.edge.predictor.similardaymodel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import io.openems.common.timedata.ColumnarTimeseries;
+import io.openems.common.types.ChannelAddress;
+
+public class QuarterlyHistoryTest {
+
+	private static final ChannelAddress METER1_ACTIVE_POWER = new ChannelAddress("meter1", "ActivePower");
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	private static final ZonedDateTime START = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZONE);
+
+	@Test
+	public void test() {
+		final var sut = new QuarterlyHistory(METER1_ACTIVE_POWER);
+		var now = START.plusDays(1);
+		var fromDate = now.minusDays(1);
+
+		// First call: full query
+		var queryFromDate = sut.getQueryFromDate(fromDate, now);
+		assertEquals(fromDate, queryFromDate);
+		var values = sut.update(fromDate, now, queryFromDate, query(queryFromDate, now));
+		assertEquals(96, values.size());
+		assertEquals(0, (int) values.get(0));
+		assertEquals(95, (int) values.get(95));
+
+		// Next quarter: query last known and new quarter only
+		now = now.plusMinutes(15);
+		fromDate = now.minusDays(1);
+		queryFromDate = sut.getQueryFromDate(fromDate, now);
+		assertEquals(now.minusMinutes(30), queryFromDate);
+		values = sut.update(fromDate, now, queryFromDate, query(queryFromDate, now));
+		assertEquals(96, values.size());
+		assertEquals(1, (int) values.get(0));
+		assertEquals(96, (int) values.get(95));
+
+		// Missing values in Timedata; last known quarter is replaced
+		now = now.plusMinutes(30);
+		fromDate = now.minusDays(1);
+		queryFromDate = sut.getQueryFromDate(fromDate, now);
+		values = sut.update(fromDate, now, queryFromDate, null);
+		assertEquals(3, (int) values.get(0));
+		assertEquals(95, (int) values.get(92));
+		assertNull(values.get(93));
+		assertNull(values.get(95));
+
+		// Gap larger than the window: full query
+		now = now.plusDays(2);
+		fromDate = now.minusDays(1);
+		assertEquals(fromDate, sut.getQueryFromDate(fromDate, now));
+
+		// Clock went backwards: full query
+		now = START.plusDays(1);
+		fromDate = now.minusDays(1);
+		assertEquals(fromDate, sut.getQueryFromDate(fromDate, now));
+	}
+
+	/**
+	 * Simulates a Timedata query; the value is the index of the quarter since
+	 * {@link #START}.
+	 */
+	private static ColumnarTimeseries query(ZonedDateTime fromDate, ZonedDateTime toDate) {
+		final var from = fromDate.toInstant().toEpochMilli();
+		final var quarters = (int) ((toDate.toInstant().toEpochMilli() - from) / (15 * 60 * 1000));
+		final var offset = (from - START.toInstant().toEpochMilli()) / (15 * 60 * 1000);
+		final var column = new double[quarters];
+		for (var i = 0; i < quarters; i++) {
+			column[i] = offset + i;
+		}
+		final var columns = new HashMap<ChannelAddress, double[]>();
+		columns.put(METER1_ACTIVE_POWER, column);
+		return ColumnarTimeseries.ofEquidistant(ZONE, from, 15 * 60 * 1000, columns);
+	}
+
+}
@@ -12,6 +12,7 @@ import com.google.gson.JsonElement;
 
 import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.TriConsumer;
 import io.openems.common.timedata.CommonTimedataService;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Doc;
@@ -90,4 +91,30 @@ public interface Timedata extends CommonTimedataService, OpenemsComponent {
 			final Set<ChannelAddress> channels //
 	) throws OpenemsNamedException;
 
+	/**
+	 * Queries data to resend and passes every value to the consumer, instead of
+	 * building the complete result in memory.
+	 * 
+	 * @param fromDate the start date
+	 * @param toDate   the end date
+	 * @param channels the channels to resend
+	 * @param consumer the consumer for timestamp in milliseconds,
+	 *                 {@link ChannelAddress} and value
+	 * @throws OpenemsNamedException on error
+	 */
+	public default void queryResendData(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final TriConsumer<Long, ChannelAddress, JsonElement> consumer //
+	) throws OpenemsNamedException {
+		final var data = this.queryResendData(fromDate, toDate, channels);
+		if (data == null) {
+			return;
+		}
+		data.forEach((timestamp, values) -> values.forEach((channel, value) -> {
+			consumer.accept(timestamp, channel, value);
+		}));
+	}
+
 }
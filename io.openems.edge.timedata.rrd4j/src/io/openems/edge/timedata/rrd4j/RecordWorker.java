@@ -7,7 +7,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
@@ -38,6 +37,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.EnumDoc;
+import io.openems.edge.common.channel.value.PastValues;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.ComponentManager;
 
@@ -127,6 +127,8 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 		final var to = now.truncatedTo(DurationUnit.ofSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS));
 		final var from = to.minusSeconds(Rrd4jConstants.DEFAULT_HEARTBEAT_SECONDS);
+		final var fromMillis = PastValues.toEpochMilli(from);
+		final var toMillis = PastValues.toEpochMilli(to);
 
 		// RRD4j requires us to write one value per DEFAULT_HEARTBEAT_SECONDS
 		if (this.lastTimestamp.equals(timestamp)) {
@@ -155,25 +157,25 @@ public class RecordWorker extends AbstractImmediateWorker {
 						writeSeconds = timestamp.getEpochSecond();
 					}
 
-					// This is the highest timestamp before `startTime`. If existing it is used for
-					// the tailMap to make sure we get a Value even for Channels where the value has
+					final var pastValues = channel.pastValues();
+
+					// This is the highest timestamp before `startTime`. If existing it is used as
+					// start to make sure we get a Value even for Channels where the value has
 					// not changed within the last 5 minutes.
-					var channelStartTime = Optional.ofNullable(channel.getPastValues().floorKey(from)) //
-							.orElse(from);
+					final var channelStartValue = pastValues.getFloor(fromMillis);
+					final var channelStartTime = channelStartValue != null //
+							? channelStartValue.getTimestampMillis() //
+							: fromMillis;
 
 					var value = channelAggregateFunction.apply(//
-							channel.getPastValues() //
-									.tailMap(channelStartTime, true) //
-									.entrySet().stream() //
-									.filter(e -> e.getKey().isBefore(to)) //
-									.map(Entry::getValue) //
+							pastValues.getValues(channelStartTime, toMillis).stream() //
 									.map(Value::get) //
 									.filter(Objects::nonNull) //
 									.mapToDouble(channelMapFunction) // convert to double
 					);
 
 					if (channel.channelDoc() instanceof EnumDoc) {
-						final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, to);
+						final var enumChannelValue = aggregateEnumChannel(channel, channelStartTime, toMillis);
 						if (!enumChannelValue.isJsonNull()) {
 							value = OptionalDouble.of(enumChannelValue.getAsDouble());
 						}
@@ -209,8 +211,9 @@ public class RecordWorker extends AbstractImmediateWorker {
 			return;
 		}
 
-		try (var database = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
+		try (var handle = this.rrd4jSupplier.getRrdDb(this.config.rrdDbId, record.address, record.unit,
 				record.timestamp - 1)) {
+			final var database = handle.rrdDb();
 			if (database.getLastUpdateTime() == record.timestamp()) {
 				// overwrite last value if same time stamp
 				final var robin = database.getArchive(0).getRobin(0);
@@ -264,20 +267,17 @@ public class RecordWorker extends AbstractImmediateWorker {
 
 	protected static JsonElement aggregateEnumChannel(//
 			Channel<?> channel, //
-			LocalDateTime channelStartTime, //
-			LocalDateTime endTime //
+			long channelStartTime, //
+			long endTime //
 	) {
 		final var doc = channel.channelDoc();
 		if (!(doc instanceof EnumDoc)) {
 			return JsonNull.INSTANCE;
 		}
-		final var numberOfValuesPerOption = channel.getPastValues() //
-				.tailMap(channelStartTime, true) //
-				.entrySet() //
-				.stream() //
-				.filter(e -> e.getKey().isBefore(endTime)) //
-				.filter(e -> e.getValue().isDefined()) //
-				.map(e -> (Integer) e.getValue().get()) //
+		final var pastValues = channel.pastValues();
+		final var numberOfValuesPerOption = pastValues.getValues(channelStartTime, endTime).stream() //
+				.filter(Value::isDefined) //
+				.map(v -> (Integer) v.get()) //
 				.collect(groupingBy(Function.identity(), counting()));
 
 		final var values = numberOfValuesPerOption.entrySet().stream() //
@@ -300,13 +300,15 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 
 		// pick first value with most appearances
-		for (var entry : channel.getPastValues().descendingMap().entrySet()) {
+		final var allValues = pastValues.getValues();
+		for (var i = allValues.size() - 1; i >= 0; i--) {
+			final var value = allValues.get(i);
+			if (!value.isDefined()) {
+				continue;
+			}
+			final var entryValue = (Integer) value.get();
 			for (var optionValue : maxValues) {
-				if (!entry.getValue().isDefined()) {
-					continue;
-				}
-				final var entryValue = entry.getValue().get();
-				if (((Integer) entryValue).intValue() == optionValue) {
+				if (entryValue.intValue() == optionValue) {
 					return new JsonPrimitive(optionValue);
 				}
 			}
@@ -5,12 +5,14 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -32,6 +34,8 @@ import com.google.gson.JsonPrimitive;
 import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.TriConsumer;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.Channel;
@@ -168,11 +172,12 @@ public class Rrd4jReadHandler {
 			// unable to get channel
 			throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 		}
-		try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+		try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 				rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-			if (database == null) {
+			if (handle == null) {
 				throw new OpenemsException("RRD4j Database for " + notSendChannel + " is missing");
 			}
+			final var database = handle.rrdDb();
 			return getTimerangesOfNotSendData(database, lastResendTimestamp);
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to query database.", e);
@@ -196,12 +201,40 @@ public class Rrd4jReadHandler {
 			final ZonedDateTime toDate, //
 			final Set<ChannelAddress> channels, //
 			final boolean debugMode //
+	) throws OpenemsNamedException {
+		final var resultMap = new TreeMap<Long, SortedMap<ChannelAddress, JsonElement>>();
+		this.queryResendData(rrdDbId, fromDate, toDate, channels, debugMode, (timestamp, channelAddress, value) -> {
+			resultMap.computeIfAbsent(timestamp, t -> new TreeMap<>()) //
+					.put(channelAddress, value);
+		});
+		return resultMap;
+	}
+
+	/**
+	 * Queries data to resend and passes every value to the consumer. The archives
+	 * of one Channel are read one after the other; no intermediate result is
+	 * built.
+	 * 
+	 * @param rrdDbId   the id of the rrdb
+	 * @param fromDate  the start date
+	 * @param toDate    the end date
+	 * @param channels  the channels to resend
+	 * @param debugMode if debugMode is active
+	 * @param consumer  the consumer for timestamp in milliseconds,
+	 *                  {@link ChannelAddress} and value
+	 * @throws OpenemsNamedException on error
+	 */
+	public void queryResendData(//
+			final String rrdDbId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final boolean debugMode, //
+			final TriConsumer<Long, ChannelAddress, JsonElement> consumer //
 	) throws OpenemsNamedException {
 		final var fromTime = fromDate.toEpochSecond();
 		final var toTime = toDate.toEpochSecond();
 
-		final var resultMap = new TreeMap<Long, SortedMap<ChannelAddress, JsonElement>>();
-
 		for (var channelAddress : channels) {
 			final Channel<?> channel;
 			try {
@@ -213,15 +246,16 @@ public class Rrd4jReadHandler {
 				}
 				continue;
 			}
-			try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+			try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 					rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					if (debugMode) {
 						this.log.warn("Unable to query RRD4j: " //
 								+ "RRD4j Database for " + channelAddress + " is missing");
 					}
 					continue;
 				}
+				final var database = handle.rrdDb();
 
 				for (int i = 0; i < database.getArcCount(); i++) {
 					final var archive = database.getArchive(i);
@@ -256,8 +290,7 @@ public class Rrd4jReadHandler {
 						}
 
 						// return timestamps in milliseconds
-						resultMap.computeIfAbsent(timestamp * 1000, t -> new TreeMap<>()) //
-								.put(channelAddress, new JsonPrimitive(value));
+						consumer.accept(timestamp * 1000, channelAddress, new JsonPrimitive(value));
 					}
 				}
 
@@ -268,7 +301,6 @@ public class Rrd4jReadHandler {
 			}
 		}
 
-		return resultMap;
 	}
 
 	/**
@@ -292,7 +324,76 @@ public class Rrd4jReadHandler {
 	) throws OpenemsNamedException {
 		final var timezone = fromDate.getZone();
 		final var table = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		final var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 
+		this.fetchHistoricData(rrdDbId, fromDate, toDate, channels, resolution, debugMode, //
+				(channelAddress, result) -> {
+					for (var i = 0; i < result.length; i++) {
+						final var timestamp = fromTimestamp + (i * resolution.toSeconds());
+
+						// Prepare result table row
+						var timestampInstant = Instant.ofEpochSecond(timestamp);
+						var dateTime = ZonedDateTime.ofInstant(timestampInstant, ZoneOffset.UTC) //
+								.withZoneSameInstant(timezone);
+
+						final var tableRow = table.computeIfAbsent(dateTime, t -> new TreeMap<>());
+
+						final var value = result[i];
+						tableRow.put(channelAddress, Double.isNaN(value) //
+								? JsonNull.INSTANCE
+								: new JsonPrimitive(value));
+					}
+				});
+		return table;
+	}
+
+	/**
+	 * Queries historic data in columnar form. The values fetched from RRD4j are
+	 * used as columns without conversion.
+	 *
+	 * @param rrdDbId    the id of the rrdb
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @param debugMode  if debugMode is active
+	 * @return the query result
+	 */
+	public ColumnarTimeseries queryHistoricDataColumnar(//
+			final String rrdDbId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution, //
+			final boolean debugMode //
+	) throws OpenemsNamedException {
+		final var columns = new HashMap<ChannelAddress, double[]>();
+		this.fetchHistoricData(rrdDbId, fromDate, toDate, channels, resolution, debugMode, columns::put);
+		return ColumnarTimeseries.ofEquidistant(fromDate.getZone(), fromDate.toEpochSecond() * 1000,
+				resolution.toSeconds() * 1000, columns);
+	}
+
+	/**
+	 * Fetches the post-processed RRD4j values of every Channel.
+	 *
+	 * @param rrdDbId    the id of the rrdb
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @param debugMode  if debugMode is active
+	 * @param consumer   receives the values per Channel; index '0' is 'fromDate'
+	 * @throws OpenemsException if none of the Channels is available
+	 */
+	private void fetchHistoricData(//
+			final String rrdDbId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution, //
+			final boolean debugMode, //
+			final BiConsumer<ChannelAddress, double[]> consumer //
+	) throws OpenemsException {
 		final var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 		final var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
 		var errorCounter = 0;
@@ -311,9 +412,9 @@ public class Rrd4jReadHandler {
 				}
 				final var chDef = Rrd4jSupplier.getDsDefForChannel(channel.channelDoc().getUnit());
 				final double[] result;
-				try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
+				try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channel.address(),
 						channel.channelDoc().getUnit())) {
-					if (database == null) {
+					if (handle == null) {
 						if (debugMode) {
 							this.log.warn(
 									"Unable to query RRD4j" + "RRD4j Database for " + channelAddress + " is missing");
@@ -321,6 +422,7 @@ public class Rrd4jReadHandler {
 						errorCounter++;
 						continue;
 					}
+					final var database = handle.rrdDb();
 
 					final var fetchedData = database
 							.createFetchRequest(chDef.consolFun(), fromTimestamp, toTimeStamp, resolution.toSeconds())
@@ -335,21 +437,7 @@ public class Rrd4jReadHandler {
 					continue;
 				}
 				try {
-					for (var i = 0; i < result.length; i++) {
-						final var timestamp = fromTimestamp + (i * resolution.toSeconds());
-
-						// Prepare result table row
-						var timestampInstant = Instant.ofEpochSecond(timestamp);
-						var dateTime = ZonedDateTime.ofInstant(timestampInstant, ZoneOffset.UTC) //
-								.withZoneSameInstant(timezone);
-
-						final var tableRow = table.computeIfAbsent(dateTime, t -> new TreeMap<>());
-
-						final var value = result[i];
-						tableRow.put(channelAddress, Double.isNaN(value) //
-								? JsonNull.INSTANCE
-								: new JsonPrimitive(value));
-					}
+					consumer.accept(channelAddress, result);
 				} catch (Exception e) {
 					if (debugMode) {
 						this.log.warn("Unable to query RRD4j " + channelAddress, e);
@@ -368,7 +456,6 @@ public class Rrd4jReadHandler {
 		} catch (Exception e) {
 			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
 		}
-		return table;
 	}
 
 	/**
@@ -403,15 +490,16 @@ public class Rrd4jReadHandler {
 						}
 						return JsonNull.INSTANCE;
 					}
-					try (final var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
+					try (final var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(//
 							rrdDbId, channel.address(), channel.channelDoc().getUnit())) {
-						if (database == null) {
+						if (handle == null) {
 							if (debugMode) {
 								this.log.warn("Unable to query RRD4j: " //
 										+ "RRD4j Database for " + channelAddress + " is missing");
 							}
 							return JsonNull.INSTANCE;
 						}
+						final var database = handle.rrdDb();
 
 						var first = getFirstValueBefore(database, fromTimestamp);
 
@@ -557,11 +645,12 @@ public class Rrd4jReadHandler {
 				return Optional.empty();
 			}
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress,
 					channel.channelDoc().getUnit())) {
-				if (database == null) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.rrdDb();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
@@ -600,10 +689,11 @@ public class Rrd4jReadHandler {
 	) {
 		return CompletableFuture.supplyAsync(() -> {
 
-			try (var database = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
-				if (database == null) {
+			try (var handle = this.rrd4jSupplier.getExistingUpdatedRrdDb(rrdDbId, channelAddress, unit)) {
+				if (handle == null) {
 					return Optional.empty();
 				}
+				final var database = handle.rrdDb();
 
 				// search for last value in robin
 				final var robin = database.getArchive(0).getRobin(0);
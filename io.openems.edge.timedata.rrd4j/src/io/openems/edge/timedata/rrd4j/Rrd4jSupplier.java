@@ -10,18 +10,24 @@ import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiFunction;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ServiceScope;
+import org.osgi.service.metatype.annotations.Designate;
 import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.DsDef;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdNioBackendFactory;
 import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,16 +37,24 @@ import io.openems.common.channel.Unit;
 import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.timedata.CommonTimedataService;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.type.TypeUtils;
 import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
 import io.openems.edge.timedata.rrd4j.version.VersionHandler;
 
+@Designate(ocd = SupplierConfig.class, factory = false)
 @Component(//
+		name = Rrd4jSupplier.SINGLETON_SERVICE_PID, //
 		scope = ServiceScope.SINGLETON, //
+		configurationPolicy = ConfigurationPolicy.OPTIONAL, //
 		service = Rrd4jSupplier.class //
 )
 public class Rrd4jSupplier {
 
+	public static final String SINGLETON_SERVICE_PID = "Timedata.Rrd4j.Supplier";
+
+	private static final int DEFAULT_MAX_OPEN_DATABASES = 500;
+
 	private final Logger log = LoggerFactory.getLogger(Rrd4jSupplier.class);
 
 	@Reference
@@ -48,6 +62,8 @@ public class Rrd4jSupplier {
 
 	private final KeyLock keyLock = new KeyLock();
 	private final RrdBackendFactory factory;
+	private final RrdDbCache cache;
+	private final ScheduledExecutorService syncExecutor;
 
 	// channelAddress, rrdDbId => file path
 	private final BiFunction<ChannelAddress, String, String> fileValidator;
@@ -55,25 +71,54 @@ public class Rrd4jSupplier {
 	protected Rrd4jSupplier(//
 			final RrdBackendFactory factory, //
 			final BiFunction<ChannelAddress, String, String> fileValidator //
+	) {
+		this(factory, fileValidator, DEFAULT_MAX_OPEN_DATABASES, null);
+	}
+
+	private Rrd4jSupplier(//
+			final RrdBackendFactory factory, //
+			final BiFunction<ChannelAddress, String, String> fileValidator, //
+			final int maxOpenDatabases, //
+			final ScheduledExecutorService syncExecutor //
 	) {
 		this.factory = factory;
 		this.fileValidator = fileValidator;
+		this.cache = new RrdDbCache(maxOpenDatabases);
+		this.syncExecutor = syncExecutor;
 	}
 
-	@Activate
-	public Rrd4jSupplier() {
+	private Rrd4jSupplier(SupplierConfig config, ScheduledExecutorService syncExecutor) {
 		this(//
-				new RrdRandomAccessFileBackendFactory(), //
+				syncExecutor != null //
+						// Memory mapped files; dirty pages are synced to disk periodically
+						? new RrdNioBackendFactory(config.syncInterval(), syncExecutor) //
+						: new RrdRandomAccessFileBackendFactory(), //
 				(t, u) -> {
 					final var file = getDbFile(t, u);
 					if (!file.exists()) {
 						return null;
 					}
 					return file.toURI().toString();
-				} //
+				}, //
+				config.maxOpenDatabases(), //
+				syncExecutor //
 		);
 	}
 
+	@Activate
+	public Rrd4jSupplier(SupplierConfig config) {
+		this(config, config.memoryMapped() ? Executors.newSingleThreadScheduledExecutor() : null);
+	}
+
+	@Deactivate
+	private void deactivate() {
+		// Closing the databases also syncs memory mapped files
+		this.cache.clear();
+		if (this.syncExecutor != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.syncExecutor, 5);
+		}
+	}
+
 	/**
 	 * Gets the RRD4j database for the given Channel-Address.
 	 * 
@@ -81,27 +126,42 @@ public class Rrd4jSupplier {
 	 * The predefined RRD4J archives match the requirements of
 	 * {@link CommonTimedataService#calculateResolution(ZonedDateTime, ZonedDateTime)}
 	 * 
+	 * <p>
+	 * The {@link RrdDb} is shared via a cache of open databases; the returned
+	 * {@link RrdDbCache.Handle} must be closed after usage.
+	 * 
 	 * @param channelAddress the Channel-Address
 	 * @param channelUnit    the {@link Unit}
 	 * @param startTime      the starttime for newly created RrdDbs
 	 * @param rrdDbId        the id of the rrd4j database
-	 * @return the RrdDb
+	 * @return the {@link RrdDbCache.Handle} of the RrdDb
 	 * @throws IOException on error
 	 */
-	public RrdDb getRrdDb(//
+	public RrdDbCache.Handle getRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit, //
 			final long startTime //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		final var cached = this.cache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		return this.keyLock.lock(key, () -> {
+			final var handle = this.cache.get(key);
+			if (handle != null) {
+				return handle;
+			}
 			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb != null) {
 				// Database exists
-				return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+				rrdDb = this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			} else {
+				// Create new database
+				rrdDb = this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
 			}
-			// Create new database
-			return this.createNewDb(rrdDbId, channelAddress, channelUnit, startTime);
+			return this.cache.put(key, rrdDb);
 		});
 	}
 
@@ -112,20 +172,31 @@ public class Rrd4jSupplier {
 	 * @param rrdDbId        the id of the RrdDb
 	 * @param channelAddress the address of the {@link RrdDb}
 	 * @param channelUnit    the unit of the channel
-	 * @return the {@link RrdDb} or null if not existing
+	 * @return the {@link RrdDbCache.Handle} of the {@link RrdDb} or null if not
+	 *         existing
 	 * @throws IOException on IO-Error
 	 */
-	public RrdDb getExistingUpdatedRrdDb(//
+	public RrdDbCache.Handle getExistingUpdatedRrdDb(//
 			final String rrdDbId, //
 			final ChannelAddress channelAddress, //
 			final Unit channelUnit //
 	) throws IOException {
-		return this.keyLock.lock(rrdDbId + "/" + channelAddress.toString(), () -> {
-			var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
+		final var key = rrdDbId + "/" + channelAddress.toString();
+		final var cached = this.cache.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		return this.keyLock.lock(key, () -> {
+			final var handle = this.cache.get(key);
+			if (handle != null) {
+				return handle;
+			}
+			final var rrdDb = this.getExistingRrdDb(channelAddress, rrdDbId);
 			if (rrdDb == null) {
 				return null;
 			}
-			return this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit);
+			return this.cache.put(key,
+					this.updateRrdDbToLatestDefinition(rrdDb, rrdDbId, channelAddress, channelUnit));
 		});
 	}
 
@@ -172,7 +243,8 @@ public class Rrd4jSupplier {
 					.setBackendFactory(this.factory) //
 					// .setPool(RrdDbPool.getInstance()) //
 					// ^^ is not used anymore because of caching
-					// problems when overwriting the old database file
+					// problems when overwriting the old database file;
+					// databases are cached by RrdDbCache after migration
 					.setPath(filePath) //
 					.build();
 		} catch (IOException e) {
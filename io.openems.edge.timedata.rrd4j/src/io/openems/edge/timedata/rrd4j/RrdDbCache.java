@@ -0,0 +1,200 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.rrd4j.core.RrdDb;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded LRU cache of open {@link RrdDb}s.
+ *
+ * <p>
+ * Opening an RRD4j file reads and validates its header; with memory mapped
+ * files it also maps the file. Keeping the most recently used databases open
+ * avoids this for every write and every query.
+ *
+ * <p>
+ * Databases are handed out via reference counted {@link Handle}s. A database
+ * that is evicted from the cache is closed when its last {@link Handle} is
+ * closed.
+ */
+public class RrdDbCache {
+
+	/**
+	 * A reference to an open {@link RrdDb}. Must be closed after usage; the
+	 * {@link RrdDb} itself must not be closed.
+	 */
+	public final class Handle implements AutoCloseable {
+
+		private final Entry entry;
+		private boolean closed = false;
+
+		private Handle(Entry entry) {
+			this.entry = entry;
+		}
+
+		/**
+		 * Gets the {@link RrdDb}.
+		 *
+		 * @return the {@link RrdDb}
+		 */
+		public RrdDb rrdDb() {
+			return this.entry.rrdDb;
+		}
+
+		@Override
+		public void close() {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			RrdDbCache.this.release(this.entry);
+		}
+	}
+
+	private static class Entry {
+
+		private final RrdDb rrdDb;
+
+		/* Guarded by RrdDbCache.this */
+		private int references = 0;
+		private boolean evicted = false;
+
+		private Entry(RrdDb rrdDb) {
+			this.rrdDb = rrdDb;
+		}
+	}
+
+	private final Logger log = LoggerFactory.getLogger(RrdDbCache.class);
+
+	private final int capacity;
+
+	/* Guarded by 'this' */
+	private final LinkedHashMap<String, Entry> entries;
+	private final List<Entry> evicted = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param capacity the max number of open databases that are not in use; 0
+	 *                 disables caching
+	 */
+	public RrdDbCache(int capacity) {
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true /* access-order */) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				if (this.size() <= RrdDbCache.this.capacity) {
+					return false;
+				}
+				RrdDbCache.this.evicted.add(eldest.getValue());
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Gets a {@link Handle} for a cached {@link RrdDb}.
+	 *
+	 * @param key the unique key of the database
+	 * @return the {@link Handle}; null if the database is not in the cache
+	 */
+	public synchronized Handle get(String key) {
+		final var entry = this.entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		entry.references++;
+		return new Handle(entry);
+	}
+
+	/**
+	 * Adds an open {@link RrdDb} to the cache. The cache takes ownership of the
+	 * {@link RrdDb}.
+	 *
+	 * @param key   the unique key of the database
+	 * @param rrdDb the {@link RrdDb}
+	 * @return a {@link Handle} for the {@link RrdDb}
+	 */
+	public Handle put(String key, RrdDb rrdDb) {
+		final var entry = new Entry(rrdDb);
+		final Handle handle;
+		synchronized (this) {
+			entry.references++;
+			handle = new Handle(entry);
+			if (this.capacity <= 0) {
+				entry.evicted = true;
+			} else {
+				final var previous = this.entries.put(key, entry);
+				if (previous != null) {
+					this.evicted.add(previous);
+				}
+			}
+		}
+		this.closeEvicted();
+		return handle;
+	}
+
+	/**
+	 * Gets the number of cached databases.
+	 *
+	 * @return the number of databases
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Removes all databases from the cache. Databases that are not in use are
+	 * closed immediately, all others when their last {@link Handle} is closed.
+	 */
+	public void clear() {
+		synchronized (this) {
+			this.evicted.addAll(this.entries.values());
+			this.entries.clear();
+		}
+		this.closeEvicted();
+	}
+
+	private void release(Entry entry) {
+		synchronized (this) {
+			entry.references--;
+			if (!entry.evicted || entry.references > 0) {
+				return;
+			}
+		}
+		this.close(entry);
+	}
+
+	private void closeEvicted() {
+		final var toClose = new ArrayList<Entry>();
+		synchronized (this) {
+			for (var entry : this.evicted) {
+				entry.evicted = true;
+				if (entry.references == 0) {
+					toClose.add(entry);
+				}
+			}
+			this.evicted.clear();
+		}
+		toClose.forEach(this::close);
+	}
+
+	private void close(Entry entry) {
+		try {
+			if (!entry.rrdDb.isClosed()) {
+				entry.rrdDb.close();
+			}
+		} catch (IOException e) {
+			this.log.warn("Unable to close RrdDb [" + entry.rrdDb.getPath() + "]: " + e.getMessage());
+		}
+	}
+
+}
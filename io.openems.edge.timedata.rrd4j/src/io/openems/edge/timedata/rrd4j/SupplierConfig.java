@@ -0,0 +1,22 @@
+package io.openems.edge.timedata.rrd4j;
+
+import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.ObjectClassDefinition;
+
+@ObjectClassDefinition(//
+		name = "Timedata RRD4J Supplier", //
+		description = "Global settings for opening RRD4J files; shared by all Timedata RRD4J components.")
+@interface SupplierConfig {
+
+	@AttributeDefinition(name = "Memory mapped files", description = "Access RRD4J files via memory mapped IO. Writes are synced to disk in the 'Sync interval'.")
+	boolean memoryMapped() default true;
+
+	@AttributeDefinition(name = "Sync interval [s]", description = "Interval for syncing memory mapped files to disk. Be aware that shorter intervals can wear-out your flash storage.")
+	int syncInterval() default 300;
+
+	@AttributeDefinition(name = "Max open databases", description = "Max number of RRD4J files that are kept open; '0' closes every file after usage.")
+	int maxOpenDatabases() default 500;
+
+	String webconsole_configurationFactory_nameHint() default "Timedata RRD4J Supplier";
+
+}
@@ -21,6 +21,8 @@ import com.google.gson.JsonElement;
 
 import io.openems.common.channel.Unit;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.TriConsumer;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
@@ -101,6 +103,16 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 		return this.readHandler.queryResendData(this.id(), fromDate, toDate, channels, this.debugMode);
 	}
 
+	@Override
+	public void queryResendData(//
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final TriConsumer<Long, ChannelAddress, JsonElement> consumer //
+	) throws OpenemsNamedException {
+		this.readHandler.queryResendData(this.id(), fromDate, toDate, channels, this.debugMode, consumer);
+	}
+
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(//
 			final String edgeId, //
@@ -112,6 +124,18 @@ public final class TimedataRrd4jImpl extends AbstractOpenemsComponent
 		return this.readHandler.queryHistoricData(this.id(), fromDate, toDate, channels, resolution, this.debugMode);
 	}
 
+	@Override
+	public ColumnarTimeseries queryHistoricDataColumnar(//
+			final String edgeId, //
+			final ZonedDateTime fromDate, //
+			final ZonedDateTime toDate, //
+			final Set<ChannelAddress> channels, //
+			final Resolution resolution //
+	) throws OpenemsNamedException {
+		return this.readHandler.queryHistoricDataColumnar(this.id(), fromDate, toDate, channels, resolution,
+				this.debugMode);
+	}
+
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(//
 			final String edgeId, //
@@ -1,6 +1,7 @@
 package io.openems.edge.timedata.rrd4j;
 
 import static java.util.stream.Collectors.toMap;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -163,6 +164,21 @@ public class Rrd4jReadHandlerTest {
 		), this.query(new Resolution(15, ChronoUnit.MINUTES)));
 	}
 
+	@Test
+	public void testQueryHistoricDataColumnar() throws Exception {
+		final var channel = this.dummyComponent.channel(DummyComponent.ChannelId.DUMMY_CHANNEL).address();
+		final var resolution = new Resolution(5, ChronoUnit.MINUTES);
+		final var result = this.readHandler.queryHistoricDataColumnar(this.rrdbId, //
+				START.atZone(ZoneId.of("UTC")), //
+				START.plus(30, ChronoUnit.MINUTES).atZone(ZoneId.of("UTC")), //
+				Set.of(channel), resolution, false);
+
+		assertEquals(6, result.size());
+		assertEquals(START.plus(25, ChronoUnit.MINUTES).toEpochMilli(), result.getTimestamp(5));
+		assertArrayEquals(new double[] { 0, 100, 200, 300, 400, 500 }, result.getValues(channel), 0.001);
+		assertEquals(this.query(resolution), result.toJsonMap());
+	}
+
 	@Test
 	public void testStreamRanges() throws Exception {
 		final var utc = ZoneId.of("UTC");
@@ -0,0 +1,78 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.rrd4j.core.RrdBackendFactory;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.channel.Unit;
+import io.openems.edge.timedata.rrd4j.version.Version.CreateDatabaseConfig;
+import io.openems.edge.timedata.rrd4j.version.Version3Test;
+
+public class RrdDbCacheTest {
+
+	private static RrdDb createDb(RrdBackendFactory factory, String path) throws IOException {
+		return Version3Test.createDummyVersion3().createNewDb(new CreateDatabaseConfig(//
+				"rrdDbId", Unit.WATT, path, 1577836800L, factory, null));
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		final var factory = new RrdMemoryBackendFactory();
+		final var sut = new RrdDbCache(2);
+
+		final var db0 = createDb(factory, "comp0/Channel0");
+		sut.put("db0", db0).close();
+		final var db1 = createDb(factory, "comp0/Channel1");
+		sut.put("db1", db1).close();
+
+		// Cache hit
+		try (var handle = sut.get("db0")) {
+			assertSame(db0, handle.rrdDb());
+		}
+		assertNull(sut.get("db2"));
+
+		// 'db1' is least recently used and not in use -> closed immediately
+		final var db2 = createDb(factory, "comp0/Channel2");
+		sut.put("db2", db2).close();
+		assertEquals(2, sut.size());
+		assertNull(sut.get("db1"));
+		assertTrue(db1.isClosed());
+		assertFalse(db0.isClosed());
+
+		// 'db0' is in use while being evicted -> closed after release
+		final var handle = sut.get("db0");
+		sut.get("db2").close();
+		sut.put("db3", createDb(factory, "comp0/Channel3")).close();
+		assertNull(sut.get("db0"));
+		assertFalse(db0.isClosed());
+		handle.close();
+		assertTrue(db0.isClosed());
+
+		sut.clear();
+		assertEquals(0, sut.size());
+		assertTrue(db2.isClosed());
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		final var factory = new RrdMemoryBackendFactory();
+		final var sut = new RrdDbCache(0);
+
+		final var db = createDb(factory, "comp0/Channel0");
+		final var handle = sut.put("db0", db);
+		assertFalse(db.isClosed());
+		handle.close();
+		assertTrue(db.isClosed());
+		assertNull(sut.get("db0"));
+	}
+
+}
@@ -34,6 +34,7 @@ import com.influxdb.exceptions.BadRequestException;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.ThreadPoolUtils;
@@ -344,6 +345,31 @@ public class InfluxConnector {
 				fromDate, toDate, channels, resolution);
 	}
 
+	/**
+	 * Queries historic data in columnar form.
+	 *
+	 * @param influxEdgeId the unique, numeric Edge-ID; or Empty to query all Edges
+	 * @param fromDate     the From-Date
+	 * @param toDate       the To-Date
+	 * @param channels     the Channels to query
+	 * @param resolution   the resolution in seconds
+	 * @param measurement  the measurement
+	 * @return the historic data as {@link ColumnarTimeseries}
+	 * @throws OpenemsException on error
+	 */
+	public ColumnarTimeseries queryHistoricDataColumnar(Optional<Integer> influxEdgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution, String measurement)
+			throws OpenemsNamedException {
+
+		// handle empty call
+		if (channels.isEmpty()) {
+			return ColumnarTimeseries.builder(fromDate.getZone()).build();
+		}
+
+		return this.queryProxy.queryHistoricDataColumnar(this.getInfluxConnection(), this.bucket, measurement,
+				influxEdgeId, fromDate, toDate, channels, resolution);
+	}
+
 	/**
 	 * Queries the last value for given channel address from now to 100 days in the
 	 * past.
@@ -0,0 +1,328 @@
+package io.openems.shared.influxdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Serializes records in InfluxDB line protocol directly into a growable byte
+ * array, without creating intermediate Point objects.
+ *
+ * <p>
+ * A line is started with {@link #startLine(String)}, followed by optional
+ * {@link #tag(String, String)}s and {@link #field(String, long)}s, and
+ * finished with {@link #endLine(long)}. Lines without fields are discarded, as
+ * they are not accepted by InfluxDB.
+ *
+ * <p>
+ * Instances are not thread-safe. They are pooled and reused by the
+ * {@link LineProtocolWriter}; see {@link #clear()}.
+ *
+ * @see <a href=
+ *      "https://docs.influxdata.com/influxdb/v2/reference/syntax/line-protocol/">Line
+ *      protocol</a>
+ */
+public class LineProtocolBuffer {
+
+	private static final int INITIAL_CAPACITY = 16 * 1024;
+
+	private static final int STATE_NONE = 0;
+	private static final int STATE_TAGS = 1;
+	private static final int STATE_FIELDS = 2;
+
+	private byte[] bytes;
+	private int size = 0;
+	private int lines = 0;
+
+	private int state = STATE_NONE;
+	private int lineStart = 0;
+
+	public LineProtocolBuffer() {
+		this(INITIAL_CAPACITY);
+	}
+
+	public LineProtocolBuffer(int initialCapacity) {
+		this.bytes = new byte[initialCapacity];
+	}
+
+	/**
+	 * Starts a new line; discards a previously started, unfinished line.
+	 *
+	 * @param measurement the measurement
+	 * @return myself
+	 */
+	public LineProtocolBuffer startLine(String measurement) {
+		this.size = this.lineStart;
+		this.state = STATE_TAGS;
+		this.appendEscaped(measurement, false, false);
+		return this;
+	}
+
+	/**
+	 * Adds a Tag. Tags have to be added before any field.
+	 *
+	 * @param key   the tag key
+	 * @param value the tag value
+	 * @return myself
+	 */
+	public LineProtocolBuffer tag(String key, String value) {
+		if (this.state != STATE_TAGS) {
+			throw new IllegalStateException("Tags must be added after startLine() and before any field");
+		}
+		this.append((byte) ',');
+		this.appendEscaped(key, true, false);
+		this.append((byte) '=');
+		this.appendEscaped(value, true, false);
+		return this;
+	}
+
+	/**
+	 * Adds an integer field.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolBuffer field(String key, long value) {
+		this.startField(key);
+		this.appendLong(value);
+		this.append((byte) 'i');
+		return this;
+	}
+
+	/**
+	 * Adds a float field. Infinite and NaN values are not supported by InfluxDB
+	 * and ignored.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolBuffer field(String key, double value) {
+		if (!Double.isFinite(value)) {
+			return this;
+		}
+		this.startField(key);
+		this.appendAscii(Double.toString(value));
+		return this;
+	}
+
+	/**
+	 * Adds a boolean field.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolBuffer field(String key, boolean value) {
+		this.startField(key);
+		this.append(value ? (byte) 't' : (byte) 'f');
+		return this;
+	}
+
+	/**
+	 * Adds a string field.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocolBuffer field(String key, String value) {
+		this.startField(key);
+		this.append((byte) '"');
+		this.appendEscaped(value, false, true);
+		this.append((byte) '"');
+		return this;
+	}
+
+	/**
+	 * Finishes the current line.
+	 *
+	 * @param timestamp the timestamp in the precision of the
+	 *                  {@link LineProtocolWriter}
+	 * @return true if the line was added; false if it had no fields and was
+	 *         discarded
+	 */
+	public boolean endLine(long timestamp) {
+		final var hasFields = this.state == STATE_FIELDS;
+		this.state = STATE_NONE;
+		if (!hasFields) {
+			this.size = this.lineStart;
+			return false;
+		}
+		this.append((byte) ' ');
+		this.appendLong(timestamp);
+		this.append((byte) '\n');
+		this.lineStart = this.size;
+		this.lines++;
+		return true;
+	}
+
+	/**
+	 * Gets the number of finished lines.
+	 *
+	 * @return the number of lines
+	 */
+	public int lines() {
+		return this.lines;
+	}
+
+	/**
+	 * Gets the number of bytes of all finished lines.
+	 *
+	 * @return the size in bytes
+	 */
+	public int size() {
+		return this.lineStart;
+	}
+
+	/**
+	 * Gets the capacity of the underlying byte array.
+	 *
+	 * @return the capacity in bytes
+	 */
+	public int capacity() {
+		return this.bytes.length;
+	}
+
+	/**
+	 * Is this buffer empty, i.e. does it not contain any finished line?.
+	 *
+	 * @return true if empty
+	 */
+	public boolean isEmpty() {
+		return this.lines == 0;
+	}
+
+	/**
+	 * Removes all lines; keeps the allocated capacity.
+	 */
+	public void clear() {
+		this.size = 0;
+		this.lines = 0;
+		this.lineStart = 0;
+		this.state = STATE_NONE;
+	}
+
+	/**
+	 * Writes all finished lines to the {@link OutputStream}.
+	 *
+	 * @param out the {@link OutputStream}
+	 * @throws IOException on error
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(this.bytes, 0, this.lineStart);
+	}
+
+	@Override
+	public String toString() {
+		return new String(this.bytes, 0, this.lineStart, UTF_8);
+	}
+
+	private void startField(String key) {
+		switch (this.state) {
+		case STATE_TAGS -> {
+			this.append((byte) ' ');
+			this.state = STATE_FIELDS;
+		}
+		case STATE_FIELDS -> this.append((byte) ',');
+		default -> throw new IllegalStateException("Fields must be added after startLine()");
+		}
+		this.appendEscaped(key, true, false);
+		this.append((byte) '=');
+	}
+
+	/**
+	 * Appends a String in UTF-8, escaping the special characters of the given
+	 * element type.
+	 *
+	 * @param s            the String
+	 * @param escapeEquals escape '=' (tag keys, tag values and field keys)
+	 * @param isString     is a string field value: escape only '"' and '\'
+	 */
+	private void appendEscaped(String s, boolean escapeEquals, boolean isString) {
+		final var length = s.length();
+		this.ensureCapacity(length);
+		for (var i = 0; i < length; i++) {
+			final var c = s.charAt(i);
+			if (c == '\n') {
+				// Newlines are not supported by line protocol
+				this.append((byte) ' ');
+				continue;
+			}
+			if (isString) {
+				if (c == '"' || c == '\\') {
+					this.append((byte) '\\');
+				}
+			} else if (c == ',' || c == ' ' || (escapeEquals && c == '=')) {
+				this.append((byte) '\\');
+			}
+
+			if (c < 0x80) {
+				this.append((byte) c);
+			} else if (c < 0x800) {
+				this.append((byte) (0xC0 | (c >> 6)));
+				this.append((byte) (0x80 | (c & 0x3F)));
+			} else if (Character.isHighSurrogate(c) && i + 1 < length
+					&& Character.isLowSurrogate(s.charAt(i + 1))) {
+				final var cp = Character.toCodePoint(c, s.charAt(++i));
+				this.append((byte) (0xF0 | (cp >> 18)));
+				this.append((byte) (0x80 | ((cp >> 12) & 0x3F)));
+				this.append((byte) (0x80 | ((cp >> 6) & 0x3F)));
+				this.append((byte) (0x80 | (cp & 0x3F)));
+			} else if (Character.isSurrogate(c)) {
+				this.append((byte) '?');
+			} else {
+				this.append((byte) (0xE0 | (c >> 12)));
+				this.append((byte) (0x80 | ((c >> 6) & 0x3F)));
+				this.append((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+
+	private void appendAscii(String s) {
+		final var length = s.length();
+		this.ensureCapacity(length);
+		for (var i = 0; i < length; i++) {
+			this.bytes[this.size++] = (byte) s.charAt(i);
+		}
+	}
+
+	private void appendLong(long value) {
+		if (value == Long.MIN_VALUE) {
+			this.appendAscii(Long.toString(value));
+			return;
+		}
+		this.ensureCapacity(20);
+		if (value < 0) {
+			this.bytes[this.size++] = '-';
+			value = -value;
+		}
+		var digits = 1;
+		for (var v = value; v >= 10; v /= 10) {
+			digits++;
+		}
+		for (var i = this.size + digits - 1; i >= this.size; i--) {
+			this.bytes[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		this.size += digits;
+	}
+
+	private void append(byte b) {
+		if (this.size == this.bytes.length) {
+			this.ensureCapacity(1);
+		}
+		this.bytes[this.size++] = b;
+	}
+
+	private void ensureCapacity(int additional) {
+		final var required = this.size + additional;
+		if (required > this.bytes.length) {
+			this.bytes = Arrays.copyOf(this.bytes, Math.max(required, this.bytes.length * 2));
+		}
+	}
+
+}
@@ -0,0 +1,356 @@
+package io.openems.shared.influxdb;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import io.openems.common.worker.AbstractImmediateWorker;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+/**
+ * Writes {@link LineProtocolBuffer}s to the InfluxDB HTTP write API.
+ *
+ * <p>
+ * Producers borrow a pooled {@link LineProtocolBuffer} via {@link #borrow()},
+ * fill it and hand it over via {@link #submit(LineProtocolBuffer)}. A number
+ * of writer threads merge queued buffers into batches, compress them with gzip
+ * and post them concurrently.
+ *
+ * <p>
+ * The queue of submitted buffers is bounded. If it is full,
+ * {@link #submit(LineProtocolBuffer)} blocks the producer for at most the
+ * configured maximum wait time, slowing it down to the rate InfluxDB can
+ * handle. Only if InfluxDB stays behind longer, data is dropped, counted and
+ * logged.
+ *
+ * <p>
+ * The endpoint '/api/v2/write' is also provided by InfluxDB v1.8+ with org '-'
+ * and bucket 'database/retentionPolicy'.
+ */
+public class LineProtocolWriter {
+
+	private static final int MAX_BATCH_SIZE = 4 * 1024 * 1024; // [bytes]
+	private static final int MAX_POOLED_BUFFER_CAPACITY = 1024 * 1024; // [bytes]
+	private static final int MAX_RETRIES = 3;
+	private static final int RETRY_DELAY = 1; // [s]
+	private static final int POLL_TIMEOUT = 1; // [s]
+
+	private static final int CONNECT_TIMEOUT = 10; // [s]
+	private static final int READ_TIMEOUT = 60; // [s]
+	private static final int WRITE_TIMEOUT = 30; // [s]
+
+	private static final MediaType MEDIA_TYPE = MediaType.get("text/plain; charset=utf-8");
+
+	private final Logger log = LoggerFactory.getLogger(LineProtocolWriter.class);
+
+	private final String name;
+	private final HttpUrl writeUrl;
+	private final String authorization;
+	private final Duration maxWait;
+	private final Consumer<String> onBadRequest;
+	private final OkHttpClient client;
+
+	private final BlockingQueue<LineProtocolBuffer> queue;
+	private final BlockingQueue<LineProtocolBuffer> pool;
+	private final List<Writer> writers = new ArrayList<>();
+
+	private final AtomicLong writtenLines = new AtomicLong();
+	private final AtomicLong droppedLines = new AtomicLong();
+	private final AtomicLong failedLines = new AtomicLong();
+	private final AtomicLong blockedSubmits = new AtomicLong();
+
+	/**
+	 * The Constructor.
+	 *
+	 * @param name         a name for logs and threads
+	 * @param url          URL of the InfluxDB-Server (http://ip:port)
+	 * @param org          The organisation; '-' for InfluxDB v1
+	 * @param apiKey       The apiKey; 'username:password' for InfluxDB v1
+	 * @param bucket       The bucket name; 'database/retentionPolicy' for InfluxDB
+	 *                     v1
+	 * @param writers      the number of concurrent writer threads
+	 * @param queueSize    the max number of queued {@link LineProtocolBuffer}s
+	 * @param maxWait      the max time {@link #submit(LineProtocolBuffer)} blocks
+	 *                     if the queue is full
+	 * @param onBadRequest called with the error message if InfluxDB rejected
+	 *                     (parts of) a batch, e.g. on a field type conflict
+	 */
+	public LineProtocolWriter(String name, URI url, String org, String apiKey, String bucket, int writers,
+			int queueSize, Duration maxWait, Consumer<String> onBadRequest) {
+		this.name = name;
+		this.writeUrl = HttpUrl.get(url.toString()).newBuilder() //
+				.addPathSegments("api/v2/write") //
+				.addQueryParameter("org", org) //
+				.addQueryParameter("bucket", bucket) //
+				.addQueryParameter("precision", "ms") //
+				.build();
+		this.authorization = apiKey != null && !apiKey.isBlank() ? "Token " + apiKey : null;
+		this.maxWait = maxWait;
+		this.onBadRequest = onBadRequest;
+		this.client = new OkHttpClient().newBuilder() //
+				.connectTimeout(CONNECT_TIMEOUT, TimeUnit.SECONDS) //
+				.readTimeout(READ_TIMEOUT, TimeUnit.SECONDS) //
+				.writeTimeout(WRITE_TIMEOUT, TimeUnit.SECONDS) //
+				.build();
+
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+		this.pool = new ArrayBlockingQueue<>(queueSize + writers);
+		for (var i = 0; i < writers; i++) {
+			var writer = new Writer();
+			writer.activate("InfluxDB-LineProtocolWriter-" + name + "-" + i);
+			this.writers.add(writer);
+		}
+	}
+
+	/**
+	 * Stops the writer threads. Data that is still queued is discarded.
+	 */
+	public void deactivate() {
+		this.writers.forEach(Writer::deactivate);
+		this.queue.clear();
+		this.client.dispatcher().executorService().shutdown();
+		this.client.connectionPool().evictAll();
+	}
+
+	/**
+	 * Borrows an empty {@link LineProtocolBuffer} from the pool. Hand it back via
+	 * {@link #submit(LineProtocolBuffer)} or {@link #release(LineProtocolBuffer)}.
+	 *
+	 * @return a {@link LineProtocolBuffer}
+	 */
+	public LineProtocolBuffer borrow() {
+		var buffer = this.pool.poll();
+		return buffer != null ? buffer : new LineProtocolBuffer();
+	}
+
+	/**
+	 * Returns a {@link LineProtocolBuffer} to the pool without writing it.
+	 *
+	 * @param buffer the {@link LineProtocolBuffer}
+	 */
+	public void release(LineProtocolBuffer buffer) {
+		if (buffer.capacity() > MAX_POOLED_BUFFER_CAPACITY) {
+			return;
+		}
+		buffer.clear();
+		this.pool.offer(buffer);
+	}
+
+	/**
+	 * Submits a {@link LineProtocolBuffer} for writing. Ownership of the buffer
+	 * is transferred to this {@link LineProtocolWriter}.
+	 *
+	 * <p>
+	 * Blocks the calling thread while the queue is full, for at most the
+	 * configured maximum wait time.
+	 *
+	 * @param buffer the {@link LineProtocolBuffer}
+	 * @return true if the data was queued; false if it was dropped
+	 */
+	public boolean submit(LineProtocolBuffer buffer) {
+		if (buffer.isEmpty()) {
+			this.release(buffer);
+			return true;
+		}
+		if (this.queue.offer(buffer)) {
+			return true;
+		}
+
+		// Queue is full -> apply backpressure
+		this.blockedSubmits.incrementAndGet();
+		try {
+			if (this.queue.offer(buffer, this.maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+				return true;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		final var dropped = this.droppedLines.addAndGet(buffer.lines());
+		this.log.warn("[" + this.name + "] Write queue is full. Dropped [" + buffer.lines() + "] lines; ["
+				+ dropped + "] in total");
+		this.release(buffer);
+		return false;
+	}
+
+	/**
+	 * Gets the number of lines that were dropped because the queue was full.
+	 *
+	 * @return the number of dropped lines
+	 */
+	public long getDroppedLines() {
+		return this.droppedLines.get();
+	}
+
+	/**
+	 * Returns a debug log of the current state.
+	 *
+	 * @return the debug log string
+	 */
+	public String debugLog() {
+		final var queueSize = this.queue.size();
+		final var capacity = queueSize + this.queue.remainingCapacity();
+		return new StringBuilder("LineProtocolWriter[Queue:") //
+				.append(queueSize) //
+				.append("/") //
+				.append(capacity) //
+				.append(queueSize == capacity ? " !!!BACKPRESSURE!!!" : "") //
+				.append(", Written:") //
+				.append(this.writtenLines.get()) //
+				.append(", Blocked:") //
+				.append(this.blockedSubmits.get()) //
+				.append(", Dropped:") //
+				.append(this.droppedLines.get()) //
+				.append(", Failed:") //
+				.append(this.failedLines.get()) //
+				.append("]") //
+				.toString();
+	}
+
+	/**
+	 * Exposes the internal buffer to avoid a copy for the request body.
+	 */
+	private static class Output extends ByteArrayOutputStream {
+
+		private Output() {
+			super(MAX_BATCH_SIZE / 4);
+		}
+
+		private RequestBody toRequestBody() {
+			return RequestBody.create(this.buf, MEDIA_TYPE, 0, this.count);
+		}
+	}
+
+	private class Writer extends AbstractImmediateWorker {
+
+		private final List<LineProtocolBuffer> batch = new ArrayList<>();
+		private final Output output = new Output();
+
+		@Override
+		protected void forever() throws InterruptedException {
+			var buffer = LineProtocolWriter.this.queue.poll(POLL_TIMEOUT, TimeUnit.SECONDS);
+			if (buffer == null) {
+				return;
+			}
+
+			// Merge queued buffers into one batch
+			var size = 0;
+			var lines = 0;
+			do {
+				this.batch.add(buffer);
+				size += buffer.size();
+				lines += buffer.lines();
+			} while (size < MAX_BATCH_SIZE && (buffer = LineProtocolWriter.this.queue.poll()) != null);
+
+			try {
+				this.output.reset();
+				try (var gzip = new GZIPOutputStream(this.output, 64 * 1024) {
+					{
+						this.def.setLevel(Deflater.BEST_SPEED);
+					}
+				}) {
+					for (var b : this.batch) {
+						b.writeTo(gzip);
+					}
+				}
+			} catch (IOException e) {
+				// ByteArrayOutputStream does not throw
+				throw new IllegalStateException(e);
+
+			} finally {
+				this.batch.forEach(LineProtocolWriter.this::release);
+				this.batch.clear();
+			}
+
+			this.post(lines);
+		}
+
+		private void post(int lines) throws InterruptedException {
+			var request = new Request.Builder() //
+					.url(LineProtocolWriter.this.writeUrl) //
+					.header("Content-Encoding", "gzip");
+			if (LineProtocolWriter.this.authorization != null) {
+				request.header("Authorization", LineProtocolWriter.this.authorization);
+			}
+			request.post(this.output.toRequestBody());
+
+			for (var attempt = 1;; attempt++) {
+				String error;
+				try (var response = LineProtocolWriter.this.client.newCall(request.build()).execute()) {
+					final var code = response.code();
+					if (response.isSuccessful()) {
+						LineProtocolWriter.this.writtenLines.addAndGet(lines);
+						return;
+					}
+					final var body = response.body() != null ? response.body().string() : "";
+					if (code >= 400 && code < 500 && code != 429) {
+						// Not worth retrying; InfluxDB wrote all valid lines of a partial write
+						LineProtocolWriter.this.failedLines.addAndGet(lines);
+						final var message = parseErrorMessage(body);
+						LineProtocolWriter.this.log.warn("[" + LineProtocolWriter.this.name
+								+ "] Unable to write to InfluxDB. HTTP status code: " + code + "; Message: " + message);
+						LineProtocolWriter.this.onBadRequest.accept(message);
+						return;
+					}
+					error = "HTTP status code: " + code + "; Message: " + parseErrorMessage(body);
+
+				} catch (IOException e) {
+					error = e.getClass().getSimpleName() + ": " + e.getMessage();
+				}
+
+				if (attempt >= MAX_RETRIES) {
+					LineProtocolWriter.this.failedLines.addAndGet(lines);
+					LineProtocolWriter.this.log.warn("[" + LineProtocolWriter.this.name + "] Unable to write ["
+							+ lines + "] lines to InfluxDB after " + attempt + " attempts. " + error);
+					return;
+				}
+				Thread.sleep(TimeUnit.SECONDS.toMillis(RETRY_DELAY * attempt));
+			}
+		}
+	}
+
+	/**
+	 * Parses the error message from an InfluxDB error response body, i.e.
+	 * '{"code":"invalid","message":"..."}' (v2) or '{"error":"..."}' (v1).
+	 *
+	 * @param body the response body
+	 * @return the message; the body if it cannot be parsed
+	 */
+	protected static String parseErrorMessage(String body) {
+		try {
+			var json = JsonParser.parseString(body);
+			if (json.isJsonObject()) {
+				var object = json.getAsJsonObject();
+				for (var member : new String[] { "message", "error" }) {
+					var value = object.get(member);
+					if (value != null && value.isJsonPrimitive()) {
+						return value.getAsString();
+					}
+				}
+			}
+		} catch (JsonSyntaxException e) {
+			// fall through
+		}
+		return body;
+	}
+
+}
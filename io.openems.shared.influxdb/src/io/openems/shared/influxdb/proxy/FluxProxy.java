@@ -23,6 +23,7 @@ import com.influxdb.query.dsl.functions.restriction.Restrictions;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.CollectorUtils;
@@ -79,6 +80,23 @@ public class FluxProxy extends QueryProxy {
 		return convertHistoricDataQueryResult(queryResult, fromDate, resolution);
 	}
 
+	@Override
+	public ColumnarTimeseries queryHistoricDataColumnar(//
+			InfluxConnection influxConnection, //
+			String bucket, //
+			String measurement, //
+			Optional<Integer> influxEdgeId, //
+			ZonedDateTime fromDate, //
+			ZonedDateTime toDate, //
+			Set<ChannelAddress> channels, //
+			Resolution resolution //
+	) throws OpenemsNamedException {
+		var query = this.buildHistoricDataQuery(bucket, measurement, influxEdgeId, fromDate, toDate, channels,
+				resolution);
+		var queryResult = this.executeQuery(influxConnection, query);
+		return convertHistoricDataQueryResultColumnar(queryResult, fromDate, resolution);
+	}
+
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(//
 			InfluxConnection influxConnection, //
@@ -351,6 +369,44 @@ public class FluxProxy extends QueryProxy {
 		return table;
 	}
 
+	/**
+	 * Converts the QueryResult of a Historic-Data query to a
+	 * {@link ColumnarTimeseries}, without intermediate {@link JsonElement}s.
+	 *
+	 * @param queryResult the Query-Result
+	 * @param fromDate    start date from query
+	 * @param resolution  {@link Resolution} to revert InfluxDB offset
+	 * @return the historic data as {@link ColumnarTimeseries}
+	 * @throws OpenemsException on error
+	 */
+	private static ColumnarTimeseries convertHistoricDataQueryResultColumnar(List<FluxTable> queryResult,
+			ZonedDateTime fromDate, Resolution resolution) throws OpenemsNamedException {
+		final var fromInstant = fromDate.toInstant();
+		final var builder = ColumnarTimeseries.builder(fromDate.getZone());
+
+		for (FluxTable fluxTable : queryResult) {
+			for (FluxRecord record : fluxTable.getRecords()) {
+				// ignore first timestamp is before from date
+				if (record.getTime().isBefore(fromInstant)) {
+					continue;
+				}
+				final var timestamp = switch (resolution.getUnit()) {
+				case DAYS, MONTHS -> resolution
+						.revertInfluxDbOffset(ZonedDateTime.ofInstant(record.getTime(), fromDate.getZone())) //
+						.toInstant().toEpochMilli();
+				default -> record.getTime().toEpochMilli();
+				};
+
+				final var value = record.getValue() instanceof Number number //
+						? number.doubleValue() //
+						: Double.NaN;
+				builder.put(timestamp, ChannelAddress.fromString(record.getField()), value);
+			}
+		}
+
+		return builder.build();
+	}
+
 	/**
 	 * Converts the QueryResult of a Historic-Energy query to a properly typed Map.
 	 *
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -31,6 +32,7 @@ import com.influxdb.query.InfluxQLQueryResult.Series;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.timedata.ColumnarTimeseries;
 import io.openems.common.timedata.DurationUnit;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
@@ -111,6 +113,28 @@ public class InfluxQlProxy extends QueryProxy {
 		return convertHistoricDataQueryResult(queryResult, fromDate, resolution, channels, Average::new);
 	}
 
+	@Override
+	public ColumnarTimeseries queryHistoricDataColumnar(//
+			InfluxConnection influxConnection, //
+			String bucket, //
+			String measurement, //
+			Optional<Integer> influxEdgeId, //
+			ZonedDateTime fromDate, //
+			ZonedDateTime toDate, //
+			Set<ChannelAddress> channels, //
+			Resolution resolution //
+	) throws OpenemsNamedException {
+		if (resolution.getUnit() == ChronoUnit.MONTHS) {
+			// Rows are merged per month; see convertHistoricDataQueryResult()
+			return super.queryHistoricDataColumnar(influxConnection, bucket, measurement, influxEdgeId, fromDate,
+					toDate, channels, resolution);
+		}
+		var query = this.buildHistoricDataQuery(bucket, measurement, influxEdgeId, fromDate, toDate, channels,
+				resolution);
+		var queryResult = this.executeQuery(influxConnection, bucket, query);
+		return convertHistoricDataQueryResultColumnar(queryResult, fromDate);
+	}
+
 	protected static class Average implements BiFunction<JsonElement, JsonElement, JsonElement> {
 
 		private int count = 1;
@@ -568,6 +592,73 @@ public class InfluxQlProxy extends QueryProxy {
 		return table;
 	}
 
+	/**
+	 * Converts the QueryResult of a Historic-Data query to a
+	 * {@link ColumnarTimeseries}, without intermediate {@link JsonElement}s.
+	 * Duplicated values for the same timestamp are averaged.
+	 *
+	 * @param queryResult the Query-Result
+	 * @param fromDate    the From-Date
+	 * @return the historic data as {@link ColumnarTimeseries}
+	 * @throws OpenemsNamedException on error
+	 */
+	private static ColumnarTimeseries convertHistoricDataQueryResultColumnar(//
+			InfluxQLQueryResult queryResult, //
+			ZonedDateTime fromDate //
+	) throws OpenemsNamedException {
+		if (queryResult == null) {
+			return null;
+		}
+
+		final var fromTimestamp = fromDate.toInstant().toEpochMilli();
+		final var builder = ColumnarTimeseries.builder(fromDate.getZone());
+		// Sum and count of duplicated values per Channel and timestamp
+		final var duplicates = new HashMap<ChannelAddress, Map<Long, double[]>>();
+		for (var result : queryResult.getResults()) {
+			var seriess = result.getSeries();
+			if (seriess == null) {
+				continue;
+			}
+			for (var series : seriess) {
+				// Parse the ChannelAddresses once per series
+				final var columns = series.getColumns().keySet().stream() //
+						.filter(column -> !column.equals("time")) //
+						.toArray(String[]::new);
+				final var channels = new ChannelAddress[columns.length];
+				for (var i = 0; i < columns.length; i++) {
+					channels[i] = ChannelAddress.fromString(columns[i]);
+				}
+
+				for (var record : series.getValues()) {
+					final var timestamp = Long.parseLong((String) record.getValueByKey("time"));
+					if (timestamp < fromTimestamp) {
+						// InfluxQL sometimes gives too early timestamps -> ignore
+						continue;
+					}
+					builder.addTimestamp(timestamp);
+					for (var i = 0; i < columns.length; i++) {
+						final var channel = channels[i];
+						builder.merge(timestamp, channel, convertToDouble(record.getValueByKey(columns[i])),
+								(a, b) -> {
+									final var sumAndCount = duplicates //
+											.computeIfAbsent(channel, c -> new HashMap<>()) //
+											.computeIfAbsent(timestamp, t -> new double[] { a, 1 });
+									sumAndCount[0] += b;
+									sumAndCount[1]++;
+									return sumAndCount[0];
+								});
+					}
+				}
+			}
+		}
+		for (var entry : duplicates.entrySet()) {
+			for (var sum : entry.getValue().entrySet()) {
+				builder.put(sum.getKey(), entry.getKey(), sum.getValue()[0] / sum.getValue()[1]);
+			}
+		}
+		return builder.build();
+	}
+
 	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> convertHistoricDataQueryResultSingleValue(//
 			InfluxQLQueryResult queryResult, //
 			ZonedDateTime fromDate, //
@@ -615,6 +706,17 @@ public class InfluxQlProxy extends QueryProxy {
 				}, (t, u) -> aggregateFunction.apply(t, u), TreeMap::new)));
 	}
 
+	private static double convertToDouble(Object valueObj) {
+		if (valueObj instanceof Number number) {
+			return number.doubleValue();
+		}
+		if (valueObj == null) {
+			return Double.NaN;
+		}
+		final var value = Doubles.tryParse(valueObj.toString());
+		return value == null ? Double.NaN : value;
+	}
+
 	private static JsonElement convertToJsonElement(Object valueObj) {
 		if (valueObj == null) {
 			return JsonNull.INSTANCE;
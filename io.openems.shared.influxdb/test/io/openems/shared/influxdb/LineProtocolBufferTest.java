@@ -0,0 +1,72 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LineProtocolBufferTest {
+
+	@Test
+	public void testFields() {
+		var sut = new LineProtocolBuffer();
+		sut.startLine("data").tag("edge", "7") //
+				.field("_sum/EssSoc", 55L) //
+				.field("meter0/Frequency", 49.98) //
+				.field("ess0/IsOn", true) //
+				.field("ess0/Name", "ess0");
+		assertTrue(sut.endLine(1_700_000_000_000L));
+		sut.startLine("data").tag("edge", "7").field("_sum/GridActivePower", -1234L);
+		assertTrue(sut.endLine(1_700_000_001_000L));
+
+		assertEquals(2, sut.lines());
+		assertEquals("""
+				data,edge=7 _sum/EssSoc=55i,meter0/Frequency=49.98,ess0/IsOn=t,ess0/Name="ess0" 1700000000000
+				data,edge=7 _sum/GridActivePower=-1234i 1700000001000
+				""", sut.toString());
+		assertEquals(sut.toString().length(), sut.size());
+	}
+
+	@Test
+	public void testEscaping() {
+		var sut = new LineProtocolBuffer(4);
+		sut.startLine("my data").tag("t,a=g", "v a=l,ue") //
+				.field("f=o o", "say \"hi\" \\ bye") //
+				.field("ü", "ÄÖÜ €\n😀");
+		sut.endLine(0L);
+		assertEquals("my\\ data,t\\,a\\=g=v\\ a\\=l\\,ue f\\=o\\ o=\"say \\\"hi\\\" \\\\ bye\",ü=\"ÄÖÜ € 😀\" 0\n",
+				sut.toString());
+	}
+
+	@Test
+	public void testDiscardLinesWithoutFields() {
+		var sut = new LineProtocolBuffer();
+		sut.startLine("data").tag("edge", "0").field("a", 1L);
+		sut.endLine(1L);
+
+		// no fields
+		sut.startLine("data").tag("edge", "0");
+		assertFalse(sut.endLine(2L));
+
+		// NaN is not supported
+		sut.startLine("data").tag("edge", "0").field("b", Double.NaN);
+		assertFalse(sut.endLine(3L));
+
+		// unfinished line is discarded by next startLine()
+		sut.startLine("data").tag("edge", "0").field("c", 3L);
+		sut.startLine("data").tag("edge", "0").field("d", Long.MIN_VALUE);
+		sut.endLine(4L);
+
+		assertEquals(2, sut.lines());
+		assertEquals("""
+				data,edge=0 a=1i 1
+				data,edge=0 d=-9223372036854775808i 4
+				""", sut.toString());
+
+		sut.clear();
+		assertTrue(sut.isEmpty());
+		assertEquals("", sut.toString());
+	}
+
+}